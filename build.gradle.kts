@@ -244,7 +244,7 @@ dependencies {
         pluginVerifier()
 
         rootProject.childProjects.keys
-            .filter { it != "jps-plugin" }
+            .filter { it != "jps-plugin" && !it.startsWith("benchmark-") }
             .forEach {
                 pluginComposedModule(implementation(project(it)))
             }
@@ -61,6 +61,9 @@ sourceSets {
         java.srcDirs("src")
         resources.srcDirs("resources")
     }
+    test {
+        java.srcDirs("tests")
+    }
 }
 
 intellijPlatform {
@@ -68,6 +71,8 @@ intellijPlatform {
 }
 
 dependencies {
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
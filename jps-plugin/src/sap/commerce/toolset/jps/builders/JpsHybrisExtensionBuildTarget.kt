@@ -0,0 +1,130 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.jps.builders
+
+import org.jetbrains.jps.builders.BuildRootIndex
+import org.jetbrains.jps.builders.BuildTarget
+import org.jetbrains.jps.builders.BuildTargetRegistry
+import org.jetbrains.jps.builders.TargetOutputIndex
+import org.jetbrains.jps.builders.java.JavaModuleBuildTargetType
+import org.jetbrains.jps.builders.storage.BuildDataPaths
+import org.jetbrains.jps.incremental.CompileContext
+import org.jetbrains.jps.incremental.ModuleBasedTarget
+import org.jetbrains.jps.incremental.ModuleBuildTarget
+import org.jetbrains.jps.indices.IgnoredFileIndex
+import org.jetbrains.jps.indices.ModuleExcludeIndex
+import org.jetbrains.jps.model.JpsModel
+import org.jetbrains.jps.model.java.JpsJavaExtensionService
+import org.jetbrains.jps.model.library.JpsOrderRootType
+import org.jetbrains.jps.model.module.JpsModule
+import org.jetbrains.jps.util.JpsPathUtil
+import sap.commerce.toolset.jps.facet.JpsHybrisFacetSettings
+import sap.commerce.toolset.jps.model.JpsHybrisFacetElementChildRole
+import java.io.File
+
+/**
+ * Generated code of a single SAP Commerce extension: the extension `gensrc` directory, unless it is already a source root of the module
+ * and tracked by the Java builder itself, and the `models.jar` compiled by the platform build and visible to the module.
+ *
+ * Target is built before the module level builders of its module, so changed generated code invalidates the module sources
+ * within the same build. Dependencies mirror the extension dependency order, independent extensions stay independent
+ * and can be compiled in parallel.
+ */
+class JpsHybrisExtensionBuildTarget(module: JpsModule) : ModuleBasedTarget<JpsHybrisGeneratedRootDescriptor>(JpsHybrisModuleBasedBuildTargetType.INSTANCE, module) {
+
+    val productionTarget
+        get() = ModuleBuildTarget(module, JavaModuleBuildTargetType.PRODUCTION)
+
+    override fun getId(): String = module.name
+    override fun isTests() = false
+    override fun isCompiledBeforeModuleLevelBuilders() = true
+    override fun getPresentableName() = "SAP Commerce extension '${module.name}'"
+    override fun getOutputRoots(context: CompileContext): Collection<File> = emptyList()
+
+    override fun computeDependencies(targetRegistry: BuildTargetRegistry, outputIndex: TargetOutputIndex): Collection<BuildTarget<*>> = extensionDependencies()
+
+    override fun computeRootDescriptors(
+        model: JpsModel,
+        index: ModuleExcludeIndex,
+        ignoredFileIndex: IgnoredFileIndex,
+        dataPaths: BuildDataPaths
+    ) = generatedRoots().map { JpsHybrisGeneratedRootDescriptor(it, this) }
+
+    override fun findRootDescriptor(rootId: String, rootIndex: BuildRootIndex): JpsHybrisGeneratedRootDescriptor? = rootIndex.getTargetRoots(this, null)
+        .find { it.rootId == rootId }
+
+    /**
+     * Targets of the extensions this extension directly depends on, in the declaration order.
+     */
+    internal fun extensionDependencies() = JpsJavaExtensionService.dependencies(module)
+        .productionOnly()
+        .compileOnly()
+        .withoutSdk()
+        .withoutLibraries()
+        .withoutModuleSourceEntries()
+        .modules
+        .filter { it.hybrisFacetSettings != null }
+        .map { JpsHybrisExtensionBuildTarget(it) }
+
+    /**
+     * Targets of the extensions which directly or transitively depend on this extension, their sources may reference its generated classes.
+     */
+    internal fun dependentExtensions(modules: Iterable<JpsModule>) = modules
+        .filter { it != module && it.hybrisFacetSettings != null }
+        .filter {
+            module in JpsJavaExtensionService.dependencies(it)
+                .productionOnly()
+                .compileOnly()
+                .withoutSdk()
+                .withoutLibraries()
+                .withoutModuleSourceEntries()
+                .recursively()
+                .modules
+        }
+        .map { JpsHybrisExtensionBuildTarget(it) }
+
+    internal fun generatedRoots(): List<File> {
+        val sourceRoots = module.sourceRoots.map { it.file.absoluteFile }
+        val genSrc = module.contentRootsList.urls
+            .map { JpsPathUtil.urlToFile(it).resolve(GEN_SRC) }
+            .filter { it.absoluteFile !in sourceRoots }
+        val modelsJars = JpsJavaExtensionService.dependencies(module)
+            .productionOnly()
+            .compileOnly()
+            .withoutSdk()
+            .withoutModuleSourceEntries()
+            .recursivelyExportedOnly()
+            .libraries
+            .flatMap { it.getFiles(JpsOrderRootType.COMPILED) }
+            .filter { it.name == MODELS_JAR }
+
+        return (genSrc + modelsJars).distinct()
+    }
+
+    override fun equals(other: Any?) = other is JpsHybrisExtensionBuildTarget && other.module == module
+    override fun hashCode() = module.hashCode()
+
+    companion object {
+        const val GEN_SRC = "gensrc"
+        const val MODELS_JAR = "models.jar"
+    }
+}
+
+internal val JpsModule.hybrisFacetSettings: JpsHybrisFacetSettings?
+    get() = container.getChild(JpsHybrisFacetElementChildRole.INSTANCE)?.settings
@@ -20,20 +20,32 @@ package sap.commerce.toolset.jps.builders
 
 import org.jetbrains.jps.builders.BuildTargetLoader
 import org.jetbrains.jps.builders.ModuleBasedBuildTargetType
-import org.jetbrains.jps.incremental.ModuleBuildTarget
 import org.jetbrains.jps.model.JpsModel
 import sap.commerce.toolset.jps.model.JpsHybrisExtensionService
 
-class JpsHybrisModuleBasedBuildTargetType : ModuleBasedBuildTargetType<ModuleBuildTarget>("hybris-build-target") {
-    override fun computeAllTargets(model: JpsModel): List<ModuleBuildTarget> {
+/**
+ * One [JpsHybrisExtensionBuildTarget] per module with the SAP Commerce facet, target id is the module name.
+ */
+class JpsHybrisModuleBasedBuildTargetType : ModuleBasedBuildTargetType<JpsHybrisExtensionBuildTarget>("hybris-build-target") {
+
+    override fun computeAllTargets(model: JpsModel): List<JpsHybrisExtensionBuildTarget> {
         JpsHybrisExtensionService.getInstance() // this will register ResourcesBuilder customization
 
-        return emptyList()
+        return targets(model)
+    }
+
+    override fun createLoader(model: JpsModel): BuildTargetLoader<JpsHybrisExtensionBuildTarget> = object : BuildTargetLoader<JpsHybrisExtensionBuildTarget>() {
+        override fun createTarget(targetId: String) = model.project.modules
+            .find { it.name == targetId }
+            ?.takeIf { it.hybrisFacetSettings != null }
+            ?.let { JpsHybrisExtensionBuildTarget(it) }
     }
 
-    override fun createLoader(model: JpsModel): BuildTargetLoader<ModuleBuildTarget> = object : BuildTargetLoader<ModuleBuildTarget>() {
-        override fun createTarget(targetId: String): ModuleBuildTarget? {
-            return null
-        }
-    };
-}
\ No newline at end of file
+    internal fun targets(model: JpsModel) = model.project.modules
+        .filter { it.hybrisFacetSettings != null }
+        .map { JpsHybrisExtensionBuildTarget(it) }
+
+    companion object {
+        val INSTANCE = JpsHybrisModuleBasedBuildTargetType()
+    }
+}
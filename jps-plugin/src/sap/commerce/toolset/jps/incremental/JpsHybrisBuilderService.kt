@@ -20,11 +20,16 @@ package sap.commerce.toolset.jps.incremental
 
 import org.jetbrains.jps.builders.BuildTargetType
 import org.jetbrains.jps.incremental.BuilderService
+import org.jetbrains.jps.incremental.TargetBuilder
 import sap.commerce.toolset.jps.builders.JpsHybrisModuleBasedBuildTargetType
 
 class JpsHybrisBuilderService : BuilderService() {
 
     override fun getTargetTypes(): List<BuildTargetType<*>> = listOf(
-        JpsHybrisModuleBasedBuildTargetType()
+        JpsHybrisModuleBasedBuildTargetType.INSTANCE
+    )
+
+    override fun createBuilders(): List<TargetBuilder<*, *>> = listOf(
+        JpsHybrisGeneratedSourcesBuilder()
     )
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.jps.incremental
+
+import org.jetbrains.jps.builders.BuildOutputConsumer
+import org.jetbrains.jps.builders.DirtyFilesHolder
+import org.jetbrains.jps.incremental.CompileContext
+import org.jetbrains.jps.incremental.FSOperations
+import org.jetbrains.jps.incremental.TargetBuilder
+import org.jetbrains.jps.incremental.fs.CompilationRound
+import org.jetbrains.jps.incremental.messages.BuildMessage
+import org.jetbrains.jps.incremental.messages.CompilerMessage
+import sap.commerce.toolset.jps.builders.JpsHybrisExtensionBuildTarget
+import sap.commerce.toolset.jps.builders.JpsHybrisGeneratedRootDescriptor
+import sap.commerce.toolset.jps.builders.JpsHybrisModuleBasedBuildTargetType
+import java.io.File
+import java.util.*
+import java.util.zip.ZipFile
+
+/**
+ * Marks dirty only those sources which reference changed or removed generated classes, further invalidation is left to
+ * the dependency tracking of the Java builder.
+ *
+ * Changes of `gensrc` invalidate sources of the extension module and of all extensions depending on it.
+ * Changes of `models.jar` are compared with the class entries of the previously built jar, kept in the target data,
+ * and invalidate sources of the extension module only: `models.jar` is a root of every dependent extension target as well.
+ */
+class JpsHybrisGeneratedSourcesBuilder : TargetBuilder<JpsHybrisGeneratedRootDescriptor, JpsHybrisExtensionBuildTarget>(
+    listOf(JpsHybrisModuleBasedBuildTargetType.INSTANCE)
+) {
+
+    override fun getPresentableName() = "SAP Commerce generated sources"
+
+    override fun build(
+        target: JpsHybrisExtensionBuildTarget,
+        holder: DirtyFilesHolder<JpsHybrisGeneratedRootDescriptor, JpsHybrisExtensionBuildTarget>,
+        outputConsumer: BuildOutputConsumer,
+        context: CompileContext
+    ) {
+        val changed = mutableListOf<File>()
+        holder.processDirtyFiles { _, file, _ ->
+            changed.add(file)
+            true
+        }
+        holder.getRemovedFiles(target).mapTo(changed) { File(it) }
+
+        val (modelsJars, generatedSources) = changed.partition { it.name == JpsHybrisExtensionBuildTarget.MODELS_JAR }
+        val dataRoot = context.projectDescriptor.dataManager.dataPaths.getTargetDataRoot(target)
+        // entries are stored on every build, so the next change is compared with the jar the module was compiled against
+        val modelsClassNames = modelsJars.flatMap { changedModelsClassNames(dataRoot, it) }.toSet()
+
+        // module will be compiled from scratch anyway
+        if (context.scope.isBuildForced(target.productionTarget)) return
+
+        val generatedClassNames = generatedClassNames(generatedSources)
+        if (modelsClassNames.isEmpty() && generatedClassNames.isEmpty()) return
+
+        val rootIndex = context.projectDescriptor.buildRootIndex
+        val sourceRoots = { targets: Collection<JpsHybrisExtensionBuildTarget> ->
+            targets.flatMap { rootIndex.getTargetRoots(it.productionTarget, context) }.map { it.rootFile }
+        }
+        val dependents = if (generatedClassNames.isEmpty()) emptyList()
+        else target.dependentExtensions(context.projectDescriptor.project.modules)
+        val affected = (affectedSources(sourceRoots(listOf(target)), modelsClassNames + generatedClassNames)
+            + affectedSources(sourceRoots(dependents), generatedClassNames))
+            .distinct()
+        if (affected.isEmpty()) return
+
+        context.processMessage(
+            CompilerMessage(
+                presentableName,
+                BuildMessage.Kind.INFO,
+                "[y] ${modelsClassNames.size + generatedClassNames.size} generated class(es) of the '${target.id}' extension were changed, ${affected.size} source file(s) will be recompiled."
+            )
+        )
+        affected.forEach { FSOperations.markDirty(context, CompilationRound.CURRENT, it) }
+    }
+
+    companion object {
+        private val SOURCE_EXTENSIONS = setOf("java", "kt", "groovy")
+        private val IDENTIFIER = Regex("[A-Za-z_$][A-Za-z0-9_$]*")
+
+        /**
+         * Top-level class name of each generated source file, nested classes are declared in the same file.
+         */
+        internal fun generatedClassNames(files: Collection<File>) = files
+            .filter { it.extension == "java" }
+            .map { it.nameWithoutExtension }
+            .toSet()
+
+        /**
+         * CRC of each class entry of the [jar], empty for a removed jar.
+         */
+        internal fun classEntries(jar: File): Map<String, Long> = if (!jar.isFile) emptyMap()
+        else ZipFile(jar).use { zip ->
+            zip.entries().asSequence()
+                .filter { !it.isDirectory && it.name.endsWith(".class") }
+                .associate { it.name to it.crc }
+        }
+
+        /**
+         * Top-level class names of the added, changed or removed class entries, nested classes share the source file of their top-level class.
+         */
+        internal fun changedClassNames(previous: Map<String, Long>, current: Map<String, Long>) = (previous.keys + current.keys)
+            .filter { previous[it] != current[it] }
+            .map { it.substringAfterLast('/').removeSuffix(".class").substringBefore('$') }
+            .toSet()
+
+        /**
+         * Compares the [jar] with its entries stored in the [dataRoot] by the previous build and stores the current ones.
+         */
+        internal fun changedModelsClassNames(dataRoot: File, jar: File): Set<String> {
+            val stateFile = dataRoot.resolve("${JpsHybrisExtensionBuildTarget.MODELS_JAR}.${Integer.toHexString(jar.absolutePath.hashCode())}.crc")
+            val previous = Properties()
+                .apply { if (stateFile.isFile) stateFile.inputStream().use { load(it) } }
+                .let { state -> state.stringPropertyNames().associateWith { state.getProperty(it).toLong() } }
+            val current = classEntries(jar)
+
+            stateFile.parentFile.mkdirs()
+            stateFile.outputStream().use { output ->
+                Properties()
+                    .apply { current.forEach { (name, crc) -> setProperty(name, crc.toString()) } }
+                    .store(output, null)
+            }
+
+            return changedClassNames(previous, current)
+        }
+
+        /**
+         * Sources which mention any of the [classNames] as an identifier, it covers explicit, on-demand and same package references.
+         */
+        internal fun affectedSources(sourceRoots: Collection<File>, classNames: Set<String>): List<File> = if (classNames.isEmpty()) emptyList()
+        else sourceRoots
+            .asSequence()
+            .flatMap { root -> root.walkTopDown().filter { it.isFile && it.extension in SOURCE_EXTENSIONS } }
+            .filter { source -> IDENTIFIER.findAll(source.readText()).any { it.value in classNames } }
+            .toList()
+    }
+}
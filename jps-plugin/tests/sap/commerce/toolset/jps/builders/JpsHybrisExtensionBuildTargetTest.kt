@@ -0,0 +1,154 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.jps.builders
+
+import org.jetbrains.jps.model.JpsElementFactory
+import org.jetbrains.jps.model.JpsModel
+import org.jetbrains.jps.model.java.JavaSourceRootType
+import org.jetbrains.jps.model.java.JpsJavaLibraryType
+import org.jetbrains.jps.model.java.JpsJavaModuleType
+import org.jetbrains.jps.model.library.JpsOrderRootType
+import org.jetbrains.jps.model.module.JpsModule
+import org.jetbrains.jps.util.JpsPathUtil
+import sap.commerce.toolset.jps.facet.JpsHybrisFacetSettings
+import sap.commerce.toolset.jps.model.JpsHybrisFacetElement
+import sap.commerce.toolset.jps.model.JpsHybrisFacetElementChildRole
+import java.io.File
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createFile
+import kotlin.io.path.createTempDirectory
+import kotlin.test.*
+
+class JpsHybrisExtensionBuildTargetTest {
+
+    private lateinit var root: Path
+    private lateinit var model: JpsModel
+    private lateinit var modelsJar: File
+
+    /**
+     * platform <- core <- extA, extB <- custom, `tools` module has no SAP Commerce facet.
+     */
+    @BeforeTest
+    fun setUp() {
+        root = createTempDirectory("jps-hybris")
+        model = JpsElementFactory.getInstance().createModel()
+        modelsJar = root.resolve("platform/bootstrap/bin/models.jar")
+            .also { it.parent.createDirectories() }
+            .createFile()
+            .toFile()
+
+        val bootstrap = model.project.addLibrary("platform bootstrap", JpsJavaLibraryType.INSTANCE)
+            .apply { addRoot(modelsJar, JpsOrderRootType.COMPILED) }
+
+        val platform = extension("platform", "PLATFORM")
+        val core = extension("core", "EXT", platform)
+        val extA = extension("extA", "EXT", core)
+        val extB = extension("extB", "CUSTOM", core, genSrcAsSourceRoot = true)
+        extension("custom", "CUSTOM", extA, extB)
+        module("tools", extA)
+
+        listOf(core, extA, extB, module("custom")).forEach { it.dependenciesList.addLibraryDependency(bootstrap) }
+    }
+
+    @AfterTest
+    fun tearDown() {
+        root.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun test_targets_onlyExtensionModules() {
+        val targets = JpsHybrisModuleBasedBuildTargetType.INSTANCE.targets(model)
+
+        assertEquals(listOf("platform", "core", "extA", "extB", "custom"), targets.map { it.id })
+        assertTrue(targets.all { it.isCompiledBeforeModuleLevelBuilders })
+        assertTrue(targets.none { it.isTests })
+    }
+
+    @Test
+    fun test_loader_restoresTargetById() {
+        val loader = JpsHybrisModuleBasedBuildTargetType.INSTANCE.createLoader(model)
+
+        assertEquals(target("custom"), loader.createTarget("custom"))
+        assertNull(loader.createTarget("tools"))
+        assertNull(loader.createTarget("unknown"))
+    }
+
+    @Test
+    fun test_dependencies_followExtensionOrder() {
+        assertEquals(emptyList(), target("platform").extensionDependencies().map { it.id })
+        assertEquals(listOf("platform"), target("core").extensionDependencies().map { it.id })
+        assertEquals(listOf("core"), target("extA").extensionDependencies().map { it.id })
+        assertEquals(listOf("core"), target("extB").extensionDependencies().map { it.id })
+        assertEquals(listOf("extA", "extB"), target("custom").extensionDependencies().map { it.id })
+    }
+
+    @Test
+    fun test_dependencies_independentExtensionsNotOrdered() {
+        val extA = target("extA")
+        val extB = target("extB")
+
+        assertFalse(extB in transitiveDependencies(extA))
+        assertFalse(extA in transitiveDependencies(extB))
+        assertTrue(extA in transitiveDependencies(target("custom")))
+        assertTrue(target("platform") in transitiveDependencies(target("custom")))
+    }
+
+    @Test
+    fun test_dependents_transitiveExtensionsOnly() {
+        val modules = model.project.modules
+
+        assertEquals(listOf("core", "extA", "extB", "custom"), target("platform").dependentExtensions(modules).map { it.id })
+        assertEquals(listOf("custom"), target("extA").dependentExtensions(modules).map { it.id })
+        assertEquals(emptyList(), target("custom").dependentExtensions(modules).map { it.id })
+    }
+
+    @Test
+    fun test_generatedRoots_genSrcAndModelsJar() {
+        assertEquals(
+            listOf(root.resolve("extA/gensrc").toFile(), modelsJar),
+            target("extA").generatedRoots()
+        )
+        assertEquals(listOf(root.resolve("platform/gensrc").toFile()), target("platform").generatedRoots())
+    }
+
+    @Test
+    fun test_generatedRoots_genSrcSourceRootLeftToJavaBuilder() {
+        assertEquals(listOf(modelsJar), target("extB").generatedRoots())
+    }
+
+    private fun target(name: String) = JpsHybrisExtensionBuildTarget(module(name))
+
+    private fun transitiveDependencies(target: JpsHybrisExtensionBuildTarget): Set<JpsHybrisExtensionBuildTarget> = target.extensionDependencies()
+        .flatMap { transitiveDependencies(it) + it }
+        .toSet()
+
+    private fun extension(name: String, type: String, vararg dependencies: JpsModule, genSrcAsSourceRoot: Boolean = false) = module(name, *dependencies).apply {
+        container.setChild(JpsHybrisFacetElementChildRole.INSTANCE, JpsHybrisFacetElement(JpsHybrisFacetSettings().apply { this.type = type }))
+
+        if (genSrcAsSourceRoot) addSourceRoot(JpsPathUtil.pathToUrl(root.resolve("$name/gensrc").toString()), JavaSourceRootType.SOURCE)
+    }
+
+    private fun module(name: String, vararg dependencies: JpsModule) = model.project.modules.find { it.name == name }
+        ?: model.project.addModule(name, JpsJavaModuleType.INSTANCE).apply {
+            val contentRoot = root.resolve(name).createDirectories()
+            contentRootsList.addUrl(JpsPathUtil.pathToUrl(contentRoot.toString()))
+            dependencies.forEach { dependenciesList.addModuleDependency(it) }
+        }
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.jps.incremental
+
+import sap.commerce.toolset.jps.incremental.JpsHybrisGeneratedSourcesBuilder.Companion.affectedSources
+import sap.commerce.toolset.jps.incremental.JpsHybrisGeneratedSourcesBuilder.Companion.changedModelsClassNames
+import sap.commerce.toolset.jps.incremental.JpsHybrisGeneratedSourcesBuilder.Companion.generatedClassNames
+import java.io.File
+import java.nio.file.Path
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.writeText
+import kotlin.test.*
+
+class JpsHybrisGeneratedSourcesBuilderTest {
+
+    private lateinit var root: Path
+    private lateinit var src: File
+
+    @BeforeTest
+    fun setUp() {
+        root = createTempDirectory("jps-hybris-gensrc")
+        src = root.resolve("extA/src").createDirectories().toFile()
+
+        source(
+            "com/acme/facades/ProductFacade.java",
+            """
+                package com.acme.facades;
+                import de.hybris.platform.core.model.product.ProductModel;
+                public class ProductFacade { ProductModel product; }
+            """
+        )
+        source(
+            "de/hybris/platform/core/model/product/ProductExtras.java",
+            """
+                package de.hybris.platform.core.model.product;
+                public class ProductExtras extends ProductModel {}
+            """
+        )
+        source(
+            "com/acme/services/OrderService.kt",
+            """
+                package com.acme.services
+                import de.hybris.platform.core.model.order.*
+                class OrderService { fun total(order: OrderModel) = order.totalPrice }
+            """
+        )
+        source(
+            "com/acme/util/ProductModelHelper.java",
+            """
+                package com.acme.util;
+                public class ProductModelHelper { String productModelName; }
+            """
+        )
+        source("com/acme/util/ProductModel.txt", "ProductModel")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        root.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun test_generatedClassNames_topLevelJavaClasses() {
+        val gensrc = root.resolve("extA/gensrc/de/hybris/platform/core/model").toFile()
+
+        assertEquals(
+            setOf("ProductModel", "OrderModel"),
+            generatedClassNames(
+                listOf(
+                    gensrc.resolve("product/ProductModel.java"),
+                    gensrc.resolve("order/OrderModel.java"),
+                    gensrc.resolve("order/README.md"),
+                )
+            )
+        )
+    }
+
+    @Test
+    fun test_affectedSources_onlyReferencingSources() {
+        assertEquals(
+            listOf("com/acme/facades/ProductFacade.java", "de/hybris/platform/core/model/product/ProductExtras.java"),
+            affected(setOf("ProductModel"))
+        )
+        assertEquals(listOf("com/acme/services/OrderService.kt"), affected(setOf("OrderModel")))
+    }
+
+    @Test
+    fun test_affectedSources_unreferencedClassChanged() {
+        assertEquals(emptyList(), affected(setOf("CategoryModel")))
+    }
+
+    @Test
+    fun test_changedModelsClassNames_changedEntriesOnly() {
+        val dataRoot = root.resolve("data").toFile()
+        val jar = root.resolve("platform/bootstrap/bin/models.jar").toFile()
+
+        modelsJar(jar, "ProductModel" to "v1", "ProductModel\$Fields" to "v1", "OrderModel" to "v1", "CategoryModel" to "v1")
+        assertEquals(setOf("ProductModel", "OrderModel", "CategoryModel"), changedModelsClassNames(dataRoot, jar))
+
+        modelsJar(jar, "ProductModel" to "v1", "ProductModel\$Fields" to "v2", "OrderModel" to "v1", "UnitModel" to "v1")
+        assertEquals(setOf("ProductModel", "CategoryModel", "UnitModel"), changedModelsClassNames(dataRoot, jar))
+
+        assertEquals(emptySet(), changedModelsClassNames(dataRoot, jar))
+
+        jar.delete()
+        assertEquals(setOf("ProductModel", "OrderModel", "UnitModel"), changedModelsClassNames(dataRoot, jar))
+    }
+
+    @Test
+    fun test_affectedSources_modelsJarChange() {
+        val jar = root.resolve("platform/bootstrap/bin/models.jar").toFile()
+        val dataRoot = root.resolve("data").toFile()
+
+        modelsJar(jar, "ProductModel" to "v1", "OrderModel" to "v1")
+        changedModelsClassNames(dataRoot, jar)
+        modelsJar(jar, "ProductModel" to "v1", "OrderModel" to "v2")
+
+        assertEquals(listOf("com/acme/services/OrderService.kt"), affected(changedModelsClassNames(dataRoot, jar)))
+    }
+
+    private fun affected(classNames: Set<String>) = affectedSources(listOf(src), classNames)
+        .map { it.relativeTo(src).invariantSeparatorsPath }
+        .sorted()
+
+    private fun modelsJar(jar: File, vararg classes: Pair<String, String>) {
+        jar.parentFile.mkdirs()
+        ZipOutputStream(jar.outputStream()).use { zip ->
+            classes.forEach { (name, content) ->
+                zip.putNextEntry(ZipEntry("de/hybris/platform/core/model/$name.class"))
+                zip.write(content.toByteArray())
+                zip.closeEntry()
+            }
+        }
+    }
+
+    private fun source(path: String, text: String) = src.toPath().resolve(path)
+        .also { it.parent.createDirectories() }
+        .writeText(text.trimIndent())
+}
@@ -44,6 +44,8 @@ dependencies {
     implementation(project(":typeSystem-core"))
     implementation(project(":impex-core"))
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
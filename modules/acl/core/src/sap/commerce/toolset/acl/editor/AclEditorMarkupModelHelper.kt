@@ -32,12 +32,7 @@ object AclEditorMarkupModelHelper {
             .forEach { removeHighlighter(it) }
     }
 
-    fun highlightValueLineType(editor: Editor, textOffset: Int) {
-        val document = editor.document
-        if (textOffset > document.textLength) return
-
-        val lineNumber = document.getLineNumber(textOffset)
-
+    fun highlightValueLine(editor: Editor, lineNumber: Int) {
         editor.markupModel.addLineHighlighter(AclHighlighterColors.USER_RIGHTS_VALUE_LINE_TYPE, lineNumber, HighlighterLayer.SYNTAX)
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.acl.editor
+
+import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.editor.ex.MarkupModelEx
+import com.intellij.openapi.editor.markup.RangeHighlighter
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import sap.commerce.toolset.acl.highlighting.AclHighlighterColors
+import sap.commerce.toolset.acl.psi.AclUserRightsValueLineType
+
+/**
+ * Markup of the single editor, has to be used on EDT with the committed document.
+ */
+class AclEditorValueLineMarkup(private val editor: Editor, private val psiFile: PsiFile) : AclValueLineHighlighter.Markup {
+
+    private val document = editor.document
+
+    override fun isValueLineType(line: Int): Boolean {
+        if (!psiFile.isValid || line >= document.lineCount) return false
+
+        val lineStart = document.getLineStartOffset(line)
+        val lineEnd = document.getLineEndOffset(line)
+        val offset = (lineStart until lineEnd)
+            .firstOrNull { !document.charsSequence[it].isWhitespace() }
+            ?: return false
+
+        return PsiTreeUtil.getParentOfType(psiFile.findElementAt(offset), AclUserRightsValueLineType::class.java, false)
+            ?.takeIf { it.textOffset <= document.textLength }
+            ?.let { document.getLineNumber(it.textOffset) == line }
+            ?: false
+    }
+
+    override fun highlightedLines(lines: IntRange): Map<Int, Int> {
+        val result = HashMap<Int, Int>()
+
+        highlighters(lines).forEach { (line, _) -> result.merge(line, 1, Int::plus) }
+
+        return result
+    }
+
+    override fun addHighlighter(line: Int) {
+        if (line < document.lineCount) AclEditorMarkupModelHelper.highlightValueLine(editor, line)
+    }
+
+    override fun removeHighlighters(line: Int) = highlighters(line..line)
+        .forEach { (_, highlighter) -> editor.markupModel.removeHighlighter(highlighter) }
+
+    override fun removeAllHighlighters() = AclEditorMarkupModelHelper.removeHighlighters(editor)
+
+    private fun highlighters(lines: IntRange): List<Pair<Int, RangeHighlighter>> {
+        if (document.lineCount == 0 || lines.first >= document.lineCount) return emptyList()
+
+        val startOffset = document.getLineStartOffset(lines.first)
+        val endOffset = document.getLineEndOffset(minOf(lines.last, document.lineCount - 1))
+        val result = mutableListOf<Pair<Int, RangeHighlighter>>()
+
+        (editor.markupModel as? MarkupModelEx)
+            ?.processRangeHighlightersOverlappingWith(startOffset, endOffset) { highlighter ->
+                if (highlighter.isValid && highlighter.textAttributesKey == AclHighlighterColors.USER_RIGHTS_VALUE_LINE_TYPE) {
+                    val line = document.getLineNumber(highlighter.startOffset)
+                    if (line in lines) result.add(line to highlighter)
+                }
+                true
+            }
+
+        return result
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.acl.editor
+
+/**
+ * Keeps the `Type` value lines highlighted with the minimal amount of the markup operations.
+ *
+ * The full pass is expected only once, when the editor is opened, afterward only lines touched by the document changes are re-checked,
+ * and a highlighter is added or removed only when the state of the line has actually changed.
+ */
+class AclValueLineHighlighter(private val markup: Markup) {
+
+    fun highlightAll(valueLineTypes: Collection<Int>) {
+        markup.removeAllHighlighters()
+        valueLineTypes
+            .distinct()
+            .forEach { markup.addHighlighter(it) }
+    }
+
+    fun highlight(lines: IntRange) {
+        if (lines.isEmpty()) return
+
+        val highlighted = markup.highlightedLines(lines)
+
+        lines.forEach { line ->
+            val expected = markup.isValueLineType(line)
+            val highlighters = highlighted[line] ?: 0
+
+            when {
+                expected && highlighters == 1 -> Unit
+                !expected && highlighters == 0 -> Unit
+                // removed lines collapse their highlighters into the neighbour one, so duplicates are possible
+                expected && highlighters == 0 -> markup.addHighlighter(line)
+                expected -> {
+                    markup.removeHighlighters(line)
+                    markup.addHighlighter(line)
+                }
+
+                else -> markup.removeHighlighters(line)
+            }
+        }
+    }
+
+    interface Markup {
+        fun isValueLineType(line: Int): Boolean
+
+        /**
+         * Amount of the highlighters per line, only lines with highlighters are present.
+         */
+        fun highlightedLines(lines: IntRange): Map<Int, Int>
+        fun addHighlighter(line: Int)
+        fun removeHighlighters(line: Int)
+        fun removeAllHighlighters()
+    }
+}
@@ -15,21 +15,28 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
+
 package sap.commerce.toolset.acl.editor.event
 
+import com.intellij.openapi.application.EDT
 import com.intellij.openapi.application.readAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.editor.Editor
 import com.intellij.openapi.editor.event.EditorFactoryEvent
 import com.intellij.openapi.editor.event.EditorFactoryListener
+import com.intellij.openapi.editor.ex.util.EditorUtil
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Disposer
 import com.intellij.psi.PsiDocumentManager
 import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.util.asSafely
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
-import sap.commerce.toolset.acl.editor.AclEditorMarkupModelHelper
+import kotlinx.coroutines.withContext
+import sap.commerce.toolset.acl.editor.AclEditorValueLineMarkup
+import sap.commerce.toolset.acl.editor.AclValueLineHighlighter
 import sap.commerce.toolset.acl.psi.AclFile
 import sap.commerce.toolset.acl.psi.AclUserRightsValueLineType
 
@@ -45,15 +52,39 @@ class AclLineEditorFactoryListener : EditorFactoryListener {
 @Service(Service.Level.PROJECT)
 private class AclLineHighlighterService(private val project: Project, private val coroutineScope: CoroutineScope) {
 
+    /**
+     * The only full pass over the file, afterward lines are kept up to date by the [AclValueLineDocumentListener].
+     */
     fun highlight(editor: Editor) {
         coroutineScope.launch {
-            readAction {
-                PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
+            val (psiFile, stamp, lines) = readAction {
+                val psiFile = PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
                     ?.takeIf { it.isPhysical }
                     ?.asSafely<AclFile>()
-                    ?.let { PsiTreeUtil.collectElementsOfType(it, AclUserRightsValueLineType::class.java) }
+                    ?: return@readAction null
+                val document = editor.document
+                val lines = PsiTreeUtil.collectElementsOfType(psiFile, AclUserRightsValueLineType::class.java)
+                    .map { it.textOffset }
+                    .filter { it <= document.textLength }
+                    .map { document.getLineNumber(it) }
+
+                Triple(psiFile, document.modificationStamp, lines)
+            }
+                ?: return@launch
+
+            withContext(Dispatchers.EDT) {
+                if (editor.isDisposed) return@withContext
+
+                val highlighter = AclValueLineHighlighter(AclEditorValueLineMarkup(editor, psiFile))
+                val disposable = Disposer.newDisposable("ACL value line highlighter")
+                EditorUtil.disposeWithEditor(editor, disposable)
+
+                highlighter.highlightAll(lines)
+                // document was changed while the file was being processed
+                if (editor.document.modificationStamp != stamp) highlighter.highlight(0 until editor.document.lineCount)
+
+                editor.document.addDocumentListener(AclValueLineDocumentListener(project, editor, highlighter), disposable)
             }
-                ?.forEach { AclEditorMarkupModelHelper.highlightValueLineType(editor, it.textOffset) }
         }
     }
 
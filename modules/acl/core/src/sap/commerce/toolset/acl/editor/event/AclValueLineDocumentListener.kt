@@ -0,0 +1,84 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.acl.editor.event
+
+import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.editor.RangeMarker
+import com.intellij.openapi.editor.event.DocumentEvent
+import com.intellij.openapi.editor.event.DocumentListener
+import com.intellij.openapi.project.Project
+import com.intellij.psi.PsiDocumentManager
+import sap.commerce.toolset.acl.editor.AclValueLineHighlighter
+
+/**
+ * Collects lines touched by the document changes and re-highlights only them once the document is committed.
+ *
+ * Pending ranges are tracked via [RangeMarker], so they stay valid while the following changes shift the lines.
+ */
+class AclValueLineDocumentListener(
+    private val project: Project,
+    private val editor: Editor,
+    private val highlighter: AclValueLineHighlighter,
+) : DocumentListener {
+
+    private val pending = mutableListOf<RangeMarker>()
+
+    override fun documentChanged(event: DocumentEvent) {
+        val document = event.document
+        if (editor.isDisposed) return
+
+        val startLine = document.getLineNumber(event.offset)
+        val endLine = document.getLineNumber(minOf(event.offset + event.newLength, document.textLength))
+
+        pending.add(document.createRangeMarker(document.getLineStartOffset(startLine), document.getLineEndOffset(endLine)))
+
+        if (pending.size == 1) {
+            PsiDocumentManager.getInstance(project).performForCommittedDocument(document) { flush() }
+        }
+    }
+
+    private fun flush() {
+        val markers = pending.toList()
+        pending.clear()
+
+        if (editor.isDisposed) {
+            markers.forEach { it.dispose() }
+            return
+        }
+
+        val document = editor.document
+
+        markers
+            .mapNotNull { marker ->
+                val lines = marker
+                    .takeIf { it.isValid }
+                    ?.let { document.getLineNumber(it.startOffset)..document.getLineNumber(it.endOffset) }
+                marker.dispose()
+                lines
+            }
+            .sortedBy { it.first }
+            .fold(mutableListOf<IntRange>()) { merged, lines ->
+                val last = merged.lastOrNull()
+                if (last != null && lines.first <= last.last + 1) merged[merged.lastIndex] = last.first..maxOf(last.last, lines.last)
+                else merged.add(lines)
+                merged
+            }
+            .forEach { highlighter.highlight(it) }
+    }
+}
@@ -1,67 +0,0 @@
-/*
- * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
- * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
- *
- * This program is free software: you can redistribute it and/or modify
- * it under the terms of the GNU Lesser General Public License as
- * published by the Free Software Foundation, either version 3 of the
- * License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
- * See the GNU Lesser General Public License for more details.
- *
- * You should have received a copy of the GNU Lesser General Public License
- * along with this program. If not, see <http://www.gnu.org/licenses/>.
- */
-package sap.commerce.toolset.acl.vfs.event
-
-import com.intellij.openapi.editor.EditorFactory
-import com.intellij.openapi.vfs.AsyncFileListener
-import com.intellij.openapi.vfs.AsyncFileListener.ChangeApplier
-import com.intellij.openapi.vfs.newvfs.events.VFileEvent
-import com.intellij.psi.PsiDocumentManager
-import com.intellij.psi.util.PsiTreeUtil
-import com.intellij.util.asSafely
-import sap.commerce.toolset.HybrisConstants
-import sap.commerce.toolset.acl.editor.AclEditorMarkupModelHelper
-import sap.commerce.toolset.acl.psi.AclFile
-import sap.commerce.toolset.acl.psi.AclUserRightsValueLineType
-
-class AclVfsAsyncListener : AsyncFileListener {
-
-    override fun prepareChange(events: MutableList<out VFileEvent>): ChangeApplier? {
-        val allEditors = EditorFactory.getInstance().allEditors
-        val editors = events
-            .asSequence()
-            .mapNotNull { it.file }
-            .filter { it.extension == HybrisConstants.Languages.Acl.EXTENSION }
-            .distinct()
-            .mapNotNull { vf -> allEditors.find { it.virtualFile == vf } }
-            .mapNotNull { editor ->
-                val project = editor.project ?: return@mapNotNull null
-                val psiFile = PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
-                    ?.takeIf { it.isPhysical }
-                    ?.asSafely<AclFile>()
-                    ?: return@mapNotNull null
-
-                psiFile to editor
-            }
-            .toList()
-            .takeIf { it.isNotEmpty() }
-            ?.toMap()
-            ?: return null
-
-        return object : ChangeApplier {
-            override fun beforeVfsChange() {
-                editors.forEach { (psiFile, editor) ->
-                    AclEditorMarkupModelHelper.removeHighlighters(editor)
-
-                    PsiTreeUtil.collectElementsOfType(psiFile, AclUserRightsValueLineType::class.java)
-                        .forEach { AclEditorMarkupModelHelper.highlightValueLineType(editor, it.textOffset) }
-                }
-            }
-        }
-    }
-}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.acl.editor
+
+import kotlin.test.*
+
+class AclValueLineHighlighterTest {
+
+    private val document = FakeDocument(
+        (0 until 10_000).map { if (it % 5 == 0) "Type      ; UID        ; MemberOfGroups ; Password ; Target ; read ; change" else ";user$it ;  ; ; Product ; + ; -" }
+    )
+    private val highlighter = AclValueLineHighlighter(document)
+
+    @BeforeTest
+    fun setUp() {
+        highlighter.highlightAll(document.valueLineTypes())
+        document.operations = 0
+    }
+
+    @Test
+    fun test_highlightAll_onlyValueLineTypes() {
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_singleLineEdit_noOperations() {
+        document.replace(1, ";changed ;  ; ; Product ; - ; -")
+        highlighter.highlight(1..1)
+
+        assertEquals(0, document.operations)
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_singleLineEdit_typeLineRemoved() {
+        document.replace(5, "; user5 ;  ; ; Product ; + ; -")
+        highlighter.highlight(5..5)
+
+        assertEquals(1, document.operations)
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_singleLineEdit_typeLineAdded() {
+        document.replace(6, "Type ; UID ; read")
+        highlighter.highlight(6..6)
+
+        assertEquals(1, document.operations)
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_lineInserted_followingHighlightersShifted() {
+        document.insert(3, "Type ; UID ; read")
+        highlighter.highlight(3..3)
+
+        assertEquals(1, document.operations)
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_typeLineDeleted_collapsedHighlighterRemoved() {
+        // highlighter of the deleted line collapses into the previous line
+        document.delete(10)
+        highlighter.highlight(9..9)
+
+        assertEquals(1, document.operations)
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_typeLineDeletedAfterTypeLine_duplicateReplaced() {
+        document.replace(16, "Type ; UID ; read")
+        highlighter.highlight(16..16)
+        document.operations = 0
+
+        document.delete(16)
+        highlighter.highlight(15..15)
+
+        assertEquals(2, document.operations)
+        assertEquals(1, document.highlighters[15])
+        assertEquals(document.valueLineTypes(), document.highlightedLines())
+    }
+
+    @Test
+    fun test_highlight_singleLineEdit_proportionalToChange() {
+        val fullPass = FakeDocument(document.lines.toList())
+        AclValueLineHighlighter(fullPass).highlightAll(fullPass.valueLineTypes())
+
+        document.replace(5, "; user5 ;  ; ; Product ; + ; -")
+        highlighter.highlight(5..5)
+
+        assertTrue(document.operations * 1000 < fullPass.operations, "${document.operations} vs ${fullPass.operations}")
+    }
+
+    /**
+     * Lines with their highlighters, highlighters move together with the lines the same way as range highlighters of the editor.
+     */
+    private class FakeDocument(lines: List<String>) : AclValueLineHighlighter.Markup {
+        val lines = lines.toMutableList()
+        val highlighters = MutableList(lines.size) { 0 }
+        var operations = 0
+
+        fun valueLineTypes() = lines.indices.filter { isValueLineType(it) }
+        fun highlightedLines() = highlighters.indices.filter { highlighters[it] > 0 }
+
+        fun replace(line: Int, text: String) {
+            lines[line] = text
+        }
+
+        fun insert(line: Int, text: String) {
+            lines.add(line, text)
+            highlighters.add(line, 0)
+        }
+
+        fun delete(line: Int) {
+            lines.removeAt(line)
+            val collapsed = highlighters.removeAt(line)
+            highlighters[maxOf(line - 1, 0)] += collapsed
+        }
+
+        override fun isValueLineType(line: Int) = lines.getOrNull(line)?.trimStart()?.startsWith("Type") ?: false
+
+        override fun highlightedLines(lines: IntRange) = lines
+            .filter { highlighters.getOrElse(it) { 0 } > 0 }
+            .associateWith { highlighters[it] }
+
+        override fun addHighlighter(line: Int) {
+            operations++
+            highlighters[line]++
+        }
+
+        override fun removeHighlighters(line: Int) {
+            operations++
+            highlighters[line] = 0
+        }
+
+        override fun removeAllHighlighters() {
+            operations++
+            highlighters.fill(0)
+        }
+    }
+}
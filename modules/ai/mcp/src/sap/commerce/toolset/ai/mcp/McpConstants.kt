@@ -28,6 +28,7 @@ object McpConstants {
     object Descriptions {
         const val OUTPUT_FORMAT = """Output format for the response. Supported formats: JSON, FILE.
             |Use FILE to write the result to a temporary file and return its absolute path — avoids inline token limits for large responses.
+            |The file is temporary: read it right away, it is removed once the project is closed or newer files push it out.
             |Default: JSON."""
     }
 }
\ No newline at end of file
@@ -18,15 +18,21 @@
 
 package sap.commerce.toolset.ai.mcp
 
+import com.intellij.openapi.project.Project
 import sap.commerce.toolset.ai.mcp.file.McpFileMapper
 import sap.commerce.toolset.ai.mcp.json.McpJsonMapper
 
-private val mappers = mapOf(
-    McpConstants.Formats.JSON to McpJsonMapper,
-    McpConstants.Formats.FILE to McpFileMapper,
+private val mappers = mapOf<String, (Project?) -> McpMapper>(
+    McpConstants.Formats.JSON to { McpJsonMapper },
+    McpConstants.Formats.FILE to { McpFileMapper(it) },
 )
 
-fun resolveMapper(format: String): McpMapper = mappers[format.trim().uppercase()]
+/**
+ * Files produced for the `FILE` format are released when the given [project] is closed,
+ * otherwise they are kept until the IDE exits.
+ */
+fun resolveMapper(format: String, project: Project? = null): McpMapper = mappers[format.trim().uppercase()]
+    ?.invoke(project)
     ?: error("Unsupported output format '$format'. Supported formats: ${mappers.keys.joinToString()}")
 
 /**
@@ -18,17 +18,20 @@
 
 package sap.commerce.toolset.ai.mcp.file
 
+import com.intellij.openapi.project.Project
 import kotlinx.serialization.KSerializer
 import sap.commerce.toolset.ai.mcp.McpMapper
 import sap.commerce.toolset.ai.mcp.json.McpJsonMapper
-import java.io.File
 
-object McpFileMapper : McpMapper {
+/**
+ * Writes the JSON into a file managed by the [McpTempFileService], owned by the [project] when known.
+ */
+class McpFileMapper(private val project: Project? = null) : McpMapper {
 
     override fun <T> map(value: T, serializer: KSerializer<T>): String {
         val json = McpJsonMapper.map(value, serializer)
-        val file = File.createTempFile("sap-cx-", ".json")
-        file.writeText(json)
-        return file.absolutePath
+        return McpTempFileService.getInstance().write(project, json)
+            .toAbsolutePath()
+            .toString()
     }
 }
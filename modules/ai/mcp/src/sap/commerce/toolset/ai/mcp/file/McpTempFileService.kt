@@ -0,0 +1,59 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.ai.mcp.file
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.PathManager
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.project.ProjectCloseListener
+import com.intellij.util.application
+import java.nio.file.Path
+
+/**
+ * Owns the [McpTempFileStore] shared by all projects.
+ *
+ * Files written on behalf of a project are released when the project is closed,
+ * files written without a project stay until the IDE exits. Whole directory is cleared on dispose.
+ */
+@Service
+class McpTempFileService : Disposable {
+
+    private val store by lazy { McpTempFileStore(Path.of(PathManager.getTempPath(), DIRECTORY)) }
+
+    init {
+        application.messageBus.connect(this).subscribe(ProjectCloseListener.TOPIC, object : ProjectCloseListener {
+            override fun projectClosed(project: Project) = store.release(owner(project))
+        })
+    }
+
+    fun write(project: Project?, content: String): Path = store.write(owner(project), content)
+
+    override fun dispose() = store.clear()
+
+    private fun owner(project: Project?) = project?.locationHash ?: APPLICATION_OWNER
+
+    companion object {
+        private const val DIRECTORY = "sap-cx-mcp"
+        private const val APPLICATION_OWNER = "application"
+
+        fun getInstance(): McpTempFileService = application.service()
+    }
+}
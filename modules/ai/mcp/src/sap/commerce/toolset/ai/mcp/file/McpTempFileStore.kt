@@ -0,0 +1,141 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.ai.mcp.file
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.exists
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
+
+/**
+ * Size-capped directory of the temporary files produced by the `FILE` output format.
+ *
+ * Files are content-addressed, so repeated calls returning the same payload share a single file.
+ * Each file tracks the owners it was handed out to and is deleted once the last owner is [released][release].
+ * When the directory exceeds [maxBytes] or [maxFiles], the least recently written files are evicted first;
+ * the file returned by the current [write] is never evicted.
+ *
+ * Files left behind by a previous session are removed on creation.
+ */
+class McpTempFileStore(
+    private val directory: Path,
+    private val maxBytes: Long = DEFAULT_MAX_BYTES,
+    private val maxFiles: Int = DEFAULT_MAX_FILES,
+) {
+
+    // access ordered, the eldest entry is the least recently written one
+    private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var totalBytes = 0L
+
+    init {
+        purge()
+    }
+
+    val size
+        @Synchronized get() = entries.size
+
+    val bytes
+        @Synchronized get() = totalBytes
+
+    @Synchronized
+    fun write(owner: String, content: String): Path {
+        val bytes = content.toByteArray(Charsets.UTF_8)
+        val name = FILE_PREFIX + digest(bytes) + FILE_SUFFIX
+
+        val entry = entries[name]
+            ?.takeIf { it.path.exists() }
+            ?: run {
+                entries.remove(name)?.let { totalBytes -= it.bytes }
+                Files.createDirectories(directory)
+                val path = Files.write(directory.resolve(name), bytes)
+                Entry(path, bytes.size.toLong()).also {
+                    entries[name] = it
+                    totalBytes += it.bytes
+                }
+            }
+
+        entry.owners.add(owner)
+        evict(name)
+
+        return entry.path
+    }
+
+    @Synchronized
+    fun release(owner: String) {
+        val iterator = entries.values.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (!entry.owners.remove(owner) || entry.owners.isNotEmpty()) continue
+
+            iterator.remove()
+            delete(entry)
+        }
+    }
+
+    @Synchronized
+    fun clear() {
+        entries.values.forEach { delete(it) }
+        entries.clear()
+        purge()
+    }
+
+    private fun evict(keep: String) {
+        val iterator = entries.entries.iterator()
+        while ((totalBytes > maxBytes || entries.size > maxFiles) && iterator.hasNext()) {
+            val (name, entry) = iterator.next()
+            if (name == keep) continue
+
+            iterator.remove()
+            delete(entry)
+        }
+    }
+
+    private fun delete(entry: Entry) {
+        totalBytes -= entry.bytes
+        runCatching { entry.path.deleteIfExists() }
+    }
+
+    private fun purge() {
+        if (!directory.exists()) return
+
+        directory.listDirectoryEntries("$FILE_PREFIX*$FILE_SUFFIX")
+            .filter { it.name !in entries }
+            .forEach { runCatching { it.deleteIfExists() } }
+    }
+
+    private fun digest(bytes: ByteArray) = MessageDigest.getInstance("SHA-256")
+        .digest(bytes)
+        .take(16)
+        .joinToString("") { "%02x".format(it) }
+
+    private class Entry(val path: Path, val bytes: Long) {
+        val owners = mutableSetOf<String>()
+    }
+
+    companion object {
+        const val DEFAULT_MAX_BYTES = 256L * 1024 * 1024
+        const val DEFAULT_MAX_FILES = 64
+
+        private const val FILE_PREFIX = "sap-cx-"
+        private const val FILE_SUFFIX = ".json"
+    }
+}
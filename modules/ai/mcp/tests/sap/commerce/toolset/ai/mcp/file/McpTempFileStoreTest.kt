@@ -0,0 +1,165 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.ai.mcp.file
+
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.*
+import kotlin.test.*
+
+class McpTempFileStoreTest {
+
+    private lateinit var directory: Path
+
+    @BeforeTest
+    fun setUp() {
+        directory = createTempDirectory("mcp-temp-file-store")
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    @AfterTest
+    fun tearDown() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun test_write_sameContentSharesFile() {
+        val store = McpTempFileStore(directory)
+
+        val first = store.write("p1", "{\"a\":1}")
+        val second = store.write("p2", "{\"a\":1}")
+
+        assertEquals(first, second)
+        assertEquals("{\"a\":1}", first.readText())
+        assertEquals(1, store.size)
+        assertEquals(1, files().size)
+    }
+
+    @Test
+    fun test_release_deletesFileOnceLastOwnerReleased() {
+        val store = McpTempFileStore(directory)
+        val shared = store.write("p1", "shared")
+        store.write("p1", "shared")
+        val own = store.write("p1", "own")
+        store.write("p2", "shared")
+
+        store.release("p1")
+
+        assertTrue(shared.exists(), "File still referenced by p2 must be kept")
+        assertFalse(own.exists())
+
+        store.release("p2")
+
+        assertFalse(shared.exists())
+        assertEquals(0, store.size)
+        assertEquals(0, store.bytes)
+    }
+
+    @Test
+    fun test_release_unknownOwnerKeepsFiles() {
+        val store = McpTempFileStore(directory)
+        val path = store.write("p1", "content")
+
+        store.release("p2")
+
+        assertTrue(path.exists())
+    }
+
+    @Test
+    fun test_write_boundedByBytes() {
+        val store = McpTempFileStore(directory, maxBytes = 1_000, maxFiles = 100)
+
+        val paths = (1..50).map { store.write("p1", it.toString().padStart(100, '0')) }
+
+        assertTrue(store.bytes <= 1_000, "Directory holds ${store.bytes} bytes")
+        assertEquals(10, files().size)
+        assertEquals(paths.takeLast(10).toSet(), files().toSet())
+    }
+
+    @Test
+    fun test_write_boundedByFiles() {
+        val store = McpTempFileStore(directory, maxBytes = Long.MAX_VALUE, maxFiles = 5)
+
+        repeat(20) { store.write("p$it", "content $it") }
+
+        assertEquals(5, store.size)
+        assertEquals(5, files().size)
+    }
+
+    @Test
+    fun test_write_rewrittenContentIsMostRecent() {
+        val store = McpTempFileStore(directory, maxBytes = Long.MAX_VALUE, maxFiles = 2)
+        val first = store.write("p1", "first")
+        store.write("p1", "second")
+
+        store.write("p1", "first")
+        store.write("p1", "third")
+
+        assertTrue(first.exists(), "Recently written file must not be evicted")
+        assertEquals(2, files().size)
+    }
+
+    @Test
+    fun test_write_oversizedFileKept() {
+        val store = McpTempFileStore(directory, maxBytes = 10, maxFiles = 10)
+        store.write("p1", "small")
+
+        val large = store.write("p1", "x".repeat(100))
+
+        assertTrue(large.exists(), "Just written file is handed out even when it exceeds the cap")
+        assertEquals(listOf(large), files())
+    }
+
+    @Test
+    fun test_write_externallyDeletedFileRestored() {
+        val store = McpTempFileStore(directory)
+        val path = store.write("p1", "content")
+        path.deleteExisting()
+
+        assertEquals(path, store.write("p1", "content"))
+        assertEquals("content", path.readText())
+        assertEquals(7, store.bytes)
+    }
+
+    @Test
+    fun test_init_staleFilesPurged() {
+        val stale = Files.writeString(directory.resolve("sap-cx-0123456789abcdef.json"), "stale")
+        val foreign = Files.writeString(directory.resolve("other.txt"), "foreign")
+
+        McpTempFileStore(directory)
+
+        assertFalse(stale.exists())
+        assertTrue(foreign.exists(), "Only own files may be purged")
+    }
+
+    @Test
+    fun test_clear() {
+        val store = McpTempFileStore(directory)
+        store.write("p1", "a")
+        store.write("p2", "b")
+
+        store.clear()
+
+        assertEquals(0, store.size)
+        assertEquals(0, store.bytes)
+        assertTrue(files().isEmpty())
+    }
+
+    private fun files() = directory.listDirectoryEntries("sap-cx-*.json").sortedBy { it.getLastModifiedTime() }
+}
@@ -45,6 +45,8 @@ dependencies {
     implementation(project(":meta-core"))
     implementation(project(":project-core"))
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
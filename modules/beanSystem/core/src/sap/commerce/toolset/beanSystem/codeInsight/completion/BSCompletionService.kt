@@ -32,12 +32,15 @@ import sap.commerce.toolset.beanSystem.meta.model.BSMetaType
 @Service(Service.Level.PROJECT)
 class BSCompletionService(private val project: Project) {
 
-    fun getCompletions(meta: BSGlobalMetaBean): List<LookupElement> {
+    fun getCompletions(
+        meta: BSGlobalMetaBean,
+        levelMappings: Collection<String> = HybrisConstants.OCC_DEFAULT_LEVEL_MAPPINGS
+    ): List<LookupElement> {
         val properties = meta.allProperties.values
             .mapNotNull { BSLookupElementFactory.build(it) }
-        val levelMappings = HybrisConstants.OCC_DEFAULT_LEVEL_MAPPINGS
+        val levelMappingLookups = levelMappings
             .map { BSLookupElementFactory.buildLevelMapping(it) }
-        return properties + levelMappings
+        return properties + levelMappingLookups
     }
 
     fun getCompletions(vararg types: BSMetaType) = with(BSMetaModelAccess.getInstance(project)) {
@@ -18,7 +18,6 @@
 package sap.commerce.toolset.beanSystem.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.PsiTreeUtil
@@ -30,8 +29,6 @@ import com.intellij.psi.xml.XmlTokenType
 import com.intellij.util.xml.DomManager
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.beanSystem.meta.BSMetaModelAccess
-import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
-import sap.commerce.toolset.beanSystem.meta.model.BSMetaType
 import sap.commerce.toolset.beanSystem.model.Bean
 import sap.commerce.toolset.i18n
 import javax.swing.Icon
@@ -56,27 +53,21 @@ class BeansXmlBeanSiblingsLineMarkerProvider : BeansXmlLineMarkerProvider<XmlAtt
 
         if (psi != dom.clazz.xmlAttributeValue) return emptyList()
 
-        val wsBeans = BSMetaModelAccess.getInstance(project).getAll<BSGlobalMetaBean>(BSMetaType.META_WS_BEAN)
-        val beans = BSMetaModelAccess.getInstance(project).getAll<BSGlobalMetaBean>(BSMetaType.META_BEAN)
-        val events = BSMetaModelAccess.getInstance(project).getAll<BSGlobalMetaBean>(BSMetaType.META_EVENT)
-
-        return (wsBeans + beans + events)
-            // TODO: improve, it is slow
-            .mapNotNull { it.retrieveDom() }
-            // TODO: improve, it is slow
-            .filter { it.extends.stringValue == psi.value }
-            .mapNotNull { it.clazz.xmlAttributeValue }
+        val subBeans = BSMetaModelAccess.getInstance(project).findSubBeans(psi.value)
             .takeIf { it.isNotEmpty() }
-            ?.let {
-                NavigationGutterIconBuilder
-                    .create(icon)
-                    .setTargets(it)
-                    .setPopupTitle(i18n("hybris.editor.gutter.bs.beans.bean.siblings.popup.title"))
-                    .setTooltipText(i18n("hybris.editor.gutter.bs.beans.bean.siblings.tooltip.text"))
-                    .setAlignment(GutterIconRenderer.Alignment.RIGHT)
-                    .createLineMarkerInfo(leaf)
+            ?: return emptyList()
+
+        return listOf(
+            createLazyLineMarkerInfo(
+                leaf, icon, GutterIconRenderer.Alignment.RIGHT,
+                i18n("hybris.editor.gutter.bs.beans.bean.siblings.tooltip.text"),
+                i18n("hybris.editor.gutter.bs.beans.bean.siblings.popup.title"),
+            ) {
+                subBeans
+                    .mapNotNull { it.retrieveDom() }
+                    .filter { it.extends.stringValue == psi.value }
+                    .mapNotNull { it.clazz.xmlAttributeValue }
             }
-            ?.let { listOf(it) }
-            ?: emptyList()
+        )
     }
 }
\ No newline at end of file
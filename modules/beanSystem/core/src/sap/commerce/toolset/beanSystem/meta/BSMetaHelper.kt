@@ -77,7 +77,7 @@ object BSMetaHelper {
         .replace(BSConstants.SIGN_LESS_THAN, BSConstants.SIGN_LESS_THAN_ESCAPED)
         .replace(BSConstants.SIGN_GREATER_THAN, BSConstants.SIGN_GREATER_THAN_ESCAPED)
 
-    private fun getExtendsMetaItem(metaModel: BSGlobalMetaModel, meta: BSGlobalMetaBean): BSGlobalMetaBean? {
+    fun getExtendsMetaItem(metaModel: BSGlobalMetaModel, meta: BSGlobalMetaBean): BSGlobalMetaBean? {
         val extendsName = meta.extends
             // prevent deadlock when type extends itself
             ?.takeIf { it != meta.name }
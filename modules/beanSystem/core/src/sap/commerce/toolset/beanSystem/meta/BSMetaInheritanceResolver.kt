@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta
+
+import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
+import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBeanSelfMerge
+import java.util.*
+
+/**
+ * Resolves `extends` of the merged beans in a single topological pass, parents are always post-merged before their children
+ * and each parent chain is computed only once.
+ *
+ * Beans which are not passed to [resolve] are treated as already resolved, so they are never post-merged again.
+ *
+ * Cyclic `extends` declarations are reported via [cycles], the edge which closes the cycle is ignored.
+ */
+internal class BSMetaInheritanceResolver(private val globalMetaModel: BSGlobalMetaModel) {
+
+    private val resolved = IdentityHashMap<BSGlobalMetaBean, List<BSGlobalMetaBean>>()
+    private val pending = Collections.newSetFromMap(IdentityHashMap<BSGlobalMetaBean, Boolean>())
+    private val path = LinkedHashSet<BSGlobalMetaBean>()
+    private val _cycles = mutableListOf<List<String>>()
+
+    /**
+     * Names of the beans forming each detected cycle, in the `extends` order.
+     */
+    val cycles: List<List<String>>
+        get() = _cycles
+
+    fun resolve(beans: Collection<BSGlobalMetaBean>) {
+        pending.addAll(beans)
+        beans.forEach { allExtends(it) }
+    }
+
+    private fun allExtends(bean: BSGlobalMetaBean): List<BSGlobalMetaBean> {
+        resolved[bean]?.let { return it }
+        if (bean !in pending) return bean.allExtends.toList()
+
+        path.add(bean)
+
+        val parent = BSMetaHelper.getExtendsMetaItem(globalMetaModel, bean)
+        val allExtends = when {
+            parent == null -> emptyList()
+            path.contains(parent) -> {
+                _cycles.add(path.dropWhile { it !== parent }.mapNotNull { it.name })
+                emptyList()
+            }
+
+            else -> listOf(parent) + allExtends(parent)
+        }
+
+        path.remove(bean)
+
+        (bean as? BSGlobalMetaBeanSelfMerge<*, *>)?.postMerge(allExtends)
+        resolved[bean] = allExtends
+
+        return allExtends
+    }
+}
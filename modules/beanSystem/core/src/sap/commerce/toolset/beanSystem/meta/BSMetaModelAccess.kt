@@ -20,6 +20,10 @@ package sap.commerce.toolset.beanSystem.meta
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
 import sap.commerce.toolset.beanSystem.meta.impl.BSMetaModelNameProvider
 import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
 import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaClassifier
@@ -67,10 +71,30 @@ class BSMetaModelAccess(private val project: Project) {
 
     fun findMetaEnumByName(name: String?) = findMetaByName<BSGlobalMetaEnum>(BSMetaType.META_ENUM, name)
 
+    /**
+     * Beans which directly extend the given class, mapping is computed once per Bean System version.
+     */
+    fun findSubBeans(extends: String?): List<BSGlobalMetaBean> = extends
+        ?.let { getSubBeans()[it] }
+        ?: emptyList()
+
+    private fun getSubBeans(): Map<String, List<BSGlobalMetaBean>> = CachedValuesManager.getManager(project).getCachedValue(
+        project, KEY_SUB_BEANS,
+        {
+            val subBeans = getAllBeans()
+                .filter { it.extends != null }
+                .groupBy { it.extends!! }
+            CachedValueProvider.Result.create(subBeans, BSModificationTracker.getInstance(project))
+        },
+        false
+    )
+
     private fun <T : BSGlobalMetaClassifier<*>> findMetaByName(metaType: BSMetaType, name: String?): T? = BSMetaModelStateService.state(project)
         .getMetaType<T>(metaType)[name]
 
     companion object {
+        private val KEY_SUB_BEANS = Key.create<CachedValue<Map<String, List<BSGlobalMetaBean>>>>("SAP_CX_BS_SUB_BEANS")
+
         fun getInstance(project: Project): BSMetaModelAccess = project.service()
     }
 
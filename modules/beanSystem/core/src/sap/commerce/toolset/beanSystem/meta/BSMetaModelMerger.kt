@@ -15,58 +15,176 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
+
 package sap.commerce.toolset.beanSystem.meta
 
+import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.beanSystem.BSConstants
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
 import sap.commerce.toolset.beanSystem.meta.model.*
 import sap.commerce.toolset.beanSystem.meta.model.impl.BSGlobalMetaBeanImpl
 import sap.commerce.toolset.beanSystem.meta.model.impl.BSGlobalMetaEnumImpl
 
 object BSMetaModelMerger {
 
-    fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModels: Collection<BSMetaModel>) = with(globalMetaModel) {
-        localMetaModels
-            // ideally, we have to get the same dependency order as SAP Commerce
-            .sortedBy { !it.custom }
+    private val beanMetaTypes = listOf(BSMetaType.META_BEAN, BSMetaType.META_EVENT, BSMetaType.META_WS_BEAN)
+
+    /**
+     * @param extensionsOrder names of the extensions in the dependency order, dependencies precede their dependents
+     */
+    fun merge(
+        globalMetaModel: BSGlobalMetaModel,
+        localMetaModels: Collection<BSMetaModel>,
+        extensionsOrder: List<String> = emptyList()
+    ) = with(globalMetaModel) {
+        dependencyOrdered(localMetaModels, extensionsOrder)
             .forEach { merge(this, it) }
 
+        postMerge(this) { true }
+    }
+
+    /**
+     * Re-merges only beans and enums declared in the changed local meta models and all beans inheriting from them,
+     * other global metas are taken over from the previous global meta model as is.
+     * Previous global meta model is never modified, it may still be in use by the readers.
+     *
+     * Result is the same as of the full [merge] of the [localMetaModels].
+     *
+     * @param changedMetaModels previous and actual versions of the changed, created and removed local meta models
+     */
+    fun merge(
+        globalMetaModel: BSGlobalMetaModel,
+        previousGlobalMetaModel: BSGlobalMetaModel,
+        localMetaModels: Collection<BSMetaModel>,
+        changedMetaModels: Collection<BSMetaModel>,
+        extensionsOrder: List<String> = emptyList()
+    ): BSMetaModelChange = with(globalMetaModel) {
+        val changedEnums = declaredNames(changedMetaModels) { it == BSMetaType.META_ENUM }
+        val changedBeans = declaredNames(changedMetaModels) { it != BSMetaType.META_ENUM }
+            .let { it + descendants(previousGlobalMetaModel, it) }
+        val isAffected = { metaType: BSMetaType, key: String ->
+            if (metaType == BSMetaType.META_ENUM) key in changedEnums
+            else key in changedBeans
+        }
+
+        BSMetaType.entries.forEach { metaType ->
+            val globalMetas = getMetaType<BSGlobalMetaClassifier<*>>(metaType)
+
+            previousGlobalMetaModel.getMetaType<BSGlobalMetaClassifier<*>>(metaType)
+                .filterNot { (key, _) -> isAffected(metaType, key) }
+                .let { globalMetas.putAll(it) }
+        }
+
+        dependencyOrdered(localMetaModels, extensionsOrder)
+            .forEach { merge(this, it, isAffected) }
+
+        postMerge(this) { it in changedBeans }
+
+        BSMetaModelChange(
+            beans = changedBeans.mapTo(HashSet()) { name(it, beanMetaTypes, this, previousGlobalMetaModel) },
+            enums = changedEnums.mapTo(HashSet()) { name(it, listOf(BSMetaType.META_ENUM), this, previousGlobalMetaModel) },
+        )
+    }
+
+    private fun postMerge(globalMetaModel: BSGlobalMetaModel, isAffected: (String) -> Boolean) = with(globalMetaModel) {
         val beans = getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
-        val wsBeans = beans.filter { it.value.hints.containsKey("wsRelated") }
+        val wsBeans = beans.filter { isAffected(it.key) && it.value.hints.containsKey("wsRelated") }
 
         getMetaType<BSGlobalMetaBean>(BSMetaType.META_WS_BEAN).putAll(wsBeans)
         beans.keys.removeAll(wsBeans.keys)
 
+        val events = getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).filterKeys(isAffected)
+
         // after merging all different declarations of the same bean we need to process properties which were declared via extends
         val allBeans = wsBeans.values +
-            getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).values +
-            getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN).values
-        allBeans
-            .forEach { (it as? BSGlobalMetaBeanSelfMerge<*, *>)?.postMerge(this) }
+            events.values +
+            beans.filterKeys(isAffected).values
+        BSMetaInheritanceResolver(this)
+            .apply { resolve(allBeans) }
+            .cycles
+            .forEach { thisLogger().warn("Cyclic bean inheritance detected: ${it.joinToString(" -> ")} -> ${it.first()}") }
 
         wsBeans.values.forEach { it.metaType = BSMetaType.META_WS_BEAN }
-        getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).values.forEach { it.metaType = BSMetaType.META_EVENT }
+        events.values.forEach { it.metaType = BSMetaType.META_EVENT }
     }
 
+    /**
+     * The first merged declaration wins, so extensions are merged starting from the most dependent one,
+     * the same way as dependent extensions may redefine beans of their dependencies in SAP Commerce.
+     * Extensions unknown to the dependency graph are merged last, custom ones first.
+     */
+    private fun dependencyOrdered(localMetaModels: Collection<BSMetaModel>, extensionsOrder: List<String>): List<BSMetaModel> {
+        val ranks = extensionsOrder
+            .withIndex()
+            .associate { (index, extensionName) -> extensionName.lowercase() to index }
+
+        return localMetaModels.sortedWith(
+            compareByDescending<BSMetaModel> { ranks[it.extensionName.lowercase()] ?: -1 }
+                .thenBy { !it.custom }
+        )
+    }
+
+    private fun declaredNames(localMetaModels: Collection<BSMetaModel>, takeIf: (BSMetaType) -> Boolean) = localMetaModels
+        .flatMap { it.getMetaTypes().entries }
+        .filter { (metaType, _) -> takeIf(metaType) }
+        .flatMapTo(HashSet()) { (_, localMetas) -> localMetas.keySet() }
+
+    /**
+     * Lower-cased names of all beans which directly or transitively extend any of the given beans.
+     */
+    private fun descendants(globalMetaModel: BSGlobalMetaModel, names: Set<String>): Set<String> {
+        val children = beanMetaTypes
+            .flatMap { globalMetaModel.getMetaType<BSGlobalMetaBean>(it).values }
+            .filter { it.name != null }
+            .groupBy(
+                { bean -> (bean.extends?.takeIf { it != bean.name } ?: BSConstants.TYPE_OBJECT).lowercase() },
+                { bean -> bean.name!!.lowercase() }
+            )
+        val descendants = HashSet<String>()
+        val queue = ArrayDeque(names)
+
+        while (queue.isNotEmpty()) {
+            children[queue.removeFirst()]
+                ?.filter { it !in names && descendants.add(it) }
+                ?.let { queue.addAll(it) }
+        }
+
+        return descendants
+    }
+
+    private fun name(key: String, metaTypes: List<BSMetaType>, vararg globalMetaModels: BSGlobalMetaModel) = globalMetaModels
+        .firstNotNullOfOrNull { globalMetaModel ->
+            metaTypes.firstNotNullOfOrNull { globalMetaModel.getMetaType<BSGlobalMetaClassifier<*>>(it)[key]?.name }
+        }
+        ?: key
+
     @Suppress("UNCHECKED_CAST")
-    private fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModel: BSMetaModel) {
+    private fun merge(
+        globalMetaModel: BSGlobalMetaModel,
+        localMetaModel: BSMetaModel,
+        isAffected: (BSMetaType, String) -> Boolean = { _, _ -> true }
+    ) {
         localMetaModel.getMetaTypes().forEach { (metaType, localMetas) ->
             run {
                 val globalCache = globalMetaModel.getMetaType<BSMetaSelfMerge<out DomElement, out BSMetaClassifier<out DomElement>>>(metaType)
 
-                localMetas.entrySet().forEach { (key, localMetaClassifiers) ->
-                    localMetaClassifiers.forEach { localMetaClassifier ->
-                        val globalMetaClassifier = globalCache.computeIfAbsent(key) {
-                            when (localMetaClassifier) {
-                                is BSMetaEnum -> BSGlobalMetaEnumImpl(localMetaClassifier)
-                                is BSMetaBean -> BSGlobalMetaBeanImpl(localMetaClassifier)
-                                else -> null
+                localMetas.entrySet()
+                    .filter { (key, _) -> isAffected(metaType, key) }
+                    .forEach { (key, localMetaClassifiers) ->
+                        localMetaClassifiers.forEach { localMetaClassifier ->
+                            val globalMetaClassifier = globalCache.computeIfAbsent(key) {
+                                when (localMetaClassifier) {
+                                    is BSMetaEnum -> BSGlobalMetaEnumImpl(localMetaClassifier)
+                                    is BSMetaBean -> BSGlobalMetaBeanImpl(localMetaClassifier)
+                                    else -> null
+                                }
                             }
-                        }
 
-                        (globalMetaClassifier as BSMetaSelfMerge<DomElement, BSMetaClassifier<DomElement>>).merge(localMetaClassifier)
+                            (globalMetaClassifier as BSMetaSelfMerge<DomElement, BSMetaClassifier<DomElement>>).merge(localMetaClassifier)
+                        }
                     }
-                }
             }
         }
     }
-}
\ No newline at end of file
+}
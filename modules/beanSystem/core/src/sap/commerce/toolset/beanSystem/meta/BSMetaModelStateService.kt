@@ -21,11 +21,15 @@ package sap.commerce.toolset.beanSystem.meta
 import com.intellij.openapi.application.readAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
+import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
 import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChangeListener
 import sap.commerce.toolset.beanSystem.model.Beans
 import sap.commerce.toolset.meta.MetaModelStateService
+import sap.commerce.toolset.project.settings.ySettings
+import sap.commerce.toolset.project.yExtensionName
 
 @Service(Service.Level.PROJECT)
 class BSMetaModelStateService(project: Project, coroutineScope: CoroutineScope) : MetaModelStateService<BSGlobalMetaModel, BSMetaModel, Beans>(
@@ -34,12 +38,59 @@ class BSMetaModelStateService(project: Project, coroutineScope: CoroutineScope)
     BSMetaModelProcessor.getInstance(project)
 ) {
 
+    @Volatile
+    private var lastChange = BSMetaModelChange.FULL
+
+    @Volatile
+    private var lastExtensionsOrder: List<String>? = null
+
     override fun onCompletion(newState: BSGlobalMetaModel) {
-        project.messageBus.syncPublisher(BSMetaModelChangeListener.TOPIC).onChanged(newState)
+        project.messageBus.syncPublisher(BSMetaModelChangeListener.TOPIC).onChanged(newState, lastChange)
     }
 
-    override suspend fun create(metaModelsToMerge: Collection<BSMetaModel>): BSGlobalMetaModel = BSGlobalMetaModel().also {
-        readAction { BSMetaModelMerger.merge(it, metaModelsToMerge.sortedBy { meta -> !meta.custom }) }
+    override suspend fun create(metaModelsToMerge: Collection<BSMetaModel>): BSGlobalMetaModel = readAction {
+        val extensionsOrder = extensionsOrder()
+
+        BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(it, metaModelsToMerge, extensionsOrder)
+
+            lastExtensionsOrder = extensionsOrder
+            lastChange = BSMetaModelChange.FULL
+        }
+    }
+
+    override suspend fun create(
+        previousState: BSGlobalMetaModel,
+        previousMetaModels: Map<String, BSMetaModel>,
+        metaModels: Map<String, BSMetaModel>
+    ): BSGlobalMetaModel {
+        val changedMetaModels = (previousMetaModels.keys + metaModels.keys)
+            .filter { previousMetaModels[it] !== metaModels[it] }
+            .flatMap { listOfNotNull(previousMetaModels[it], metaModels[it]) }
+
+        if (changedMetaModels.isEmpty()) {
+            lastChange = BSMetaModelChange()
+            return previousState
+        }
+
+        return readAction {
+            val extensionsOrder = extensionsOrder()
+
+            // order of the merge depends on the extensions graph, any change to it requires full re-merge
+            if (extensionsOrder != lastExtensionsOrder) return@readAction null
+
+            BSGlobalMetaModel().also {
+                lastChange = BSMetaModelMerger.merge(it, previousState, metaModels.values, changedMetaModels, extensionsOrder)
+            }
+        }
+            ?: create(metaModels.values)
+    }
+
+    private fun extensionsOrder(): List<String> {
+        val moduleMapping = project.ySettings.module2extensionMapping
+
+        return ModuleManager.getInstance(project).sortedModules
+            .mapNotNull { it.yExtensionName(moduleMapping) }
     }
 
     companion object {
@@ -0,0 +1,43 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta.event
+
+/**
+ * Names of the global beans and enums which were re-created during the last update of the global meta model.
+ *
+ * Beans inheriting from the re-merged beans are included as well, because their inherited properties are re-computed.
+ * Removed beans and enums are reported too, so listeners have to expect names which are no longer present in the model.
+ */
+data class BSMetaModelChange(
+    val beans: Set<String> = emptySet(),
+    val enums: Set<String> = emptySet(),
+    val full: Boolean = false,
+) {
+
+    private val beanKeys by lazy { beans.mapTo(HashSet()) { it.lowercase() } }
+    private val enumKeys by lazy { enums.mapTo(HashSet()) { it.lowercase() } }
+
+    fun isEmpty() = !full && beans.isEmpty() && enums.isEmpty()
+    fun isBeanAffected(name: String?) = full || (name != null && name.lowercase() in beanKeys)
+    fun isEnumAffected(name: String?) = full || (name != null && name.lowercase() in enumKeys)
+
+    companion object {
+        val FULL = BSMetaModelChange(full = true)
+    }
+}
@@ -24,6 +24,11 @@ import sap.commerce.toolset.meta.event.MetaModelChangeListener
 
 interface BSMetaModelChangeListener: MetaModelChangeListener<BSGlobalMetaModel> {
 
+    /**
+     * Invoked instead of [onChanged] without the [change], override it to invalidate only the affected entries.
+     */
+    fun onChanged(globalMetaModel: BSGlobalMetaModel, change: BSMetaModelChange) = onChanged(globalMetaModel)
+
     companion object {
         val TOPIC = Topic(BSMetaModelChangeListener::class.java)
     }
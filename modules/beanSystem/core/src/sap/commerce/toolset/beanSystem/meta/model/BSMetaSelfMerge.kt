@@ -18,7 +18,6 @@
 package sap.commerce.toolset.beanSystem.meta.model
 
 import com.intellij.util.xml.DomElement
-import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
 
 abstract class BSMetaSelfMerge<DOM : DomElement, T : BSMetaClassifier<DOM>>(localMeta: T) : BSGlobalMetaClassifier<DOM> {
 
@@ -39,6 +38,11 @@ abstract class BSMetaSelfMerge<DOM : DomElement, T : BSMetaClassifier<DOM>>(loca
 
 abstract class BSGlobalMetaBeanSelfMerge<DOM : DomElement, T : BSMetaClassifier<DOM>>(localMeta: T) : BSMetaSelfMerge<DOM, T>(localMeta) {
 
-    abstract fun postMerge(globalMetaModel: BSGlobalMetaModel)
+    /**
+     * Invoked once all declarations are merged and all ancestors are already post-merged.
+     *
+     * @param allExtends all ancestors of the bean, starting from the direct parent
+     */
+    abstract fun postMerge(allExtends: List<BSGlobalMetaBean>)
 
 }
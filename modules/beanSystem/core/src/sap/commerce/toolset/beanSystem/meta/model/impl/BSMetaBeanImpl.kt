@@ -20,7 +20,6 @@ package sap.commerce.toolset.beanSystem.meta.model.impl
 import com.intellij.util.xml.DomAnchor
 import com.intellij.util.xml.DomService
 import sap.commerce.toolset.CaseInsensitiveMap
-import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
 import sap.commerce.toolset.beanSystem.meta.BSMetaHelper
 import sap.commerce.toolset.beanSystem.meta.model.*
 import sap.commerce.toolset.beanSystem.model.Bean
@@ -88,13 +87,12 @@ internal class BSGlobalMetaBeanImpl(localMeta: BSMetaBean) : BSGlobalMetaBeanSel
     override val allExtends = LinkedHashSet<BSGlobalMetaBean>()
     override var metaType = BSMetaType.META_BEAN
 
-    override fun postMerge(globalMetaModel: BSGlobalMetaModel) {
-        val extends = BSMetaHelper.getAllExtends(globalMetaModel, this)
+    override fun postMerge(allExtends: List<BSGlobalMetaBean>) {
+        this.allExtends.addAll(allExtends)
 
-        allExtends.addAll(extends)
-        extends.forEach {
-            allProperties.putAll(it.allProperties)
-        }
+        // properties of the parent already include properties of all its ancestors
+        allExtends.firstOrNull()
+            ?.let { allProperties.putAll(it.allProperties) }
     }
 
     override fun mergeInternally(localMeta: BSMetaBean) {
@@ -0,0 +1,236 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta
+
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.beanSystem.meta.model.*
+import sap.commerce.toolset.beanSystem.model.*
+import sap.commerce.toolset.beanSystem.model.Enum
+import java.lang.reflect.Proxy
+import kotlin.random.Random
+
+/**
+ * Generates extensions where each one declares own beans and enums, extends beans of the previous extensions and redeclares some of them.
+ * Property names are taken from the small pool, so the same property is often declared on multiple levels of the hierarchy.
+ *
+ * Beans may only extend beans of the previous extensions, so the generated hierarchy is never cyclic.
+ */
+internal fun corpus(extensions: Int, beansPerExtension: Int, random: Random = Random(42)): List<BSMetaModel> {
+    val declared = mutableListOf<Pair<String, BSMetaType>>()
+    val declaredEnums = mutableListOf<String>()
+
+    return (0 until extensions).map { index ->
+        val extensionName = "extension$index"
+        val custom = index >= extensions / 2
+        val model = BSMetaModel(extensionName, "$extensionName-beans.xml", custom)
+
+        val beans = (0 until beansPerExtension).map { index ->
+            val name = "de.hybris.$extensionName.Bean$index"
+            val extends = declared.takeIf { it.isNotEmpty() && random.nextInt(4) != 0 }?.random(random)?.first
+            val hints = if (random.nextInt(20) == 0) listOf("wsRelated") else emptyList()
+            val metaType = if (random.nextInt(20) == 0) BSMetaType.META_EVENT else BSMetaType.META_BEAN
+
+            model.addMetaModel(bean(name, extensionName, custom, extends, randomProperties(random), hints), metaType)
+            name to metaType
+        }
+        val enums = (0 until beansPerExtension / 10).map { index ->
+            val name = "de.hybris.$extensionName.Enum$index"
+            model.addMetaModel(enum(name, extensionName, custom, randomValues(random)), BSMetaType.META_ENUM)
+            name
+        }
+
+        // redeclarations never change `extends`, otherwise the generated hierarchy could become cyclic
+        repeat(beansPerExtension / 5) {
+            declared.randomOrNull(random)
+                ?.let { (name, metaType) -> model.addMetaModel(bean(name, extensionName, custom, properties = randomProperties(random)), metaType) }
+        }
+        repeat(beansPerExtension / 20) {
+            declaredEnums.randomOrNull(random)
+                ?.let { model.addMetaModel(enum(it, extensionName, custom, randomValues(random)), BSMetaType.META_ENUM) }
+        }
+
+        declared.addAll(beans)
+        declaredEnums.addAll(enums)
+        model
+    }
+}
+
+internal fun randomProperties(random: Random) = (0..random.nextInt(6)).map { "property${random.nextInt(16)}" }.distinct()
+internal fun randomValues(random: Random) = (0..random.nextInt(4)).map { "VALUE${random.nextInt(8)}" }.distinct()
+
+internal fun model(extensionName: String, custom: Boolean, vararg metas: BSMetaClassifier<*>) = BSMetaModel(extensionName, "$extensionName-beans.xml", custom)
+    .apply {
+        metas.forEach {
+            addMetaModel(it, if (it is BSMetaEnum) BSMetaType.META_ENUM else BSMetaType.META_BEAN)
+        }
+    }
+
+internal fun bean(
+    name: String,
+    extensionName: String,
+    custom: Boolean = false,
+    extends: String? = null,
+    properties: List<String> = emptyList(),
+    hints: List<String> = emptyList(),
+) = FakeMetaBean(
+    name = name,
+    extensionName = extensionName,
+    isCustom = custom,
+    extends = extends,
+    properties = properties.associateWith { FakeMetaProperty(it, extensionName, custom) },
+    hints = hints.associateWith { FakeMetaHint(it, extensionName, custom) },
+)
+
+internal fun enum(
+    name: String,
+    extensionName: String,
+    custom: Boolean = false,
+    values: List<String> = emptyList(),
+) = FakeMetaEnum(
+    name = name,
+    extensionName = extensionName,
+    isCustom = custom,
+    values = values.associateWith { FakeMetaEnumValue(it, extensionName, custom) },
+)
+
+internal data class BeanSnapshot(
+    val metaType: BSMetaType,
+    val extends: String?,
+    val declarations: Set<BSMetaBean>,
+    val allExtends: List<String?>,
+    val allProperties: Map<String, BSMetaProperty>,
+)
+
+internal data class EnumSnapshot(
+    val declarations: Set<BSMetaEnum>,
+    val values: Map<String, BSMetaEnum.BSMetaEnumValue>,
+)
+
+internal fun beansSnapshot(model: BSGlobalMetaModel) = listOf(BSMetaType.META_BEAN, BSMetaType.META_EVENT, BSMetaType.META_WS_BEAN)
+    .flatMap { metaType -> model.getMetaType<BSGlobalMetaBean>(metaType).values }
+    .associate { bean ->
+        bean.name to BeanSnapshot(
+            metaType = bean.metaType,
+            extends = bean.extends,
+            declarations = bean.declarations.toSet(),
+            allExtends = bean.allExtends.map { it.name },
+            allProperties = bean.allProperties.toMap(),
+        )
+    }
+
+internal fun enumsSnapshot(model: BSGlobalMetaModel) = model.getMetaType<BSGlobalMetaEnum>(BSMetaType.META_ENUM).values
+    .associate { enum -> enum.name to EnumSnapshot(enum.declarations.toSet(), enum.values.toMap()) }
+
+internal class FakeMetaBean(
+    override val name: String,
+    override val extensionName: String,
+    override val isCustom: Boolean,
+    override val extends: String?,
+    override val properties: Map<String, BSMetaProperty>,
+    override val hints: Map<String, BSMetaHint>,
+) : BSMetaBean {
+    override val moduleName = extensionName
+    override val domAnchor = stub<DomAnchor<Bean>>()
+    override val type = BeanType.BEAN
+    override val shortName = BSMetaHelper.getShortName(name)
+    override val fullName = name
+    override val fullExtends = extends
+    override val genericName: String? = null
+    override val description: String? = null
+    override val template: String? = null
+    override val extendsGenericName: String? = null
+    override val deprecatedSince: String? = null
+    override val isDeprecated = false
+    override val isAbstract = false
+    override val isSuperEquals = false
+    override val imports = emptyList<BSMetaImport>()
+    override val annotations = emptyList<BSMetaAnnotations>()
+
+    fun copy(
+        extends: String? = this.extends,
+        properties: Map<String, BSMetaProperty> = this.properties,
+        hints: Map<String, BSMetaHint> = this.hints,
+    ) = FakeMetaBean(name, extensionName, isCustom, extends, properties, hints)
+
+    override fun toString() = "Bean(module=$extensionName, name=$name)"
+}
+
+internal class FakeMetaProperty(
+    override val name: String,
+    override val extensionName: String,
+    override val isCustom: Boolean,
+) : BSMetaProperty {
+    override val moduleName = extensionName
+    override val domAnchor = stub<DomAnchor<Property>>()
+    override var flattenType: String? = null
+    override val type = "java.lang.String"
+    override val referencedType: String? = null
+    override val description: String? = null
+    override val isEquals = false
+    override val isDeprecated = false
+    override val annotations = emptyList<BSMetaAnnotations>()
+    override val hints = emptyMap<String, BSMetaHint>()
+
+    override fun toString() = "Property(module=$extensionName, name=$name)"
+}
+
+internal class FakeMetaHint(
+    override val name: String,
+    override val extensionName: String,
+    override val isCustom: Boolean,
+) : BSMetaHint {
+    override val moduleName = extensionName
+    override val domAnchor = stub<DomAnchor<Hint>>()
+    override val value: String? = null
+}
+
+internal class FakeMetaEnum(
+    override val name: String,
+    override val extensionName: String,
+    override val isCustom: Boolean,
+    override val values: Map<String, BSMetaEnum.BSMetaEnumValue>,
+) : BSMetaEnum {
+    override val moduleName = extensionName
+    override val domAnchor = stub<DomAnchor<Enum>>()
+    override val shortName = BSMetaHelper.getShortName(name)
+    override val description: String? = null
+    override val template: String? = null
+    override val deprecatedSince: String? = null
+    override val isDeprecated = false
+
+    override fun toString() = "Enum(module=$extensionName, name=$name)"
+}
+
+internal class FakeMetaEnumValue(
+    override val name: String,
+    override val extensionName: String,
+    override val isCustom: Boolean,
+) : BSMetaEnum.BSMetaEnumValue {
+    override val moduleName = extensionName
+    override val domAnchor = stub<DomAnchor<EnumValue>>()
+
+    override fun toString() = "EnumValue(module=$extensionName, name=$name)"
+}
+
+@Suppress("UNCHECKED_CAST")
+private inline fun <reified T : DomAnchor<out DomElement>> stub() = Proxy.newProxyInstance(
+    T::class.java.classLoader,
+    arrayOf(DomAnchor::class.java)
+) { _, _, _ -> null } as T
@@ -0,0 +1,180 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta
+
+import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
+import sap.commerce.toolset.beanSystem.meta.model.BSMetaClassifier
+import sap.commerce.toolset.beanSystem.meta.model.BSMetaType
+import kotlin.random.Random
+import kotlin.test.*
+
+class BSMetaModelIncrementalMergeTest {
+
+    @Test
+    fun test_merge_sequenceOfEdits_sameAsFullMerge() {
+        val random = Random(7)
+        val localMetaModels = corpus(extensions = 40, beansPerExtension = 50).associateByTo(LinkedHashMap()) { it.fileName }
+        val removedMetaModels = mutableMapOf<String, BSMetaModel>()
+        var globalMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels.values) }
+
+        repeat(200) { step ->
+            val previousMetaModels = localMetaModels.toMap()
+            edit(localMetaModels, removedMetaModels, random)
+
+            val actual = BSGlobalMetaModel()
+            val change = BSMetaModelMerger.merge(actual, globalMetaModel, localMetaModels.values, changedMetaModels(previousMetaModels, localMetaModels))
+            globalMetaModel = actual
+
+            val expected = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels.values) }
+
+            assertEquals(beansSnapshot(expected), beansSnapshot(actual), "Beans differ from the full merge after edit #$step")
+            assertEquals(enumsSnapshot(expected), enumsSnapshot(actual), "Enums differ from the full merge after edit #$step")
+            assertFalse(change.full)
+        }
+    }
+
+    @Test
+    fun test_merge_changeContainsDescendants() {
+        val core = model(
+            "core", false,
+            bean("Root", "core", properties = listOf("code")),
+            bean("Parent", "core", extends = "Root"),
+            enum("Status", "core", values = listOf("OPEN")),
+        )
+        val custom = model(
+            "custom", true,
+            bean("Child", "custom", extends = "Parent", properties = listOf("price")),
+            bean("Other", "custom", properties = listOf("code")),
+        )
+        val previousGlobalMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, listOf(core, custom)) }
+
+        val editedCore = model(
+            "core", false,
+            bean("Root", "core", properties = listOf("code", "name")),
+            bean("Parent", "core", extends = "Root"),
+            enum("Status", "core", values = listOf("OPEN")),
+        )
+        val globalMetaModel = BSGlobalMetaModel()
+        val change = BSMetaModelMerger.merge(globalMetaModel, previousGlobalMetaModel, listOf(editedCore, custom), listOf(core, editedCore))
+
+        assertEquals(setOf("Root", "Parent", "Child"), change.beans)
+        assertEquals(setOf("Status"), change.enums)
+        assertTrue(change.isBeanAffected("child"))
+        assertFalse(change.isBeanAffected("Other"))
+
+        val beans = globalMetaModel.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
+        val previousBeans = previousGlobalMetaModel.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
+
+        assertEquals(setOf("code", "name", "price"), beans["Child"]!!.allProperties.keys)
+        assertSame(previousBeans["Other"], beans["Other"], "Unaffected beans have to be taken over as is")
+        assertEquals(setOf("code", "price"), previousBeans["Child"]!!.allProperties.keys, "Previous global meta model must not be modified")
+    }
+
+    @Test
+    fun test_merge_removedBeanReported() {
+        val core = model("core", false, bean("Root", "core"), bean("Removed", "core"))
+        val previousGlobalMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, listOf(core)) }
+        val editedCore = model("core", false, bean("Root", "core"))
+
+        val globalMetaModel = BSGlobalMetaModel()
+        val change = BSMetaModelMerger.merge(globalMetaModel, previousGlobalMetaModel, listOf(editedCore), listOf(core, editedCore))
+
+        assertEquals(setOf("Root", "Removed"), change.beans)
+        assertNull(globalMetaModel.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Removed"])
+    }
+
+    /**
+     * Same detection of the changed local meta models as in [BSMetaModelStateService], unchanged models are the same instances.
+     */
+    private fun changedMetaModels(previous: Map<String, BSMetaModel>, actual: Map<String, BSMetaModel>) = (previous.keys + actual.keys)
+        .filter { previous[it] !== actual[it] }
+        .flatMap { listOfNotNull(previous[it], actual[it]) }
+
+    /**
+     * Applies a single random edit to one of the `beans.xml` files, the edited file is always re-created as a new local meta model.
+     */
+    private fun edit(localMetaModels: MutableMap<String, BSMetaModel>, removedMetaModels: MutableMap<String, BSMetaModel>, random: Random) {
+        if (removedMetaModels.isNotEmpty() && random.nextInt(4) == 0) {
+            val restored = removedMetaModels.keys.random(random)
+            localMetaModels[restored] = removedMetaModels.remove(restored)!!
+            return
+        }
+
+        val localMetaModel = localMetaModels.values.random(random)
+
+        if (random.nextInt(20) == 0) {
+            localMetaModels.remove(localMetaModel.fileName)
+            removedMetaModels[localMetaModel.fileName] = localMetaModel
+            return
+        }
+
+        val extensionName = localMetaModel.extensionName
+        val custom = localMetaModel.custom
+        val metas = localMetaModel.getMetaTypes()
+            .flatMap { (metaType, localMetas) -> localMetas.values().map { metaType to it } }
+            .toMutableList<Pair<BSMetaType, BSMetaClassifier<*>>>()
+        val beans = metas.indices.filter { metas[it].second is FakeMetaBean }
+        val enums = metas.indices.filter { metas[it].second is FakeMetaEnum }
+        // only own beans can change `extends`, see `corpus`
+        val ownBeans = beans.filter { (metas[it].second as FakeMetaBean).name.contains(".$extensionName.") }
+
+        when (random.nextInt(7)) {
+            0 -> beans.randomOrNull(random)?.let { index ->
+                val (metaType, meta) = metas[index]
+                val properties = bean(meta.name!!, extensionName, custom, properties = randomProperties(random)).properties
+                metas[index] = metaType to (meta as FakeMetaBean).copy(properties = properties)
+            }
+
+            1 -> ownBeans.randomOrNull(random)?.let { index ->
+                val (metaType, meta) = metas[index]
+                metas[index] = metaType to (meta as FakeMetaBean).copy(extends = previousExtensionBean(extensionName, random))
+            }
+
+            2 -> beans.randomOrNull(random)?.let { index ->
+                val (metaType, meta) = metas[index]
+                val hints = if ((meta as FakeMetaBean).hints.containsKey("wsRelated")) emptyMap()
+                else bean(meta.name, extensionName, custom, hints = listOf("wsRelated")).hints
+                metas[index] = metaType to meta.copy(hints = hints)
+            }
+
+            3 -> beans.randomOrNull(random)?.let { metas.removeAt(it) }
+
+            4 -> metas.add(
+                BSMetaType.META_BEAN to bean(
+                    "de.hybris.$extensionName.Added${random.nextInt(1_000)}", extensionName, custom,
+                    previousExtensionBean(extensionName, random), randomProperties(random)
+                )
+            )
+
+            5 -> enums.randomOrNull(random)?.let { index ->
+                val meta = metas[index].second as FakeMetaEnum
+                metas[index] = BSMetaType.META_ENUM to enum(meta.name, extensionName, custom, randomValues(random))
+            }
+
+            else -> metas.add(BSMetaType.META_ENUM to enum("de.hybris.$extensionName.AddedEnum${random.nextInt(100)}", extensionName, custom, randomValues(random)))
+        }
+
+        localMetaModels[localMetaModel.fileName] = BSMetaModel(extensionName, localMetaModel.fileName, custom)
+            .apply { metas.forEach { (metaType, meta) -> addMetaModel(meta, metaType) } }
+    }
+
+    private fun previousExtensionBean(extensionName: String, random: Random) = extensionName.removePrefix("extension").toInt()
+        .takeIf { it > 0 }
+        ?.let { "de.hybris.extension${random.nextInt(it)}.Bean${random.nextInt(50)}" }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta
+
+import sap.commerce.toolset.beanSystem.meta.model.*
+import sap.commerce.toolset.beanSystem.meta.model.impl.BSGlobalMetaBeanImpl
+import kotlin.test.*
+
+class BSMetaModelMergerTest {
+
+    @Test
+    fun test_merge_generatedCorpus_sameAsLegacyMerger() {
+        val corpus = corpus(extensions = 60, beansPerExtension = 80)
+
+        val expected = BSGlobalMetaModel().also { LegacyBSMetaModelMerger.merge(it, corpus) }
+        val actual = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, corpus) }
+
+        val expectedSnapshot = beansSnapshot(expected)
+        val actualSnapshot = beansSnapshot(actual)
+
+        assertEquals(expectedSnapshot.keys, actualSnapshot.keys)
+        expectedSnapshot.forEach { (name, bean) ->
+            assertEquals(bean, actualSnapshot[name], "Bean $name differs from the legacy merger")
+        }
+    }
+
+    @Test
+    fun test_merge_inheritedPropertiesResolvedThroughWholeChain() {
+        val root = bean("Root", "core", properties = listOf("code", "name"))
+        val parent = bean("Parent", "core", extends = "Root", properties = listOf("name", "description"))
+        val child = bean("Child", "custom", extends = "Parent", properties = listOf("code", "price"))
+        val model = BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(it, listOf(model("core", false, root, parent), model("custom", true, child)))
+        }
+
+        val globalChild = model.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Child"]!!
+
+        assertEquals(listOf("Parent", "Root"), globalChild.allExtends.map { it.name })
+        assertEquals(setOf("code", "name", "description", "price"), globalChild.allProperties.keys)
+        // declaration of the furthest ancestor wins, the same way as before
+        assertSame(root.properties["code"], globalChild.allProperties["code"])
+        assertSame(root.properties["name"], globalChild.allProperties["name"])
+    }
+
+    @Test
+    fun test_merge_dependentExtensionDeclarationWins() {
+        val base = model("base", false, bean("Shared", "base", extends = "BaseParent"))
+        val dependent = model("dependent", false, bean("Shared", "dependent", extends = "DependentParent"))
+
+        val dependencyOrdered = BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(it, listOf(base, dependent), extensionsOrder = listOf("base", "dependent"))
+        }
+        val reverseOrdered = BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(it, listOf(base, dependent), extensionsOrder = listOf("dependent", "base"))
+        }
+
+        assertEquals("DependentParent", dependencyOrdered.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Shared"]?.extends)
+        assertEquals("BaseParent", reverseOrdered.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Shared"]?.extends)
+    }
+
+    @Test
+    fun test_merge_unknownExtensionsMergedLastCustomFirst() {
+        val known = model("known", false, bean("Shared", "known", extends = "KnownParent"))
+        val unknownCustom = model("unknownCustom", true, bean("Shared", "unknownCustom", extends = "CustomParent"))
+        val unknownPlatform = model("unknownPlatform", false, bean("Other", "unknownPlatform", extends = "PlatformParent"))
+        val otherCustom = model("otherCustom", true, bean("Other", "otherCustom", extends = "OtherCustomParent"))
+
+        val model = BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(it, listOf(unknownPlatform, unknownCustom, known, otherCustom), extensionsOrder = listOf("known"))
+        }
+
+        assertEquals("KnownParent", model.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Shared"]?.extends)
+        assertEquals("OtherCustomParent", model.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)["Other"]?.extends)
+    }
+
+    @Test
+    fun test_merge_cyclicInheritance_detected() {
+        val model = BSGlobalMetaModel().also {
+            BSMetaModelMerger.merge(
+                it, listOf(
+                    model(
+                        "core", false,
+                        bean("A", "core", extends = "B", properties = listOf("a")),
+                        bean("B", "core", extends = "C", properties = listOf("b")),
+                        bean("C", "core", extends = "A", properties = listOf("c")),
+                        bean("D", "core", extends = "A", properties = listOf("d")),
+                    )
+                )
+            )
+        }
+        val beans = model.getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
+
+        val cycles = BSMetaInheritanceResolver(model)
+            .apply { resolve(beans.values) }
+            .cycles
+
+        assertEquals(1, cycles.size)
+        assertEquals(setOf("A", "B", "C"), cycles.first().toSet())
+        // which edge closes the cycle depends on the iteration order, but the parent is always resolved
+        assertEquals("A", beans["D"]!!.allExtends.first().name)
+        assertTrue(beans["D"]!!.allProperties.keys.containsAll(listOf("a", "d")))
+    }
+
+    /**
+     * Merger as it was before the dependency ordering and memoized inheritance resolution, used as the reference.
+     */
+    private object LegacyBSMetaModelMerger {
+
+        fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModels: Collection<BSMetaModel>) = with(globalMetaModel) {
+            localMetaModels
+                .sortedBy { !it.custom }
+                .forEach { merge(this, it) }
+
+            val beans = getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN)
+            val wsBeans = beans.filter { it.value.hints.containsKey("wsRelated") }
+
+            getMetaType<BSGlobalMetaBean>(BSMetaType.META_WS_BEAN).putAll(wsBeans)
+            beans.keys.removeAll(wsBeans.keys)
+
+            val allBeans = wsBeans.values +
+                getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).values +
+                getMetaType<BSGlobalMetaBean>(BSMetaType.META_BEAN).values
+            allBeans
+                .filterIsInstance<BSGlobalMetaBeanImpl>()
+                .forEach { bean ->
+                    val extends = BSMetaHelper.getAllExtends(this, bean)
+
+                    bean.allExtends.addAll(extends)
+                    extends.forEach { bean.allProperties.putAll(it.allProperties) }
+                }
+
+            wsBeans.values.forEach { it.metaType = BSMetaType.META_WS_BEAN }
+            getMetaType<BSGlobalMetaBean>(BSMetaType.META_EVENT).values.forEach { it.metaType = BSMetaType.META_EVENT }
+        }
+
+        private fun merge(globalMetaModel: BSGlobalMetaModel, localMetaModel: BSMetaModel) {
+            localMetaModel.getMetaTypes().forEach { (metaType, localMetas) ->
+                val globalCache = globalMetaModel.getMetaType<BSGlobalMetaBeanImpl>(metaType)
+
+                localMetas.entrySet().forEach { (key, localMetaClassifiers) ->
+                    localMetaClassifiers
+                        .filterIsInstance<BSMetaBean>()
+                        .forEach { localMeta ->
+                            globalCache.computeIfAbsent(key) { BSGlobalMetaBeanImpl(localMeta) }
+                                .merge(localMeta)
+                        }
+                }
+            }
+        }
+    }
+}
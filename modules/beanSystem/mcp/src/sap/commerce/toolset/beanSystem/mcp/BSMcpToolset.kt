@@ -21,6 +21,8 @@ package sap.commerce.toolset.beanSystem.mcp
 import com.intellij.mcpserver.McpToolset
 import com.intellij.mcpserver.annotations.McpDescription
 import com.intellij.mcpserver.annotations.McpTool
+import com.intellij.mcpserver.project
+import kotlinx.coroutines.currentCoroutineContext
 import sap.commerce.toolset.ai.mcp.McpConstants
 import sap.commerce.toolset.ai.mcp.map
 import sap.commerce.toolset.ai.mcp.resolveMapper
@@ -56,7 +58,7 @@ class BSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val beanDetail = BSDetail.resolve(detail)
         val request = BSSearchMcpRequest(BSMetaType.META_BEAN, filter, beanDetail, extensions)
         val beans = BSMcpService.getInstance().searchBeans(request)
@@ -89,7 +91,7 @@ class BSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val beanDetail = BSDetail.resolve(detail)
         val request = BSSearchMcpRequest(BSMetaType.META_WS_BEAN, filter, beanDetail, extensions)
         val beans = BSMcpService.getInstance().searchBeans(request)
@@ -123,7 +125,7 @@ class BSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val beanDetail = BSDetail.resolve(detail)
         val request = BSSearchMcpRequest(BSMetaType.META_EVENT, filter, beanDetail, extensions)
         val beans = BSMcpService.getInstance().searchBeans(request)
@@ -156,7 +158,7 @@ class BSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val enumDetail = BSDetail.resolve(detail)
         val request = BSSearchMcpRequest(BSMetaType.META_ENUM, filter, enumDetail, extensions)
         val enums = BSMcpService.getInstance().searchEnums(request)
@@ -185,7 +187,7 @@ class BSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.FILE,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val resolvedBeanDetail = BSDetail.resolve(beanDetail)
         val resolvedEnumDetail = BSDetail.resolve(enumDetail)
         val result = BSMcpService.getInstance().getBeanSystem(extensions, resolvedBeanDetail, resolvedEnumDetail)
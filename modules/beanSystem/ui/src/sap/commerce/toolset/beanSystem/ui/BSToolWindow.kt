@@ -29,6 +29,7 @@ import com.intellij.ui.components.JBLabel
 import com.intellij.ui.components.JBPanel
 import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
 import sap.commerce.toolset.beanSystem.meta.BSMetaModelStateService
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
 import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChangeListener
 import sap.commerce.toolset.beanSystem.settings.BSViewSettings
 import sap.commerce.toolset.beanSystem.settings.event.BSViewSettingsListener
@@ -95,8 +96,11 @@ class BSToolWindow(private val project: Project, parentDisposable: Disposable) :
                 }
             })
             subscribe(BSMetaModelChangeListener.TOPIC, object : BSMetaModelChangeListener {
-                override fun onChanged(globalMetaModel: BSGlobalMetaModel) {
-                    refreshContent(globalMetaModel, ChangeType.FULL)
+                override fun onChanged(globalMetaModel: BSGlobalMetaModel, change: BSMetaModelChange) {
+                    if (change.isEmpty()) return
+
+                    if (content == myTreePane) myTreePane.update(globalMetaModel, change)
+                    else refreshContent(globalMetaModel, ChangeType.FULL)
                 }
             })
         }
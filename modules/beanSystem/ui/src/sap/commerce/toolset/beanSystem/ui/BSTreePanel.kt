@@ -26,6 +26,7 @@ import com.intellij.ui.PopupHandler
 import com.intellij.ui.components.JBPanelWithEmptyText
 import com.intellij.ui.components.JBScrollPane
 import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
 import sap.commerce.toolset.beanSystem.settings.state.ChangeType
 import sap.commerce.toolset.beanSystem.ui.forms.BSMetaBeanView
 import sap.commerce.toolset.beanSystem.ui.forms.BSMetaEnumView
@@ -61,6 +62,10 @@ class BSTreePanel(
         tree.update(globalMetaModel, changeType)
     }
 
+    fun update(globalMetaModel: BSGlobalMetaModel, change: BSMetaModelChange) {
+        tree.update(globalMetaModel, change)
+    }
+
     private fun registerListeners(tree: BSTree) = tree
         .addTreeSelectionListener(tree) { event ->
             event.newLeadSelectionPath
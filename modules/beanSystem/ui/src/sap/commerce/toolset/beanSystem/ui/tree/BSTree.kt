@@ -25,6 +25,7 @@ import com.intellij.ui.tree.AsyncTreeModel
 import com.intellij.ui.treeStructure.Tree
 import com.intellij.util.containers.Convertor
 import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
 import sap.commerce.toolset.beanSystem.settings.state.ChangeType
 import sap.commerce.toolset.beanSystem.ui.tree.nodes.BSNode
 import sap.commerce.toolset.beanSystem.ui.tree.nodes.BSRootNode
@@ -63,6 +64,8 @@ class BSTree(val myProject: Project) : Tree(), Disposable {
         }
     }
 
+    fun update(globalMetaModel: BSGlobalMetaModel, change: BSMetaModelChange) = myTreeModel.reload(globalMetaModel, change)
+
     companion object {
         @Serial
         private val serialVersionUID: Long = 854416981128106242L
@@ -23,8 +23,12 @@ import com.intellij.openapi.project.Project
 import com.intellij.util.application
 import com.intellij.util.concurrency.Invoker
 import com.intellij.util.concurrency.InvokerSupplier
+import com.intellij.util.xml.DomElement
 import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
-import sap.commerce.toolset.beanSystem.ui.tree.nodes.BSNode
+import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChange
+import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaClassifier
+import sap.commerce.toolset.beanSystem.meta.model.BSMetaType
+import sap.commerce.toolset.beanSystem.ui.tree.nodes.*
 import javax.swing.tree.TreePath
 
 class BSTreeModel(private val rootTreeNode: BSTreeNode, val project: Project) : com.intellij.ui.tree.BaseTreeModel<BSTreeNode>(), Disposable, InvokerSupplier {
@@ -60,6 +64,56 @@ class BSTreeModel(private val rootTreeNode: BSTreeNode, val project: Project) :
         treeStructureChanged(TreePath(root), null, null)
     }
 
+    /**
+     * Re-creates children only of the groups where a changed meta appeared or disappeared and of the already loaded nodes of changed metas,
+     * all other nodes, together with their expanded state, are kept as is.
+     */
+    fun reload(globalMetaModel: BSGlobalMetaModel, change: BSMetaModelChange) {
+        if (change.full) return reload(globalMetaModel)
+
+        myInvoker.invoke {
+            val previousGlobalMetaModel = this.globalMetaModel ?: return@invoke reload(globalMetaModel)
+            this.globalMetaModel = globalMetaModel
+
+            nodes.values.toList().forEach { treeNode ->
+                when (val node = treeNode.userObject) {
+                    is BSMetaTypeNode -> node
+                        .takeIf { it.isStructureAffected(previousGlobalMetaModel, globalMetaModel, if (it.metaType == BSMetaType.META_ENUM) change.enums else change.beans) }
+                        ?.let { structureChanged(it) }
+
+                    is BSMetaEnumNode -> node
+                        .takeIf { change.isEnumAffected(it.meta.name) }
+                        ?.let { reload(it, globalMetaModel) }
+
+                    is BSMetaBeanNode -> node
+                        .takeIf { change.isBeanAffected(it.meta.name) }
+                        ?.let { reload(it, globalMetaModel) }
+                }
+            }
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun reload(node: BSMetaNode<*>, globalMetaModel: BSGlobalMetaModel) {
+        val group = node.parentDescriptor as? BSMetaTypeNode ?: return
+        // meta is no longer shown within the group, its node is removed together with the group children
+        val meta = node.meta.name
+            ?.let { globalMetaModel.getMetaType<BSGlobalMetaClassifier<DomElement>>(group.metaType)[it] }
+            ?: return
+
+        (node as BSMetaNode<BSGlobalMetaClassifier<DomElement>>).meta = meta
+        node.update()
+        structureChanged(node)
+    }
+
+    private fun structureChanged(node: BSNode) = path(node)
+        ?.let { treeStructureChanged(it, null, null) }
+
+    private fun path(node: BSNode): TreePath? = when (val parent = node.parentDescriptor as? BSNode) {
+        null -> TreePath(root)
+        else -> nodes[node]?.let { treeNode -> path(parent)?.pathByAddingChild(treeNode) }
+    }
+
     override fun getInvoker() = myInvoker
 
     override fun dispose() {
@@ -23,13 +23,14 @@ import com.intellij.openapi.project.Project
 import com.intellij.ui.SimpleTextAttributes
 import com.intellij.util.xml.DomElement
 import sap.commerce.toolset.HybrisIcons
+import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
 import sap.commerce.toolset.beanSystem.meta.BSMetaHelper
 import sap.commerce.toolset.beanSystem.meta.model.*
 import sap.commerce.toolset.beanSystem.settings.BSViewSettings
 import sap.commerce.toolset.i18n
 
 @Suppress("UNCHECKED_CAST")
-class BSMetaTypeNode(parent: BSNode, private val metaType: BSMetaType) : BSNode(parent) {
+class BSMetaTypeNode(parent: BSNode, val metaType: BSMetaType) : BSNode(parent) {
 
     override fun getName() = i18n("hybris.toolwindow.beans.group.${metaType.name.lowercase()}.name")
 
@@ -52,9 +53,7 @@ class BSMetaTypeNode(parent: BSNode, private val metaType: BSMetaType) : BSNode(
         val entries = globalMetaModel
             ?.getMetaType<BSGlobalMetaClassifier<DomElement>>(metaType)
             ?.values
-            ?.filter { if (settings.showCustomOnly) it.isCustom else true }
-            ?.filter { if (settings.showDeprecatedOnly) BSMetaHelper.isDeprecated(it) else true }
-            ?.size
+            ?.count { isVisible(it, settings) }
             ?: 0
         if (entries > 0) {
             presentation.locationString = "$entries"
@@ -67,8 +66,7 @@ class BSMetaTypeNode(parent: BSNode, private val metaType: BSMetaType) : BSNode(
         return globalMetaModel
             ?.getMetaType<BSGlobalMetaClassifier<DomElement>>(metaType)
             ?.values
-            ?.filter { if (settings.showCustomOnly) it.isCustom else true }
-            ?.filter { if (settings.showDeprecatedOnly) BSMetaHelper.isDeprecated(it) else true }
+            ?.filter { isVisible(it, settings) }
             ?.mapNotNull {
                 when (it) {
                     is BSGlobalMetaEnum -> BSMetaEnumNode(this, it)
@@ -80,4 +78,22 @@ class BSMetaTypeNode(parent: BSNode, private val metaType: BSMetaType) : BSNode(
             ?: emptyMap()
     }
 
+    /**
+     * Children have to be re-created only if one of the [names] appeared in or disappeared from this group,
+     * changes of already shown metas are applied to their own nodes.
+     */
+    fun isStructureAffected(previousGlobalMetaModel: BSGlobalMetaModel, newGlobalMetaModel: BSGlobalMetaModel, names: Collection<String>): Boolean {
+        val settings = BSViewSettings.getInstance(myProject)
+        val previousMetas = previousGlobalMetaModel.getMetaType<BSGlobalMetaClassifier<DomElement>>(metaType)
+        val newMetas = newGlobalMetaModel.getMetaType<BSGlobalMetaClassifier<DomElement>>(metaType)
+
+        return names.any { name ->
+            isVisible(previousMetas[name], settings) != isVisible(newMetas[name], settings)
+        }
+    }
+
+    private fun isVisible(meta: BSGlobalMetaClassifier<DomElement>?, settings: BSViewSettings) = meta != null
+        && (!settings.showCustomOnly || meta.isCustom)
+        && (!settings.showDeprecatedOnly || BSMetaHelper.isDeprecated(meta))
+
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+fun properties(key: String) = providers.gradleProperty(key)
+
+plugins {
+    id("org.jetbrains.intellij.platform.module")
+    alias(libs.plugins.kotlin) // Kotlin support
+}
+
+sourceSets {
+    test {
+        java.srcDirs("tests")
+    }
+}
+
+dependencies {
+    testImplementation(project(":benchmark-core"))
+    testImplementation(project(":shared-core"))
+    testImplementation(project(":meta-core"))
+    testImplementation(project(":beanSystem-core"))
+
+    testImplementation(kotlin("test"))
+    testImplementation("junit:junit:4.13.2")
+
+    intellijPlatform {
+        intellijIdea(properties("intellij.version")) {
+            useInstaller = true
+        }
+
+        bundledPlugins(
+            "com.intellij.java",
+        )
+    }
+}
+
+tasks {
+    // benchmarks are too slow for the regular build: ./gradlew :benchmark-beanSystem:test -Pbenchmark [-Pbenchmark.updateBaselines]
+    test {
+        onlyIf { providers.gradleProperty("benchmark").isPresent }
+        outputs.upToDateWhen { false }
+        useJUnit()
+        maxHeapSize = "2g"
+
+        systemProperty("benchmark.baselines", file("baselines/baselines.properties").absolutePath)
+        systemProperty("benchmark.baselines.output", layout.buildDirectory.file("benchmark/baselines.properties").get().asFile.absolutePath)
+        listOf("benchmark.updateBaselines", "benchmark.threshold", "benchmark.iterations")
+            .forEach { key -> providers.gradleProperty(key).orNull?.let { systemProperty(key, it) } }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.beanSystem
+
+import com.intellij.util.xml.DomAnchor
+import sap.commerce.toolset.beanSystem.meta.BSMetaModel
+import sap.commerce.toolset.beanSystem.meta.model.*
+import sap.commerce.toolset.beanSystem.model.BeanType
+import java.lang.reflect.Proxy
+import kotlin.random.Random
+
+/**
+ * Generates extensions where each one declares own beans and enums, extends beans of the previous extensions and redeclares some of them,
+ * the same way as the corpus of the bean system merger tests does.
+ *
+ * Beans may only extend beans of the previous extensions, so the generated hierarchy is never cyclic.
+ */
+object BSBenchmarkCorpus {
+
+    fun extensions(extensions: Int, beansPerExtension: Int, random: Random = Random(42)): List<BSMetaModel> {
+        val declared = mutableListOf<Pair<String, BSMetaType>>()
+        val declaredEnums = mutableListOf<String>()
+
+        return (0 until extensions).map { index ->
+            val extensionName = "extension$index"
+            val custom = index >= extensions / 2
+            val model = BSMetaModel(extensionName, "$extensionName-beans.xml", custom)
+
+            val beans = (0 until beansPerExtension).map { index ->
+                val name = "de.hybris.$extensionName.Bean$index"
+                val extends = declared.takeIf { it.isNotEmpty() && random.nextInt(4) != 0 }?.random(random)?.first
+                val hints = if (random.nextInt(20) == 0) listOf("wsRelated") else emptyList()
+                val metaType = if (random.nextInt(20) == 0) BSMetaType.META_EVENT else BSMetaType.META_BEAN
+
+                model.addMetaModel(bean(name, extensionName, custom, extends, properties(random), hints), metaType)
+                name to metaType
+            }
+            val enums = (0 until beansPerExtension / 10).map { index ->
+                val name = "de.hybris.$extensionName.Enum$index"
+                model.addMetaModel(enum(name, extensionName, custom, values(random)), BSMetaType.META_ENUM)
+                name
+            }
+
+            // redeclarations never change `extends`, otherwise the generated hierarchy could become cyclic
+            repeat(beansPerExtension / 5) {
+                declared.randomOrNull(random)
+                    ?.let { (name, metaType) -> model.addMetaModel(bean(name, extensionName, custom, properties = properties(random)), metaType) }
+            }
+            repeat(beansPerExtension / 20) {
+                declaredEnums.randomOrNull(random)
+                    ?.let { model.addMetaModel(enum(it, extensionName, custom, values(random)), BSMetaType.META_ENUM) }
+            }
+
+            declared.addAll(beans)
+            declaredEnums.addAll(enums)
+            model
+        }
+    }
+
+    private fun properties(random: Random) = (0..random.nextInt(6)).map { "property${random.nextInt(16)}" }.distinct()
+    private fun values(random: Random) = (0..random.nextInt(4)).map { "VALUE${random.nextInt(8)}" }.distinct()
+
+    private fun bean(
+        name: String,
+        extensionName: String,
+        custom: Boolean,
+        extends: String? = null,
+        properties: List<String>,
+        hints: List<String> = emptyList(),
+    ) = fake<BSMetaBean>(
+        "Bean(module=$extensionName, name=$name)",
+        classifier(name, extensionName, custom) + mapOf(
+            "getType" to BeanType.BEAN,
+            "getShortName" to name.substringAfterLast('.'),
+            "getFullName" to name,
+            "getExtends" to extends,
+            "getFullExtends" to extends,
+            "getProperties" to properties.associateWith { fake<BSMetaProperty>("Property(module=$extensionName, name=$it)", classifier(it, extensionName, custom) + ("getType" to "java.lang.String")) },
+            "getHints" to hints.associateWith { fake<BSMetaHint>("Hint(module=$extensionName, name=$it)", classifier(it, extensionName, custom)) },
+        )
+    )
+
+    private fun enum(name: String, extensionName: String, custom: Boolean, values: List<String>) = fake<BSMetaEnum>(
+        "Enum(module=$extensionName, name=$name)",
+        classifier(name, extensionName, custom) + mapOf(
+            "getShortName" to name.substringAfterLast('.'),
+            "getValues" to values.associateWith { fake<BSMetaEnum.BSMetaEnumValue>("EnumValue(module=$extensionName, name=$it)", classifier(it, extensionName, custom)) },
+        )
+    )
+
+    private fun classifier(name: String, extensionName: String, custom: Boolean) = mapOf(
+        "getName" to name,
+        "getModuleName" to extensionName,
+        "getExtensionName" to extensionName,
+        "isCustom" to custom,
+        "getDomAnchor" to anchor,
+    )
+
+    private val anchor = fake<DomAnchor<*>>("DomAnchor", emptyMap())
+
+    /**
+     * Getters not listed in the [values] answer `false` or an empty collection, depending on the return type, otherwise `null`.
+     */
+    @Suppress("UNCHECKED_CAST")
+    private inline fun <reified T> fake(toString: String, values: Map<String, Any?>) = Proxy.newProxyInstance(
+        T::class.java.classLoader,
+        arrayOf(T::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "hashCode" -> System.identityHashCode(proxy)
+            "equals" -> proxy === args?.firstOrNull()
+            "toString" -> toString
+            in values -> values[method.name]
+            else -> when (method.returnType) {
+                java.lang.Boolean.TYPE -> false
+                List::class.java -> emptyList<Any>()
+                Set::class.java -> emptySet<Any>()
+                Map::class.java -> emptyMap<Any, Any>()
+                else -> null
+            }
+        }
+    } as T
+}
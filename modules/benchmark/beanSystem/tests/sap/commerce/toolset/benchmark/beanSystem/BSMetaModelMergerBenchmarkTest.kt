@@ -0,0 +1,44 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.beanSystem
+
+import sap.commerce.toolset.beanSystem.meta.BSGlobalMetaModel
+import sap.commerce.toolset.beanSystem.meta.BSMetaModelMerger
+import sap.commerce.toolset.benchmark.Benchmark
+import kotlin.test.Test
+import kotlin.test.fail
+
+/**
+ * Full merge of the bean system, as on the project import or the first access to the bean system.
+ * Equivalence of the merge result with the previous merger is covered by the tests of the merger itself.
+ */
+class BSMetaModelMergerBenchmarkTest {
+
+    @Test
+    fun test_merge() {
+        val extensions = BSBenchmarkCorpus.extensions(extensions = 250, beansPerExtension = 120)
+        val declarations = extensions.sumOf { it.getMetaTypes().values.sumOf { metas -> metas.size() } }
+
+        Benchmark.measure("beanSystem.merge", "declarations_per_second") {
+            BSMetaModelMerger.merge(BSGlobalMetaModel(), extensions)
+            declarations
+        }
+            ?.let { fail(it) }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark
+
+import com.intellij.openapi.diagnostic.thisLogger
+import java.util.*
+import kotlin.system.measureNanoTime
+
+/**
+ * Measurement harness shared by the benchmark modules, they run only with `-Pbenchmark`.
+ *
+ * Each timed measurement is the median of `benchmark.iterations` runs after the same amount of warm-up runs,
+ * results are logged and compared against [BenchmarkBaselines].
+ */
+object Benchmark {
+
+    val iterations = System.getProperty("benchmark.iterations")?.toIntOrNull() ?: 10
+
+    private val baselines = BenchmarkBaselines()
+
+    /**
+     * @param run performs single iteration and returns amount of the processed units
+     * @return description of the regression or `null` when the measurement is within the baseline threshold
+     */
+    fun measure(name: String, unit: String, run: () -> Int): String? {
+        repeat(iterations) { run() }
+
+        var units = 0
+        val timings = LongArray(iterations) { measureNanoTime { units = run() } }
+            .sorted()
+        val median = timings[timings.size / 2].coerceAtLeast(1)
+        val measurement = BenchmarkMeasurement(name, unit, units * 1_000_000_000.0 / median)
+
+        thisLogger().info("$name: %.1f $unit (median %.2f ms of $iterations iterations)"
+            .format(Locale.ROOT, measurement.throughput, median / 1_000_000.0))
+
+        return baselines.check(measurement)
+    }
+
+    /**
+     * Records measurement which is not a timing, e.g., of the retained memory.
+     *
+     * @return description of the regression or `null` when the measurement is within the baseline threshold
+     */
+    fun record(measurement: BenchmarkMeasurement): String? {
+        thisLogger().info("${measurement.name}: %.1f ${measurement.unit}".format(Locale.ROOT, measurement.throughput))
+
+        return baselines.check(measurement)
+    }
+}
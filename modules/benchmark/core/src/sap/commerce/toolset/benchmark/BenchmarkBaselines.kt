@@ -0,0 +1,89 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark
+
+import java.nio.file.Path
+import java.util.*
+import kotlin.io.path.*
+
+/**
+ * Throughput baselines stored in the properties file next to the benchmarks, higher value is always better.
+ *
+ * Measurement which falls below the baseline by more than [threshold] fails the benchmark, with `benchmark.updateBaselines` nothing is compared.
+ * Measurement without a recorded baseline is never compared, it is only recorded.
+ * Baselines are never written back, all measurements are recorded to the [output] in the build directory instead,
+ * so the baselines file can be replaced by it deliberately.
+ */
+class BenchmarkBaselines(
+    private val file: Path? = System.getProperty("benchmark.baselines")?.let { Path(it) },
+    private val output: Path? = System.getProperty("benchmark.baselines.output")?.let { Path(it) },
+    private val threshold: Double = System.getProperty("benchmark.threshold")?.toDoubleOrNull() ?: 0.25,
+    private val update: Boolean = System.getProperty("benchmark.updateBaselines")?.let { it != "false" } ?: false,
+) {
+
+    private val baselines = Properties().apply {
+        file
+            ?.takeIf { it.exists() }
+            ?.reader()
+            ?.use { load(it) }
+    }
+    private val measurements = Properties().apply { putAll(baselines) }
+
+    /**
+     * @return description of the regression or `null` when the measurement is within the [threshold]
+     */
+    @Synchronized
+    fun check(measurement: BenchmarkMeasurement): String? {
+        val key = "${measurement.name}.${measurement.unit}"
+
+        measurements.setProperty(key, "%.1f".format(Locale.ROOT, measurement.throughput))
+        save()
+
+        if (update) return null
+
+        val baseline = baselines.getProperty(key)?.toDoubleOrNull() ?: return null
+        val minimum = baseline * (1 - threshold)
+
+        return if (measurement.throughput >= minimum) null
+        else "${measurement.name}: %.1f ${measurement.unit} is below the baseline %.1f by more than %d%%"
+            .format(Locale.ROOT, measurement.throughput, baseline, (threshold * 100).toInt())
+    }
+
+    private fun save() {
+        val output = output ?: return
+
+        output.parent?.createDirectories()
+        // sorted output keeps the diff of the baselines readable
+        output.writeText(
+            measurements.stringPropertyNames()
+                .sorted()
+                .joinToString("\n", prefix = HEADER, postfix = "\n") { "$it=${measurements.getProperty(it)}" }
+        )
+    }
+
+    companion object {
+        private const val HEADER = "# Throughput measured by the last run of: ./gradlew :<benchmark module>:test -Pbenchmark, copy over baselines/baselines.properties of the module to update the baselines\n"
+    }
+}
+
+data class BenchmarkMeasurement(
+    val name: String,
+    val unit: String,
+    val throughput: Double,
+)
@@ -0,0 +1,67 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.flexibleSearch
+
+import sap.commerce.toolset.benchmark.Benchmark
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScope
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopeModel
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.fail
+
+/**
+ * Alias resolution and usages search in a file with many queries, each one with a correlated sub-query redeclaring the same alias.
+ */
+class FlexibleSearchQueryScopeBenchmarkTest {
+
+    @Test
+    fun test_resolveAndUsages() {
+        Benchmark.measure("flexibleSearch.scope.resolveAndUsages", "queries_per_second") {
+            val builder = FlexibleSearchQueryScopeModel.Builder<Node>()
+            val aliases = mutableListOf<Node>()
+            val references = mutableListOf<FlexibleSearchQueryScope<Node>>()
+
+            repeat(QUERIES) {
+                val outer = builder.core(Node("core"), builder.statement(Node("statement"), null))
+                aliases += Node("alias p").also { builder.declareTableAlias(outer, "p", it) }
+                val inner = builder.core(Node("core"), builder.statement(Node("statement"), outer))
+                aliases += Node("alias p").also { builder.declareTableAlias(inner, "p", it) }
+
+                listOf(outer, inner, inner, outer).forEach { scope ->
+                    builder.referenceTableAlias(scope, "p", Node("ref p"))
+                    references += scope
+                }
+            }
+            val model = builder.build()
+
+            assertEquals(references.size, references.count { it.resolveTableAlias("p") != null })
+            assertEquals(aliases.size * 2, aliases.sumOf { model.tableAliasUsages(it).size })
+            QUERIES
+        }
+            ?.let { fail(it) }
+    }
+
+    private class Node(private val label: String) {
+        override fun toString() = label
+    }
+
+    companion object {
+        private const val QUERIES = 1_000
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.flexibleSearch
+
+import sap.commerce.toolset.benchmark.Benchmark
+import sap.commerce.toolset.benchmark.BenchmarkMeasurement
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultReader
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.fail
+
+/**
+ * Reading, sorting and filtering of the large FlexibleSearch result, as shown by the result grid.
+ */
+class FlexibleSearchResultBenchmarkTest {
+
+    @Test
+    fun test_read() {
+        Benchmark.measure("flexibleSearch.result.read", "rows_per_second") {
+            FlexibleSearchResultReader.read(response.inputStream()).buffer.rowCount
+        }
+            ?.let { fail(it) }
+    }
+
+    @Test
+    fun test_sort() {
+        val buffer = FlexibleSearchResultReader.read(response.inputStream()).buffer
+
+        Benchmark.measure("flexibleSearch.result.sort", "rows_per_second") {
+            buffer.sort(buffer.allRows(), 1, false).size
+        }
+            ?.let { fail(it) }
+    }
+
+    @Test
+    fun test_filter() {
+        val buffer = FlexibleSearchResultReader.read(response.inputStream()).buffer
+
+        Benchmark.measure("flexibleSearch.result.filter", "rows_per_second") {
+            buffer.filter(buffer.allRows(), "staged")
+            buffer.rowCount
+        }
+            ?.let { fail(it) }
+    }
+
+    @Test
+    fun test_retainedMemory() {
+        val runtime = Runtime.getRuntime()
+
+        System.gc()
+        val before = runtime.totalMemory() - runtime.freeMemory()
+        val buffer = FlexibleSearchResultReader.read(response.inputStream()).buffer
+        System.gc()
+        val retained = (runtime.totalMemory() - runtime.freeMemory() - before).coerceAtLeast(1)
+
+        assertEquals(ROWS, buffer.rowCount)
+
+        // higher is better, the same as for the timings
+        Benchmark.record(BenchmarkMeasurement("flexibleSearch.result.memory", "rows_per_megabyte", ROWS * 1024.0 * 1024.0 / retained))
+            ?.let { fail(it) }
+    }
+
+    companion object {
+        private const val ROWS = 500_000
+
+        private val response by lazy {
+            buildString {
+                append("""{"headers":["PK","code","catalogVersion","approvalStatus","name"],"resultList":[""")
+                for (index in 0 until ROWS) {
+                    if (index > 0) append(',')
+                    append("""["${8796093054977L + index}","product-$index","${if (index % 2 == 0) "Online" else "Staged"}",""")
+                    append(""""${listOf("approved", "check", "unapproved")[index % 3]}","Product name $index"]""")
+                }
+                append("""],"resultCount":$ROWS,"exception":null}""")
+            }
+                .toByteArray(Charsets.UTF_8)
+        }
+    }
+}
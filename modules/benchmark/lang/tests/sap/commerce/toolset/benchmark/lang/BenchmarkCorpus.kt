@@ -0,0 +1,89 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.lang
+
+import kotlin.random.Random
+
+/**
+ * Deterministic synthetic sources, [size] is the amount of the top-level units: rows, queries or user rights blocks.
+ */
+object BenchmarkCorpus {
+
+    val size = System.getProperty("benchmark.corpus.size")?.toIntOrNull() ?: 2_000
+
+    private val types = listOf("Product", "Category", "CatalogVersion", "Media", "PriceRow", "StockLevel", "Customer", "Order")
+    private val attributes = listOf("code", "name", "description", "catalogVersion", "approvalStatus", "unit", "ean", "creationtime")
+
+    fun impex(size: Int = this.size) = buildString {
+        val random = Random(size)
+
+        appendLine("# synthetic ImpEx corpus")
+        appendLine("\$productCatalog=electronicsProductCatalog")
+        appendLine("\$catalogVersion=catalogversion(catalog(id[default=\$productCatalog]),version[default='Staged'])[unique=true,default=\$productCatalog:Staged]")
+        appendLine("\$lang=en")
+        appendLine()
+
+        (0 until size).chunked(100).forEachIndexed { block, rows ->
+            val type = types[block % types.size]
+            appendLine("INSERT_UPDATE $type;code[unique=true];name[lang=\$lang];description[lang=\$lang];\$catalogVersion;approvalStatus(code);ean;supercategories(code,\$catalogVersion)")
+            rows.forEach { row ->
+                append(";${type.lowercase()}$row;\"$type $row\";\"Generated description ${random.nextInt(1_000_000)}, with 'quotes'\";")
+                append(";approved;${random.nextLong(1_000_000_000_000, 9_999_999_999_999)};category${row % 50},category${row % 7}")
+                appendLine()
+            }
+            appendLine()
+        }
+    }
+
+    fun flexibleSearch(size: Int = this.size) = (0 until size).joinToString("\nUNION ALL\n") { query ->
+        val type = types[query % types.size]
+        val attribute = attributes[query % attributes.size]
+
+        """
+        SELECT {p.pk}, {p.$attribute}, COUNT({cv.pk}) AS total
+        FROM {$type AS p JOIN CatalogVersion AS cv ON {p.catalogVersion} = {cv.pk} LEFT JOIN Catalog AS c ON {cv.catalog} = {c.pk}}
+        WHERE {p.$attribute} LIKE '%value$query%' AND {cv.version} = ?version AND {p.creationtime} > ?since
+            AND {p.pk} IN ({{ SELECT {pr.product} FROM {PriceRow AS pr} WHERE {pr.price} BETWEEN $query AND ${query + 100} }})
+        GROUP BY {p.pk}, {p.$attribute}
+        """.trimIndent()
+    }
+
+    fun polyglotQuery(size: Int = this.size) = (0 until size).joinToString("\n") { query ->
+        val type = types[query % types.size]
+        val attribute = attributes[query % attributes.size]
+
+        "GET {$type} WHERE ({$attribute} = ?value$query OR {name[en]} IS NULL) AND {code} <> ?code ORDER BY {$attribute} ASC, {code} DESC"
+    }
+
+    fun acl(size: Int = this.size) = buildString {
+        (0 until size).chunked(50).forEachIndexed { block, groups ->
+            appendLine("\$START_USERRIGHTS")
+            appendLine("Type;UID;MemberOfGroups;Password;Target;read;change;create;delete;change_perm")
+            groups.forEach { group ->
+                appendLine("UserGroup;group$block-$group;employeegroup,customergroup;;;;;;;")
+                types.forEachIndexed { index, type ->
+                    val read = if ((group + index) % 3 == 0) "-" else "+"
+                    appendLine(";;;;$type.${attributes[index]};$read;-;+;-;-")
+                }
+            }
+            appendLine("\$END_USERRIGHTS")
+            appendLine()
+        }
+    }
+}
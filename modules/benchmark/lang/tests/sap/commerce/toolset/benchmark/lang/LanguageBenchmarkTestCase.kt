@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.benchmark.lang
+
+import com.intellij.lang.ParserDefinition
+import com.intellij.openapi.progress.EmptyProgressIndicator
+import com.intellij.openapi.util.ProperTextRange
+import com.intellij.psi.impl.source.text.BlockSupportImpl
+import com.intellij.testFramework.ParsingTestCase
+import sap.commerce.toolset.benchmark.Benchmark
+
+/**
+ * Measures lexing, full parsing and incremental reparsing throughput of a single language on a synthetic corpus.
+ * Measurements are taken by the [Benchmark].
+ */
+abstract class LanguageBenchmarkTestCase(
+    private val language: String,
+    extension: String,
+    private val parserDefinition: ParserDefinition,
+) : ParsingTestCase("", extension, parserDefinition) {
+
+    protected abstract fun corpus(): String
+
+    fun testLexing() {
+        val text = corpus()
+
+        measure("lexing", "tokens_per_second") {
+            val lexer = parserDefinition.createLexer(project)
+            var tokens = 0
+            lexer.start(text)
+            while (lexer.tokenType != null) {
+                tokens++
+                lexer.advance()
+            }
+            tokens
+        }
+    }
+
+    fun testFullParse() {
+        val text = corpus()
+
+        measure("parse", "chars_per_second") {
+            val file = createPsiFile("corpus", text)
+            ensureParsed(file)
+            text.length
+        }
+    }
+
+    fun testIncrementalReparse() {
+        val text = corpus()
+        val file = createPsiFile("corpus", text)
+        ensureParsed(file)
+
+        // single character typed in the middle of the corpus, the same way as it comes from the document commit
+        val offset = text.length / 2
+        val newText = StringBuilder(text).insert(offset, 'x')
+        val blockSupport = BlockSupportImpl()
+
+        measure("reparse", "reparses_per_second") {
+            blockSupport.reparse(file, file.node, ProperTextRange(offset, offset), newText, EmptyProgressIndicator(), file.viewProvider.contents)
+            1
+        }
+    }
+
+    /**
+     * @param run performs single iteration and returns amount of the processed units
+     */
+    private fun measure(name: String, unit: String, run: () -> Int) = Benchmark.measure("$language.$name", unit, run)
+        ?.let { fail(it) }
+}
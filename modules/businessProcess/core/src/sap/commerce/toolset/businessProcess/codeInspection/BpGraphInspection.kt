@@ -0,0 +1,57 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.codeInspection
+
+import com.intellij.lang.annotation.HighlightSeverity
+import com.intellij.openapi.project.Project
+import com.intellij.psi.xml.XmlFile
+import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
+import com.intellij.util.xml.highlighting.DomHighlightingHelper
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraphService
+import sap.commerce.toolset.businessProcess.model.Process
+import sap.commerce.toolset.codeInspection.AbstractInspection
+
+/**
+ * Base for the inspections which rely on the shared [BpProcessGraph] of the business process.
+ */
+abstract class BpGraphInspection : AbstractInspection<Process>(Process::class.java) {
+
+    override fun canProcess(project: Project, file: XmlFile) = true
+
+    override fun canProcess(dom: Process) = dom.xmlElement != null
+
+    override fun inspect(
+        project: Project,
+        dom: Process,
+        holder: DomElementAnnotationHolder,
+        helper: DomHighlightingHelper,
+        severity: HighlightSeverity
+    ) {
+        val graph = BpProcessGraphService.getInstance(project).getGraph(holder.fileElement.file) ?: return
+
+        inspect(graph, holder, severity)
+    }
+
+    abstract fun inspect(graph: BpProcessGraph, holder: DomElementAnnotationHolder, severity: HighlightSeverity)
+
+    protected fun DomElementAnnotationHolder.createProblem(node: BpProcessGraph.Node, severity: HighlightSeverity, message: String) {
+        createProblem(node.element.getId(), severity, message)
+    }
+}
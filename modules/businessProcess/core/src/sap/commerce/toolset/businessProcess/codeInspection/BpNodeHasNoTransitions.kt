@@ -0,0 +1,33 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.codeInspection
+
+import com.intellij.lang.annotation.HighlightSeverity
+import com.intellij.util.xml.highlighting.DomElementAnnotationHolder
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph
+import sap.commerce.toolset.i18n
+
+class BpNodeHasNoTransitions : BpGraphInspection() {
+
+    override fun inspect(graph: BpProcessGraph, holder: DomElementAnnotationHolder, severity: HighlightSeverity) {
+        graph.analysis.deadEnds
+            .mapNotNull { graph.nodes[it] }
+            .forEach { holder.createProblem(it, severity, i18n("hybris.inspections.bp.BpNodeHasNoTransitions.message", it.id)) }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.graph
+
+import sap.commerce.toolset.businessProcess.model.NavigableElement
+
+/**
+ * Immutable adjacency structure of the single business process definition.
+ *
+ * Only transitions to the existing nodes are part of the graph, unresolved references are reported by the DOM inspection.
+ */
+class BpProcessGraph(
+    val nodes: Map<String, Node>,
+    val edges: List<Edge>,
+    val start: String?,
+    val onError: String?,
+) {
+
+    private val outgoing = edges.groupBy { it.source }
+    private val incoming = edges.groupBy { it.target }
+
+    val analysis by lazy(LazyThreadSafetyMode.PUBLICATION) { BpProcessGraphAnalysis.of(this) }
+
+    fun outgoing(id: String) = outgoing[id].orEmpty()
+    fun incoming(id: String) = incoming[id].orEmpty()
+
+    data class Node(
+        val id: String,
+        val kind: NodeKind,
+        val element: NavigableElement,
+        // name of the event awaited by the `wait` node
+        val event: String? = null,
+    )
+
+    /**
+     * @param name name of the transition, for `wait` choices it is an id of the choice and for the timeout its delay
+     */
+    data class Edge(
+        val source: String,
+        val target: String,
+        val name: String,
+        val kind: EdgeKind,
+    )
+
+    enum class NodeKind {
+        ACTION, SCRIPT_ACTION, SPLIT, JOIN, WAIT, NOTIFY, END
+    }
+
+    enum class EdgeKind {
+        TRANSITION, THEN, CHOICE, TIMEOUT, SPLIT
+    }
+}
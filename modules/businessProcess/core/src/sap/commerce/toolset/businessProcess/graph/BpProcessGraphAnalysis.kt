@@ -0,0 +1,161 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.graph
+
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph.EdgeKind
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph.NodeKind
+
+/**
+ * Structural problems of the business process, each of them is computed with a single linear pass over the graph.
+ *
+ * @param unreachable nodes which can be reached neither from the `start` nor from the `onError` node
+ * @param deadEnds nodes, except `end`, without any outgoing transition
+ * @param waitsWithoutEvent `wait` nodes which have no event or no transition to follow once the event is triggered
+ * @param nonTerminatingCycles strongly connected nodes from which none of the `end` nodes can be reached
+ */
+data class BpProcessGraphAnalysis(
+    val unreachable: Set<String>,
+    val deadEnds: Set<String>,
+    val waitsWithoutEvent: Set<String>,
+    val nonTerminatingCycles: List<Set<String>>,
+) {
+
+    fun cycleOf(id: String) = nonTerminatingCycles.find { id in it }
+
+    companion object {
+
+        fun of(graph: BpProcessGraph) = BpProcessGraphAnalysis(
+            unreachable = unreachable(graph),
+            deadEnds = deadEnds(graph),
+            waitsWithoutEvent = waitsWithoutEvent(graph),
+            nonTerminatingCycles = nonTerminatingCycles(graph),
+        )
+
+        private fun unreachable(graph: BpProcessGraph): Set<String> {
+            // without the start node there is nothing to reason about, missing attribute is reported by the DOM inspection
+            val start = graph.start ?: return emptySet()
+            val reachable = traverse(listOfNotNull(start, graph.onError)) { id -> graph.outgoing(id).map { it.target } }
+
+            return graph.nodes.keys - reachable
+        }
+
+        private fun deadEnds(graph: BpProcessGraph) = graph.nodes.values
+            .filter { it.kind != NodeKind.END }
+            .filter { graph.outgoing(it.id).isEmpty() }
+            .mapTo(LinkedHashSet()) { it.id }
+
+        private fun waitsWithoutEvent(graph: BpProcessGraph) = graph.nodes.values
+            .filter { it.kind == NodeKind.WAIT }
+            .filter { node ->
+                node.event == null || graph.outgoing(node.id).none { it.kind == EdgeKind.THEN || it.kind == EdgeKind.CHOICE }
+            }
+            .mapTo(LinkedHashSet()) { it.id }
+
+        private fun nonTerminatingCycles(graph: BpProcessGraph): List<Set<String>> {
+            val ends = graph.nodes.values
+                .filter { it.kind == NodeKind.END }
+                .map { it.id }
+            val terminating = traverse(ends) { id -> graph.incoming(id).map { it.source } }
+            val trapped = graph.nodes.keys - terminating
+
+            if (trapped.isEmpty()) return emptyList()
+
+            return StronglyConnectedComponents(trapped) { id -> graph.outgoing(id).map { it.target }.filter { it in trapped } }
+                .components
+                .filter { component ->
+                    component.size > 1 || component.first().let { id -> graph.outgoing(id).any { it.target == id } }
+                }
+        }
+
+        private fun traverse(roots: Collection<String>, next: (String) -> Collection<String>): Set<String> {
+            val visited = LinkedHashSet(roots)
+            val queue = ArrayDeque(roots)
+
+            while (queue.isNotEmpty()) {
+                next(queue.removeFirst())
+                    .filter { visited.add(it) }
+                    .forEach { queue.addLast(it) }
+            }
+
+            return visited
+        }
+    }
+
+    /**
+     * Iterative Tarjan's algorithm, so the long chains of nodes cannot overflow the stack.
+     */
+    private class StronglyConnectedComponents(nodes: Set<String>, private val next: (String) -> List<String>) {
+
+        val components = mutableListOf<Set<String>>()
+
+        private val index = HashMap<String, Int>()
+        private val lowLink = HashMap<String, Int>()
+        private val stack = ArrayDeque<String>()
+        private val onStack = HashSet<String>()
+
+        init {
+            nodes
+                .filter { it !in index }
+                .forEach { connect(it) }
+        }
+
+        private fun connect(root: String) {
+            val frames = ArrayDeque<Pair<String, Iterator<String>>>()
+            visit(root)
+            frames.addLast(root to next(root).iterator())
+
+            while (frames.isNotEmpty()) {
+                val (id, successors) = frames.last()
+
+                if (successors.hasNext()) {
+                    val successor = successors.next()
+
+                    if (successor !in index) {
+                        visit(successor)
+                        frames.addLast(successor to next(successor).iterator())
+                    } else if (successor in onStack) {
+                        lowLink[id] = minOf(lowLink[id]!!, index[successor]!!)
+                    }
+                    continue
+                }
+
+                frames.removeLast()
+                frames.lastOrNull()
+                    ?.let { (parent, _) -> lowLink[parent] = minOf(lowLink[parent]!!, lowLink[id]!!) }
+
+                if (lowLink[id] == index[id]) {
+                    val component = LinkedHashSet<String>()
+                    do {
+                        val member = stack.removeLast()
+                        onStack.remove(member)
+                        component.add(member)
+                    } while (member != id)
+                    components.add(component)
+                }
+            }
+        }
+
+        private fun visit(id: String) {
+            index[id] = index.size
+            lowLink[id] = index[id]!!
+            stack.addLast(id)
+            onStack.add(id)
+        }
+    }
+}
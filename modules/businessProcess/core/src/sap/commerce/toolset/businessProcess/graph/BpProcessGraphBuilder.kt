@@ -0,0 +1,99 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.graph
+
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph.*
+import sap.commerce.toolset.businessProcess.model.*
+
+object BpProcessGraphBuilder {
+
+    fun build(process: Process): BpProcessGraph {
+        val elements = process.nodes
+            .filter { it.getId().isValid }
+            .mapNotNull { element -> element.getId().stringValue?.let { it to element } }
+        val nodes = LinkedHashMap<String, Node>()
+
+        elements.forEach { (id, element) ->
+            nodes[id] = node(id, element)
+        }
+
+        val edges = elements
+            .flatMap { (id, element) -> edges(id, element) }
+            .filter { it.target in nodes }
+
+        return BpProcessGraph(
+            nodes = nodes,
+            edges = edges,
+            start = process.start.stringValue?.takeIf { it in nodes },
+            onError = process.onError.stringValue?.takeIf { it in nodes },
+        )
+    }
+
+    private fun node(id: String, element: NavigableElement) = when (element) {
+        is ScriptAction -> Node(id, NodeKind.SCRIPT_ACTION, element)
+        is Action -> Node(id, NodeKind.ACTION, element)
+        is Split -> Node(id, NodeKind.SPLIT, element)
+        is Join -> Node(id, NodeKind.JOIN, element)
+        is Notify -> Node(id, NodeKind.NOTIFY, element)
+        is End -> Node(id, NodeKind.END, element)
+        is Wait -> Node(
+            id, NodeKind.WAIT, element,
+            event = element.event.stringValue?.takeIf { it.isNotBlank() }
+                ?: element.case.event.stringValue?.takeIf { it.isNotBlank() }
+        )
+
+        else -> Node(id, NodeKind.ACTION, element)
+    }
+
+    private fun edges(id: String, element: NavigableElement): List<Edge> = when (element) {
+        is Join -> listOfNotNull(edge(id, element.then.stringValue, "", EdgeKind.THEN))
+
+        is Notify -> listOfNotNull(edge(id, element.then.stringValue, "", EdgeKind.THEN))
+
+        is ScriptAction -> element.transitions
+            .mapNotNull { edge(id, it.to.stringValue, it.name.stringValue ?: "", EdgeKind.TRANSITION) }
+
+        is Action -> element.transitions
+            .mapNotNull { edge(id, it.to.stringValue, it.name.stringValue ?: "", EdgeKind.TRANSITION) }
+
+        is Split -> element.targetNodes
+            .mapNotNull { edge(id, it.name.stringValue, it.name.stringValue ?: "", EdgeKind.SPLIT) }
+
+        is Wait -> buildList {
+            edge(id, element.then.stringValue, "", EdgeKind.THEN)
+                ?.let { add(it) }
+
+            if (element.case.isValid) {
+                element.case.choices
+                    .mapNotNull { choice -> choice.getId().stringValue?.let { edge(id, choice.then.stringValue, it, EdgeKind.CHOICE) } }
+                    .let { addAll(it) }
+            }
+
+            if (element.timeout.isValid) {
+                edge(id, element.timeout.then.stringValue, element.timeout.delay.stringValue ?: "", EdgeKind.TIMEOUT)
+                    ?.let { add(it) }
+            }
+        }
+
+        else -> emptyList()
+    }
+
+    private fun edge(source: String, target: String?, name: String, kind: EdgeKind) = target
+        ?.let { Edge(source, it, name, kind) }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.graph
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.xml.XmlFile
+import com.intellij.util.xml.DomManager
+import sap.commerce.toolset.businessProcess.model.Process
+
+/**
+ * Single place to obtain the graph of the business process, it is shared by the inspections and the diagram
+ * and rebuilt only after modification of the corresponding file.
+ */
+@Service(Service.Level.PROJECT)
+class BpProcessGraphService(private val project: Project) {
+
+    fun getGraph(file: XmlFile): BpProcessGraph? = CachedValuesManager.getCachedValue(file) {
+        val graph = DomManager.getDomManager(project).getFileElement(file, Process::class.java)
+            ?.rootElement
+            ?.takeIf { it.isValid }
+            ?.let { BpProcessGraphBuilder.build(it) }
+
+        CachedValueProvider.Result.create(graph, file)
+    }
+
+    companion object {
+        fun getInstance(project: Project): BpProcessGraphService = project.service()
+    }
+}
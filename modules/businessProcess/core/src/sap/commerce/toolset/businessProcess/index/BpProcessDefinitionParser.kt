@@ -0,0 +1,102 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.index
+
+import com.intellij.util.xml.NanoXmlBuilder
+import com.intellij.util.xml.NanoXmlUtil
+import sap.commerce.toolset.businessProcess.BpConstants
+import sap.commerce.toolset.businessProcess.model.*
+import java.io.Reader
+
+/**
+ * Lightweight SAX-like parser of the business process definition, used at indexing time when neither PSI nor DOM is available.
+ */
+object BpProcessDefinitionParser {
+
+    private val nodeTags = BpConstants.NAVIGABLE_ELEMENTS - "choice"
+
+    fun parse(text: CharSequence, fallbackName: String): BpProcessIndexEntry? {
+        // cheap rejection of the unrelated xml files without running the parser
+        if (!text.contains("<" + BpConstants.ROOT_TAG_BUSINESS_PROCESS_XML)) return null
+
+        val builder = Builder()
+        NanoXmlUtil.parse(text.toString().reader(), builder)
+
+        if (!builder.isProcess) return null
+
+        return BpProcessIndexEntry(
+            name = builder.name ?: fallbackName,
+            processClass = builder.processClass,
+            nodes = builder.nodes,
+            events = builder.events.distinct(),
+            actionBeans = builder.actionBeans.distinct(),
+        )
+    }
+
+    private class Builder : NanoXmlBuilder {
+        val path = ArrayDeque<String>()
+        val nodes = mutableListOf<String>()
+        val events = mutableListOf<String>()
+        val actionBeans = mutableListOf<String>()
+
+        var isProcess = false
+        var name: String? = null
+        var processClass: String? = null
+
+        override fun startElement(name: String, nsPrefix: String?, nsURI: String?, systemID: String?, lineNr: Int) {
+            if (path.isEmpty() && name != BpConstants.ROOT_TAG_BUSINESS_PROCESS_XML) NanoXmlUtil.stop()
+
+            isProcess = true
+            path.addLast(name)
+        }
+
+        override fun addAttribute(key: String, nsPrefix: String?, nsURI: String?, value: String, type: String?) {
+            val attributeValue = value.trim().takeIf { it.isNotEmpty() } ?: return
+            val element = path.lastOrNull() ?: return
+
+            when (path.size) {
+                1 -> when (key) {
+                    Process.NAME -> name = attributeValue
+                    Process.PROCESS_CLASS -> processClass = attributeValue
+                }
+
+                2 -> when {
+                    key == NavigableElement.ID && element in nodeTags -> nodes.add(attributeValue)
+                    key == Action.BEAN && element == Process.ACTION -> actionBeans.add(attributeValue)
+                }
+
+                3 -> if (key == Case.EVENT && element == Wait.CASE && path[1] == Process.WAIT) {
+                    events.add(attributeValue)
+                }
+            }
+        }
+
+        override fun addPCData(reader: Reader, systemID: String?, lineNr: Int) {
+            if (path.size != 3 || path[1] != Process.WAIT || path[2] != Wait.EVENT) return
+
+            reader.readText().trim()
+                .takeIf { it.isNotEmpty() }
+                ?.let { events.add(it) }
+        }
+
+        override fun endElement(name: String, nsPrefix: String?, nsURI: String?) {
+            path.removeLastOrNull()
+        }
+    }
+}
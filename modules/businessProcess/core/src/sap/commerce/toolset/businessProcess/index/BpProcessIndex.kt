@@ -0,0 +1,47 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.index
+
+import com.intellij.ide.highlighter.XmlFileType
+import com.intellij.util.indexing.*
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+
+/**
+ * Business process definitions keyed by the process name, the name of the file is used when the process has no name.
+ */
+class BpProcessIndex : FileBasedIndexExtension<String, BpProcessIndexEntry>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 1
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer() = BpProcessIndexEntry.Externalizer
+    override fun getInputFilter() = DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE)
+
+    override fun getIndexer() = DataIndexer<String, BpProcessIndexEntry, FileContent> { fileContent ->
+        BpProcessDefinitionParser.parse(fileContent.contentAsText, fileContent.file.nameWithoutExtension)
+            ?.let { mapOf(it.name to it) }
+            ?: emptyMap()
+    }
+
+    companion object {
+        val NAME = ID.create<String, BpProcessIndexEntry>("sap.commerce.toolset.businessProcess.process")
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.index
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.search.ProjectScope
+import com.intellij.util.indexing.FileBasedIndex
+
+/**
+ * Read access to the business process indexes, all methods have to be called under the read action in the smart mode.
+ */
+@Service(Service.Level.PROJECT)
+class BpProcessIndexAccess(private val project: Project) {
+
+    /**
+     * Names of the processes starting with the given prefix, case-insensitive, sorted by name.
+     */
+    fun findNames(prefix: String = "", scope: GlobalSearchScope = ProjectScope.getAllScope(project)): List<String> {
+        val names = mutableListOf<String>()
+
+        FileBasedIndex.getInstance().processAllKeys(BpProcessIndex.NAME, { name ->
+            if (name.startsWith(prefix, true)) names.add(name)
+            true
+        }, scope, null)
+
+        // keys of the deleted files may still be present until the next index flush
+        return names
+            .filter { FileBasedIndex.getInstance().getContainingFiles(BpProcessIndex.NAME, it, scope).isNotEmpty() }
+            .sortedWith(String.CASE_INSENSITIVE_ORDER)
+    }
+
+    fun findProcesses(name: String, scope: GlobalSearchScope = ProjectScope.getAllScope(project)): List<IndexedProcess> {
+        val processes = mutableListOf<IndexedProcess>()
+
+        FileBasedIndex.getInstance().processValues(BpProcessIndex.NAME, name, null, { file, entry ->
+            processes.add(IndexedProcess(file, entry))
+            true
+        }, scope)
+
+        return processes
+    }
+
+    /**
+     * Processes which reference the given Spring bean from their `action` nodes.
+     */
+    fun findProcessesByActionBean(bean: String, scope: GlobalSearchScope = ProjectScope.getAllScope(project)): List<IndexedProcess> =
+        FileBasedIndex.getInstance().getContainingFiles(BpActionBeanIndex.NAME, bean, scope)
+            .flatMap { file ->
+                FileBasedIndex.getInstance().getFileData(BpProcessIndex.NAME, file, project).values
+                    .map { IndexedProcess(file, it) }
+            }
+            .sortedBy { it.entry.name }
+
+    data class IndexedProcess(
+        val virtualFile: VirtualFile,
+        val entry: BpProcessIndexEntry,
+    )
+
+    companion object {
+        fun getInstance(project: Project): BpProcessIndexAccess = project.service()
+    }
+}
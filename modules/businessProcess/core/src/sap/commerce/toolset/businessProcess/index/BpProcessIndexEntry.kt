@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.index
+
+import com.intellij.openapi.util.io.DataInputOutputUtilRt
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.IOUtil
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Indexed summary of the single business process definition.
+ *
+ * @param actionBeans names of the Spring beans referenced by the `action` nodes
+ * @param events names of the events awaited by the `wait` nodes
+ */
+data class BpProcessIndexEntry(
+    val name: String,
+    val processClass: String?,
+    val nodes: List<String>,
+    val events: List<String>,
+    val actionBeans: List<String>,
+) {
+
+    object Externalizer : DataExternalizer<BpProcessIndexEntry> {
+
+        override fun save(out: DataOutput, value: BpProcessIndexEntry) {
+            IOUtil.writeUTF(out, value.name)
+            out.writeBoolean(value.processClass != null)
+            value.processClass?.let { IOUtil.writeUTF(out, it) }
+            writeList(out, value.nodes)
+            writeList(out, value.events)
+            writeList(out, value.actionBeans)
+        }
+
+        override fun read(input: DataInput) = BpProcessIndexEntry(
+            name = IOUtil.readUTF(input),
+            processClass = if (input.readBoolean()) IOUtil.readUTF(input) else null,
+            nodes = readList(input),
+            events = readList(input),
+            actionBeans = readList(input),
+        )
+
+        private fun writeList(out: DataOutput, values: List<String>) = DataInputOutputUtilRt.writeSeq(out, values) {
+            IOUtil.writeUTF(out, it)
+        }
+
+        private fun readList(input: DataInput): List<String> = DataInputOutputUtilRt.readSeq(input) {
+            IOUtil.readUTF(input)
+        }
+    }
+}
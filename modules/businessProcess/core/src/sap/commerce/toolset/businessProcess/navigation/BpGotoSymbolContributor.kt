@@ -0,0 +1,52 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.navigation
+
+import com.intellij.navigation.ChooseByNameContributorEx
+import com.intellij.navigation.NavigationItem
+import com.intellij.psi.PsiManager
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.util.Processor
+import com.intellij.util.indexing.FileBasedIndex
+import com.intellij.util.indexing.FindSymbolParameters
+import com.intellij.util.indexing.IdFilter
+import sap.commerce.toolset.businessProcess.index.BpProcessIndex
+import sap.commerce.toolset.businessProcess.index.BpProcessIndexAccess
+import sap.commerce.toolset.isNotHybrisProject
+
+/**
+ * Makes business processes available via `Go to Symbol` by their names, names and files are taken from the [BpProcessIndex].
+ */
+class BpGotoSymbolContributor : ChooseByNameContributorEx {
+
+    override fun processNames(processor: Processor<in String>, scope: GlobalSearchScope, filter: IdFilter?) {
+        if (scope.project?.isNotHybrisProject ?: true) return
+
+        FileBasedIndex.getInstance().processAllKeys(BpProcessIndex.NAME, processor, scope, filter)
+    }
+
+    override fun processElementsWithName(name: String, processor: Processor<in NavigationItem>, parameters: FindSymbolParameters) {
+        val project = parameters.project
+        val psiManager = PsiManager.getInstance(project)
+
+        BpProcessIndexAccess.getInstance(project).findProcesses(name, parameters.searchScope)
+            .mapNotNull { psiManager.findFile(it.virtualFile) }
+            .forEach { if (!processor.process(it)) return }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.graph
+
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph.*
+import sap.commerce.toolset.businessProcess.model.NavigableElement
+import java.lang.reflect.Proxy
+import kotlin.test.*
+
+class BpProcessGraphAnalysisTest {
+
+    @Test
+    fun test_analysis_validProcess_noProblems() {
+        val analysis = graph(
+            start = "validate",
+            onError = "error",
+            nodes = listOf(
+                node("validate", NodeKind.ACTION),
+                node("waitForPayment", NodeKind.WAIT, event = "payment"),
+                node("retry", NodeKind.ACTION),
+                node("success", NodeKind.END),
+                node("error", NodeKind.END),
+            ),
+            edges = listOf(
+                edge("validate", "waitForPayment", "OK"),
+                edge("validate", "error", "NOK"),
+                edge("waitForPayment", "success", "", EdgeKind.THEN),
+                edge("waitForPayment", "retry", "PT1H", EdgeKind.TIMEOUT),
+                edge("retry", "waitForPayment", "OK"),
+            )
+        ).analysis
+
+        assertTrue(analysis.unreachable.isEmpty())
+        assertTrue(analysis.deadEnds.isEmpty())
+        assertTrue(analysis.waitsWithoutEvent.isEmpty())
+        assertTrue(analysis.nonTerminatingCycles.isEmpty(), "Cycle with the exit to the end node terminates")
+    }
+
+    @Test
+    fun test_analysis_unreachableNodes() {
+        val analysis = graph(
+            start = "a",
+            onError = "error",
+            nodes = listOf(
+                node("a", NodeKind.ACTION),
+                node("b", NodeKind.ACTION),
+                node("orphan", NodeKind.ACTION),
+                node("orphanChild", NodeKind.END),
+                node("error", NodeKind.END),
+                node("end", NodeKind.END),
+            ),
+            edges = listOf(
+                edge("a", "end", "OK"),
+                edge("orphan", "orphanChild", "OK"),
+                edge("b", "a", "OK"),
+            )
+        ).analysis
+
+        assertEquals(setOf("b", "orphan", "orphanChild"), analysis.unreachable)
+    }
+
+    @Test
+    fun test_analysis_withoutStart_reachabilityNotReported() {
+        val analysis = graph(
+            start = null,
+            nodes = listOf(node("a", NodeKind.END), node("b", NodeKind.END)),
+        ).analysis
+
+        assertTrue(analysis.unreachable.isEmpty())
+    }
+
+    @Test
+    fun test_analysis_deadEnds() {
+        val analysis = graph(
+            start = "split",
+            nodes = listOf(
+                node("split", NodeKind.SPLIT),
+                node("left", NodeKind.ACTION),
+                node("right", NodeKind.NOTIFY),
+                node("end", NodeKind.END),
+            ),
+            edges = listOf(
+                edge("split", "left", "left", EdgeKind.SPLIT),
+                edge("split", "right", "right", EdgeKind.SPLIT),
+                edge("left", "end", "OK"),
+            )
+        ).analysis
+
+        assertEquals(setOf("right"), analysis.deadEnds)
+    }
+
+    @Test
+    fun test_analysis_waitsWithoutEvent() {
+        val analysis = graph(
+            start = "noEvent",
+            nodes = listOf(
+                node("noEvent", NodeKind.WAIT),
+                node("onlyTimeout", NodeKind.WAIT, event = "event"),
+                node("withChoice", NodeKind.WAIT, event = "event"),
+                node("end", NodeKind.END),
+            ),
+            edges = listOf(
+                edge("noEvent", "onlyTimeout", "", EdgeKind.THEN),
+                edge("onlyTimeout", "withChoice", "PT5M", EdgeKind.TIMEOUT),
+                edge("withChoice", "end", "approved", EdgeKind.CHOICE),
+            )
+        ).analysis
+
+        assertEquals(setOf("noEvent", "onlyTimeout"), analysis.waitsWithoutEvent)
+    }
+
+    @Test
+    fun test_analysis_nonTerminatingCycles() {
+        val analysis = graph(
+            start = "a",
+            nodes = listOf(
+                node("a", NodeKind.ACTION),
+                node("b", NodeKind.ACTION),
+                node("c", NodeKind.ACTION),
+                node("self", NodeKind.ACTION),
+                node("d", NodeKind.ACTION),
+                node("e", NodeKind.ACTION),
+                node("end", NodeKind.END),
+            ),
+            edges = listOf(
+                edge("a", "b", "OK"),
+                edge("a", "self", "NOK"),
+                edge("a", "d", "RETRY"),
+                edge("a", "end", "DONE"),
+                edge("b", "c", "OK"),
+                edge("c", "b", "OK"),
+                edge("self", "self", "OK"),
+                // cycle with the exit towards the end node
+                edge("d", "e", "OK"),
+                edge("e", "d", "OK"),
+                edge("e", "end", "DONE"),
+            )
+        ).analysis
+
+        assertEquals(setOf(setOf("b", "c"), setOf("self")), analysis.nonTerminatingCycles.toSet())
+        assertEquals(setOf("b", "c"), analysis.cycleOf("c"))
+        assertNull(analysis.cycleOf("d"))
+    }
+
+    @Test
+    fun test_analysis_longChain_noStackOverflow() {
+        val size = 50_000
+        val nodes = (0 until size).map { node("n$it", NodeKind.ACTION) }
+        val edges = (0 until size).map { edge("n$it", "n${(it + 1) % size}", "OK") }
+
+        val analysis = graph(start = "n0", nodes = nodes, edges = edges).analysis
+
+        assertEquals(1, analysis.nonTerminatingCycles.size)
+        assertEquals(size, analysis.nonTerminatingCycles.first().size)
+        assertTrue(analysis.unreachable.isEmpty())
+    }
+
+    @Test
+    fun test_graph_adjacency() {
+        val graph = graph(
+            start = "a",
+            nodes = listOf(node("a", NodeKind.ACTION), node("b", NodeKind.ACTION), node("end", NodeKind.END)),
+            edges = listOf(edge("a", "b", "OK"), edge("a", "end", "NOK"), edge("b", "end", "OK")),
+        )
+
+        assertEquals(listOf("b", "end"), graph.outgoing("a").map { it.target })
+        assertEquals(listOf("a", "b"), graph.incoming("end").map { it.source })
+        assertTrue(graph.incoming("a").isEmpty())
+        assertSame(graph.analysis, graph.analysis)
+    }
+
+    private fun graph(
+        start: String?,
+        onError: String? = null,
+        nodes: List<Node>,
+        edges: List<Edge> = emptyList(),
+    ) = BpProcessGraph(nodes.associateByTo(LinkedHashMap()) { it.id }, edges, start, onError)
+
+    private fun node(id: String, kind: NodeKind, event: String? = null) = Node(id, kind, element, event)
+
+    private fun edge(source: String, target: String, name: String, kind: EdgeKind = EdgeKind.TRANSITION) = Edge(source, target, name, kind)
+
+    private val element = Proxy.newProxyInstance(
+        NavigableElement::class.java.classLoader,
+        arrayOf(NavigableElement::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "equals" -> proxy === args?.firstOrNull()
+            "hashCode" -> System.identityHashCode(proxy)
+            "toString" -> "NavigableElement"
+            else -> throw UnsupportedOperationException(method.name)
+        }
+    } as NavigableElement
+}
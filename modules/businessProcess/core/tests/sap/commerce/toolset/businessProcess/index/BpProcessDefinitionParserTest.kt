@@ -0,0 +1,142 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.index
+
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import kotlin.test.*
+
+class BpProcessDefinitionParserTest {
+
+    @Test
+    fun test_parse_processDefinition() {
+        val entry = BpProcessDefinitionParser.parse(
+            """
+            <?xml version="1.0" encoding="utf-8"?>
+            <process xmlns="http://www.hybris.de/xsd/processdefinition" start="checkOrder" name="order-process"
+                     processClass="de.hybris.platform.orderprocessing.model.OrderProcessModel">
+                <action id="checkOrder" bean="checkOrderAction">
+                    <transition name="OK" to="waitForPayment"/>
+                    <transition name="NOK" to="error"/>
+                </action>
+                <scriptAction id="log">
+                    <script type="groovy">println 'action bean="notABean"'</script>
+                    <transition name="OK" to="waitForPayment"/>
+                </scriptAction>
+                <wait id="waitForPayment" then="success" prependProcessCode="true">
+                    <event>PaymentCaptured</event>
+                </wait>
+                <wait id="waitForApproval" prependProcessCode="false">
+                    <case event=" ApprovalDecision ">
+                        <choice id="approved" then="success"/>
+                        <choice id="rejected" then="error"/>
+                    </case>
+                </wait>
+                <action id="notify" bean="checkOrderAction">
+                    <transition name="OK" to="success"/>
+                </action>
+                <end id="error" state="ERROR">Order process error.</end>
+                <end id="success" state="SUCCEEDED">Order process finished.</end>
+            </process>
+            """.trimIndent(),
+            "fallback"
+        )
+
+        assertNotNull(entry)
+        assertEquals("order-process", entry.name)
+        assertEquals("de.hybris.platform.orderprocessing.model.OrderProcessModel", entry.processClass)
+        assertEquals(listOf("checkOrder", "log", "waitForPayment", "waitForApproval", "notify", "error", "success"), entry.nodes)
+        assertEquals(listOf("PaymentCaptured", "ApprovalDecision"), entry.events)
+        assertEquals(listOf("checkOrderAction"), entry.actionBeans)
+    }
+
+    @Test
+    fun test_parse_withoutName_fallbackNameUsed() {
+        val entry = BpProcessDefinitionParser.parse("""<process start="end"><end id="end"/></process>""", "my-process")
+
+        assertEquals("my-process", entry?.name)
+        assertNull(entry?.processClass)
+    }
+
+    @Test
+    fun test_parse_unrelatedOrBrokenXml_ignored() {
+        assertNull(BpProcessDefinitionParser.parse("""<beans><bean id="process"/></beans>""", "spring"))
+        assertNull(BpProcessDefinitionParser.parse("""<config><process name="nested"/></config>""", "config"))
+        assertTrue(BpProcessDefinitionParser.parse("""<process name="broken"><action id=""", "broken")?.nodes.isNullOrEmpty())
+    }
+
+    @Test
+    fun test_externalizer_roundTrip() {
+        val entries = listOf(
+            BpProcessIndexEntry("order-process", "OrderProcessModel", listOf("a", "b"), listOf("event"), listOf("bean")),
+            BpProcessIndexEntry("ünïcödé", null, emptyList(), emptyList(), emptyList()),
+        )
+
+        val bytes = ByteArrayOutputStream().also { stream ->
+            DataOutputStream(stream).use { out -> entries.forEach { BpProcessIndexEntry.Externalizer.save(out, it) } }
+        }.toByteArray()
+        val actual = DataInputStream(ByteArrayInputStream(bytes)).use { input ->
+            entries.map { BpProcessIndexEntry.Externalizer.read(input) }
+        }
+
+        assertEquals(entries, actual)
+    }
+
+    @Test
+    fun test_parse_fixtureExtensions() {
+        val files = fixtureExtensions(extensions = 40, processesPerExtension = 15)
+
+        val entries = files.mapNotNull { (fileName, text) -> BpProcessDefinitionParser.parse(text, fileName) }
+
+        // spring and other unrelated xml files are skipped
+        assertEquals(40 * 15, entries.size)
+
+        val byName = entries.associateBy { it.name }
+        val byBean = entries
+            .flatMap { entry -> entry.actionBeans.map { it to entry.name } }
+            .groupBy({ it.first }, { it.second })
+
+        assertEquals(40 * 15, byName.size)
+        assertEquals(15, byName.keys.count { it.startsWith("ext7-", true) })
+        assertEquals(40, byBean["sharedAction"]?.size)
+        assertEquals(listOf("ext3-process-4"), byBean["ext3Action4"])
+        assertEquals(listOf("ext3Event4"), byName["ext3-process-4"]?.events)
+        assertEquals(12, byName["ext3-process-4"]?.nodes?.size)
+    }
+
+    private fun fixtureExtensions(extensions: Int, processesPerExtension: Int) = (0 until extensions).flatMap { extension ->
+        (0 until processesPerExtension).map { process -> "ext$extension-process-$process" to processXml(extension, process) } +
+            ("ext$extension-spring" to """<beans><bean id="ext${extension}Action" class="Action"/></beans>""")
+    }
+
+    private fun processXml(extension: Int, process: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="utf-8"?>""")
+        appendLine("""<process xmlns="http://www.hybris.de/xsd/processdefinition" name="ext$extension-process-$process" start="shared" processClass="Ext${extension}ProcessModel">""")
+        appendLine("""    <action id="shared" bean="sharedAction"><transition name="OK" to="step0"/></action>""")
+        (0 until 8).forEach { step ->
+            appendLine("""    <action id="step$step" bean="ext${extension}Action$process"><transition name="OK" to="step${step + 1}"/><transition name="NOK" to="error"/></action>""")
+        }
+        appendLine("""    <wait id="step8" then="success"><event>ext${extension}Event$process</event></wait>""")
+        appendLine("""    <end id="error" state="ERROR">Failed</end>""")
+        appendLine("""    <end id="success" state="SUCCEEDED">Done</end>""")
+        appendLine("""</process>""")
+    }
+}
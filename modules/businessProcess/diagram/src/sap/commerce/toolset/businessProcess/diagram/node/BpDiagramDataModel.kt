@@ -23,10 +23,13 @@ import com.intellij.diagram.DiagramProvider
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.ModificationTracker
 import org.jetbrains.annotations.Contract
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph
 import sap.commerce.toolset.businessProcess.diagram.node.graph.BpGraphFactory
 import sap.commerce.toolset.businessProcess.diagram.node.graph.BpGraphNode
 import sap.commerce.toolset.businessProcess.diagram.node.graph.BpGraphNodeNavigable
 import sap.commerce.toolset.businessProcess.diagram.node.graph.BpGraphNodeRoot
+import sap.commerce.toolset.settings.state.BusinessProcessSettingsState
+import sap.commerce.toolset.settings.yDeveloperSettings
 import java.io.Serial
 
 class BpDiagramDataModel(
@@ -38,6 +41,9 @@ class BpDiagramDataModel(
     private val edges: MutableCollection<BpDiagramEdge> = mutableSetOf()
     private val nodesMap: MutableMap<String, BpDiagramNode> = mutableMapOf()
 
+    // graph and settings the current nodes and edges were built for, graph is re-created only on file modification
+    private var builtFor: Pair<BpProcessGraph, BusinessProcessSettingsState>? = null
+
     override fun getNodes() = nodesMap.values
     override fun getEdges() = edges
     override fun getNodeName(diagramNode: DiagramNode<BpGraphNode?>) = diagramNode.identifyingElement.name
@@ -48,10 +54,17 @@ class BpDiagramDataModel(
     override fun refreshDataModel() {
         if (rootBpGraphNode !is BpGraphNodeRoot) return
 
+        val graph = rootBpGraphNode.processGraph
+        val settings = project.yDeveloperSettings.businessProcessSettings
+        val state = graph to settings
+
+        if (state == builtFor) return
+
         edges.clear()
         nodesMap.clear()
+        builtFor = state
 
-        rootBpGraphNode.buildNodes()
+        rootBpGraphNode.buildNodes(graph)
             .values
             .forEach {
                 val bpDiagramFileNode = BpDiagramNode(it, provider)
@@ -61,7 +74,7 @@ class BpDiagramDataModel(
         nodesMap[rootBpGraphNode.name] = BpDiagramNode(rootBpGraphNode, provider)
 
         nodesMap["Context Parameters"]
-            ?.let { BpGraphFactory.buildEdge("parameters", nodesMap[rootBpGraphNode.name]!!, it) }
+            ?.let { BpGraphFactory.buildEdge("parameters", nodesMap[rootBpGraphNode.name]!!, it, settings) }
             ?.let { edges.add(it) }
 
         nodesMap.values
@@ -72,7 +85,7 @@ class BpDiagramDataModel(
                 (sourceBpGraphNode as BpGraphNodeNavigable).transitions
                     .forEach { (transitionName, targetBpGraphNode) ->
                         nodesMap[targetBpGraphNode.name]
-                            ?.let { sourceBpDiagramFileNode -> BpGraphFactory.buildEdge(transitionName, sourceBpDiagramFileNode, targetBpDiagramFileNode) }
+                            ?.let { sourceBpDiagramFileNode -> BpGraphFactory.buildEdge(transitionName, sourceBpDiagramFileNode, targetBpDiagramFileNode, settings) }
                             ?.let { edges.add(it) }
                     }
             }
@@ -82,6 +95,7 @@ class BpDiagramDataModel(
     override fun getModificationTracker(): ModificationTracker = this
 
     override fun dispose() {
+        builtFor = null
         edges.clear()
         nodesMap.clear()
     }
@@ -18,30 +18,32 @@
 
 package sap.commerce.toolset.businessProcess.diagram.node
 
+import com.intellij.psi.xml.XmlFile
 import sap.commerce.toolset.businessProcess.diagram.node.graph.*
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraph
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraphBuilder
+import sap.commerce.toolset.businessProcess.graph.BpProcessGraphService
 import sap.commerce.toolset.businessProcess.model.*
 import sap.commerce.toolset.i18n
 
-internal fun BpGraphNodeRoot.buildNodes(): Map<String, BpGraphNode> {
+internal val BpGraphNodeRoot.processGraph: BpProcessGraph
+    get() = (this.process.xmlElement?.containingFile as? XmlFile)
+        ?.let { BpProcessGraphService.getInstance(it.project).getGraph(it) }
+        ?: BpProcessGraphBuilder.build(this.process)
+
+internal fun BpGraphNodeRoot.buildNodes(graph: BpProcessGraph): Map<String, BpGraphNode> {
     this.name = this.process.name.stringValue
         ?: this.virtualFileName
     this.transitions.clear()
 
-    val nodes = this.process.nodes
-        .filter { it.getId().isValid }
-
-    val nodesMap = nodes
-        .filter { it.getId().stringValue != null }
-        .associate {
-            val nodeName = it.getId().stringValue!!
-            nodeName to BpGraphFactory.buildNode(nodeName, it, this)
-        }
-    populateNodesTransitions(nodesMap, nodes)
+    val nodesMap = graph.nodes.values
+        .associate { it.id to BpGraphFactory.buildNode(it.id, it.element, this) }
+    populateNodesTransitions(nodesMap, graph.edges)
 
-    this.navigableElement.start.stringValue
+    graph.start
         ?.let { nodesMap[it] }
         ?.let { this.transitions["Start"] = it }
-    this.navigableElement.onError.stringValue
+    graph.onError
         ?.let { nodesMap[it] }
         ?.let { this.transitions["On Error"] = it }
 
@@ -64,50 +66,17 @@ internal fun BpGraphNodeRoot.buildNodes(): Map<String, BpGraphNode> {
 
 private fun populateNodesTransitions(
     nodesMap: Map<String, BpGraphNodeNavigable>,
-    nodes: List<NavigableElement>
+    edges: List<BpProcessGraph.Edge>
 ) {
-    nodes.forEach {
-        nodesMap[it.getId().stringValue]
-            ?.let { actionGraphNode ->
-                getTransitionIdsForAction(it).forEach { (key, value) ->
-                    nodesMap[value]
-                        ?.let { node ->
-                            actionGraphNode.transitions[key] = node
-                        }
-                }
-            }
-    }
-}
-
-private fun getTransitionIdsForAction(navigableElement: NavigableElement): Map<String, String?> = when (navigableElement) {
-    is Join -> mapOf("" to navigableElement.then.stringValue)
-
-    is Notify -> mapOf("" to navigableElement.then.stringValue)
+    edges.forEach { edge ->
+        val source = nodesMap[edge.source] ?: return@forEach
+        val target = nodesMap[edge.target] ?: return@forEach
 
-    is ScriptAction -> navigableElement.transitions
-        .associate { (it.name.stringValue ?: "") to it.to.stringValue }
-
-    is Action -> navigableElement.transitions
-        .associate { (it.name.stringValue ?: "") to it.to.stringValue }
-
-    is Split -> navigableElement.targetNodes
-        .associate { (it.name.stringValue ?: "") to it.name.stringValue }
-
-    is Wait -> {
-        val transitions = mutableMapOf(
-            "" to navigableElement.then.stringValue
-        )
-
-        if (navigableElement.case.isValid && navigableElement.case.choices.isNotEmpty()) {
-            navigableElement.case.choices
-                .filter { it.getId().stringValue != null }
-                .forEach { transitions[it.getId().stringValue!!] = it.then.stringValue }
-        }
-        if (navigableElement.timeout.isValid) {
-            transitions["${i18n("hybris.diagram.bp.provider.edge.timeout")} ${navigableElement.timeout.delay}"] = navigableElement.timeout.then.stringValue
-        }
-        transitions
+        source.transitions[getTransitionName(edge)] = target
     }
+}
 
-    else -> emptyMap()
+private fun getTransitionName(edge: BpProcessGraph.Edge) = when (edge.kind) {
+    BpProcessGraph.EdgeKind.TIMEOUT -> "${i18n("hybris.diagram.bp.provider.edge.timeout")} ${edge.name}"
+    else -> edge.name
 }
@@ -32,12 +32,10 @@ import sap.commerce.toolset.businessProcess.diagram.node.BpDiagramNode
 import sap.commerce.toolset.businessProcess.diagram.node.BpDiagramRelationship
 import sap.commerce.toolset.businessProcess.model.*
 import sap.commerce.toolset.i18n
+import sap.commerce.toolset.settings.state.BusinessProcessSettingsState
 
 object BpGraphFactory {
 
-    //TODO: mby read all possible "bad" edges from the hybris4intellij.properties file
-    private val badEdges = arrayOf("NOK", "ERROR", "FAIL", "ON ERROR")
-
     fun buildNode(project: Project, virtualFile: VirtualFile): BpGraphNode? {
         val psiFile = PsiManager.getInstance(project).findFile(virtualFile) as? XmlFile ?: return null
         val fileElement = DomManager.getDomManager(project).getFileElement(psiFile, Process::class.java)
@@ -78,7 +76,12 @@ object BpGraphFactory {
         else -> build(nodeName, element, rootGraphNode)
     }
 
-    fun buildEdge(transitionName: String, source: BpDiagramNode, target: BpDiagramNode): BpDiagramEdge =
+    fun buildEdge(
+        transitionName: String,
+        source: BpDiagramNode,
+        target: BpDiagramNode,
+        settings: BusinessProcessSettingsState = BusinessProcessSettingsState()
+    ): BpDiagramEdge =
         when {
             source.graphNode is Process || target.graphNode is BpGraphNodeContextParameters -> BpDiagramEdge(
                 source, target, BpDiagramRelationship(
@@ -115,7 +118,7 @@ object BpGraphFactory {
                 source, target, buildRelationship(transitionName, source, target), BpDiagramEdgeType.TIMEOUT
             )
 
-            badEdges.contains(transitionName.uppercase()) -> BpDiagramEdge(
+            settings.isBadTransition(transitionName) -> BpDiagramEdge(
                 source, target, buildRelationship(transitionName, source, target), BpDiagramEdgeType.NOK
             )
 
@@ -19,41 +19,77 @@
 package sap.commerce.toolset.businessProcess.mcp
 
 import com.intellij.mcpserver.project
+import com.intellij.openapi.application.smartReadAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
 import kotlinx.coroutines.currentCoroutineContext
+import sap.commerce.toolset.businessProcess.index.BpProcessIndexAccess
+import sap.commerce.toolset.businessProcess.index.BpProcessIndexAccess.IndexedProcess
 import sap.commerce.toolset.businessProcess.mcp.context.BpSearchRequest
+import sap.commerce.toolset.businessProcess.mcp.context.SearchScope
 import sap.commerce.toolset.businessProcess.mcp.dto.BusinessProcessDto
 import sap.commerce.toolset.businessProcess.mcp.dto.BusinessProcessesDto
-import sap.commerce.toolset.businessProcess.meta.BPMetaCollector
+import sap.commerce.toolset.meta.MetaContainerResolver
 
 @Service(Service.Level.PROJECT)
 class BpMcpService(private val project: Project) {
 
     suspend fun searchBusinessProcesses(request: BpSearchRequest): BusinessProcessesDto {
-        val result = BPMetaCollector.getInstance(project).collectDependencies()
         val extensions = request.extensions
+        val prefix = request.prefix
+
+        // matches are taken from the index without touching PSI, only the requested page is mapped to DTOs
+        val (total, items) = smartReadAction(project) {
+            val indexAccess = BpProcessIndexAccess.getInstance(project)
+            val containerResolver = MetaContainerResolver(project)
+
+            val processes = request.actionBean
+                ?.let { indexAccess.findProcessesByActionBean(it) }
+                ?.filter { prefix == null || it.entry.name.startsWith(prefix, true) }
+                ?.asSequence()
+                ?: indexAccess.findNames(prefix ?: "")
+                    .asSequence()
+                    .flatMap { indexAccess.findProcesses(it) }
+
+            // owning module is enough to filter, libraries are scanned only for files outside of modules and only when all extensions are requested
+            val matches = processes
+                .filter { process ->
+                    val container = containerResolver.resolveModule(process.virtualFile)
+                        ?: if (request.scope == SearchScope.ALL) containerResolver.resolve(process.virtualFile) else null
+                    container != null
+                        && (request.scope == SearchScope.ALL || container.custom)
+                        && (extensions == null || container.yName.lowercase() in extensions)
+                }
+                .toList()
+
+            matches.size to matches
+                .drop(request.offset)
+                .take(request.limit)
+                .mapNotNull { process -> containerResolver.resolve(process.virtualFile)?.let { map(process, it) } }
+        }
 
-        val items = result
-            .filter { extensions == null || it.yContainer.lowercase() in extensions }
-            .map {
-                BusinessProcessDto(
-                    container = it.container,
-                    yContainer = it.yContainer,
-                    name = it.name,
-                    representationName = it.name,
-                    absolutePath = it.virtualFile.path
-                )
-            }
         return BusinessProcessesDto(
             scope = request.scope,
             extensions = extensions?.sorted(),
-            total = result.size,
+            total = total,
+            offset = request.offset,
+            limit = request.limit,
             items = items,
         )
     }
 
+    private fun map(process: IndexedProcess, container: MetaContainerResolver.MetaContainer) = BusinessProcessDto(
+        container = container.name,
+        yContainer = container.yName,
+        name = process.entry.name,
+        representationName = process.virtualFile.name,
+        absolutePath = process.virtualFile.path,
+        processClass = process.entry.processClass,
+        events = process.entry.events,
+        actionBeans = process.entry.actionBeans,
+    )
+
     companion object {
         suspend fun getInstance(): BpMcpService = currentCoroutineContext().project.service()
     }
@@ -32,33 +32,69 @@ class BpMcpToolset : McpToolset {
     @McpTool(name = "sap_commerce_list_business_processes")
     @McpDescription(
         """Lists the Business Processes defined in the current project's SAP Commerce (Hybris) as xml files with the specific schema.
-        |This is the project's LOCAL model, parsed from the `*.xml` definitions.
-        |Returns a JSON object representing list of business processes names and absolute file location for every xml file."""
+        |This is the project's LOCAL model, served from the index of the `*.xml` definitions.
+        |Returns a JSON object with the total amount of matches and the requested page of business processes, each with its name, process class,
+        |awaited events, referenced action beans and absolute file location."""
     )
     suspend fun listItemTypes(
+        @McpDescription(SCOPE)
+        scope: String = SearchScope.DEFAULT.name,
         @McpDescription(
-            """Optional scope filter used to shrink the response and save tokens, with possible options:
-            |- CUSTOM: only business processes found in the custom extensions
-            |- ALL: business processes found in the custom extensions
-            |If the value is a valid regular expression it is matched against each item type name with a regex search (e.g. '^Product$' for an exact match, 'Product' for partial, or '(?i)catalog' for case-insensitivity);
-            |otherwise it is treated as a plain, case-insensitive substring ('contains').
-            |Omit to return all item types."""
+            """Optional comma-separated list of extension names to restrict the result to business processes owned by those extensions (e.g. 'core,basecommerce' or 'myprojectcore').
+            |Matched case-insensitively and exactly against each business process' owning 'extension'.
+            |Omit to include business processes from all extensions."""
         )
-        scope: String = SearchScope.CUSTOM.name,
+        extensions: String? = null,
         @McpDescription(
-            """Optional comma-separated list of extension names to restrict the result to item types owned by those extensions (e.g. 'core,basecommerce' or 'myprojectcore').
-            |Matched case-insensitively and exactly against each item type's owning 'extension'. Combined with 'filter' using AND (both must match).
-            |Omit to include item types from all extensions."""
+            """Optional case-insensitive prefix of the business process name (e.g. 'order' matches 'order-process' and 'OrderCancel').
+            |Omit to include business processes with any name."""
         )
-        extensions: String? = null,
+        prefix: String? = null,
+        @McpDescription(PAGING_OFFSET)
+        offset: Int = 0,
+        @McpDescription(PAGING_LIMIT)
+        limit: Int = BpSearchRequest.DEFAULT_LIMIT,
+        @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
+        outputFormat: String = McpConstants.Formats.JSON,
+    ): String {
+        val mapper = resolveMapper(outputFormat)
+        val searchScope = SearchScope.resolve(scope)
+        val request = BpSearchRequest(searchScope, extensions, prefix = prefix, offset = offset, limit = limit)
+        val result = BpMcpService.getInstance().searchBusinessProcesses(request)
+        return mapper.map(result)
+    }
+
+    @McpTool(name = "sap_commerce_find_business_processes_by_action_bean")
+    @McpDescription(
+        """Finds the Business Processes of the current project's SAP Commerce (Hybris) which use the given Spring bean as an `action` node.
+        |Useful to find out which processes are affected by a change of the action implementation.
+        |Returns the same JSON object as 'sap_commerce_list_business_processes'."""
+    )
+    suspend fun findByActionBean(
+        @McpDescription("""Exact id of the Spring bean referenced via the `bean` attribute of the `action` node (e.g. 'sendOrderPlacedNotification').""")
+        bean: String,
+        @McpDescription(SCOPE)
+        scope: String = SearchScope.DEFAULT.name,
+        @McpDescription(PAGING_OFFSET)
+        offset: Int = 0,
+        @McpDescription(PAGING_LIMIT)
+        limit: Int = BpSearchRequest.DEFAULT_LIMIT,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
         val mapper = resolveMapper(outputFormat)
         val searchScope = SearchScope.resolve(scope)
-        val request = BpSearchRequest(searchScope, extensions)
+        val request = BpSearchRequest(searchScope, null, actionBean = bean.trim(), offset = offset, limit = limit)
         val result = BpMcpService.getInstance().searchBusinessProcesses(request)
         return mapper.map(result)
     }
 
+    companion object {
+        private const val SCOPE = """Optional scope filter used to shrink the response and save tokens, with possible options:
+            |- CUSTOM: only business processes found in the custom extensions
+            |- ALL: business processes found in all extensions
+            |Default: ALL."""
+        private const val PAGING_OFFSET = "Optional number of matching business processes to skip, use together with 'limit' to page through the large result."
+        private const val PAGING_LIMIT = "Optional maximum number of business processes to return, 100 by default."
+    }
 }
@@ -23,4 +23,18 @@ import sap.commerce.toolset.ai.mcp.context.ExtensionsAwareMcpRequest
 data class BpSearchRequest(
     val scope: SearchScope,
     override val rawExtensions: String?,
-) : ExtensionsAwareMcpRequest
+    val prefix: String? = null,
+    val actionBean: String? = null,
+    val offset: Int = 0,
+    val limit: Int = DEFAULT_LIMIT,
+) : ExtensionsAwareMcpRequest {
+
+    init {
+        require(offset >= 0) { "Invalid offset '$offset', it must not be negative." }
+        require(limit > 0) { "Invalid limit '$limit', it must be positive." }
+    }
+
+    companion object {
+        const val DEFAULT_LIMIT = 100
+    }
+}
@@ -22,6 +22,11 @@ enum class SearchScope {
     CUSTOM, ALL;
 
     companion object {
+        /**
+         * Used by all business process tools, so listing and lookups by action bean return the same processes unless narrowed explicitly.
+         */
+        val DEFAULT = ALL
+
         fun resolve(scope: String) = SearchScope.entries.find { it.name.equals(scope.trim(), ignoreCase = true) }
             ?: error("Invalid scope '$scope'. Valid values: ${SearchScope.entries.joinToString { it.name }}")
     }
@@ -27,4 +27,7 @@ data class BusinessProcessDto(
     val name: String,
     val representationName: String,
     val absolutePath: String,
+    val processClass: String? = null,
+    val events: List<String> = emptyList(),
+    val actionBeans: List<String> = emptyList(),
 )
@@ -26,5 +26,7 @@ data class BusinessProcessesDto(
     val scope: SearchScope,
     val extensions: List<String>? = null,
     val total: Int,
+    val offset: Int = 0,
+    val limit: Int,
     val items: List<BusinessProcessDto>,
-) {}
+)
@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.businessProcess.options
+
+import com.intellij.openapi.options.BoundSearchableConfigurable
+import com.intellij.openapi.options.ConfigurableProvider
+import com.intellij.openapi.project.Project
+import com.intellij.ui.dsl.builder.AlignX
+import com.intellij.ui.dsl.builder.bindText
+import com.intellij.ui.dsl.builder.panel
+import sap.commerce.toolset.i18n
+import sap.commerce.toolset.isHybrisProject
+import sap.commerce.toolset.settings.yDeveloperSettings
+
+class BpProjectSettingsConfigurableProvider(private val project: Project) : ConfigurableProvider() {
+
+    override fun canCreateConfigurable() = project.isHybrisProject
+    override fun createConfigurable() = SettingsConfigurable(project)
+
+    class SettingsConfigurable(project: Project) : BoundSearchableConfigurable(
+        i18n("hybris.settings.project.bp.title"), "hybris.bp.settings"
+    ) {
+
+        private val developerSettings = project.yDeveloperSettings
+        private val mutable = developerSettings.businessProcessSettings.mutable()
+
+        override fun createPanel() = panel {
+            group("Diagram") {
+                row("Failure transitions:") {
+                    textField()
+                        .align(AlignX.FILL)
+                        .bindText(
+                            { mutable.badTransitions.joinToString(", ") },
+                            {
+                                mutable.badTransitions = it.split(",")
+                                    .map { transition -> transition.trim() }
+                                    .filter { transition -> transition.isNotEmpty() }
+                                    .toMutableSet()
+                            }
+                        )
+                        .comment("Comma-separated, case-insensitive names of the transitions which lead to the failure handling")
+                }
+            }
+        }
+
+        override fun apply() {
+            super.apply()
+
+            developerSettings.businessProcessSettings = mutable.immutable()
+        }
+    }
+}
@@ -33,20 +33,39 @@ import com.intellij.psi.PsiExpression
 import com.intellij.util.IncorrectOperationException
 import com.sun.jdi.Method
 import com.sun.jdi.ObjectReference
+import com.sun.jdi.Value
 import javax.swing.Icon
 
 internal open class MethodValueDescriptor(
     private val parentObject: ObjectReference,
     private val parentDescriptor: ValueDescriptor,
-    private val method: Method,
+    val method: Method,
     private val presentationName: String,
     project: Project,
     private val icon: Icon? = null,
 ) : ValueDescriptorImpl(project), DescriptorWithParentObject {
 
-    override fun calcValue(evaluationContext: EvaluationContextImpl?) = evaluationContext
-        ?.debugProcess
-        ?.invokeMethod(evaluationContext, parentObject, method, emptyList())
+    private var prefetched: Boolean = false
+    private var prefetchedValue: Value? = null
+
+    /**
+     * Value fetched in a batch together with other children of the parent object, it will be used only for the first calculation.
+     */
+    fun prefetch(value: Value?) {
+        prefetched = true
+        prefetchedValue = value
+    }
+
+    override fun calcValue(evaluationContext: EvaluationContextImpl?): Value? {
+        if (prefetched) {
+            prefetched = false
+            return prefetchedValue.also { prefetchedValue = null }
+        }
+
+        return evaluationContext
+            ?.debugProcess
+            ?.invokeMethod(evaluationContext, parentObject, method, emptyList())
+    }
 
     override fun getName() = presentationName
     override fun getObject() = parentObject
@@ -0,0 +1,145 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.sun.jdi.Method
+import sap.commerce.toolset.debugger.toTypeCode
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation
+
+/**
+ * Groups getters of the remote type by the declaring type and maps them to the attributes and relation ends of the item type.
+ */
+internal class ModelChildrenLayoutBuilder(
+    meta: TSGlobalMetaItem,
+    private val isCollection: (String?) -> Boolean,
+    private val isMap: (String?) -> Boolean,
+) {
+
+    private val getters = ModelGetters(meta)
+
+    fun build(allMethods: List<Method>): ModelChildrenLayout {
+        val groups = allMethods
+            .filter { method -> method.name().startsWith("get") || method.name().startsWith("is") }
+            .filter { method -> !method.isAbstract }
+            .filterNot { method -> EXCLUDED_METHODS.contains(method.name()) }
+            .filter { method -> method.declaringType().name() != "java.lang.Object" }
+            .distinctBy { method -> method.name() }
+            .groupBy { method -> method.declaringType().name() }
+            .map { (declaringType, methods) ->
+                val children = methods
+                    .mapNotNull { method ->
+                        val argumentTypes = method.argumentTypes()
+                        if (argumentTypes.size > 1) return@mapNotNull null
+                        if (argumentTypes.size == 1 && argumentTypes[0].name() != "java.util.Locale") return@mapNotNull null
+
+                        attributeChild(method)
+                            ?: relationChild(method)
+                            ?: ModelChild(method, ModelChildKind.METHOD, method.name())
+                    }
+                    .distinctBy { it.presentationName }
+
+                ModelChildrenGroup(declaringType.toTypeCode(), children)
+            }
+
+        return ModelChildrenLayout(groups)
+    }
+
+    private fun attributeChild(method: Method): ModelChild? {
+        val methodName = method.name()
+        val attribute = getters.attribute(methodName) ?: return null
+        val attributeName = attribute.name
+
+        return when {
+            attribute.isLocalized -> ModelChild(
+                method,
+                ModelChildKind.LOCALIZED,
+                buildString {
+                    append(attributeName)
+                    append(" (")
+                    append("localized")
+                    if (attribute.isDynamic) append(" & dynamic")
+                    append(")")
+                }
+            )
+
+            attribute.isDynamic -> ModelChild(method, ModelChildKind.LAZY, "$attributeName (dynamic)", attribute.icon)
+            isCollection(attribute.type) -> ModelChild(method, ModelChildKind.LAZY, "$attributeName (collection)", attribute.icon)
+            isMap(attribute.type) -> ModelChild(method, ModelChildKind.LAZY, "$attributeName (map)", attribute.icon)
+            else -> ModelChild(method, ModelChildKind.METHOD, attributeName, attribute.icon)
+        }
+    }
+
+    private fun relationChild(method: Method): ModelChild? {
+        val relation = getters.relationEnd(method.name()) ?: return null
+
+        val presentationName = buildString {
+            append(relation.name)
+            append(" (")
+            append("relation - ")
+            append(relation.end.name.lowercase())
+            append(")")
+        }
+        return ModelChild(method, ModelChildKind.LAZY, presentationName, relation.end.icon)
+    }
+
+    /**
+     * Getter to attribute and relation end mapping, custom getters take precedence over attribute names.
+     */
+    private class ModelGetters(private val meta: TSGlobalMetaItem) {
+
+        private val attributesByCustomGetter = meta.allAttributes.values
+            .flatMap { attribute -> attribute.customGetters.keys.map { it to attribute } }
+            .reversed()
+            .toMap()
+        private val relationEndsByCustomGetter = meta.allRelationEnds
+            .flatMap { relationEnd -> relationEnd.customGetters.keys.map { it to relationEnd } }
+            .reversed()
+            .toMap()
+        private val relationEndsByName = meta.allRelationEnds
+            .filter { it.name != null }
+            .reversed()
+            .associateBy { it.name!!.lowercase() }
+
+        fun attribute(methodName: String): TSGlobalMetaItem.TSGlobalMetaItemAttribute? {
+            val possibleAttributeName = possibleAttributeName(methodName) ?: return null
+
+            return attributesByCustomGetter[possibleAttributeName]
+                ?: meta.allAttributes[possibleAttributeName]
+        }
+
+        fun relationEnd(methodName: String): TSMetaRelation.TSMetaRelationElement? {
+            val possibleAttributeName = possibleAttributeName(methodName) ?: return null
+
+            return relationEndsByCustomGetter[possibleAttributeName]
+                ?: relationEndsByName[possibleAttributeName.lowercase()]
+        }
+
+        private fun possibleAttributeName(methodName: String) = when {
+            methodName.startsWith("get") -> methodName.removePrefix("get")
+            methodName.startsWith("is") -> methodName.removePrefix("is")
+            else -> null
+        }
+    }
+
+    companion object {
+        private val EXCLUDED_METHODS = setOf("<init>", "writeReplace", "readResolve", "getProperty")
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.intellij.debugger.engine.DebugProcess
+import com.intellij.debugger.engine.DebugProcessListener
+import com.sun.jdi.ClassLoaderReference
+import com.sun.jdi.ReferenceType
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Layouts keyed by the debug process, type name and class loader of the remote type.
+ *
+ * Cached layouts hold JDI methods and, through them, mirrors of the remote VM, so layouts of the debug process are dropped
+ * once it is detached instead of relying on weak keys which are strongly reachable from their own values.
+ */
+internal class ModelChildrenLayoutCache {
+
+    private val layouts = ConcurrentHashMap<LayoutKey, ModelChildrenLayout>()
+    private val debugProcesses = ConcurrentHashMap.newKeySet<DebugProcess>()
+
+    fun get(debugProcess: DebugProcess, type: ReferenceType, compute: () -> ModelChildrenLayout): ModelChildrenLayout {
+        if (debugProcess.isDetached || debugProcess.isDetaching) return compute()
+
+        if (debugProcesses.add(debugProcess)) {
+            debugProcess.addDebugProcessListener(object : DebugProcessListener {
+                override fun processDetached(process: DebugProcess, closedByUser: Boolean) = invalidate(process)
+            })
+        }
+
+        val layout = layouts.computeIfAbsent(LayoutKey(debugProcess, type.name(), type.classLoader())) { compute() }
+
+        // process could be detached while the layout was computed
+        if (debugProcess.isDetached) invalidate(debugProcess)
+
+        return layout
+    }
+
+    fun invalidate(debugProcess: DebugProcess) {
+        debugProcesses.remove(debugProcess)
+        layouts.keys.removeIf { it.debugProcess === debugProcess }
+    }
+
+    fun clear() = layouts.clear()
+
+    private data class LayoutKey(
+        val debugProcess: DebugProcess,
+        val typeName: String,
+        val classLoader: ClassLoaderReference?,
+    )
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.intellij.debugger.engine.DebugProcess
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.sun.jdi.Method
+import com.sun.jdi.ReferenceType
+import sap.commerce.toolset.typeSystem.meta.TSGlobalMetaModel
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.event.TSMetaModelChangeListener
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import javax.swing.Icon
+
+/**
+ * Caches layout of the Model children per remote type of the debug process.
+ *
+ * Layout is computed once per JDI reference type via the precomputed getter to attribute mapping of the corresponding item type,
+ * and is invalidated on each change of the Type System Meta Model and once the debug process is detached.
+ */
+@Service(Service.Level.PROJECT)
+internal class ModelChildrenLayoutService(private val project: Project) : Disposable {
+
+    private val layouts = ModelChildrenLayoutCache()
+
+    init {
+        with(project.messageBus.connect(this)) {
+            subscribe(TSMetaModelChangeListener.TOPIC, object : TSMetaModelChangeListener {
+                override fun onChanged(globalMetaModel: TSGlobalMetaModel) = layouts.clear()
+            })
+        }
+    }
+
+    fun getLayout(debugProcess: DebugProcess, type: ReferenceType, meta: TSGlobalMetaItem, allMethods: List<Method>): ModelChildrenLayout = layouts
+        .get(debugProcess, type) {
+            val metaAccess = TSMetaModelAccess.getInstance(project)
+
+            ModelChildrenLayoutBuilder(
+                meta,
+                isCollection = { metaAccess.findMetaCollectionByName(it) != null },
+                isMap = { metaAccess.findMetaMapByName(it) != null },
+            ).build(allMethods)
+        }
+
+    override fun dispose() {
+        layouts.clear()
+    }
+
+    companion object {
+        fun getInstance(project: Project): ModelChildrenLayoutService = project.service()
+    }
+}
+
+internal data class ModelChildrenLayout(
+    val groups: List<ModelChildrenGroup>,
+) {
+    /**
+     * Children which value can be fetched together with a single evaluation, getters with a `Locale` argument are always excluded.
+     */
+    val batchableChildren: List<ModelChild> by lazy {
+        groups
+            .flatMap { it.children }
+            .filter { it.kind == ModelChildKind.METHOD }
+            .filter { it.method.argumentTypeNames().isEmpty() }
+    }
+}
+
+internal data class ModelChildrenGroup(
+    val typeName: String,
+    val children: List<ModelChild>,
+)
+
+internal data class ModelChild(
+    val method: Method,
+    val kind: ModelChildKind,
+    val presentationName: String,
+    val icon: Icon? = null,
+)
+
+internal enum class ModelChildKind {
+    METHOD,
+    LAZY,
+    LOCALIZED,
+}
@@ -21,9 +21,15 @@ package sap.commerce.toolset.debugger.ui.tree.render
 import com.intellij.debugger.DebuggerContext
 import com.intellij.debugger.engine.DebugProcessImpl
 import com.intellij.debugger.engine.DebuggerManagerThreadImpl
+import com.intellij.debugger.engine.DebuggerUtils
+import com.intellij.debugger.engine.evaluation.EvaluateException
 import com.intellij.debugger.engine.evaluation.EvaluationContext
+import com.intellij.debugger.engine.evaluation.EvaluationContextImpl
+import com.intellij.debugger.engine.evaluation.expression.UnBoxingEvaluator
 import com.intellij.debugger.impl.DebuggerUtilsAsync
+import com.intellij.debugger.impl.descriptors.data.UserExpressionData
 import com.intellij.debugger.ui.impl.watch.MessageDescriptor
+import com.intellij.debugger.ui.impl.watch.UserExpressionDescriptorImpl
 import com.intellij.debugger.ui.impl.watch.ValueDescriptorImpl
 import com.intellij.debugger.ui.tree.DebuggerTreeNode
 import com.intellij.debugger.ui.tree.NodeDescriptor
@@ -33,17 +39,15 @@ import com.intellij.debugger.ui.tree.render.ChildrenRenderer
 import com.intellij.debugger.ui.tree.render.ReferenceRenderer
 import com.intellij.openapi.project.DumbService
 import com.intellij.openapi.project.Project
+import com.intellij.psi.util.TypeConversionUtil
 import com.intellij.util.asSafely
-import com.sun.jdi.Method
+import com.sun.jdi.ArrayReference
 import com.sun.jdi.ObjectReference
 import com.sun.jdi.Value
 import sap.commerce.toolset.debugger.getMeta
-import sap.commerce.toolset.debugger.toTypeCode
 import sap.commerce.toolset.debugger.ui.tree.LazyMethodValueDescriptor
 import sap.commerce.toolset.debugger.ui.tree.LocalizedValueDescriptor
 import sap.commerce.toolset.debugger.ui.tree.MethodValueDescriptor
-import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
-import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
 import java.util.concurrent.CompletableFuture
 
 internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.servicelayer.model.AbstractItemModel"), ChildrenRenderer {
@@ -81,36 +85,19 @@ internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.ser
             DebugProcessImpl.getDefaultRenderer(value).buildChildren(value, builder, evaluationContext)
             return
         }
-        val metaAccess = TSMetaModelAccess.getInstance(project)
 
         DebuggerUtilsAsync.allMethods(type).thenApply { allMethods ->
-            val excluded = setOf("<init>", "writeReplace", "readResolve", "getProperty")
-
-            val groupedMethods = allMethods
-                .filter { method -> method.name().startsWith("get") || method.name().startsWith("is") }
-                .filter { method -> !method.isAbstract }
-                .filterNot { method -> excluded.contains(method.name()) }
-                .filter { method -> method.declaringType().name() != "java.lang.Object" }
-                .distinctBy { method -> method.name() }
-                .groupBy { method -> method.declaringType().name() }
-
-            groupedMethods.forEach { (type, methods) ->
-                val typeName = type.toTypeCode()
-                val descriptors = methods
-                    .mapNotNull { method ->
-                        val methodName = method.name()
-
-                        val argumentTypes = method.argumentTypes()
-                        if (argumentTypes.size > 1) return@mapNotNull null
-                        if (argumentTypes.size == 1 && !argumentTypes.get(0).name().equals("java.util.Locale")) return@mapNotNull null
-
-                        attributeNodeDescriptor(project, meta, value, parentDescriptor, method, metaAccess, methodName)
-                            ?: relationNodeDescriptor(project, meta, value, parentDescriptor, method, methodName)
-                            ?: MethodValueDescriptor(value, parentDescriptor, method, methodName, project)
-                    }
-                    .distinctBy { it.name }
-                val groupNode = nodeManager.createMessageNode("$typeName | ${descriptors.size} fields")
-                val nodes = descriptors
+            val layout = ModelChildrenLayoutService.getInstance(project).getLayout(evaluationContext.debugProcess, type, meta, allMethods)
+            val descriptors = layout.groups
+                .map { group ->
+                    group to group.children.map { child -> nodeDescriptor(project, objectReference, parentDescriptor, child) }
+                }
+
+            prefetchValues(project, layout, descriptors.flatMap { it.second }, parentDescriptor, evaluationContext)
+
+            descriptors.forEach { (group, groupDescriptors) ->
+                val groupNode = nodeManager.createMessageNode("${group.typeName} | ${groupDescriptors.size} fields")
+                val nodes = groupDescriptors
                     .map { descriptor -> nodeManager.createNode(descriptor, evaluationContext) }
 
                 builder.addChildren(listOf(groupNode), false)
@@ -122,111 +109,63 @@ internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.ser
         }
     }
 
-    private fun attributeNodeDescriptor(
+    private fun nodeDescriptor(
         project: Project,
-        meta: TSGlobalMetaItem,
         value: ObjectReference,
         parentDescriptor: ValueDescriptorImpl,
-        method: Method,
-        metaAccess: TSMetaModelAccess,
-        methodName: String
-    ): NodeDescriptor? {
-        val possibleAttributeName = getPossibleAttributeName(methodName)
-        val attribute = meta.allAttributes.values
-            .find { attribute -> attribute.customGetters.contains(possibleAttributeName) }
-            ?: meta.allAttributes[possibleAttributeName]
-            ?: return null
-
-        val attributeName = attribute.name
-
-        return when {
-            attribute.isLocalized -> LocalizedValueDescriptor(
-                parentDescriptor,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("localized")
-                    if (attribute.isDynamic) append(" & dynamic")
-                    append(")")
-                },
-                project,
-                methodName
-            )
-
-            attribute.isDynamic -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("dynamic")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            metaAccess.findMetaCollectionByName(attribute.type) != null -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("collection")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            metaAccess.findMetaMapByName(attribute.type) != null -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("map")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            else -> MethodValueDescriptor(value, parentDescriptor, method, attributeName, project, attribute.icon)
-        }
-    }
-
-    private fun getPossibleAttributeName(methodName: String) = when {
-        methodName.startsWith("get") -> methodName.removePrefix("get")
-        methodName.startsWith("is") -> methodName.removePrefix("is")
-        else -> null
+        child: ModelChild
+    ): NodeDescriptor = when (child.kind) {
+        ModelChildKind.LOCALIZED -> LocalizedValueDescriptor(parentDescriptor, child.presentationName, project, child.method.name())
+        ModelChildKind.LAZY -> LazyMethodValueDescriptor(value, parentDescriptor, child.method, child.presentationName, project, child.icon)
+        ModelChildKind.METHOD -> MethodValueDescriptor(value, parentDescriptor, child.method, child.presentationName, project, child.icon)
     }
 
-    private fun relationNodeDescriptor(
+    /**
+     * Fetches values of all eager getters via single generated expression which returns an array,
+     * instead of a separate remote invocation per getter.
+     * In case of any evaluation error, each descriptor will fall back to the own method invocation.
+     */
+    private fun prefetchValues(
         project: Project,
-        meta: TSGlobalMetaItem,
-        value: ObjectReference,
+        layout: ModelChildrenLayout,
+        descriptors: List<NodeDescriptor>,
         parentDescriptor: ValueDescriptorImpl,
-        method: Method,
-        methodName: String
-    ): NodeDescriptor? {
-        val possibleAttributeName = getPossibleAttributeName(methodName)
-        val relation = meta.allRelationEnds
-            .find { attribute -> attribute.customGetters.contains(possibleAttributeName) }
-            ?: meta.allRelationEnds.find { it.name?.equals(possibleAttributeName, true) ?: false }
-            ?: return null
-
-        val presentationName = buildString {
-            append(relation.name)
-            append(" (")
-            append("relation - ")
-            append(relation.end.name.lowercase())
-            append(")")
+        evaluationContext: EvaluationContext
+    ) {
+        val batchableMethods = layout.batchableChildren
+            .map { it.method }
+            .toSet()
+        val batchDescriptors = descriptors
+            .filterIsInstance<MethodValueDescriptor>()
+            .filterNot { it is LazyMethodValueDescriptor }
+            .filter { batchableMethods.contains(it.method) }
+            .takeIf { it.size > 1 }
+            ?: return
+
+        val expression = batchDescriptors.joinToString(", ", "new Object[] {", "}") { "${it.method.name()}()" }
+        val typeName = parentDescriptor.type?.name() ?: return
+        val text = DebuggerUtils.getInstance().createExpressionWithImports(expression)
+
+        try {
+            val context = evaluationContext as EvaluationContextImpl
+            val descriptor = UserExpressionData(parentDescriptor, typeName, "batch_getters_$typeName", text)
+                .createDescriptor(project) as UserExpressionDescriptorImpl
+            val values = descriptor.calcValue(context)
+                .asSafely<ArrayReference>()
+                ?.values
+                ?.takeIf { it.size == batchDescriptors.size }
+                ?: return
+
+            // array elements are boxed, primitive getters have to be rendered as primitives, the same way as on own invocation
+            val unboxedValues = batchDescriptors.mapIndexed { index, methodDescriptor ->
+                if (TypeConversionUtil.isPrimitive(methodDescriptor.method.returnTypeName())) UnBoxingEvaluator.unbox(values[index], context) as Value?
+                else values[index]
+            }
+
+            batchDescriptors.forEachIndexed { index, methodDescriptor -> methodDescriptor.prefetch(unboxedValues[index]) }
+        } catch (_: EvaluateException) {
+            // fallback to the per-getter invocation
         }
-        return LazyMethodValueDescriptor(value, parentDescriptor, method, presentationName, project, relation.end.icon)
     }
 
     override fun getChildValueExpression(node: DebuggerTreeNode, context: DebuggerContext) = node.descriptor
@@ -0,0 +1,200 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.sun.jdi.Method
+import com.sun.jdi.ReferenceType
+import com.sun.jdi.Type
+import sap.commerce.toolset.CaseInsensitiveMap
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation
+import java.lang.reflect.Proxy
+import kotlin.test.*
+
+class ModelChildrenLayoutBuilderTest {
+
+    private val productModel = type("de.hybris.platform.core.model.product.ProductModel")
+    private val itemModel = type("de.hybris.platform.core.model.ItemModel")
+    private val objectType = type("java.lang.Object")
+
+    private val meta = item(
+        attributes = listOf(
+            attribute("code"),
+            attribute("name", localized = true),
+            attribute("summary", dynamic = true),
+            attribute("keywords", type = "KeywordList"),
+            attribute("specialTreatmentClasses", type = "localized:java.lang.String"),
+            attribute("approvalStatus", customGetters = setOf("ApprovalStatusCode")),
+        ),
+        relationEnds = listOf(
+            relationEnd("supercategories", TSMetaRelation.RelationEnd.SOURCE),
+            relationEnd("productReferences", TSMetaRelation.RelationEnd.TARGET),
+        )
+    )
+
+    private val builder = ModelChildrenLayoutBuilder(
+        meta,
+        isCollection = { it == "KeywordList" },
+        isMap = { it == "localized:java.lang.String" },
+    )
+
+    @Test
+    fun test_build_groupedByDeclaringType() {
+        val layout = builder.build(
+            listOf(
+                method("getCode", productModel),
+                method("getPk", itemModel),
+                method("getClass", objectType),
+            )
+        )
+
+        assertEquals(listOf("Product", "Item"), layout.groups.map { it.typeName })
+        assertEquals(listOf("code"), layout.groups[0].children.map { it.presentationName })
+        assertEquals(listOf("getPk"), layout.groups[1].children.map { it.presentationName })
+    }
+
+    @Test
+    fun test_build_attributesAndRelationEnds() {
+        val children = builder.build(
+            listOf(
+                method("getCode", productModel),
+                method("getName", productModel),
+                method("getName", productModel, "java.util.Locale"),
+                method("getSummary", productModel),
+                method("getKeywords", productModel),
+                method("getSpecialTreatmentClasses", productModel),
+                method("getApprovalStatusCode", productModel),
+                method("getSupercategories", productModel),
+                method("getProductReferences", productModel),
+            )
+        )
+            .groups.single()
+            .children
+            .associate { it.presentationName to it.kind }
+
+        assertEquals(
+            mapOf(
+                "code" to ModelChildKind.METHOD,
+                "name (localized)" to ModelChildKind.LOCALIZED,
+                "summary (dynamic)" to ModelChildKind.LAZY,
+                "keywords (collection)" to ModelChildKind.LAZY,
+                "specialTreatmentClasses (map)" to ModelChildKind.LAZY,
+                "approvalStatus" to ModelChildKind.METHOD,
+                "supercategories (relation - source)" to ModelChildKind.LAZY,
+                "productReferences (relation - target)" to ModelChildKind.LAZY,
+            ),
+            children
+        )
+    }
+
+    @Test
+    fun test_build_nonGettersExcluded() {
+        val layout = builder.build(
+            listOf(
+                method("setCode", productModel, "java.lang.String"),
+                method("getProperty", productModel, "java.lang.String"),
+                method("getAttribute", productModel, "java.lang.String"),
+                method("getAbstract", productModel, abstract = true),
+                method("isOnline", productModel),
+            )
+        )
+
+        assertEquals(listOf("isOnline"), layout.groups.single().children.map { it.presentationName })
+    }
+
+    @Test
+    fun test_batchableChildren_onlyEagerGettersWithoutArguments() {
+        val layout = builder.build(
+            listOf(
+                method("getCode", productModel),
+                method("getName", productModel, "java.util.Locale"),
+                method("getSupercategories", productModel),
+                method("getPk", itemModel),
+            )
+        )
+
+        assertEquals(listOf("getCode", "getPk"), layout.batchableChildren.map { it.method.name() })
+    }
+
+    private fun item(attributes: List<TSGlobalMetaItem.TSGlobalMetaItemAttribute>, relationEnds: List<TSMetaRelation.TSMetaRelationElement>): TSGlobalMetaItem {
+        val allAttributes = CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute>()
+            .apply { attributes.forEach { put(it.name, it) } }
+
+        return proxy("Product") {
+            when (it) {
+                "getAllAttributes" -> allAttributes
+                "getAllRelationEnds" -> relationEnds
+                else -> null
+            }
+        }
+    }
+
+    private fun attribute(
+        name: String,
+        type: String = "java.lang.String",
+        localized: Boolean = false,
+        dynamic: Boolean = false,
+        customGetters: Set<String> = emptySet()
+    ) = proxy<TSGlobalMetaItem.TSGlobalMetaItemAttribute>(name) {
+        when (it) {
+            "getName" -> name
+            "getType" -> type
+            "isLocalized" -> localized
+            "isDynamic" -> dynamic
+            "getCustomGetters" -> customGetters.associateWith { null }
+            else -> null
+        }
+    }
+
+    private fun relationEnd(name: String, end: TSMetaRelation.RelationEnd) = proxy<TSMetaRelation.TSMetaRelationElement>(name) {
+        when (it) {
+            "getName" -> name
+            "getEnd" -> end
+            "getCustomGetters" -> emptyMap<String, Any>()
+            else -> null
+        }
+    }
+
+    private fun method(name: String, declaringType: ReferenceType, vararg argumentTypes: String, abstract: Boolean = false) = proxy<Method>(name) {
+        when (it) {
+            "name" -> name
+            "declaringType" -> declaringType
+            "argumentTypes" -> argumentTypes.map { argumentType -> type<Type>(argumentType) }
+            "argumentTypeNames" -> argumentTypes.toList()
+            "isAbstract" -> abstract
+            else -> null
+        }
+    }
+
+    private fun type(name: String) = type<ReferenceType>(name)
+
+    private inline fun <reified T> type(name: String) = proxy<T>(name) { if (it == "name") name else null }
+
+    private inline fun <reified T> proxy(toString: String, crossinline answer: (String) -> Any?) = Proxy.newProxyInstance(
+        T::class.java.classLoader,
+        arrayOf(T::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "hashCode" -> System.identityHashCode(proxy)
+            "equals" -> proxy === args?.firstOrNull()
+            "toString" -> toString
+            else -> answer(method.name)
+        }
+    } as T
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.intellij.debugger.engine.DebugProcess
+import com.intellij.debugger.engine.DebugProcessListener
+import com.sun.jdi.ClassLoaderReference
+import com.sun.jdi.ReferenceType
+import java.lang.reflect.Proxy
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+
+class ModelChildrenLayoutCacheTest {
+
+    private val cache = ModelChildrenLayoutCache()
+    private val computations = AtomicInteger()
+
+    @Test
+    fun test_get_computedOncePerType() {
+        val process = DebugProcessStub()
+        val productModel = type("de.hybris.platform.core.model.product.ProductModel")
+
+        val layout = cache.get(process.proxy, productModel, ::compute)
+
+        assertSame(layout, cache.get(process.proxy, productModel, ::compute))
+        assertSame(layout, cache.get(process.proxy, type("de.hybris.platform.core.model.product.ProductModel"), ::compute))
+        assertEquals(1, computations.get())
+        assertEquals(1, process.listeners.size, "Listener is registered once per debug process")
+    }
+
+    @Test
+    fun test_get_separatedPerProcessAndClassLoader() {
+        val process = DebugProcessStub()
+        val productModel = type("de.hybris.platform.core.model.product.ProductModel")
+
+        cache.get(process.proxy, productModel, ::compute)
+        cache.get(DebugProcessStub().proxy, productModel, ::compute)
+        cache.get(process.proxy, type("de.hybris.platform.core.model.product.ProductModel", proxy<ClassLoaderReference>("loader") { null }), ::compute)
+
+        assertEquals(3, computations.get())
+    }
+
+    @Test
+    fun test_processDetached_layoutsOfTheProcessDropped() {
+        val detachedProcess = DebugProcessStub()
+        val process = DebugProcessStub()
+        val productModel = type("de.hybris.platform.core.model.product.ProductModel")
+
+        cache.get(detachedProcess.proxy, productModel, ::compute)
+        cache.get(process.proxy, productModel, ::compute)
+
+        detachedProcess.detach()
+
+        cache.get(process.proxy, productModel, ::compute)
+        assertEquals(2, computations.get(), "Layouts of other processes are kept")
+
+        cache.get(detachedProcess.proxy, productModel, ::compute)
+        cache.get(detachedProcess.proxy, productModel, ::compute)
+        assertEquals(4, computations.get(), "Layouts of the detached process are neither kept nor cached again")
+        assertEquals(1, detachedProcess.listeners.size)
+    }
+
+    @Test
+    fun test_clear_allLayoutsRecomputed() {
+        val process = DebugProcessStub()
+        val productModel = type("de.hybris.platform.core.model.product.ProductModel")
+
+        cache.get(process.proxy, productModel, ::compute)
+        cache.clear()
+        cache.get(process.proxy, productModel, ::compute)
+
+        assertEquals(2, computations.get())
+        assertEquals(1, process.listeners.size)
+    }
+
+    private fun compute(): ModelChildrenLayout {
+        computations.incrementAndGet()
+        return ModelChildrenLayout(emptyList())
+    }
+
+    private fun type(name: String, classLoader: ClassLoaderReference? = null) = proxy<ReferenceType>(name) {
+        when (it.name) {
+            "name" -> name
+            "classLoader" -> classLoader
+            else -> null
+        }
+    }
+
+    private class DebugProcessStub {
+        val listeners = mutableListOf<DebugProcessListener>()
+        var detached = false
+
+        val proxy: DebugProcess = proxy("process") {
+            when (it.name) {
+                "addDebugProcessListener" -> listeners.add(it.args!![0] as DebugProcessListener).let { null }
+                "isDetached" -> detached
+                "isDetaching" -> false
+                else -> null
+            }
+        }
+
+        fun detach() {
+            detached = true
+            listeners.forEach { it.processDetached(proxy, false) }
+        }
+    }
+}
+
+private class Invocation(val name: String, val args: Array<out Any?>?)
+
+private inline fun <reified T> proxy(toString: String, crossinline answer: (Invocation) -> Any?) = Proxy.newProxyInstance(
+    T::class.java.classLoader,
+    arrayOf(T::class.java)
+) { proxy, method, args ->
+    when (method.name) {
+        "hashCode" -> System.identityHashCode(proxy)
+        "equals" -> proxy === args?.firstOrNull()
+        "toString" -> toString
+        else -> answer(Invocation(method.name, args))
+    }
+} as T
@@ -20,6 +20,7 @@ package sap.commerce.toolset.exec
 
 import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
+import org.apache.http.HttpStatus
 import sap.commerce.toolset.exec.context.DefaultExecResult
 import sap.commerce.toolset.exec.context.ExecContext
 import java.io.Serial
@@ -34,7 +35,15 @@ abstract class DefaultExecClient<E : ExecContext>(
         errorDetailMessage = exception.stackTraceToString(),
     )
 
+    override fun isRetryable(result: DefaultExecResult) = result.statusCode in RETRYABLE_STATUS_CODES
+
     companion object {
+        private val RETRYABLE_STATUS_CODES = setOf(
+            HttpStatus.SC_BAD_GATEWAY,
+            HttpStatus.SC_SERVICE_UNAVAILABLE,
+            HttpStatus.SC_GATEWAY_TIMEOUT,
+        )
+
         @Serial
         private const val serialVersionUID: Long = -7785886660763821295L
     }
@@ -22,7 +22,8 @@ import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.UserDataHolderBase
 import com.intellij.platform.ide.progress.withBackgroundProgress
-import com.intellij.platform.util.progress.reportProgressScope
+import com.intellij.platform.util.progress.ProgressReporter
+import com.intellij.platform.util.progress.reportProgress
 import kotlinx.coroutines.*
 import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.exec.context.ExecResult
@@ -58,16 +59,24 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
         val exceptionHandler = CoroutineExceptionHandler { coroutineContext, exception ->
             onError.invoke(coroutineContext, exception)
         }
+        val title = contexts.singleOrNull()?.executionTitle
+            ?: "Executing ${contexts.size} HTTP Calls to the remote SAP Commerce instance(s)…"
+
         coroutineScope.launch(exceptionHandler) {
             beforeCallback.invoke(this)
 
-            val results = contexts
-                .map { context ->
-                    async {
-                        process(context, resultCallback)
-                    }
+            val results = if (contexts.isEmpty()) emptyList()
+            else withBackgroundProgress(project, title, true) {
+                reportProgress(contexts.size) { reporter ->
+                    contexts
+                        .map { context ->
+                            async {
+                                process(context, reporter, resultCallback)
+                            }
+                        }
+                        .awaitAll()
                 }
-                .awaitAll()
+            }
 
             afterCallback.invoke(this, results)
         }
@@ -77,13 +86,23 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
 
     abstract suspend fun onError(context: E, exception: Throwable): R
 
-    private suspend fun process(
+    /**
+     * Results considered as transient failures, idempotent contexts will be re-executed for such results.
+     */
+    protected open fun isRetryable(result: R) = false
+
+    private suspend fun CoroutineScope.process(
         context: E,
+        reporter: ProgressReporter,
         resultCallback: (CoroutineScope, R) -> Unit
-    ) = withBackgroundProgress(project, context.executionTitle, true) {
-        val result = reportProgressScope { _ ->
+    ): R {
+        val result = reporter.itemStep(context.executionTitle) {
             try {
-                execute(context)
+                ExecSchedulerService.getInstance().scheduler.schedule(context, ::isRetryable) { execute(context) }
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: ExecDeadlineExceededException) {
+                onError(context, e)
             } catch (t: Throwable) {
                 thisLogger().error(t)
 
@@ -93,7 +112,7 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
 
         resultCallback.invoke(this, result)
 
-        result
+        return result
     }
 
     companion object {
@@ -18,9 +18,9 @@
 
 package sap.commerce.toolset.exec
 
-import com.intellij.credentialStore.CredentialAttributes
 import com.intellij.credentialStore.Credentials
 import com.intellij.ide.passwordSafe.PasswordSafe
+import com.intellij.openapi.Disposable
 import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.progress.ProgressManager
 import com.intellij.openapi.progress.Task
@@ -30,7 +30,9 @@ import sap.commerce.toolset.exec.settings.state.ExecConnectionCredentials
 import sap.commerce.toolset.exec.settings.state.ExecConnectionSettingsState
 import sap.commerce.toolset.project.PropertyService
 
-abstract class ExecConnectionService<T : ExecConnectionSettingsState>(protected val project: Project) {
+abstract class ExecConnectionService<T : ExecConnectionSettingsState>(protected val project: Project) : Disposable {
+
+    private val credentialsCache = ExecCredentialsCache<T>(expireAfter = ExecConstants.CREDENTIALS_EXPIRE_AFTER)
 
     abstract var activeConnection: T
     abstract val connections: List<T>
@@ -43,10 +45,12 @@ abstract class ExecConnectionService<T : ExecConnectionSettingsState>(protected
     abstract fun create(settings: Pair<T, ExecConnectionCredentials>, notify: Boolean = true)
     abstract fun save(settings: Map<T, ExecConnectionCredentials>)
 
-    fun getCredentials(settings: T) = PasswordSafe.instance.get(CredentialAttributes("SAP CX - ${settings.uuid}"))
+    fun getCredentials(settings: T) = credentialsCache.credentials(settings.uuid)
         ?: defaultCredentials(settings)
 
-    fun getProxyCredentials(settings: T) = PasswordSafe.instance.get(CredentialAttributes("SAP CX - proxy - ${settings.uuid}"))
+    fun getProxyCredentials(settings: T) = credentialsCache.proxyCredentials(settings.uuid)
+
+    override fun dispose() = credentialsCache.clear()
 
     fun update(settings: Pair<T, ExecConnectionCredentials>) = update(mapOf(settings))
 
@@ -62,32 +66,37 @@ abstract class ExecConnectionService<T : ExecConnectionSettingsState>(protected
     protected fun onActivate(settings: T, notify: Boolean = true) = if (notify) listener.onActive(settings) else Unit
     protected fun onDelete(settings: T, notify: Boolean = true) {
         removeCredentials(settings)
+        credentialsCache.onDelete(settings)
         if (notify) listener.onDelete(settings) else Unit
     }
 
     protected fun onCreate(settings: Pair<T, ExecConnectionCredentials>, notify: Boolean = true) = if (notify) {
         saveCredentials(settings)
+        credentialsCache.onCreate(settings.first)
         listener.onCreate(settings.first)
     } else Unit
 
     protected fun onUpdate(settings: Map<T, ExecConnectionCredentials>, notify: Boolean = true) {
         settings.forEach { saveCredentials(it.key to it.value) }
+        credentialsCache.onUpdate(settings.keys)
         if (notify) listener.onUpdate(settings.keys)
     }
 
     protected fun onSave(settings: Map<T, ExecConnectionCredentials>) {
         settings.forEach { saveCredentials(it.key to it.value) }
+        credentialsCache.onSave(settings.keys)
         listener.onSave(settings.keys)
     }
 
     private fun saveCredentials(settings: Pair<T, ExecConnectionCredentials?>) {
         ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Persisting credentials", false) {
             override fun run(indicator: ProgressIndicator) {
-                val credentialAttributes = CredentialAttributes("SAP CX - ${settings.first.uuid}")
-                PasswordSafe.instance.set(credentialAttributes, settings.second?.credentials)
+                val uuid = settings.first.uuid
+                PasswordSafe.instance.set(ExecCredentialsCache.credentialAttributes(uuid), settings.second?.credentials)
+                PasswordSafe.instance.set(ExecCredentialsCache.proxyCredentialAttributes(uuid), settings.second?.proxyCredentials)
 
-                val proxyCredentialAttributes = CredentialAttributes("SAP CX - proxy - ${settings.first.uuid}")
-                PasswordSafe.instance.set(proxyCredentialAttributes, settings.second?.proxyCredentials)
+                // credentials are persisted asynchronously, so values read in the meantime must not outlive the persisted ones
+                credentialsCache.invalidate(uuid)
             }
         })
     }
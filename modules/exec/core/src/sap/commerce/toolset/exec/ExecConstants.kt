@@ -18,6 +18,8 @@
 
 package sap.commerce.toolset.exec
 
+import kotlin.time.Duration.Companion.minutes
+
 object ExecConstants {
     const val DEFAULT_HOST_URL = "localhost"
     const val DEFAULT_SESSION_COOKIE_NAME = "JSESSIONID"
@@ -26,4 +28,9 @@ object ExecConstants {
     const val HTTPS_PROTOCOL = "https://"
 
     const val URL_PORT_DELIMITER = ":"
+
+    /**
+     * Connection credentials are re-read from the Password Safe after this period, to pick up changes made outside the IDE.
+     */
+    val CREDENTIALS_EXPIRE_AFTER = 30.minutes
 }
\ No newline at end of file
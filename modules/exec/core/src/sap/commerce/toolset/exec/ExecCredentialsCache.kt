@@ -0,0 +1,166 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec
+
+import com.intellij.credentialStore.CredentialAttributes
+import com.intellij.credentialStore.CredentialStore
+import com.intellij.credentialStore.Credentials
+import com.intellij.ide.passwordSafe.PasswordSafe
+import sap.commerce.toolset.exec.settings.event.ExecConnectionListener
+import sap.commerce.toolset.exec.settings.state.ExecConnectionSettingsState
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.time.Duration
+import kotlin.time.TimeMark
+import kotlin.time.TimeSource
+
+/**
+ * In-memory cache of the connection credentials keyed by connection UUID, backed by the [CredentialStore].
+ *
+ * Lookups in the [PasswordSafe] may block for a significant amount of time (e.g., Linux keyrings),
+ * so each secret is read only once and then kept in memory until the connection is changed or the entry expires.
+ * Lookup is performed outside of map locks, concurrent callers of the same key wait for the single in-flight lookup,
+ * lookups of other keys are not blocked. Absence of the credentials is cached as well. Secrets are kept as char arrays and zeroed on eviction,
+ * callers always receive own copies.
+ */
+class ExecCredentialsCache<T : ExecConnectionSettingsState>(
+    private val expireAfter: Duration? = null,
+    private val timeSource: TimeSource = TimeSource.Monotonic,
+    private val store: () -> CredentialStore = { PasswordSafe.instance },
+) : ExecConnectionListener<T> {
+
+    private val entries = ConcurrentHashMap<Key, Entry>()
+    private val lookups = ConcurrentHashMap<Key, CompletableFuture<Unit>>()
+
+    fun credentials(uuid: String) = get(Key(uuid, Kind.CONNECTION))
+    fun proxyCredentials(uuid: String) = get(Key(uuid, Kind.PROXY))
+
+    // in-flight lookup is dropped first, so its result is not installed after the invalidation
+    fun invalidate(uuid: String) = Kind.entries.forEach { kind ->
+        val key = Key(uuid, kind)
+        lookups.remove(key)
+        entries.remove(key)?.clear()
+    }
+
+    fun clear() {
+        lookups.clear()
+        entries.keys.toList().forEach { key ->
+            entries.remove(key)?.clear()
+        }
+    }
+
+    override fun onCreate(connection: T) = invalidate(connection.uuid)
+    override fun onUpdate(settings: Collection<T>) = settings.forEach { invalidate(it.uuid) }
+    override fun onSave(settings: Collection<T>) = clear()
+    override fun onDelete(connection: T) = invalidate(connection.uuid)
+
+    private fun get(key: Key): Credentials? {
+        while (true) {
+            cached(key)?.let { return it.credentials }
+
+            val lookup = CompletableFuture<Unit>()
+            val inFlight = lookups.putIfAbsent(key, lookup)
+            if (inFlight != null) {
+                inFlight.join()
+                continue
+            }
+
+            try {
+                load(key, lookup)?.let { return it.credentials }
+            } finally {
+                lookups.remove(key, lookup)
+                lookup.complete(Unit)
+            }
+        }
+    }
+
+    /**
+     * Copy is taken under the lock of the entry, so concurrent eviction cannot hand out zeroed secret.
+     */
+    private fun cached(key: Key): Lookup? {
+        var lookup: Lookup? = null
+
+        entries.computeIfPresent(key) { _, entry ->
+            if (entry.expired) {
+                entry.clear()
+                null
+            } else {
+                lookup = Lookup(entry.credentials())
+                entry
+            }
+        }
+
+        return lookup
+    }
+
+    /**
+     * Reads the secret without holding any lock, the entry is installed only if the lookup was not invalidated meanwhile.
+     */
+    private fun load(key: Key, lookup: CompletableFuture<Unit>): Lookup? {
+        val loaded = Entry(store().get(key.attributes), timeSource.markNow())
+        var result: Lookup? = null
+
+        entries.compute(key) { _, entry ->
+            if (lookups[key] !== lookup) return@compute entry
+
+            entry?.clear()
+            result = Lookup(loaded.credentials())
+            loaded
+        }
+
+        if (result == null) loaded.clear()
+
+        return result
+    }
+
+    private class Lookup(val credentials: Credentials?)
+
+    private enum class Kind(val prefix: String) {
+        CONNECTION("SAP CX - "),
+        PROXY("SAP CX - proxy - ");
+    }
+
+    private data class Key(val uuid: String, val kind: Kind) {
+        val attributes
+            get() = credentialAttributes(uuid, kind)
+    }
+
+    private inner class Entry(credentials: Credentials?, private val loadedAt: TimeMark) {
+        private val present = credentials != null
+        private val userName = credentials?.userName
+        private val password = credentials?.password?.toCharArray()
+
+        val expired
+            get() = expireAfter
+                ?.let { loadedAt.elapsedNow() >= it }
+                ?: false
+
+        fun credentials() = if (present) Credentials(userName, password?.copyOf())
+        else null
+
+        fun clear() = password?.fill('\u0000')
+    }
+
+    companion object {
+        fun credentialAttributes(uuid: String) = credentialAttributes(uuid, Kind.CONNECTION)
+        fun proxyCredentialAttributes(uuid: String) = credentialAttributes(uuid, Kind.PROXY)
+
+        private fun credentialAttributes(uuid: String, kind: Kind) = CredentialAttributes(kind.prefix + uuid)
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec
+
+import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+import sap.commerce.toolset.exec.context.ExecContext
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Limits amount of simultaneous requests per connection, enforces per-attempt deadlines and retries idempotent requests.
+ *
+ * HTTP clients used by the [ExecClient] implementations are blocking, so each attempt is executed on the IO dispatcher
+ * within the given [coroutineScope] and is only awaited by the caller. The deadline of an attempt starts once the connection permit
+ * is acquired, so requests queued behind other requests to the same connection are not failed because of the queue.
+ * When the deadline is reached the caller is released immediately, while the connection permit is returned only once
+ * the underlying request completes, so the limit is never exceeded.
+ *
+ * Requests fanned out to a group of endpoints (see [ExecContext.fanOutKey]) are additionally limited per group,
+ * the group permit is returned as soon as the caller is released, so a single hanging endpoint cannot stall the fan-out.
+ *
+ * Limits are shared by all clients, see [ExecSchedulerService].
+ */
+class ExecScheduler(
+    private val coroutineScope: CoroutineScope,
+    val policy: ExecSchedulingPolicy = ExecSchedulingPolicy(),
+) {
+
+    private val semaphores = ConcurrentHashMap<String, Semaphore>()
+    private val fanOutSemaphores = ConcurrentHashMap<String, Semaphore>()
+
+    suspend fun <R : Any> schedule(
+        context: ExecContext,
+        isRetryable: (R) -> Boolean = { false },
+        execute: suspend () -> R,
+    ): R = context.fanOutKey
+        ?.let { fanOutSemaphores.computeIfAbsent(it) { Semaphore(policy.maxConcurrentFanOutRequests) } }
+        ?.withPermit { attempts(context, isRetryable, execute) }
+        ?: attempts(context, isRetryable, execute)
+
+    private suspend fun <R : Any> attempts(
+        context: ExecContext,
+        isRetryable: (R) -> Boolean,
+        execute: suspend () -> R,
+    ): R {
+        val maxAttempts = if (context.idempotent) policy.maxRetries + 1 else 1
+        var attempt = 1
+
+        while (true) {
+            val result = try {
+                attempt(context, attempt, execute)
+            } catch (e: IOException) {
+                if (attempt >= maxAttempts) throw e
+                null
+            }
+
+            if (result != null && (attempt >= maxAttempts || !isRetryable(result))) return result
+
+            delay(policy.backoff(attempt))
+            attempt++
+        }
+    }
+
+    private suspend fun <R> attempt(context: ExecContext, attempt: Int, execute: suspend () -> R): R {
+        val semaphore = context.connectionKey
+            ?.let { semaphores.computeIfAbsent(it) { Semaphore(policy.maxConcurrentRequestsPerConnection) } }
+            ?.apply { acquire() }
+
+        val request = try {
+            coroutineScope.async(Dispatchers.IO) { execute() }
+        } catch (e: Throwable) {
+            semaphore?.release()
+            throw e
+        }
+        semaphore?.let { request.invokeOnCompletion { semaphore.release() } }
+
+        val deadline = context.deadline
+
+        try {
+            return if (deadline == null) request.await()
+            else withTimeout(deadline) { request.await() }
+        } catch (e: TimeoutCancellationException) {
+            request.cancel()
+            throw if (deadline != null) ExecDeadlineExceededException(deadline, attempt) else e
+        } catch (e: CancellationException) {
+            request.cancel()
+            throw e
+        }
+    }
+}
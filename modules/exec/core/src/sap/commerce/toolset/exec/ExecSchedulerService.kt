@@ -15,17 +15,23 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
-package sap.commerce.toolset.businessProcess.meta
+
+package sap.commerce.toolset.exec
 
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
-import com.intellij.openapi.project.Project
-import sap.commerce.toolset.businessProcess.model.Process
-import sap.commerce.toolset.meta.MetaCollector
+import com.intellij.util.application
+import kotlinx.coroutines.CoroutineScope
+
+/**
+ * Owns the [ExecScheduler] shared by all [ExecClient]s, so connection and fan-out limits apply across clients and projects.
+ */
+@Service
+class ExecSchedulerService(coroutineScope: CoroutineScope) {
+
+    val scheduler = ExecScheduler(coroutineScope)
 
-@Service(Service.Level.PROJECT)
-class BPMetaCollector(myProject: Project) : MetaCollector<Process>(myProject, Process::class.java, nameProvider = { it.name }) {
     companion object {
-        fun getInstance(project: Project): BPMetaCollector = project.service()
+        fun getInstance(): ExecSchedulerService = application.service()
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec
+
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.seconds
+
+data class ExecSchedulingPolicy(
+    val maxConcurrentRequestsPerConnection: Int = 4,
+    val maxConcurrentFanOutRequests: Int = 4,
+    val maxRetries: Int = 2,
+    val initialBackoff: Duration = 500.milliseconds,
+    val maxBackoff: Duration = 5.seconds,
+    val backoffMultiplier: Double = 2.0,
+) {
+
+    /**
+     * Exponential delay before the next attempt, where [retry] starts from `1`.
+     */
+    fun backoff(retry: Int): Duration = (1 until retry)
+        .fold(initialBackoff) { backoff, _ -> backoff * backoffMultiplier }
+        .coerceAtMost(maxBackoff)
+}
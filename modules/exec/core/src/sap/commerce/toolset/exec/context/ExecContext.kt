@@ -18,10 +18,38 @@
 
 package sap.commerce.toolset.exec.context
 
+import kotlin.time.Duration
+
 interface ExecContext {
     val executionTitle: String
         get() = "Executing HTTP Call to the remote SAP Commerce instance…"
 
+    /**
+     * Key of the remote endpoint used to limit amount of simultaneous requests, `null` means that execution is not limited.
+     */
+    val connectionKey: String?
+        get() = null
+
+    /**
+     * Key of the group of endpoints the same request is fanned out to (e.g., all replicas of a cluster),
+     * `null` means that the request is not a part of the fan-out.
+     */
+    val fanOutKey: String?
+        get() = null
+
+    /**
+     * Max time to wait for the result of a single attempt, counted from the moment the connection permit is acquired,
+     * so neither time spent in the queue nor backoff between retries is included, `null` means no deadline.
+     */
+    val deadline: Duration?
+        get() = null
+
+    /**
+     * Idempotent requests have no side effects on the remote instance and can be safely retried on transient failures.
+     */
+    val idempotent: Boolean
+        get() = false
+
     interface Settings {
         val timeout: Int
 
@@ -0,0 +1,246 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec
+
+import com.intellij.credentialStore.CredentialAttributes
+import com.intellij.credentialStore.CredentialStore
+import com.intellij.credentialStore.Credentials
+import sap.commerce.toolset.exec.settings.state.ExecConnectionScope
+import sap.commerce.toolset.exec.settings.state.ExecConnectionSettingsState
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+import kotlin.time.Duration.Companion.minutes
+import kotlin.time.TestTimeSource
+
+class ExecCredentialsCacheTest {
+
+    private val store = CountingCredentialStore()
+    private val connection = TestConnection("c1")
+
+    @Test
+    fun test_credentials_singleLookupAcrossRepeatedExecutions() {
+        store.set(ExecCredentialsCache.credentialAttributes(connection.uuid), Credentials("admin", "nimda"))
+        val cache = ExecCredentialsCache<TestConnection> { store }
+
+        repeat(100) {
+            val credentials = cache.credentials(connection.uuid)
+
+            assertEquals("admin", credentials?.userName)
+            assertEquals("nimda", credentials?.getPasswordAsString())
+        }
+
+        assertEquals(1, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_singleLookupAcrossConcurrentExecutions() {
+        store.set(ExecCredentialsCache.credentialAttributes(connection.uuid), Credentials("admin", "nimda"))
+        val cache = ExecCredentialsCache<TestConnection> { store }
+        val executor = Executors.newFixedThreadPool(8)
+
+        try {
+            (1..200)
+                .map { executor.submit<Credentials?> { cache.credentials(connection.uuid) } }
+                .forEach { assertEquals("nimda", it.get(10, TimeUnit.SECONDS)?.getPasswordAsString()) }
+        } finally {
+            executor.shutdownNow()
+        }
+
+        assertEquals(1, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_missingCredentialsCached() {
+        val cache = ExecCredentialsCache<TestConnection> { store }
+
+        repeat(10) { assertNull(cache.credentials(connection.uuid)) }
+
+        assertEquals(1, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_connectionAndProxyCachedSeparately() {
+        store.set(ExecCredentialsCache.credentialAttributes(connection.uuid), Credentials("admin", "nimda"))
+        store.set(ExecCredentialsCache.proxyCredentialAttributes(connection.uuid), Credentials("proxy", "secret"))
+        val cache = ExecCredentialsCache<TestConnection> { store }
+
+        repeat(10) {
+            assertEquals("admin", cache.credentials(connection.uuid)?.userName)
+            assertEquals("proxy", cache.proxyCredentials(connection.uuid)?.userName)
+        }
+
+        assertEquals(2, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_invalidatedByConnectionEvents() {
+        val attributes = ExecCredentialsCache.credentialAttributes(connection.uuid)
+        store.set(attributes, Credentials("admin", "nimda"))
+        val cache = ExecCredentialsCache<TestConnection> { store }
+        cache.credentials(connection.uuid)
+
+        store.set(attributes, Credentials("admin", "changed"))
+        cache.onUpdate(listOf(connection))
+
+        assertEquals("changed", cache.credentials(connection.uuid)?.getPasswordAsString())
+        assertEquals(2, store.lookups.get())
+
+        store.set(attributes, null)
+        cache.onDelete(connection)
+
+        assertNull(cache.credentials(connection.uuid))
+        assertEquals(3, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_otherConnectionsNotInvalidated() {
+        val other = TestConnection("c2")
+        val cache = ExecCredentialsCache<TestConnection> { store }
+        cache.credentials(connection.uuid)
+        cache.credentials(other.uuid)
+
+        cache.onDelete(other)
+        cache.credentials(connection.uuid)
+
+        assertEquals(2, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_expired() {
+        val timeSource = TestTimeSource()
+        store.set(ExecCredentialsCache.credentialAttributes(connection.uuid), Credentials("admin", "nimda"))
+        val cache = ExecCredentialsCache<TestConnection>(expireAfter = 30.minutes, timeSource = timeSource) { store }
+
+        cache.credentials(connection.uuid)
+        timeSource += 29.minutes
+        cache.credentials(connection.uuid)
+        assertEquals(1, store.lookups.get())
+
+        timeSource += 1.minutes
+        cache.credentials(connection.uuid)
+        assertEquals(2, store.lookups.get())
+    }
+
+    @Test
+    fun test_credentials_callersReceiveOwnCopies() {
+        store.set(ExecCredentialsCache.credentialAttributes(connection.uuid), Credentials("admin", "nimda"))
+        val cache = ExecCredentialsCache<TestConnection> { store }
+
+        val first = cache.credentials(connection.uuid)
+        cache.clear()
+
+        assertEquals("nimda", first?.getPasswordAsString(), "Eviction must not zero secrets already handed out")
+    }
+
+    @Test
+    fun test_credentials_slowLookupDoesNotBlockOtherConnections() {
+        val other = TestConnection("c2")
+        val blocked = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        store.set(ExecCredentialsCache.credentialAttributes(other.uuid), Credentials("other", "secret"))
+        store.onLookup = { attributes ->
+            if (attributes.serviceName == ExecCredentialsCache.credentialAttributes(connection.uuid).serviceName) {
+                blocked.countDown()
+                release.await(10, TimeUnit.SECONDS)
+            }
+        }
+        val cache = ExecCredentialsCache<TestConnection> { store }
+        val executor = Executors.newSingleThreadExecutor()
+
+        try {
+            val slow = executor.submit<Credentials?> { cache.credentials(connection.uuid) }
+            assertTrue(blocked.await(10, TimeUnit.SECONDS))
+
+            assertEquals("secret", cache.credentials(other.uuid)?.getPasswordAsString())
+
+            release.countDown()
+            assertNull(slow.get(10, TimeUnit.SECONDS))
+        } finally {
+            release.countDown()
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun test_credentials_lookupInvalidatedInFlightNotCached() {
+        val attributes = ExecCredentialsCache.credentialAttributes(connection.uuid)
+        val blocked = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        store.set(attributes, Credentials("admin", "nimda"))
+        store.onLookup = {
+            if (store.lookups.get() == 1) {
+                blocked.countDown()
+                release.await(10, TimeUnit.SECONDS)
+            }
+        }
+        val cache = ExecCredentialsCache<TestConnection> { store }
+        val executor = Executors.newSingleThreadExecutor()
+
+        try {
+            val inFlight = executor.submit<Credentials?> { cache.credentials(connection.uuid) }
+            assertTrue(blocked.await(10, TimeUnit.SECONDS))
+
+            store.set(attributes, Credentials("admin", "changed"))
+            cache.onUpdate(listOf(connection))
+            release.countDown()
+
+            assertEquals("changed", inFlight.get(10, TimeUnit.SECONDS)?.getPasswordAsString())
+            assertEquals("changed", cache.credentials(connection.uuid)?.getPasswordAsString())
+            assertEquals(2, store.lookups.get())
+        } finally {
+            release.countDown()
+            executor.shutdownNow()
+        }
+    }
+
+    private class CountingCredentialStore : CredentialStore {
+        val lookups = AtomicInteger()
+        private val credentials = ConcurrentHashMap<String, Credentials>()
+
+        var onLookup: (CredentialAttributes) -> Unit = {}
+
+        override fun get(attributes: CredentialAttributes): Credentials? {
+            lookups.incrementAndGet()
+            return credentials[attributes.serviceName]
+                .also { onLookup(attributes) }
+        }
+
+        override fun set(attributes: CredentialAttributes, credentials: Credentials?) {
+            if (credentials == null) this.credentials.remove(attributes.serviceName)
+            else this.credentials[attributes.serviceName] = credentials
+        }
+    }
+
+    private data class TestConnection(
+        override val uuid: String,
+        override val scope: ExecConnectionScope = ExecConnectionScope.PROJECT_PERSONAL,
+        override val name: String? = null,
+        override val ssl: Boolean = true,
+        override val host: String = "localhost",
+        override val port: String? = null,
+        override val webroot: String = "",
+        override val timeout: Int = 0,
+    ) : ExecConnectionSettingsState {
+        override fun mutable() = throw UnsupportedOperationException()
+    }
+}
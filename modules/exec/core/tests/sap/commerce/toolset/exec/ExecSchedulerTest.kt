@@ -0,0 +1,310 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec
+
+import com.sun.net.httpserver.HttpServer
+import kotlinx.coroutines.*
+import sap.commerce.toolset.exec.context.ExecContext
+import java.io.IOException
+import java.net.HttpURLConnection
+import java.net.InetSocketAddress
+import java.net.ServerSocket
+import java.net.URI
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.seconds
+import kotlin.time.TimeSource
+
+class ExecSchedulerTest {
+
+    private lateinit var server: HttpServer
+    private lateinit var scope: CoroutineScope
+
+    private val inFlight = AtomicInteger()
+    private val maxInFlight = AtomicInteger()
+    private val requests = AtomicInteger()
+
+    private val policy = ExecSchedulingPolicy(
+        maxConcurrentRequestsPerConnection = 2,
+        maxRetries = 2,
+        initialBackoff = 10.milliseconds,
+        maxBackoff = 50.milliseconds,
+    )
+
+    @BeforeTest
+    fun setUp() {
+        scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+        server = HttpServer.create(InetSocketAddress("localhost", 0), 0).apply {
+            executor = Executors.newCachedThreadPool()
+
+            // responds after the given delay in milliseconds
+            createContext("/slow") { exchange ->
+                val delay = exchange.requestURI.query.substringAfter("=").toLong()
+                track { Thread.sleep(delay) }
+                exchange.sendResponseHeaders(200, -1)
+                exchange.close()
+            }
+
+            // fails with 503 for the given amount of first requests
+            createContext("/flaky") { exchange ->
+                val failures = exchange.requestURI.query.substringAfter("=").toInt()
+                val status = if (requests.incrementAndGet() <= failures) 503 else 200
+                exchange.sendResponseHeaders(status, -1)
+                exchange.close()
+            }
+
+            start()
+        }
+    }
+
+    @AfterTest
+    fun tearDown() {
+        scope.cancel()
+        server.stop(0)
+    }
+
+    @Test
+    fun test_schedule_limitsConcurrentRequestsPerConnection() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac")
+
+        val results = (1..8)
+            .map { async { scheduler.schedule(context) { get("/slow?delay=100") } } }
+            .awaitAll()
+
+        assertTrue(results.all { it == 200 })
+        assertEquals(2, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_connectionsAreLimitedIndependently() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentRequestsPerConnection = 1))
+
+        listOf("node1", "node2", "node1", "node2")
+            .map { TestExecContext(connectionKey = it) }
+            .map { context -> async { scheduler.schedule(context) { get("/slow?delay=200") } } }
+            .awaitAll()
+
+        assertEquals(2, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_withoutConnectionKey_notLimited() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+
+        (1..4)
+            .map { async { scheduler.schedule(TestExecContext()) { get("/slow?delay=200") } } }
+            .awaitAll()
+
+        assertEquals(4, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_fanOut_limitsConcurrentReplicas() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentFanOutRequests = 3))
+
+        val results = (1..9)
+            .map { TestExecContext(connectionKey = "hac.replica$it", fanOutKey = "hac") }
+            .map { context -> async { scheduler.schedule(context) { get("/slow?delay=100") } } }
+            .awaitAll()
+
+        assertTrue(results.all { it == 200 })
+        assertEquals(3, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_fanOut_groupsLimitedIndependently() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentFanOutRequests = 1))
+
+        listOf("cluster1", "cluster2", "cluster1", "cluster2")
+            .mapIndexed { index, fanOutKey -> TestExecContext(connectionKey = "$fanOutKey.replica$index", fanOutKey = fanOutKey) }
+            .map { context -> async { scheduler.schedule(context) { get("/slow?delay=200") } } }
+            .awaitAll()
+
+        assertEquals(2, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_fanOut_deadlineExcludesGroupQueueTime() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentFanOutRequests = 1))
+
+        val results = (1..4)
+            .map { TestExecContext(connectionKey = "hac.replica$it", fanOutKey = "hac", deadline = 400.milliseconds) }
+            .map { context -> async { scheduler.schedule(context) { get("/slow?delay=200") } } }
+            .awaitAll()
+
+        assertTrue(results.all { it == 200 }, "Each replica has to get the whole deadline")
+    }
+
+    @Test
+    fun test_schedule_fanOut_hangingReplicaDoesNotStallOthers() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentFanOutRequests = 1))
+
+        val hanging = async {
+            runCatching {
+                scheduler.schedule(TestExecContext(connectionKey = "hac.replica1", fanOutKey = "hac", deadline = 100.milliseconds)) {
+                    get("/slow?delay=2000")
+                }
+            }
+        }
+        val startedAt = TimeSource.Monotonic.markNow()
+        delay(20)
+        val healthy = scheduler.schedule(TestExecContext(connectionKey = "hac.replica2", fanOutKey = "hac")) { get("/slow?delay=0") }
+
+        assertEquals(200, healthy)
+        assertTrue(startedAt.elapsedNow() < 1.seconds, "Replica slot has to be returned once the deadline is reached")
+        assertIs<ExecDeadlineExceededException>(hanging.await().exceptionOrNull())
+    }
+
+    @Test
+    fun test_schedule_deadlineExceeded() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac", deadline = 200.milliseconds)
+
+        val startedAt = TimeSource.Monotonic.markNow()
+        assertFailsWith<ExecDeadlineExceededException> {
+            scheduler.schedule(context) { get("/slow?delay=2000") }
+        }
+
+        assertTrue(startedAt.elapsedNow() < 1.seconds, "Caller has to be released on deadline")
+    }
+
+    @Test
+    fun test_schedule_deadlineExcludesQueueTime() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentRequestsPerConnection = 1))
+
+        val slow = async { scheduler.schedule(TestExecContext(connectionKey = "hac")) { get("/slow?delay=500") } }
+        delay(100)
+
+        assertEquals(200, scheduler.schedule(TestExecContext(connectionKey = "hac", deadline = 200.milliseconds)) { get("/slow?delay=0") })
+        assertEquals(200, slow.await())
+    }
+
+    @Test
+    fun test_schedule_batchLargerThanConnectionLimit_noSpuriousDeadlines() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+
+        val results = (1..8)
+            .map { TestExecContext(connectionKey = "hac", deadline = 300.milliseconds) }
+            .map { context -> async { scheduler.schedule(context) { get("/slow?delay=100") } } }
+            .awaitAll()
+
+        assertTrue(results.all { it == 200 }, "Queued requests must not be failed by the deadline")
+        assertEquals(2, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_permitHeldUntilTimedOutRequestCompletes() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy.copy(maxConcurrentRequestsPerConnection = 1))
+
+        assertFailsWith<ExecDeadlineExceededException> {
+            scheduler.schedule(TestExecContext(connectionKey = "hac", deadline = 100.milliseconds)) { get("/slow?delay=500") }
+        }
+        scheduler.schedule(TestExecContext(connectionKey = "hac")) { get("/slow?delay=0") }
+
+        assertEquals(1, maxInFlight.get())
+    }
+
+    @Test
+    fun test_schedule_idempotent_retriedWithBackoff() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac", idempotent = true)
+
+        val result = scheduler.schedule(context, { it == 503 }) { get("/flaky?failures=2") }
+
+        assertEquals(200, result)
+        assertEquals(3, requests.get())
+    }
+
+    @Test
+    fun test_schedule_idempotent_retriesExhausted() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac", idempotent = true)
+
+        val result = scheduler.schedule(context, { it == 503 }) { get("/flaky?failures=10") }
+
+        assertEquals(503, result)
+        assertEquals(policy.maxRetries + 1, requests.get())
+    }
+
+    @Test
+    fun test_schedule_nonIdempotent_notRetried() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac", idempotent = false)
+
+        val result = scheduler.schedule(context, { it == 503 }) { get("/flaky?failures=1") }
+
+        assertEquals(503, result)
+        assertEquals(1, requests.get())
+    }
+
+    @Test
+    fun test_schedule_idempotent_retriedOnIOException() = runBlocking {
+        val scheduler = ExecScheduler(scope, policy)
+        val context = TestExecContext(connectionKey = "hac", idempotent = true)
+        val attempts = AtomicInteger()
+        val unreachablePort = ServerSocket(0).use { it.localPort }
+
+        assertFailsWith<IOException> {
+            scheduler.schedule(context) {
+                attempts.incrementAndGet()
+                get("/slow?delay=0", unreachablePort)
+            }
+        }
+        assertEquals(policy.maxRetries + 1, attempts.get())
+    }
+
+    @Test
+    fun test_backoff_exponentialAndBounded() {
+        val policy = ExecSchedulingPolicy(initialBackoff = 100.milliseconds, maxBackoff = 1.seconds, backoffMultiplier = 2.0)
+
+        assertEquals(100.milliseconds, policy.backoff(1))
+        assertEquals(200.milliseconds, policy.backoff(2))
+        assertEquals(400.milliseconds, policy.backoff(3))
+        assertEquals(1.seconds, policy.backoff(10))
+    }
+
+    private fun track(action: () -> Unit) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), ::maxOf)
+        try {
+            action()
+        } finally {
+            inFlight.decrementAndGet()
+        }
+    }
+
+    private fun get(path: String, port: Int = server.address.port): Int {
+        val connection = URI("http://localhost:$port$path").toURL().openConnection() as HttpURLConnection
+        return try {
+            connection.responseCode
+        } finally {
+            connection.disconnect()
+        }
+    }
+
+    private data class TestExecContext(
+        override val connectionKey: String? = null,
+        override val fanOutKey: String? = null,
+        override val deadline: Duration? = null,
+        override val idempotent: Boolean = false,
+    ) : ExecContext
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import de.hybris.platform.core.Registry
+import de.hybris.platform.jalo.security.Principal
+import de.hybris.platform.servicelayer.model.ModelService
+import de.hybris.platform.servicelayer.search.FlexibleSearchQuery
+import de.hybris.platform.servicelayer.search.FlexibleSearchService
+import de.hybris.platform.servicelayer.user.UserService
+import groovy.json.JsonOutput
+
+/*
+======= Version: 2026.2.1 =======
+
+This script is being used by the Plugin to retrieve snapshot of all active FlexibleSearch restrictions,
+restrictions are applied to the queries locally, using Type System of the project.
+
+The following contract is expected:
+ - `placeholder_userUid` will be used to inject target User UID in double quotes.
+ - `placeholder_includeRestrictions` will be used to inject a flag indicating whether restrictions have to be fetched or only principals of the user.
+ - script must print the results as a return value of the script.
+ - result must be a json object with two values
+    - 1: "principals"   -> UIDs of the user and all its groups, which are taken into account by search restrictions.
+    - 2: "restrictions" -> all active search restrictions or `null`, each consists of the "code", "typeCode", "principal" and "query".
+
+======= Example =======
+-- Input --
+def userUid = "cmsmanager"
+def includeRestrictions = true
+
+-- Output --
+{
+ "principals": ["cmsmanager", "cmsmanagergroup", "employeegroup"],
+ "restrictions": [
+  {
+   "code": "HideSystemPrincipals",
+   "typeCode": "Principal",
+   "principal": "employeegroup",
+   "query": "{uid} not in ( 'anonymous', 'admin', 'admingroup' )"
+  }
+ ]
+}
+ */
+
+def userUid = "placeholder_userUid"
+def includeRestrictions = placeholder_includeRestrictions
+
+def tenant = Registry.getCurrentTenantNoFallback()
+def us = userService as UserService
+def ms = modelService as ModelService
+def fss = flexibleSearchService as FlexibleSearchService
+
+def flexibleSearch = tenant.jaloConnection.getFlexibleSearch()
+def user = us.getUserForUID(userUid)
+
+def principals = flexibleSearch.getPrincipalsForSearchRestrictions(ms.getSource(user) as Principal, true)
+        .collect { it.uid }
+
+def restrictions = null
+
+if (includeRestrictions) {
+    def query = """
+    SELECT {sr.code}, {ct.code}, {p.uid}, {sr.query}
+    FROM {
+               SearchRestriction* as sr
+          JOIN ComposedType       as ct on {ct.pk} = {sr.restrictedType}
+          JOIN Principal          as p  on {p.pk} = {sr.principal}
+         }
+    WHERE
+        {sr.active} = ?active
+    """
+
+    def fxsQuery = new FlexibleSearchQuery(query, ["active": true])
+    fxsQuery.setResultClassList([String.class, String.class, String.class, String.class])
+
+    restrictions = fss.<List<String>> search(fxsQuery).result
+            .collect {
+                [
+                        "code"     : it[0],
+                        "typeCode" : it[1],
+                        "principal": it[2],
+                        "query"    : it[3],
+                ]
+            }
+}
+
+return JsonOutput.toJson([
+        "principals"  : principals,
+        "restrictions": restrictions,
+])
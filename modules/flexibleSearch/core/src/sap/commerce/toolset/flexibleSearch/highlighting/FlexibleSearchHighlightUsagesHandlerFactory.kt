@@ -23,10 +23,10 @@ import com.intellij.featureStatistics.ProductivityFeatureNames
 import com.intellij.openapi.editor.Editor
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiFile
-import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.util.Consumer
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchSelectedTableName
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTableAliasName
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopes
 
 class FlexibleSearchHighlightUsagesHandlerFactory : HighlightUsagesHandlerFactoryBase() {
 
@@ -46,12 +46,15 @@ class FlexibleSearchHighlightUsagesHandlerFactory : HighlightUsagesHandlerFactor
         }
 
         override fun computeUsages(targets: MutableList<out PsiElement>) {
-            val file = target.containingFile
-
-            PsiTreeUtil.collectElements(file) {
-                (it is FlexibleSearchTableAliasName || it is FlexibleSearchSelectedTableName)
-                    && it.textMatches(target)
+            val tableAlias = when (val element = target.parent) {
+                is FlexibleSearchTableAliasName -> element
+                is FlexibleSearchSelectedTableName -> element.reference?.resolve() as? FlexibleSearchTableAliasName
+                else -> null
             }
+                ?: return addOccurrence(target.parent)
+
+            addOccurrence(tableAlias)
+            FlexibleSearchQueryScopes.tableAliasUsages(tableAlias)
                 .forEach { addOccurrence(it) }
         }
 
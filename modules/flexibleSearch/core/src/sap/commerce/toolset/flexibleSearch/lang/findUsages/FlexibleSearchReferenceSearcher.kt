@@ -21,14 +21,14 @@ import com.intellij.openapi.application.QueryExecutorBase
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiReference
 import com.intellij.psi.search.searches.ReferencesSearch
-import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.psi.util.elementType
 import com.intellij.util.Processor
 import sap.commerce.toolset.flexibleSearch.FlexibleSearchConstants
-import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchColumnName
-import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchColumnAliasName
+import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTableAliasName
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTypes.COLUMN_ALIAS_NAME
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTypes.TABLE_ALIAS_NAME
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopes
 
 class FlexibleSearchReferenceSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(true) {
 
@@ -45,22 +45,19 @@ class FlexibleSearchReferenceSearcher : QueryExecutorBase<PsiReference, Referenc
     }
 
     private fun processTableAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) {
-        val file = elementToSearch.containingFile
+        val tableAlias = elementToSearch as? FlexibleSearchTableAliasName ?: return
 
-        PsiTreeUtil.collectElements(file) {
-            it is FlexibleSearchSelectedTableName && it.textMatches(elementToSearch)
-        }
+        FlexibleSearchQueryScopes.tableAliasUsages(tableAlias)
             .mapNotNull { it.reference }
             .forEach { consumer.process(it) }
     }
 
     private fun processColumnAlias(elementToSearch: PsiElement, consumer: Processor<in PsiReference>) {
-        val file = elementToSearch.containingFile
+        val columnAlias = elementToSearch as? FlexibleSearchColumnAliasName ?: return
 
-        PsiTreeUtil.collectElements(file) {
-            it is FlexibleSearchColumnName && it.textMatches(elementToSearch)
-        }
+        FlexibleSearchQueryScopes.columnAliasCandidates(columnAlias)
             .mapNotNull { it.reference }
+            .filter { it.isReferenceTo(columnAlias) }
             .forEach { consumer.process(it) }
     }
 }
@@ -24,9 +24,9 @@ import com.intellij.openapi.progress.ProgressManager
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.psi.util.childrenOfType
-import com.intellij.psi.util.parentOfType
 import com.intellij.psi.util.siblings
 import com.intellij.util.asSafely
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopes
 import sap.commerce.toolset.flexibleSearch.psi.impl.FlexibleSearchYColumnNameMixin
 
 fun getPresentationText(resultColumn: FlexibleSearchResultColumn) = (
@@ -82,70 +82,16 @@ fun getTableToAlias(element: FlexibleSearchYColumnName): Pair<FlexibleSearchDefi
         ?.resolve()
         ?.asSafely<FlexibleSearchTableAliasName>()
 
-    return tableAlias
-        ?.table
-        ?.let { it to tableAlias }
-        ?: getSuitableTableContainerParent(element)
-            .firstOrNull()
-            ?.let { fromClause ->
-                val definedTableName = PsiTreeUtil.findChildOfType(fromClause, FlexibleSearchDefinedTableName::class.java)
-                    ?: return@let null
+    tableAlias?.table?.let { return it to tableAlias }
 
-                definedTableName to definedTableName.tableAlias
-            }
+    return FlexibleSearchQueryScopes.scope(element)
+        ?.tables
+        ?.firstOrNull()
+        ?.asSafely<FlexibleSearchDefinedTableName>()
+        ?.let { it to it.tableAlias }
 }
 
-fun getTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> {
-    // Order clause is outside the select core
-    if (PsiTreeUtil.getParentOfType(element, FlexibleSearchOrderClause::class.java) != null) {
-        return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectStatement::class.java)
-            ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-            ?: emptyList()
-    }
-
-    // Where a case also may contain sub-queries, in such a case visibility to aliases will be from top-most available select
-    val topWhereClauseTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchWhereClause::class.java)
-        ?.let { topWhereClause ->
-            PsiTreeUtil.getParentOfType(topWhereClause, FlexibleSearchSelectCoreSelect::class.java)
-                ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        }
-        ?: emptyList()
-    // Case when we're in the Result column, we may have nested selects in the result column, so have to find the top one
-    val topResultColumnsTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchResultColumns::class.java)
-        ?.let { topResultColumns ->
-            PsiTreeUtil.getParentOfType(topResultColumns, FlexibleSearchSelectStatement::class.java)
-                ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        }
-        ?: emptyList()
-
-    val tableAliases = topWhereClauseTableAliases + topResultColumnsTableAliases
-    if (tableAliases.isNotEmpty()) return tableAliases
-
-    // all other cases, like GROUP BY, HAVING, etc
-    return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
-        ?.fromClause
-        ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-        ?: emptyList()
-}
-
-/*
- Order clause is not part of the CoreSelect, so we have to go upper to Statement itself
- ORDER BY can be in the sub-query, so let's check for it first
- */
-private fun getSuitableTableContainerParent(element: PsiElement) = PsiTreeUtil
-    .getParentOfType(element, FlexibleSearchOrderClause::class.java)
-    ?.parentOfType<FlexibleSearchSelectStatement>()
-    ?.selectCoreSelectList
-    ?.mapNotNull { it.fromClause }
-    ?: PsiTreeUtil
-        .getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
-        ?.fromClause
-        ?.let { listOf(it) }
-    ?: PsiTreeUtil
-        .getParentOfType(element, FlexibleSearchSelectStatement::class.java)
-        ?.selectCoreSelectList
-        ?.mapNotNull { it.fromClause }
-    ?: emptyList()
+fun getTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> = FlexibleSearchQueryScopes.visibleTableAliases(element)
 
 fun getTableName(element: FlexibleSearchDefinedTableName): String = element.firstChild.text
 
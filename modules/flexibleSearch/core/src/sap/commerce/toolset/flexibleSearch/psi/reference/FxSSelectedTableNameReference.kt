@@ -27,6 +27,7 @@ import sap.commerce.toolset.flexibleSearch.FlexibleSearchConstants
 import sap.commerce.toolset.flexibleSearch.FxSUtils
 import sap.commerce.toolset.flexibleSearch.codeInsight.lookup.FxSLookupElementFactory
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchSelectedTableName
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopes
 import sap.commerce.toolset.flexibleSearch.psi.reference.result.FxSTableAliasNameResolveResult
 import sap.commerce.toolset.psi.getValidResults
 
@@ -57,8 +58,7 @@ class FxSSelectedTableNameReference(owner: FlexibleSearchSelectedTableName) : Ps
                 .replace(FlexibleSearchConstants.DUMMY_IDENTIFIER, "")
                 .trim()
 
-            val result: Array<ResolveResult> = ref.element.tableAliases
-                .firstOrNull { alias -> alias.text.trim() == lookingForName }
+            val result: Array<ResolveResult> = FlexibleSearchQueryScopes.resolveTableAlias(ref.element, lookingForName)
                 ?.let { arrayOf(FxSTableAliasNameResolveResult(it)) }
                 ?: ResolveResult.EMPTY_ARRAY
 
@@ -67,40 +67,6 @@ class FxSSelectedTableNameReference(owner: FlexibleSearchSelectedTableName) : Ps
                 PsiModificationTracker.MODIFICATION_COUNT
             )
         }
-
-//        private fun getTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> {
-//            // Order clause is outside the select core
-//            if (PsiTreeUtil.getParentOfType(element, FlexibleSearchOrderClause::class.java) != null) {
-//                return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectStatement::class.java)
-//                    ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-//                    ?: emptyList()
-//            }
-//
-//            // Where case also may contain sub-queries, in such a case visibility to aliases will be from top-most available select
-//            val topWhereClauseTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchWhereClause::class.java)
-//                ?.let { topWhereClause ->
-//                    PsiTreeUtil.getParentOfType(topWhereClause, FlexibleSearchSelectCoreSelect::class.java)
-//                        ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-//                }
-//                ?: emptyList()
-//            // Case when we're in the Result column, we may have nested selects in the result column, so have to find top one
-//            val topResultColumnsTableAliases = PsiTreeUtil.getTopmostParentOfType(element, FlexibleSearchResultColumns::class.java)
-//                ?.let { topResultColumns ->
-//                    PsiTreeUtil.getParentOfType(topResultColumns, FlexibleSearchSelectStatement::class.java)
-//                        ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-//                }
-//                ?: emptyList()
-//
-//            val tableAliases = topWhereClauseTableAliases + topResultColumnsTableAliases
-//            if (tableAliases.isNotEmpty()) return tableAliases
-//
-//            // all other cases, like GROUP BY, HAVING, etc
-//            return PsiTreeUtil.getParentOfType(element, FlexibleSearchSelectCoreSelect::class.java)
-//                ?.fromClause
-//                ?.let { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchTableAliasName::class.java) }
-//                ?: emptyList()
-//        }
-
     }
 
 }
\ No newline at end of file
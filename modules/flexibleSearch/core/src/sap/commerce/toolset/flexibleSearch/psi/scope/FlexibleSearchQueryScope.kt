@@ -0,0 +1,113 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.psi.scope
+
+/**
+ * Query block of the FlexibleSearch file with its alias declarations.
+ *
+ * Each `SELECT` core is a block which declares the table aliases of its own `FROM` clause, aliases of the nested
+ * sub-queries belong to the nested blocks. The statement itself is a block too, it is used by the `ORDER BY` and `LIMIT`
+ * clauses, which see the aliases of all `UNION` branches.
+ *
+ * Table aliases are resolved from the innermost block outward, so an alias of the sub-query shadows the same alias of the
+ * outer query, while correlated sub-queries still see the aliases of the enclosing blocks.
+ */
+class FlexibleSearchQueryScope<E : Any> internal constructor(
+    val owner: E,
+    /** Block used to resolve names not declared in this block. */
+    val parent: FlexibleSearchQueryScope<E>?,
+    /** Block which textually contains this one. */
+    val container: FlexibleSearchQueryScope<E>?,
+    private val statement: FlexibleSearchQueryScope<E>? = null,
+) {
+
+    private val _tableAliases = LinkedHashMap<String, E>()
+    private val _tables = mutableListOf<E>()
+    private val _tableAliasReferences = mutableListOf<Reference<E>>()
+    private val _columnReferences = mutableListOf<Reference<E>>()
+    private val _children = mutableListOf<FlexibleSearchQueryScope<E>>()
+
+    val tableAliases: Map<String, E>
+        get() = _tableAliases
+    val tables: List<E>
+        get() = _tables
+    val tableAliasReferences: List<Reference<E>>
+        get() = _tableAliasReferences
+    val columnReferences: List<Reference<E>>
+        get() = _columnReferences
+    val children: List<FlexibleSearchQueryScope<E>>
+        get() = _children
+
+    /**
+     * Top-most block of the query, i.e. the statement which is not nested into any other block.
+     */
+    val root: FlexibleSearchQueryScope<E>
+        get() = generateSequence(this) { it.container }.last()
+
+    /**
+     * Table aliases visible from this block, declarations of the inner blocks shadow declarations of the outer ones.
+     */
+    val visibleTableAliases: Map<String, E>
+        get() = generateSequence(this) { it.parent }
+            .fold(LinkedHashMap()) { aliases, scope ->
+                scope._tableAliases.forEach { (name, alias) -> aliases.putIfAbsent(name, alias) }
+                aliases
+            }
+
+    fun resolveTableAlias(name: String): E? {
+        var scope: FlexibleSearchQueryScope<E>? = this
+        while (scope != null) {
+            scope._tableAliases[name]?.let { return it }
+            scope = scope.parent
+        }
+        return null
+    }
+
+    /**
+     * Depth-first traversal of this block and all textually nested blocks.
+     */
+    fun subtree(): Sequence<FlexibleSearchQueryScope<E>> = sequence {
+        val stack = ArrayDeque<FlexibleSearchQueryScope<E>>()
+        stack.addLast(this@FlexibleSearchQueryScope)
+        while (stack.isNotEmpty()) {
+            val scope = stack.removeLast()
+            yield(scope)
+            scope._children.asReversed().forEach { stack.addLast(it) }
+        }
+    }
+
+    internal fun addChild(child: FlexibleSearchQueryScope<E>) = _children.add(child)
+
+    internal fun declareTableAlias(name: String, element: E) {
+        _tableAliases.putIfAbsent(name, element)
+        statement?._tableAliases?.putIfAbsent(name, element)
+    }
+
+    internal fun declareTable(element: E) {
+        _tables.add(element)
+        statement?._tables?.add(element)
+    }
+
+    internal fun referenceTableAlias(name: String, element: E) = _tableAliasReferences.add(Reference(name, element, this))
+    internal fun referenceColumn(name: String, element: E) = _columnReferences.add(Reference(name, element, this))
+
+    override fun toString() = "FlexibleSearchQueryScope(owner=$owner, tableAliases=${_tableAliases.keys})"
+
+    data class Reference<E : Any>(val name: String, val element: E, val scope: FlexibleSearchQueryScope<E>)
+}
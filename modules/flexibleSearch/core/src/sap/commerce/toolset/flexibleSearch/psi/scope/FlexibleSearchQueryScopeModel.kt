@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.psi.scope
+
+/**
+ * Tree of the [FlexibleSearchQueryScope] blocks of a single file, built once per file modification.
+ *
+ * Blocks are registered by their owners, so the innermost block of any element can be found by walking its parents
+ * until the first owner. Usages of the alias are looked up only within the query which declares it.
+ */
+class FlexibleSearchQueryScopeModel<E : Any> private constructor(
+    val roots: List<FlexibleSearchQueryScope<E>>,
+    private val scopes: Map<E, FlexibleSearchQueryScope<E>>,
+    private val declarations: Map<E, FlexibleSearchQueryScope<E>>,
+) {
+
+    fun scope(owner: E) = scopes[owner]
+
+    /**
+     * Block which declares the given table alias.
+     */
+    fun declaringScope(tableAlias: E) = declarations[tableAlias]
+
+    /**
+     * References of the query which resolve to the given table alias, taking shadowing into account.
+     */
+    fun tableAliasUsages(tableAlias: E): List<FlexibleSearchQueryScope.Reference<E>> {
+        val declaringScope = declarations[tableAlias] ?: return emptyList()
+
+        return declaringScope.root.subtree()
+            .flatMap { it.tableAliasReferences }
+            .filter { it.scope.resolveTableAlias(it.name) === tableAlias }
+            .toList()
+    }
+
+    /**
+     * Column references with the given name within the query which contains the [scope].
+     */
+    fun columnReferences(scope: FlexibleSearchQueryScope<E>, name: String) = scope.root.subtree()
+        .flatMap { it.columnReferences }
+        .filter { it.name == name }
+        .toList()
+
+    class Builder<E : Any> {
+        private val roots = mutableListOf<FlexibleSearchQueryScope<E>>()
+        private val scopes = HashMap<E, FlexibleSearchQueryScope<E>>()
+        private val declarations = HashMap<E, FlexibleSearchQueryScope<E>>()
+
+        /**
+         * Registers the statement block, [enclosing] is the block which contains the statement as a sub-query.
+         */
+        fun statement(owner: E, enclosing: FlexibleSearchQueryScope<E>?) = FlexibleSearchQueryScope(owner, enclosing, enclosing)
+            .also { register(it) }
+
+        /**
+         * Registers the `SELECT` core block of the [statement]. `UNION` branches do not see each other's aliases,
+         * so the names not declared in the core are resolved in the block enclosing the statement.
+         */
+        fun core(owner: E, statement: FlexibleSearchQueryScope<E>) = FlexibleSearchQueryScope(owner, statement.parent, statement, statement)
+            .also { register(it) }
+
+        fun declareTableAlias(scope: FlexibleSearchQueryScope<E>, name: String, element: E) {
+            scope.declareTableAlias(name, element)
+            declarations.putIfAbsent(element, scope)
+        }
+
+        fun declareTable(scope: FlexibleSearchQueryScope<E>, element: E) = scope.declareTable(element)
+        fun referenceTableAlias(scope: FlexibleSearchQueryScope<E>, name: String, element: E) = scope.referenceTableAlias(name, element)
+        fun referenceColumn(scope: FlexibleSearchQueryScope<E>, name: String, element: E) = scope.referenceColumn(name, element)
+
+        fun build() = FlexibleSearchQueryScopeModel(roots.toList(), HashMap(scopes), HashMap(declarations))
+
+        private fun register(scope: FlexibleSearchQueryScope<E>) {
+            scopes[scope.owner] = scope
+
+            scope.container
+                ?.addChild(scope)
+                ?: roots.add(scope)
+        }
+    }
+}
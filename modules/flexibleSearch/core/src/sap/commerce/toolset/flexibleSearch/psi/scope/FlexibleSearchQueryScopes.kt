@@ -0,0 +1,115 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.psi.scope
+
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import sap.commerce.toolset.flexibleSearch.psi.*
+
+/**
+ * Access to the [FlexibleSearchQueryScopeModel] of the FlexibleSearch file, the model is built in a single PSI pass
+ * and cached until the file is modified.
+ */
+object FlexibleSearchQueryScopes {
+
+    private val CACHE_KEY = Key.create<CachedValue<FlexibleSearchQueryScopeModel<PsiElement>>>("HYBRIS_FXS_QUERY_SCOPES")
+
+    fun model(file: PsiFile): FlexibleSearchQueryScopeModel<PsiElement> = CachedValuesManager.getCachedValue(file, CACHE_KEY) {
+        CachedValueProvider.Result.create(build(file), file)
+    }
+
+    /**
+     * Innermost query block which contains the element.
+     */
+    fun scope(element: PsiElement): FlexibleSearchQueryScope<PsiElement>? {
+        val file = element.containingFile ?: return null
+        val model = model(file)
+
+        var current: PsiElement? = element
+        while (current != null && current !is PsiFile) {
+            model.scope(current)?.let { return it }
+            current = current.parent
+        }
+        return null
+    }
+
+    fun resolveTableAlias(element: PsiElement, name: String) = scope(element)
+        ?.resolveTableAlias(name) as? FlexibleSearchTableAliasName
+
+    fun visibleTableAliases(element: PsiElement): Collection<FlexibleSearchTableAliasName> = scope(element)
+        ?.visibleTableAliases
+        ?.values
+        ?.filterIsInstance<FlexibleSearchTableAliasName>()
+        ?: emptyList()
+
+    fun tableAliasUsages(tableAlias: FlexibleSearchTableAliasName): List<FlexibleSearchSelectedTableName> = tableAlias.containingFile
+        ?.let { model(it) }
+        ?.tableAliasUsages(tableAlias)
+        ?.mapNotNull { it.element as? FlexibleSearchSelectedTableName }
+        ?: emptyList()
+
+    /**
+     * Column names of the query, which declares the column alias, matching its name.
+     * Candidates still have to be checked via the reference, as the same name may be used for different columns.
+     */
+    fun columnAliasCandidates(columnAlias: FlexibleSearchColumnAliasName): List<FlexibleSearchColumnName> = scope(columnAlias)
+        ?.let { scope -> model(columnAlias.containingFile).columnReferences(scope, columnAlias.text.trim()) }
+        ?.mapNotNull { it.element as? FlexibleSearchColumnName }
+        ?: emptyList()
+
+    private fun build(file: PsiFile) = FlexibleSearchQueryScopeModel.Builder<PsiElement>()
+        .also { builder ->
+            var child = file.firstChild
+            while (child != null) {
+                visit(builder, child, null)
+                child = child.nextSibling
+            }
+        }
+        .build()
+
+    private fun visit(builder: FlexibleSearchQueryScopeModel.Builder<PsiElement>, element: PsiElement, scope: FlexibleSearchQueryScope<PsiElement>?) {
+        var current = scope
+
+        when (element) {
+            is FlexibleSearchSelectStatement -> {
+                ProgressManager.checkCanceled()
+                current = builder.statement(element, scope)
+            }
+
+            is FlexibleSearchSelectCoreSelect -> current = scope
+                ?.let { builder.core(element, it) }
+
+            is FlexibleSearchTableAliasName -> scope?.let { builder.declareTableAlias(it, element.text.trim(), element) }
+            is FlexibleSearchDefinedTableName -> scope?.let { builder.declareTable(it, element) }
+            is FlexibleSearchSelectedTableName -> scope?.let { builder.referenceTableAlias(it, element.text.trim(), element) }
+            is FlexibleSearchColumnName -> scope?.let { builder.referenceColumn(it, element.text.trim(), element) }
+        }
+
+        var child = element.firstChild
+        while (child != null) {
+            visit(builder, child, current)
+            child = child.nextSibling
+        }
+    }
+}
@@ -25,15 +25,16 @@ import com.intellij.refactoring.listeners.RefactoringElementListener
 import com.intellij.refactoring.rename.RenamePsiElementProcessor
 import com.intellij.refactoring.rename.UnresolvableCollisionUsageInfo
 import com.intellij.usageView.UsageInfo
-import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchPsiNamedElement
-import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTypes
+import sap.commerce.toolset.flexibleSearch.psi.*
+import sap.commerce.toolset.flexibleSearch.psi.scope.FlexibleSearchQueryScopes
 import sap.commerce.toolset.i18n
 
 class FlexibleSearchRenameProcessor : RenamePsiElementProcessor() {
 
     override fun canProcessElement(element: PsiElement) = element is FlexibleSearchPsiNamedElement
 
-    override fun findReferences(element: PsiElement, searchScope: SearchScope, searchInCommentsAndStrings: Boolean) = findElements(element, element.text)
+    override fun findReferences(element: PsiElement, searchScope: SearchScope, searchInCommentsAndStrings: Boolean) = findElements(element)
+        .filter { it !== element }
         .mapNotNull { it.reference }
         .toMutableList()
 
@@ -52,7 +53,7 @@ class FlexibleSearchRenameProcessor : RenamePsiElementProcessor() {
     override fun prepareRenaming(element: PsiElement, newName: String, allRenames: MutableMap<PsiElement, String>) {
         val newRenames = allRenames
             .mapNotNull { (element, newName) ->
-                findElements(element, element.text)
+                findElements(element)
                     .map { it to newName }
             }
             .flatten()
@@ -63,9 +64,10 @@ class FlexibleSearchRenameProcessor : RenamePsiElementProcessor() {
     }
 
     override fun findCollisions(element: PsiElement, newName: String, allRenames: MutableMap<out PsiElement, String>, result: MutableList<UsageInfo>) {
-        allRenames
+        allRenames.entries
+            .distinctBy { declaration(it.key) }
             .forEach { (element, newName) ->
-                findElements(element, newName)
+                findCollisions(element, newName)
                     .forEach {
                         result.add(object : UnresolvableCollisionUsageInfo(it, element) {
                             override fun getDescription() = when (element.elementType) {
@@ -82,12 +84,42 @@ class FlexibleSearchRenameProcessor : RenamePsiElementProcessor() {
             }
     }
 
-    private fun findElements(element: PsiElement, newText: String): Array<PsiElement> = element.containingFile
-        ?.let { file ->
-            PsiTreeUtil.collectElements(file) {
-                canProcessElement(it) && it.textMatches(newText)
+    /**
+     * Declaration of the alias and its usages within the query, resolved via the query scopes,
+     * so the same alias of another query or of the nested sub-query is not affected.
+     */
+    private fun findElements(element: PsiElement): List<PsiElement> = when (val declaration = declaration(element)) {
+        is FlexibleSearchTableAliasName -> listOf(declaration) + FlexibleSearchQueryScopes.tableAliasUsages(declaration)
+        is FlexibleSearchColumnAliasName -> listOf(declaration) + FlexibleSearchQueryScopes.columnAliasCandidates(declaration)
+            .filter { it.reference?.isReferenceTo(declaration) ?: false }
+
+        else -> listOf(declaration)
+    }
+
+    private fun findCollisions(element: PsiElement, newName: String): List<PsiElement> = when (val declaration = declaration(element)) {
+        // new name must not be resolved to another alias neither at the declaration, nor at any of the usages
+        is FlexibleSearchTableAliasName -> findElements(declaration)
+            .mapNotNull { FlexibleSearchQueryScopes.resolveTableAlias(it, newName) }
+            .filter { it !== declaration }
+            .distinct()
+
+        else -> FlexibleSearchQueryScopes.scope(declaration)
+            ?.root
+            ?.owner
+            ?.let { query ->
+                PsiTreeUtil.collectElements(query) {
+                    it !== declaration && canProcessElement(it) && it.elementType == declaration.elementType && it.textMatches(newName)
+                }
+                    .toList()
             }
-        }
-        ?: emptyArray()
+            ?: emptyList()
+    }
+
+    private fun declaration(element: PsiElement): PsiElement = when (element) {
+        is FlexibleSearchSelectedTableName,
+        is FlexibleSearchColumnName -> element.reference?.resolve() ?: element
+
+        else -> element
+    }
 
 }
@@ -0,0 +1,201 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.psi.scope
+
+import kotlin.test.*
+
+class FlexibleSearchQueryScopeModelTest {
+
+    private val builder = FlexibleSearchQueryScopeModel.Builder<Node>()
+
+    /*
+    SELECT {p.pk} FROM {Product AS p}
+    WHERE EXISTS ({{ SELECT {p.pk} FROM {Product AS p} WHERE {p.code} = 'x' }})
+      AND {p.name} IS NULL
+     */
+    @Test
+    fun test_resolve_nestedAliasShadowsOuter() {
+        val outer = statement().core()
+        val outerAlias = outer.alias("p")
+        val outerSelect = outer.ref("p")
+        val inner = statement(outer).core()
+        val innerAlias = inner.alias("p")
+        val innerSelect = inner.ref("p")
+        val innerWhere = inner.ref("p")
+        val outerWhere = outer.ref("p")
+        val model = builder.build()
+
+        assertSame(outerAlias, outer.resolveTableAlias("p"))
+        assertSame(innerAlias, inner.resolveTableAlias("p"))
+
+        assertEquals(listOf(outerSelect, outerWhere), model.usages(outerAlias))
+        assertEquals(listOf(innerSelect, innerWhere), model.usages(innerAlias))
+        assertSame(inner, model.declaringScope(innerAlias))
+    }
+
+    /*
+    SELECT {o.pk} FROM {Order AS o}
+    WHERE EXISTS ({{ SELECT {e.pk} FROM {OrderEntry AS e} WHERE {e.order} = {o.pk} }})
+     */
+    @Test
+    fun test_resolve_correlatedSubQuerySeesOuterAliases() {
+        val outer = statement().core()
+        val order = outer.alias("o")
+        outer.ref("o")
+        val inner = statement(outer).core()
+        val entry = inner.alias("e")
+        val correlated = inner.ref("o")
+        val model = builder.build()
+
+        assertSame(order, inner.resolveTableAlias("o"))
+        assertSame(entry, inner.resolveTableAlias("e"))
+        assertNull(outer.resolveTableAlias("e"), "Aliases of the sub-query must not leak to the outer query")
+        assertTrue(correlated in model.usages(order))
+        assertEquals(mapOf("e" to entry, "o" to order), inner.visibleTableAliases)
+    }
+
+    /*
+    SELECT {a.pk} FROM {Product AS a}
+    UNION ALL
+    SELECT {b.pk} FROM {Category AS b} WHERE {a.code} IS NULL
+    ORDER BY {b.pk}
+     */
+    @Test
+    fun test_resolve_unionBranchesAndOrderBy() {
+        val statement = statement()
+        val first = statement.core()
+        val a = first.alias("a")
+        first.ref("a")
+        val second = statement.core()
+        val b = second.alias("b")
+        second.ref("b")
+        val foreign = second.ref("a")
+        val orderBy = statement.ref("b")
+        val model = builder.build()
+
+        assertNull(second.resolveTableAlias("a"), "UNION branches do not see aliases of each other")
+        assertFalse(foreign in model.usages(a))
+        assertSame(b, statement.resolveTableAlias("b"))
+        assertSame(a, statement.resolveTableAlias("a"))
+        assertTrue(orderBy in model.usages(b))
+    }
+
+    /*
+    SELECT {x.code} FROM ({{ SELECT {p.code} AS code FROM {Product AS p} }}) x
+     */
+    @Test
+    fun test_resolve_derivedTableAliasDeclaredInOuterQuery() {
+        val outer = statement().core()
+        val inner = statement(outer).core()
+        val p = inner.alias("p")
+        inner.ref("p")
+        val x = outer.alias("x")
+        outer.ref("x")
+        builder.build()
+
+        assertSame(x, outer.resolveTableAlias("x"))
+        assertNull(outer.resolveTableAlias("p"))
+        assertSame(p, inner.resolveTableAlias("p"))
+        assertSame(x, inner.resolveTableAlias("x"))
+    }
+
+    @Test
+    fun test_resolve_firstDeclarationWins() {
+        val core = statement().core()
+        val first = core.alias("p")
+        core.alias("p")
+        builder.build()
+
+        assertSame(first, core.resolveTableAlias("p"))
+    }
+
+    @Test
+    fun test_usages_isolatedPerQuery() {
+        val first = statement()
+        val firstAlias = first.core().alias("p")
+        val firstRef = first.children.single().ref("p")
+        val second = statement()
+        val secondAlias = second.core().alias("p")
+        val secondRef = second.children.single().ref("p")
+        val model = builder.build()
+
+        assertEquals(2, model.roots.size)
+        assertEquals(listOf(firstRef), model.usages(firstAlias))
+        assertEquals(listOf(secondRef), model.usages(secondAlias))
+    }
+
+    @Test
+    fun test_columnReferences_isolatedPerQuery() {
+        val first = statement().core()
+        val inner = statement(first).core()
+        val outerColumn = first.column("code")
+        val innerColumn = inner.column("code")
+        first.column("name")
+        statement().core().column("code")
+        val model = builder.build()
+
+        assertEquals(listOf(outerColumn, innerColumn), model.columnReferences(inner, "code").map { it.element })
+    }
+
+    @Test
+    fun test_resolve_manyQueries_aliasesIsolatedPerQuery() {
+        val queries = 1_000
+        val elements = buildFile(queries)
+        val model = builder.build()
+
+        assertTrue(elements.references.all { (_, scope) -> scope.resolveTableAlias("p") != null })
+        assertEquals(queries * 2, model.roots.sumOf { root -> root.subtree().count { it.tableAliases.isNotEmpty() } })
+        elements.aliases.forEach { (_, alias) -> assertEquals(2, model.usages(alias).size) }
+    }
+
+    private fun buildFile(queries: Int): FileElements {
+        val aliases = mutableListOf<Pair<String, Node>>()
+        val references = mutableListOf<Pair<String, FlexibleSearchQueryScope<Node>>>()
+
+        repeat(queries) {
+            val outer = statement().core()
+            aliases += "p" to outer.alias("p")
+            outer.ref("p").also { references += "p" to outer }
+
+            val inner = statement(outer).core()
+            aliases += "p" to inner.alias("p")
+            inner.ref("p").also { references += "p" to inner }
+            inner.ref("p").also { references += "p" to inner }
+
+            outer.ref("p").also { references += "p" to outer }
+        }
+        return FileElements(aliases, references)
+    }
+
+    private fun statement(enclosing: FlexibleSearchQueryScope<Node>? = null) = builder.statement(Node("statement"), enclosing)
+    private fun FlexibleSearchQueryScope<Node>.core() = builder.core(Node("core"), this)
+    private fun FlexibleSearchQueryScope<Node>.alias(name: String) = Node("alias $name").also { builder.declareTableAlias(this, name, it) }
+    private fun FlexibleSearchQueryScope<Node>.ref(name: String) = Node("ref $name").also { builder.referenceTableAlias(this, name, it) }
+    private fun FlexibleSearchQueryScope<Node>.column(name: String) = Node("column $name").also { builder.referenceColumn(this, name, it) }
+    private fun FlexibleSearchQueryScopeModel<Node>.usages(alias: Node) = tableAliasUsages(alias).map { it.element }
+
+    private data class FileElements(
+        val aliases: List<Pair<String, Node>>,
+        val references: List<Pair<String, FlexibleSearchQueryScope<Node>>>,
+    )
+
+    private class Node(private val label: String) {
+        override fun toString() = label
+    }
+}
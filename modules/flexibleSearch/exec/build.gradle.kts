@@ -36,11 +36,14 @@ sourceSets {
 dependencies {
     implementation(project(":shared-core"))
     implementation(project(":exec-core"))
+    implementation(project(":project-core"))
     implementation(project(":console-core"))
     implementation(project(":console-ui"))
     implementation(project(":flexibleSearch-core"))
     implementation(project(":hac-exec"))
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
@@ -18,11 +18,9 @@
 
 package sap.commerce.toolset.flexibleSearch.exec
 
-import com.google.gson.Gson
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
-import com.intellij.util.asSafely
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
@@ -31,9 +29,13 @@ import org.apache.http.message.BasicNameValuePair
 import sap.commerce.toolset.exec.ExecClient
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecContext
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
-import sap.commerce.toolset.flexibleSearch.exec.context.TableBuilder
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchQueryPaging
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultReader
 import sap.commerce.toolset.hac.exec.http.HacHttpClient
+import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
+import sap.commerce.toolset.project.PropertyService
 import java.io.Serial
+import java.net.URI
 
 @Service(Service.Level.PROJECT)
 class FlexibleSearchExecClient(
@@ -63,19 +65,12 @@ class FlexibleSearchExecClient(
         )
 
         try {
-            val json = withContext(Dispatchers.IO) {
-                response.entity.content.readAllBytes()
+            val result = withContext(Dispatchers.IO) {
+                response.entity.content.use { FlexibleSearchResultReader.read(it) }
             }
-                .toString(Charsets.UTF_8)
-                .let { Gson().fromJson(it, HashMap::class.java) }
+            val buffer = result.buffer
 
-            val rawHeaders = json["headers"].asSafely<MutableList<String>>()
-            val rawRows = json["resultList"].asSafely<List<List<String>>>()
-
-            return json["exception"]
-                ?.asSafely<MutableMap<*, *>>()
-                ?.let { it["message"] }
-                ?.toString()
+            return result.exceptionMessage
                 ?.let {
                     FlexibleSearchExecResult(
                         statusCode = HttpStatus.SC_BAD_REQUEST,
@@ -83,9 +78,8 @@ class FlexibleSearchExecClient(
                     )
                 }
                 ?: FlexibleSearchExecResult(
-                    output = buildTableResult(rawHeaders, rawRows),
-                    headers = rawHeaders,
-                    rows = rawRows,
+                    buffer = buffer,
+                    pageableContext = context.takeIf { buffer.rowCount >= it.maxCount && it.pageable && isPagingSupported(it.connection) },
                 )
         } catch (e: Exception) {
             return FlexibleSearchExecResult(
@@ -95,14 +89,15 @@ class FlexibleSearchExecClient(
         }
     }
 
-    private fun buildTableResult(headers: List<String>?, rows: List<List<String>>?): String {
-        val tableBuilder = TableBuilder()
-        headers?.let { tableBuilder.addHeaders(it) }
-        rows?.forEach { row -> tableBuilder.addRow(row) }
-        return tableBuilder.toString()
-    }
+    /**
+     * Database of a remote instance is unknown, only the local one is expected to use the database configured in the project.
+     */
+    private fun isPagingSupported(connection: HacConnectionSettingsState) = runCatching { URI(connection.generatedURL).host }.getOrNull() in LOCAL_HOSTS
+        && FlexibleSearchQueryPaging.isSupported(PropertyService.getInstance(project).findProperty("db.url"))
 
     companion object {
+        private val LOCAL_HOSTS = setOf("localhost", "127.0.0.1", "[::1]")
+
         @Serial
         private const val serialVersionUID: Long = -1238922198933240517L
         fun getInstance(project: Project): FlexibleSearchExecClient = project.service()
@@ -24,6 +24,7 @@ import sap.commerce.toolset.flexibleSearch.exec.FlexibleSearchExecConstants
 import sap.commerce.toolset.hac.HacExecConstants
 import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.settings.state.TransactionMode
+import kotlin.time.Duration.Companion.milliseconds
 
 data class FlexibleSearchExecContext(
     val connection: HacConnectionSettingsState,
@@ -58,6 +59,28 @@ data class FlexibleSearchExecContext(
     override val executionTitle: String
         get() = "Executing ${queryMode.title} on the remote SAP Commerce instance…"
 
+    override val connectionKey
+        get() = connection.uuid
+
+    override val deadline
+        get() = timeout.takeIf { it > 0 }?.milliseconds
+
+    override val idempotent
+        get() = queryMode == QueryMode.FlexibleSearch || transactionMode == TransactionMode.ROLLBACK
+
+    /**
+     * Whether the query itself can be paged, support of `LIMIT ... OFFSET ...` by the database is not checked.
+     */
+    val pageable
+        get() = idempotent && FlexibleSearchQueryPaging.page(content, 0, maxCount) != null
+
+    /**
+     * Context to fetch the next page of the results starting from the [offset], `null` if the query cannot be paged.
+     */
+    fun nextPage(offset: Int): FlexibleSearchExecContext? = if (idempotent) FlexibleSearchQueryPaging.page(content, offset, maxCount)
+        ?.let { copy(content = it) }
+    else null
+
     fun params(): Map<String, String> = buildMap {
         put("scriptType", "flexibleSearch")
         put("commit", BooleanUtils.toStringTrueFalse(transactionMode == TransactionMode.COMMIT))
@@ -26,22 +26,44 @@ import sap.commerce.toolset.exec.context.ReplicaContext
 data class FlexibleSearchExecResult(
     val statusCode: Int = HttpStatus.SC_OK,
     override val result: String? = null,
-    override val output: String? = null,
+    private val textOutput: String? = null,
     override val replicaContext: ReplicaContext? = null,
     override val errorMessage: String? = null,
     override val errorDetailMessage: String? = null,
-    val headers: List<String>? = null,
-    val rows: List<List<String>>? = null,
+    val buffer: FlexibleSearchResultBuffer? = null,
+    val pageableContext: FlexibleSearchExecContext? = null,
 ) : ConsoleAwareExecResult {
 
+    /**
+     * Text table of the results, for buffered results it is built only on the first access, e.g., by the console.
+     */
+    override val output: String? by lazy {
+        textOutput ?: buffer?.let { buffer ->
+            TableBuilder()
+                .apply {
+                    addHeaders(buffer.headers)
+                    buffer.rows.forEach { addRow(it) }
+                }
+                .toString()
+        }
+    }
+
+    val headers: List<String>?
+        get() = buffer?.headers
+
+    val rows: List<List<String>>?
+        get() = buffer?.rows
+
     val hasDataRows: Boolean
-        get() = output?.trim()?.contains("\n") ?: false
+        get() = buffer
+            ?.let { it.rowCount > 0 }
+            ?: (textOutput?.trim()?.contains("\n") ?: false)
 
     companion object {
         fun from(result: DefaultExecResult) = FlexibleSearchExecResult(
             statusCode = result.statusCode,
             result = result.result,
-            output = result.output,
+            textOutput = result.output,
             replicaContext = result.replicaContext,
             errorMessage = result.errorMessage,
             errorDetailMessage = result.errorDetailMessage,
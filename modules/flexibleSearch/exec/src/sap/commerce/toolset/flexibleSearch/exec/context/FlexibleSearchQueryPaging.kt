@@ -0,0 +1,84 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.exec.context
+
+/**
+ * Rewrites the query to fetch the next page of the results via trailing `LIMIT ... OFFSET ...` clause.
+ *
+ * The clause is passed as-is to the underlying database, so it can be used only for the databases which support it, see [isSupported].
+ * Pages are stable only for the ordered results, so queries without top-level `ORDER BY`, same as queries which already limit the results,
+ * are never rewritten.
+ */
+object FlexibleSearchQueryPaging {
+
+    private val limitRegex = "\\b(LIMIT|OFFSET|FETCH\\s+(FIRST|NEXT))\\b".toRegex(RegexOption.IGNORE_CASE)
+    private val orderByRegex = "\\bORDER\\s+BY\\b".toRegex(RegexOption.IGNORE_CASE)
+    private val databaseRegex = "^jdbc:([a-z]+)".toRegex(RegexOption.IGNORE_CASE)
+
+    // HSQLDB, MySQL, MariaDB, PostgreSQL and SAP HANA, but not SQL Server and Oracle
+    private val supportedDatabases = setOf("hsqldb", "mysql", "mariadb", "postgresql", "sap")
+
+    /**
+     * @param dbUrl value of the `db.url` property
+     */
+    fun isSupported(dbUrl: String?) = dbUrl
+        ?.let { databaseRegex.find(it.trim()) }
+        ?.groupValues?.get(1)
+        ?.lowercase() in supportedDatabases
+
+    fun page(query: String, offset: Int, limit: Int): String? {
+        val trimmed = query.trim().removeSuffix(";").trimEnd()
+
+        if (trimmed.isEmpty() || limitRegex.containsMatchIn(trimmed)) return null
+        if (!orderByRegex.containsMatchIn(topLevel(trimmed))) return null
+
+        return "$trimmed\nLIMIT $limit OFFSET $offset"
+    }
+
+    /**
+     * Query with the brackets, subqueries and string literals replaced by spaces.
+     */
+    private fun topLevel(query: String) = buildString {
+        var depth = 0
+        var literal = false
+        var index = 0
+
+        while (index < query.length) {
+            val char = query[index]
+            val next = query.getOrNull(index + 1)
+            var topLevel = false
+
+            when {
+                literal -> literal = char != '\''
+                char == '\'' -> literal = true
+                (char == '{' && next == '{') || (char == '}' && next == '}') -> {
+                    depth += if (char == '{') 1 else -1
+                    index++
+                }
+
+                char == '(' -> depth++
+                char == ')' -> depth--
+                else -> topLevel = depth == 0
+            }
+
+            append(if (topLevel) char else ' ')
+            index++
+        }
+    }
+}
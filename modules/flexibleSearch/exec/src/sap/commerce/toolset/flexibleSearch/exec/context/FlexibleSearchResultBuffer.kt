@@ -0,0 +1,189 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.exec.context
+
+import java.util.Objects
+
+/**
+ * Compact columnar storage of the FlexibleSearch result rows.
+ *
+ * Each column keeps its values as an [IntArray] of ids into the column own pool of values.
+ * Values are de-duplicated while the column has a low cardinality (types, catalog versions, enum values, etc.),
+ * the dictionary is dropped once it grows beyond [DICTIONARY_LIMIT] distinct values (PKs, codes, etc.).
+ *
+ * The buffer is not thread-safe, appends and reads have to be serialized by the caller.
+ */
+class FlexibleSearchResultBuffer {
+
+    private val columns = mutableListOf<Column>()
+
+    var headers: List<String> = emptyList()
+        internal set
+
+    var rowCount = 0
+        private set
+
+    val columnCount
+        get() = maxOf(headers.size, columns.size)
+
+    /**
+     * Read-only view of the buffer, rows and cells are materialized on access only.
+     */
+    val rows: List<List<String>> = object : AbstractList<List<String>>() {
+        override val size
+            get() = rowCount
+
+        override fun get(index: Int): List<String> = object : AbstractList<String>() {
+            override val size
+                get() = columnCount
+
+            override fun get(column: Int) = value(index, column) ?: ""
+        }
+    }
+
+    fun value(row: Int, column: Int): String? {
+        Objects.checkIndex(row, rowCount)
+
+        return columns.getOrNull(column)?.value(row)
+    }
+
+    fun append(row: List<String?>) {
+        while (columns.size < row.size) columns.add(Column(rowCount))
+
+        columns.forEachIndexed { index, column -> column.append(row.getOrNull(index)) }
+        rowCount++
+    }
+
+    fun appendAll(other: FlexibleSearchResultBuffer) {
+        if (headers.isEmpty()) headers = other.headers
+
+        for (index in 0 until other.rowCount) {
+            append(List(other.columnCount) { column -> other.value(index, column) })
+        }
+    }
+
+    /**
+     * Returns the given rows ordered by the values of the [column], numeric values are compared as numbers.
+     * Sorting is stable, `null` values are always placed first.
+     */
+    fun sort(rows: IntArray, column: Int, ascending: Boolean = true): IntArray {
+        val ranks = columns.getOrNull(column)?.ranks() ?: return rows.copyOf()
+        val ids = columns[column]
+
+        // rank in the upper half, original position in the lower half: primitive sort keeps it stable
+        val keys = LongArray(rows.size) { index ->
+            val id = ids.id(rows[index])
+            val rank = if (id < 0) 0 else ranks[id] + 1
+            val ordered = if (ascending || rank == 0) rank else ranks.size + 1 - rank
+
+            (ordered.toLong() shl 32) or index.toLong()
+        }
+        keys.sort()
+
+        return IntArray(keys.size) { rows[(keys[it] and 0xFFFFFFFFL).toInt()] }
+    }
+
+    /**
+     * Returns the given rows which contain the [text] in any of the columns, case-insensitive.
+     */
+    fun filter(rows: IntArray, text: String): IntArray {
+        if (text.isEmpty()) return rows.copyOf()
+
+        // each distinct value is checked only once
+        val matches = columns.map { it.matches(text) }
+
+        return rows
+            .filter { row ->
+                columns.indices.any { column ->
+                    val id = columns[column].id(row)
+                    id >= 0 && matches[column][id]
+                }
+            }
+            .toIntArray()
+    }
+
+    fun allRows() = IntArray(rowCount) { it }
+
+    private class Column(offset: Int) {
+        private var ids = IntArray(maxOf(INITIAL_CAPACITY, offset))
+        private var size = 0
+        private val values = mutableListOf<String>()
+        private var dictionary: HashMap<String, Int>? = HashMap()
+
+        init {
+            // column which appeared only in the later rows
+            repeat(offset) { append(null) }
+        }
+
+        fun id(row: Int) = ids[row]
+
+        fun value(row: Int) = ids[row]
+            .takeIf { it >= 0 }
+            ?.let { values[it] }
+
+        fun append(value: String?) {
+            if (size == ids.size) ids = ids.copyOf(ids.size + (ids.size shr 1))
+
+            ids[size++] = when {
+                value == null -> -1
+                else -> dictionary
+                    ?.getOrPut(value) { values.size.also { values.add(value) } }
+                    ?.also { if (values.size > DICTIONARY_LIMIT) dictionary = null }
+                    ?: values.size.also { values.add(value) }
+            }
+        }
+
+        fun matches(text: String) = BooleanArray(values.size) { values[it].contains(text, true) }
+
+        /**
+         * Rank of each distinct value, equal values share the same rank. Numbers go before the other values.
+         */
+        fun ranks(): IntArray {
+            val numbers = Array(values.size) { values[it].toBigDecimalOrNull() }
+            val comparator = Comparator<Int> { a, b ->
+                val left = numbers[a]
+                val right = numbers[b]
+
+                when {
+                    left != null && right != null -> left.compareTo(right)
+                    left != null -> -1
+                    right != null -> 1
+                    else -> values[a].compareTo(values[b])
+                }
+            }
+            val order = (0 until values.size).sortedWith(comparator)
+            val ranks = IntArray(values.size)
+
+            order.forEachIndexed { index, id ->
+                ranks[id] = when {
+                    index == 0 -> 0
+                    comparator.compare(order[index - 1], id) == 0 -> ranks[order[index - 1]]
+                    else -> ranks[order[index - 1]] + 1
+                }
+            }
+
+            return ranks
+        }
+    }
+
+    companion object {
+        const val DICTIONARY_LIMIT = 64 * 1024
+        private const val INITIAL_CAPACITY = 256
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.exec.context
+
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import java.io.InputStream
+
+/**
+ * Streams the HAC FlexibleSearch response directly into the [FlexibleSearchResultBuffer],
+ * neither the whole response body nor the intermediate JSON tree are kept in memory.
+ */
+object FlexibleSearchResultReader {
+
+    fun read(input: InputStream): Response = JsonReader(input.reader(Charsets.UTF_8)).use { reader ->
+        val buffer = FlexibleSearchResultBuffer()
+        var exceptionMessage: String? = null
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "headers" -> buffer.headers = reader.readStrings().filterNotNull()
+                "resultList" -> reader.readRows(buffer)
+                "exception" -> exceptionMessage = reader.readExceptionMessage()
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        Response(buffer, exceptionMessage)
+    }
+
+    private fun JsonReader.readRows(buffer: FlexibleSearchResultBuffer) {
+        if (skipNull()) return
+
+        beginArray()
+        while (hasNext()) buffer.append(readStrings())
+        endArray()
+    }
+
+    private fun JsonReader.readStrings(): List<String?> {
+        if (skipNull()) return emptyList()
+
+        val values = mutableListOf<String?>()
+
+        beginArray()
+        while (hasNext()) {
+            values.add(
+                when (peek()) {
+                    JsonToken.NULL -> null.also { nextNull() }
+                    JsonToken.STRING, JsonToken.NUMBER -> nextString()
+                    JsonToken.BOOLEAN -> nextBoolean().toString()
+                    else -> null.also { skipValue() }
+                }
+            )
+        }
+        endArray()
+
+        return values
+    }
+
+    private fun JsonReader.readExceptionMessage(): String? {
+        if (peek() != JsonToken.BEGIN_OBJECT) return null.also { skipValue() }
+
+        var message: String? = null
+
+        beginObject()
+        while (hasNext()) {
+            if (nextName() == "message" && peek() == JsonToken.STRING) message = nextString()
+            else skipValue()
+        }
+        endObject()
+
+        return message
+    }
+
+    private fun JsonReader.skipNull() = (peek() == JsonToken.NULL)
+        .also { if (it) nextNull() }
+
+    data class Response(
+        val buffer: FlexibleSearchResultBuffer,
+        val exceptionMessage: String?,
+    )
+}
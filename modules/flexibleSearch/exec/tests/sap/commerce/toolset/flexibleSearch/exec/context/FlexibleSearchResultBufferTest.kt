@@ -0,0 +1,153 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.exec.context
+
+import com.google.gson.Gson
+import kotlin.test.*
+
+class FlexibleSearchResultBufferTest {
+
+    @Test
+    fun test_read_headersRowsAndNulls() {
+        val json = """
+            {"query":"SELECT {pk} FROM {Product}","headers":["PK","code","name"],"executionTime":12,
+             "resultList":[["1","p1",null],["2","p2","Product 2"]],"resultCount":2,"exception":null}
+        """.trimIndent()
+
+        val response = FlexibleSearchResultReader.read(json.byteInputStream())
+        val buffer = response.buffer
+
+        assertNull(response.exceptionMessage)
+        assertEquals(listOf("PK", "code", "name"), buffer.headers)
+        assertEquals(2, buffer.rowCount)
+        assertNull(buffer.value(0, 2))
+        assertEquals(listOf(listOf("1", "p1", ""), listOf("2", "p2", "Product 2")), buffer.rows)
+    }
+
+    @Test
+    fun test_read_exceptionMessage() {
+        val json = """{"headers":[],"resultList":[],"exception":{"message":"type Foo is unknown","cause":{}}}"""
+
+        assertEquals("type Foo is unknown", FlexibleSearchResultReader.read(json.byteInputStream()).exceptionMessage)
+    }
+
+    @Test
+    fun test_append_dictionaryDroppedForHighCardinality() {
+        val buffer = FlexibleSearchResultBuffer()
+        val rows = FlexibleSearchResultBuffer.DICTIONARY_LIMIT * 2
+
+        repeat(rows) { buffer.append(listOf("$it", "Online")) }
+
+        assertEquals(rows, buffer.rowCount)
+        assertEquals("${rows - 1}", buffer.value(rows - 1, 0))
+        assertEquals("Online", buffer.value(rows - 1, 1))
+    }
+
+    @Test
+    fun test_append_columnAppearedLater() {
+        val buffer = FlexibleSearchResultBuffer()
+
+        buffer.append(listOf("a"))
+        buffer.append(listOf("b", "c"))
+
+        assertEquals(2, buffer.columnCount)
+        assertNull(buffer.value(0, 1))
+        assertEquals("c", buffer.value(1, 1))
+    }
+
+    @Test
+    fun test_sort_numericAware_stable() {
+        val buffer = buffer(listOf("10", "a"), listOf("9", "b"), listOf(null, "c"), listOf("x", "d"), listOf("9", "e"))
+
+        val ascending = buffer.sort(buffer.allRows(), 0)
+        val descending = buffer.sort(buffer.allRows(), 0, false)
+
+        assertEquals(listOf("c", "b", "e", "a", "d"), ascending.map { buffer.value(it, 1) })
+        assertEquals(listOf("c", "d", "a", "b", "e"), descending.map { buffer.value(it, 1) })
+    }
+
+    @Test
+    fun test_filter_anyColumnIgnoreCase() {
+        val buffer = buffer(listOf("Shirt", "Apparel"), listOf("Camera", "Electronics"), listOf("Shoe", "apparel"))
+
+        assertContentEquals(intArrayOf(0, 2), buffer.filter(buffer.allRows(), "APPAREL"))
+        assertContentEquals(intArrayOf(2), buffer.filter(intArrayOf(2, 1), "sho"))
+        assertContentEquals(intArrayOf(2, 1), buffer.filter(intArrayOf(2, 1), ""))
+    }
+
+    @Test
+    fun test_page_limitOffsetAppended() {
+        assertEquals(
+            "SELECT {pk} FROM {Product} ORDER BY {pk}\nLIMIT 200 OFFSET 400",
+            FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product} ORDER BY {pk};\n", 400, 200)
+        )
+        assertNull(FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product} ORDER BY {pk} LIMIT 10", 0, 200))
+        assertNull(FlexibleSearchQueryPaging.page("SELECT pk FROM products ORDER BY pk OFFSET 5 ROWS FETCH NEXT 10 ROWS ONLY", 0, 200))
+        assertNull(FlexibleSearchQueryPaging.page("  ", 0, 200))
+    }
+
+    @Test
+    fun test_page_unorderedQueryNotPaged() {
+        assertNull(FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product}", 0, 200))
+        assertNull(FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product} WHERE {pk} IN ({{ SELECT {pk} FROM {Product} ORDER BY {code} }})", 0, 200))
+        assertNull(FlexibleSearchQueryPaging.page("SELECT {pk}, ROW_NUMBER() OVER (ORDER BY {code}) FROM {Product}", 0, 200))
+        assertNull(FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product} WHERE {code} = 'ORDER BY'", 0, 200))
+        assertNotNull(FlexibleSearchQueryPaging.page("SELECT {pk} FROM {Product} WHERE {pk} IN ({{ SELECT {pk} FROM {Product} }}) order  by {code}", 0, 200))
+    }
+
+    @Test
+    fun test_isSupported_byDatabaseUrl() {
+        assertTrue(FlexibleSearchQueryPaging.isSupported("jdbc:hsqldb:file:/hybris/data/hsqldb/mydb"))
+        assertTrue(FlexibleSearchQueryPaging.isSupported("jdbc:mysql://localhost/hybris"))
+        assertTrue(FlexibleSearchQueryPaging.isSupported("jdbc:postgresql://localhost:5432/hybris"))
+        assertTrue(FlexibleSearchQueryPaging.isSupported("jdbc:sap://localhost:30015"))
+        assertFalse(FlexibleSearchQueryPaging.isSupported("jdbc:sqlserver://localhost:1433;databaseName=hybris"))
+        assertFalse(FlexibleSearchQueryPaging.isSupported("jdbc:oracle:thin:@localhost:1521:xe"))
+        assertFalse(FlexibleSearchQueryPaging.isSupported(null))
+    }
+
+    @Test
+    fun test_read_syntheticResponse_sameAsJsonTree() {
+        val rowCount = 5_000
+        val json = syntheticResponse(rowCount)
+
+        @Suppress("UNCHECKED_CAST")
+        val map = Gson().fromJson(json.toString(Charsets.UTF_8), HashMap::class.java)
+        val buffer = FlexibleSearchResultReader.read(json.inputStream()).buffer
+
+        assertEquals(map["headers"], buffer.headers)
+        assertEquals(map["resultList"], buffer.rows)
+        assertEquals(rowCount, buffer.rowCount)
+    }
+
+    private fun buffer(vararg rows: List<String?>) = FlexibleSearchResultBuffer().apply {
+        rows.forEach { append(it) }
+    }
+
+    private fun syntheticResponse(rows: Int) = buildString {
+        append("""{"headers":["PK","code","catalogVersion","approvalStatus","name"],"resultList":[""")
+        for (index in 0 until rows) {
+            if (index > 0) append(',')
+            append("""["${8796093054977L + index}","product-$index","${if (index % 2 == 0) "Online" else "Staged"}",""")
+            append(""""${listOf("approved", "check", "unapproved")[index % 3]}","Product name $index"]""")
+        }
+        append("""],"resultCount":$rows,"exception":null}""")
+    }
+        .toByteArray(Charsets.UTF_8)
+}
@@ -23,33 +23,27 @@ import com.intellij.ide.DataManager
 import com.intellij.openapi.actionSystem.*
 import com.intellij.openapi.actionSystem.ex.CustomComponentAction
 import com.intellij.openapi.actionSystem.impl.ActionButton
-import com.intellij.openapi.application.EDT
+import com.intellij.openapi.application.invokeLater
 import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Disposer
 import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.psi.util.elementType
 import com.intellij.psi.util.lastLeaf
 import com.intellij.ui.GotItTooltip
 import com.intellij.util.asSafely
-import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.launch
-import kotlinx.coroutines.withContext
-import kotlinx.serialization.json.Json
 import sap.commerce.toolset.*
 import sap.commerce.toolset.actionSystem.triggerAction
 import sap.commerce.toolset.flexibleSearch.editor.flexibleSearchExecutionContextSettings
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecContext
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchDefinedTableName
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchPsiFile
+import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchSelectCoreSelect
 import sap.commerce.toolset.flexibleSearch.psi.FlexibleSearchTypes
-import sap.commerce.toolset.flexibleSearch.restrictions.FlexibleSearchCheckRestriction
-import sap.commerce.toolset.flexibleSearch.restrictions.FlexibleSearchRestriction
+import sap.commerce.toolset.flexibleSearch.restrictions.*
 import sap.commerce.toolset.flexibleSearch.ui.FlexibleSearchRestrictionsDialog
-import sap.commerce.toolset.groovy.exec.GroovyExecClient
-import sap.commerce.toolset.groovy.exec.context.GroovyExecContext
 import sap.commerce.toolset.hac.exec.HacExecConnectionService
-import sap.commerce.toolset.settings.state.TransactionMode
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelStateService
 import java.awt.Dimension
 import java.awt.event.HierarchyEvent
@@ -82,70 +76,72 @@ class FlexibleSearchShowRestrictionsAction : AnAction(
             ?: connectionService.getCredentials(server).userName
             ?: "admin"
 
-        val table2scope = PsiTreeUtil.collectElementsOfType(psiFile, FlexibleSearchDefinedTableName::class.java)
-            .distinctBy { it.text }
-            .map { table ->
-                val marker = table.lastLeaf()
-                    .elementType
-                    .takeIf { it != FlexibleSearchTypes.IDENTIFIER }
-                table to marker
-            }
+        val tables = PsiTreeUtil.collectElementsOfType(psiFile, FlexibleSearchDefinedTableName::class.java)
+            .mapNotNull { table ->
+                // tables marked with `*` are excluded from the search restrictions completely
+                val excludeSubTypes = when (table.lastLeaf().elementType) {
+                    FlexibleSearchTypes.IDENTIFIER -> false
+                    FlexibleSearchTypes.EXCLAMATION_MARK -> true
+                    else -> return@mapNotNull null
+                }
 
-        val type2scope = buildList {
-            table2scope.filter { it.second == null }
-                .forEach { add(FlexibleSearchCheckRestriction(it.first.tableName, false)) }
-            table2scope.filter { it.second == FlexibleSearchTypes.EXCLAMATION_MARK }
-                .forEach { add(FlexibleSearchCheckRestriction(it.first.tableName, true)) }
-        }.joinToString(",", "[", "]") {
-            "[\"${it.typeCode}\", ${it.excludeSubTypes}]"
-        }
+                table to FlexibleSearchCheckRestriction(table.tableName, excludeSubTypes, table.tableAlias?.name)
+            }
 
-        if (type2scope == "[]") {
+        if (tables.isEmpty()) {
             showNoRestrictions(editor, userUid)
             return
         }
 
-        val groovyScript = readResource("scripts/flexibleSearch-user-search-restrictions.groovy")
-            .replace("placeholder_userUid", userUid)
-            .replace("placeholder_types", type2scope)
-        val context = GroovyExecContext(
-            connection = server,
-            executionTitle = "Fetching '$userUid' FlexibleSearch restrictions from SAP Commerce [${server.shortenConnectionName}]...",
-            content = groovyScript,
-            transactionMode = TransactionMode.ROLLBACK,
-            timeout = server.timeout,
-        )
-
-        GroovyExecClient.getInstance(project).execute(
-            context = context,
-            onError = { _, e ->
-                thisLogger().warn("Unable to get search restrictions: ${e.message}", e)
-                Notifications.warning("Unable to get search restrictions", "Something went wrong: ${e.message}")
-                    .hideAfter(5)
-                    .notify(project)
-            }
-        ) { coroutineScope, execResult ->
-            coroutineScope.launch {
-                if (execResult.hasError) {
-                    thisLogger().warn("Unable to get search restrictions: ${execResult.errorMessage}")
+        val scopes = tables
+            .groupBy({ PsiTreeUtil.getParentOfType(it.first, FlexibleSearchSelectCoreSelect::class.java) }, { it.second })
+            .mapNotNull { (select, selectTables) ->
+                val fromClause = select?.fromClause ?: return@mapNotNull null
 
-                    Notifications.warning("Unable to get search restrictions", execResult.errorMessage ?: "Unknown error")
-                        .hideAfter(5)
-                        .notify(project)
+                FlexibleSearchRestrictionScope(
+                    tables = selectTables,
+                    where = select.whereClause?.expression?.textRange,
+                    fromEndOffset = fromClause.textRange.endOffset,
+                )
+            }
 
-                    return@launch
-                }
+        showRestrictions(project, editor, psiFile.text, userUid, tables.map { it.second }, scopes, false)
+    }
 
-                val result = execResult.result ?: return@launch
-                val restrictions = Json.decodeFromString<Array<FlexibleSearchRestriction>>(result)
+    private fun showRestrictions(
+        project: Project,
+        editor: Editor,
+        query: String,
+        userUid: String,
+        tables: List<FlexibleSearchCheckRestriction>,
+        scopes: List<FlexibleSearchRestrictionScope>,
+        refresh: Boolean,
+    ) {
+        val server = HacExecConnectionService.getInstance(project).activeConnection
+
+        FlexibleSearchRestrictionsService.getInstance(project).snapshot(
+            connection = server,
+            userUid = userUid,
+            refresh = refresh,
+            onError = { message ->
+                thisLogger().warn("Unable to get search restrictions: $message")
 
-                withContext(Dispatchers.EDT) {
-                    if (restrictions.isEmpty()) {
-                        showNoRestrictions(editor, userUid)
-                    } else {
-                        FlexibleSearchRestrictionsDialog(project, userUid, restrictions.toList()).show()
-                    }
-                }
+                Notifications.warning("Unable to get search restrictions", message)
+                    .hideAfter(5)
+                    .notify(project)
+            }
+        ) { snapshot ->
+            val resolver = FlexibleSearchRestrictionResolver(FlexibleSearchTypeHierarchy.of(project))
+            val restrictions = resolver.resolve(snapshot, tables)
+            val effectiveQuery = resolver.rewrite(query, scopes, restrictions)
+
+            invokeLater {
+                if (project.isDisposed) return@invokeLater
+
+                if (restrictions.isEmpty()) showNoRestrictions(editor, userUid)
+                else FlexibleSearchRestrictionsDialog(project, userUid, restrictions, effectiveQuery) {
+                    showRestrictions(project, editor, query, userUid, tables, scopes, true)
+                }.show()
             }
         }
     }
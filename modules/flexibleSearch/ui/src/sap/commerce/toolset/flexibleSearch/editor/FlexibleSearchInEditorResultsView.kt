@@ -19,6 +19,7 @@
 package sap.commerce.toolset.flexibleSearch.editor
 
 import com.intellij.database.editor.CsvTableFileEditor
+import com.intellij.openapi.application.EDT
 import com.intellij.openapi.application.edtWriteAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
@@ -29,8 +30,11 @@ import com.intellij.testFramework.LightVirtualFile
 import com.intellij.ui.dsl.builder.Align
 import com.intellij.ui.dsl.builder.panel
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
 import sap.commerce.toolset.Plugin
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultBuffer
 import sap.commerce.toolset.flexibleSearch.file.FlexibleSearchFileType
 import sap.commerce.toolset.flexibleSearch.xsvFlexibleSearchFormat
 import sap.commerce.toolset.ui.editor.InEditorResultsView
@@ -56,15 +60,25 @@ class FlexibleSearchInEditorResultsView(
                         )
                     }
 
-                    result.hasDataRows -> resultsView(fileEditor, result.output!!)
+                    result.hasDataRows -> resultsView(fileEditor, result)
                     else -> panelView { it.noResultsView() }
                 }
             }
             ?: multiResultsNotSupportedView()
     }
 
-    suspend fun resultsView(fileEditor: FlexibleSearchSplitEditor, content: String) = if (Plugin.GRID.isActive()) csvTableView(fileEditor, content)
-    else simpleTableView(content)
+    suspend fun resultsView(fileEditor: FlexibleSearchSplitEditor, result: FlexibleSearchExecResult): JComponent {
+        val buffer = result.buffer
+
+        return when {
+            buffer == null -> if (Plugin.GRID.isActive()) csvTableView(fileEditor, result.output!!)
+            else simpleTableView(result.output!!)
+
+            // complete and small enough results are shown in the fully-featured data editor
+            Plugin.GRID.isActive() && result.pageableContext == null && buffer.rowCount <= CSV_TABLE_ROWS_LIMIT -> csvTableView(fileEditor, result.output!!)
+            else -> gridView(fileEditor, result, buffer)
+        }
+    }
 
     private fun simpleTableView(content: String): JComponent = panel {
         row {
@@ -73,6 +87,19 @@ class FlexibleSearchInEditorResultsView(
         }.resizableRow()
     }
 
+    private suspend fun gridView(
+        fileEditor: FlexibleSearchSplitEditor,
+        result: FlexibleSearchExecResult,
+        buffer: FlexibleSearchResultBuffer
+    ): JComponent = withContext(Dispatchers.EDT) {
+        val gridView = FlexibleSearchResultGridView(project, buffer, result.pageableContext)
+
+        Disposer.register(fileEditor, gridView)
+        fileEditor.csvResultsDisposable = gridView
+
+        gridView.component
+    }
+
     private suspend fun csvTableView(fileEditor: FlexibleSearchSplitEditor, content: String): JComponent {
         val lvf = LightVirtualFile(
             fileEditor.file?.name + "_temp.${FlexibleSearchFileType.defaultExtension}.result.csv",
@@ -93,6 +120,8 @@ class FlexibleSearchInEditorResultsView(
     }
 
     companion object {
+        private const val CSV_TABLE_ROWS_LIMIT = 10_000
+
         fun getInstance(project: Project): FlexibleSearchInEditorResultsView = project.service()
     }
 }
\ No newline at end of file
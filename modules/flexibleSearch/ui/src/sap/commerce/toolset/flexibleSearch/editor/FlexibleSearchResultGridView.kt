@@ -0,0 +1,206 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.editor
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.EDT
+import com.intellij.openapi.project.Project
+import com.intellij.ui.DocumentAdapter
+import com.intellij.ui.SearchTextField
+import com.intellij.ui.components.JBLabel
+import com.intellij.ui.dsl.builder.Align
+import com.intellij.ui.dsl.builder.AlignX
+import com.intellij.ui.dsl.builder.panel
+import com.intellij.ui.table.JBTable
+import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import sap.commerce.toolset.flexibleSearch.exec.FlexibleSearchExecClient
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecContext
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultBuffer
+import java.awt.event.MouseAdapter
+import java.awt.event.MouseEvent
+import javax.swing.JButton
+import javax.swing.event.DocumentEvent
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.milliseconds
+
+/**
+ * Virtual grid over the [FlexibleSearchResultBuffer], only the visible rows are rendered by the table.
+ *
+ * Sorting and filtering are computed on the background thread over the row indices, the buffer itself is never copied.
+ * Further results are fetched page by page via the [pageableContext], if present.
+ */
+class FlexibleSearchResultGridView(
+    private val project: Project,
+    private val buffer: FlexibleSearchResultBuffer,
+    private val pageableContext: FlexibleSearchExecContext?,
+) : Disposable {
+
+    private val job = SupervisorJob()
+    private val coroutineScope = CoroutineScope(Dispatchers.Default + job)
+
+    // serializes appends of the next pages with the background sorting and filtering
+    private val mutex = Mutex()
+    private var refreshJob: Job? = null
+
+    private val model = FlexibleSearchResultTableModel(buffer)
+    private val table = JBTable(model).apply {
+        autoResizeMode = JBTable.AUTO_RESIZE_OFF
+        setDefaultRenderer(Any::class.java, CustomCellRenderer())
+        autoResizeColumnsByHeader()
+    }
+    private val statusLabel = JBLabel()
+    private val filterField = SearchTextField(false)
+    private lateinit var loadMoreButton: JButton
+
+    @Volatile
+    private var filter = ""
+
+    @Volatile
+    private var sort: Sort? = null
+
+    val component = panel {
+        row {
+            cell(filterField)
+                .align(AlignX.FILL)
+                .resizableColumn()
+            cell(statusLabel)
+            button("Load More") { loadMore() }
+                .applyToComponent { loadMoreButton = this }
+                .visible(pageableContext != null)
+        }
+        row {
+            scrollCell(table)
+                .align(Align.FILL)
+        }.resizableRow()
+    }
+
+    init {
+        filterField.addDocumentListener(object : DocumentAdapter() {
+            override fun textChanged(e: DocumentEvent) {
+                filter = filterField.text.trim()
+                refresh(FILTER_DELAY)
+            }
+        })
+
+        table.tableHeader.addMouseListener(object : MouseAdapter() {
+            override fun mouseClicked(e: MouseEvent) {
+                val column = table.columnAtPoint(e.point)
+                    .takeIf { it > 0 }
+                    ?.let { table.convertColumnIndexToModel(it) }
+                    ?: return
+
+                sort = sort
+                    ?.takeIf { it.column == column }
+                    ?.let { if (it.ascending) it.copy(ascending = false) else null }
+                    ?: Sort(column, true)
+
+                updateHeaders()
+                refresh()
+            }
+        })
+
+        updateStatus()
+    }
+
+    override fun dispose() = job.cancel()
+
+    private fun refresh(delay: Duration = Duration.ZERO) {
+        refreshJob?.cancel()
+        refreshJob = coroutineScope.launch {
+            delay(delay)
+
+            val filter = filter
+            val sort = sort
+            val view = mutex.withLock {
+                val rows = buffer.filter(buffer.allRows(), filter)
+
+                if (sort == null) rows
+                else buffer.sort(rows, model.bufferColumn(sort.column), sort.ascending)
+            }
+
+            withContext(Dispatchers.EDT) {
+                ensureActive()
+
+                model.updateView(view)
+                updateStatus()
+            }
+        }
+    }
+
+    private fun loadMore() {
+        val context = pageableContext?.nextPage(buffer.rowCount) ?: return
+
+        loadMoreButton.isEnabled = false
+
+        FlexibleSearchExecClient.getInstance(project).execute(context) { _, page ->
+            coroutineScope.launch {
+                mutex.withLock {
+                    withContext(Dispatchers.EDT) {
+                        val columnCount = buffer.columnCount
+                        val pageBuffer = page.buffer
+
+                        if (pageBuffer != null) buffer.appendAll(pageBuffer)
+                        if (columnCount != buffer.columnCount) {
+                            model.updateStructure()
+                            table.autoResizeColumnsByHeader()
+                            updateHeaders()
+                        }
+
+                        loadMoreButton.isEnabled = true
+                        loadMoreButton.isVisible = !page.hasError && (pageBuffer?.rowCount ?: 0) >= context.maxCount
+
+                        if (page.hasError) statusLabel.text = "Cannot load more rows: ${page.errorMessage}"
+                        else refresh()
+                    }
+                }
+            }
+        }
+    }
+
+    private fun updateHeaders() {
+        val sort = sort
+
+        for (column in 1 until model.columnCount) {
+            val name = model.getColumnName(column)
+
+            table.columnModel.getColumn(table.convertColumnIndexToView(column)).headerValue = when {
+                sort == null || sort.column != column -> name
+                sort.ascending -> "$name ↑"
+                else -> "$name ↓"
+            }
+        }
+
+        table.tableHeader.repaint()
+    }
+
+    private fun updateStatus() {
+        val visible = model.rowCount
+
+        statusLabel.text = if (visible == buffer.rowCount) "Rows: $visible"
+        else "Rows: $visible of ${buffer.rowCount}"
+    }
+
+    private data class Sort(val column: Int, val ascending: Boolean)
+
+    companion object {
+        private val FILTER_DELAY = 300.milliseconds
+    }
+}
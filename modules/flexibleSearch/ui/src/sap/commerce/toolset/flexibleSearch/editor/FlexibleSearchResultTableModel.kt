@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.editor
+
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultBuffer
+import java.io.Serial
+import javax.swing.table.AbstractTableModel
+
+/**
+ * Table model over the [FlexibleSearchResultBuffer], cells are read from the buffer only when rendered.
+ *
+ * Sorting and filtering are represented by the [view] of buffer row indices, which is computed outside the EDT.
+ */
+class FlexibleSearchResultTableModel(private val buffer: FlexibleSearchResultBuffer) : AbstractTableModel() {
+
+    var view: IntArray = buffer.allRows()
+        private set
+
+    fun updateView(view: IntArray) {
+        this.view = view
+        fireTableDataChanged()
+    }
+
+    fun updateStructure() = fireTableStructureChanged()
+
+    fun bufferColumn(column: Int) = column - 1
+
+    override fun getRowCount() = view.size
+    override fun getColumnCount() = buffer.columnCount + 1
+    override fun getColumnName(column: Int) = if (column == 0) ""
+    else buffer.headers.getOrNull(bufferColumn(column)) ?: ""
+
+    override fun getValueAt(rowIndex: Int, columnIndex: Int): String? {
+        val row = view[rowIndex]
+
+        return if (columnIndex == 0) "${row + 1}"
+        else buffer.value(row, bufferColumn(columnIndex))
+    }
+
+    companion object {
+        @Serial
+        private const val serialVersionUID: Long = 3157216426290843153L
+    }
+}
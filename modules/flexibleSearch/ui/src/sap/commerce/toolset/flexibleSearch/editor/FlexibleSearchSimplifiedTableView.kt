@@ -97,7 +97,7 @@ fun JTable.autoResizeColumnsByHeader() {
     }
 }
 
-private class CustomCellRenderer : ColoredTableCellRenderer() {
+internal class CustomCellRenderer : ColoredTableCellRenderer() {
     @Serial
     private val serialVersionUID: Long = -2610838431719623644L
 
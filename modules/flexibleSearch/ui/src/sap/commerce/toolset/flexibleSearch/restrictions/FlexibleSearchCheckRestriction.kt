@@ -18,10 +18,11 @@
 
 package sap.commerce.toolset.flexibleSearch.restrictions
 
-import kotlinx.serialization.Serializable
-
-@Serializable
+/**
+ * Table of the FlexibleSearch query to be checked against the search restrictions.
+ */
 data class FlexibleSearchCheckRestriction(
     val typeCode: String,
-    val excludeSubTypes: Boolean
+    val excludeSubTypes: Boolean,
+    val alias: String? = null,
 )
\ No newline at end of file
@@ -0,0 +1,168 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.restrictions
+
+/**
+ * Applies the search restrictions of the [FlexibleSearchRestrictionsSnapshot] to the FlexibleSearch query locally.
+ *
+ * Same way as SAP Commerce does, restrictions declared for the queried type and all its super types are applied,
+ * restrictions declared for the sub-types are applied only to the rows of these sub-types, unless sub-types are excluded (`{Type!}`).
+ * All restrictions applicable to the table are combined via `AND`.
+ */
+class FlexibleSearchRestrictionResolver(private val hierarchy: FlexibleSearchTypeHierarchy) {
+
+    fun resolve(
+        snapshot: FlexibleSearchRestrictionsSnapshot,
+        tables: Collection<FlexibleSearchCheckRestriction>
+    ): Map<FlexibleSearchCheckRestriction, List<FlexibleSearchRestriction>> {
+        val principals = snapshot.principals.mapTo(HashSet()) { it.lowercase() }
+        val restrictionsByType = snapshot.restrictions
+            .filter { it.principal.lowercase() in principals }
+            .groupBy { it.typeCode.lowercase() }
+
+        return tables
+            .associateWith { table ->
+                types(table).flatMap { restrictionsByType[it.lowercase()] ?: emptyList() }
+            }
+            .filterValues { it.isNotEmpty() }
+    }
+
+    /**
+     * Effective query with the conditions of the [restrictions] appended to the corresponding select of each table.
+     */
+    fun rewrite(
+        query: String,
+        scopes: Collection<FlexibleSearchRestrictionScope>,
+        restrictions: Map<FlexibleSearchCheckRestriction, List<FlexibleSearchRestriction>>
+    ): String {
+        val insertions = scopes
+            .flatMap { scope ->
+                val conditions = scope.tables
+                    .flatMap { table ->
+                        restrictions[table]
+                            ?.map { condition(table, it) }
+                            ?: emptyList()
+                    }
+                    .takeIf { it.isNotEmpty() }
+                    ?.joinToString("\n  AND ")
+                    ?: return@flatMap emptyList()
+
+                if (scope.where != null) listOf(
+                    scope.where.startOffset to "(",
+                    scope.where.endOffset to ")\n  AND $conditions",
+                )
+                else listOf(scope.fromEndOffset to "\nWHERE $conditions")
+            }
+            .sortedByDescending { it.first }
+
+        return insertions.fold(StringBuilder(query)) { builder, (offset, text) -> builder.insert(offset, text) }
+            .toString()
+    }
+
+    fun condition(table: FlexibleSearchCheckRestriction, restriction: FlexibleSearchRestriction): String {
+        val condition = qualify(restriction.query, table.alias)
+        val restrictedType = restriction.typeCode
+        val inherited = restrictedType.equals(table.typeCode, true)
+            || hierarchy.superTypes(table.typeCode).any { it.equals(restrictedType, true) }
+
+        if (inherited) return "($condition)"
+
+        val subTypes = (listOf(restrictedType) + hierarchy.allSubTypes(restrictedType))
+            .joinToString(", ") { "'$it'" }
+        val itemType = table.alias?.let { "{$it.itemtype}" } ?: "{itemtype}"
+
+        return "($itemType NOT IN ({{SELECT {pk} FROM {ComposedType} WHERE {code} IN ($subTypes)}}) OR ($condition))"
+    }
+
+    private fun types(table: FlexibleSearchCheckRestriction) = buildList {
+        add(table.typeCode)
+        addAll(hierarchy.superTypes(table.typeCode))
+        if (!table.excludeSubTypes) addAll(hierarchy.allSubTypes(table.typeCode))
+    }
+
+    companion object {
+        private val itemAttributeRegex = "^item\\s*[.:]\\s*".toRegex(RegexOption.IGNORE_CASE)
+
+        /**
+         * Qualifies attributes of the restriction query with the table alias, both unqualified `{code}`
+         * and `{item:code}` attributes refer to the restricted item. Own attributes of the nested sub-queries are kept as-is.
+         */
+        fun qualify(query: String, alias: String?) = buildString {
+            var index = 0
+            var depth = 0
+
+            while (index < query.length) {
+                val char = query[index]
+
+                when {
+                    char == '\'' -> {
+                        val end = query.indexOf('\'', index + 1)
+                            .takeIf { it >= 0 }
+                            ?: (query.length - 1)
+
+                        append(query, index, end + 1)
+                        index = end + 1
+                    }
+
+                    query.startsWith("{{", index) -> {
+                        depth++
+                        append("{{")
+                        index += 2
+                    }
+
+                    query.startsWith("}}", index) && depth > 0 -> {
+                        depth--
+                        append("}}")
+                        index += 2
+                    }
+
+                    char == '{' -> {
+                        val end = query.indexOf('}', index)
+                            .takeIf { it >= 0 }
+                            ?: query.length
+                        val attribute = query.substring(index + 1, end)
+
+                        // within sub-queries only references to the restricted item are qualified
+                        if (depth == 0 || itemAttributeRegex.containsMatchIn(attribute.trim())) append(qualifyAttribute(attribute, alias))
+                        else append(query, index, minOf(end + 1, query.length))
+
+                        index = end + 1
+                    }
+
+                    else -> {
+                        append(char)
+                        index++
+                    }
+                }
+            }
+        }
+
+        private fun qualifyAttribute(attribute: String, alias: String?): String {
+            val name = attribute.trim()
+            val unqualified = when {
+                itemAttributeRegex.containsMatchIn(name) -> name.replace(itemAttributeRegex, "")
+                name.contains('.') || name.contains(':') -> return "{$attribute}"
+                else -> name
+            }
+
+            return if (alias == null) "{$unqualified}"
+            else "{$alias.$unqualified}"
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.restrictions
+
+import com.intellij.openapi.util.TextRange
+
+/**
+ * Select of the FlexibleSearch query, restrictions of its [tables] are appended to the [where] expression
+ * or, if there is no WHERE clause, right after the FROM clause ending at [fromEndOffset].
+ */
+data class FlexibleSearchRestrictionScope(
+    val tables: Collection<FlexibleSearchCheckRestriction>,
+    val where: TextRange?,
+    val fromEndOffset: Int,
+)
@@ -0,0 +1,136 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.restrictions
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.project.Project
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.json.Json
+import sap.commerce.toolset.groovy.exec.GroovyExecClient
+import sap.commerce.toolset.groovy.exec.context.GroovyExecContext
+import sap.commerce.toolset.hac.exec.settings.event.HacConnectionSettingsListener
+import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
+import sap.commerce.toolset.readResource
+import sap.commerce.toolset.settings.state.TransactionMode
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Keeps snapshot of all active search restrictions per connection, so they are fetched from the server only once
+ * and then applied to the queries locally, see [FlexibleSearchRestrictionResolver].
+ *
+ * Principals of each user are fetched once as well, snapshot is dropped on explicit refresh or change of the connection.
+ */
+@Service(Service.Level.PROJECT)
+class FlexibleSearchRestrictionsService(private val project: Project) : Disposable {
+
+    //map: key is HacConnectionSettingsState.UUID
+    private val snapshots = ConcurrentHashMap<String, ConnectionSnapshot>()
+
+    init {
+        with(project.messageBus.connect(this)) {
+            subscribe(HacConnectionSettingsListener.TOPIC, object : HacConnectionSettingsListener {
+                override fun onUpdate(settings: Collection<HacConnectionSettingsState>) = settings.forEach { invalidate(it) }
+                override fun onSave(settings: Collection<HacConnectionSettingsState>) = settings.forEach { invalidate(it) }
+                override fun onDelete(connection: HacConnectionSettingsState) = invalidate(connection)
+            })
+        }
+    }
+
+    fun invalidate(connection: HacConnectionSettingsState) {
+        snapshots.remove(connection.uuid)
+    }
+
+    fun cached(connection: HacConnectionSettingsState, userUid: String): FlexibleSearchRestrictionsSnapshot? {
+        val snapshot = snapshots[connection.uuid] ?: return null
+        val principals = snapshot.principals[userUid] ?: return null
+
+        return FlexibleSearchRestrictionsSnapshot(userUid, principals, snapshot.restrictions)
+    }
+
+    /**
+     * Returns cached snapshot right away, unless [refresh] is requested, otherwise fetches missing details from the server.
+     */
+    fun snapshot(
+        connection: HacConnectionSettingsState,
+        userUid: String,
+        refresh: Boolean = false,
+        onError: (String) -> Unit,
+        onResult: (FlexibleSearchRestrictionsSnapshot) -> Unit,
+    ) {
+        if (refresh) invalidate(connection)
+        else cached(connection, userUid)?.let { return onResult(it) }
+
+        val includeRestrictions = !snapshots.containsKey(connection.uuid)
+        val groovyScript = readResource("scripts/flexibleSearch-search-restrictions-snapshot.groovy")
+            .replace("placeholder_userUid", userUid)
+            .replace("placeholder_includeRestrictions", includeRestrictions.toString())
+        val context = GroovyExecContext(
+            connection = connection,
+            executionTitle = "Fetching FlexibleSearch restrictions from SAP Commerce [${connection.shortenConnectionName}]...",
+            content = groovyScript,
+            transactionMode = TransactionMode.ROLLBACK,
+            timeout = connection.timeout,
+        )
+
+        GroovyExecClient.getInstance(project).execute(
+            context = context,
+            onError = { _, e -> onError(e.message ?: "Unknown error") },
+        ) { _, execResult ->
+            val result = execResult.result
+
+            if (execResult.hasError || result == null) return@execute onError(execResult.errorMessage ?: "Unknown error")
+
+            try {
+                val response = json.decodeFromString<Response>(result)
+                val snapshot = response.restrictions
+                    ?.let { restrictions -> ConnectionSnapshot(restrictions).also { snapshots[connection.uuid] = it } }
+                    ?: snapshots[connection.uuid]
+                    ?: return@execute onError("Search restrictions are not fetched for the connection")
+
+                snapshot.principals[userUid] = response.principals.toSet()
+                onResult(FlexibleSearchRestrictionsSnapshot(userUid, response.principals.toSet(), snapshot.restrictions))
+            } catch (e: Exception) {
+                thisLogger().warn("Unable to parse search restrictions: ${e.message}", e)
+                onError("Unable to parse search restrictions: ${e.message}")
+            }
+        }
+    }
+
+    override fun dispose() = snapshots.clear()
+
+    private class ConnectionSnapshot(val restrictions: List<FlexibleSearchRestriction>) {
+        //map: key is User UID, value is UIDs of the user and all its groups
+        val principals = ConcurrentHashMap<String, Set<String>>()
+    }
+
+    @Serializable
+    private data class Response(
+        val principals: List<String>,
+        val restrictions: List<FlexibleSearchRestriction>? = null,
+    )
+
+    companion object {
+        private val json = Json { ignoreUnknownKeys = true }
+
+        fun getInstance(project: Project): FlexibleSearchRestrictionsService = project.service()
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.restrictions
+
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+
+/**
+ * Type hierarchy used to resolve search restrictions applicable to the queried types.
+ */
+interface FlexibleSearchTypeHierarchy {
+
+    fun superTypes(typeCode: String): Collection<String>
+
+    /**
+     * Direct sub-types of the given type.
+     */
+    fun subTypes(typeCode: String): Collection<String>
+
+    fun allSubTypes(typeCode: String): Collection<String> = buildSet {
+        val queue = ArrayDeque(subTypes(typeCode))
+
+        while (queue.isNotEmpty()) {
+            val subType = queue.removeFirst()
+            if (add(subType)) queue.addAll(subTypes(subType))
+        }
+    }
+
+    companion object {
+        fun of(project: Project) = object : FlexibleSearchTypeHierarchy {
+            private val metaModelAccess = TSMetaModelAccess.getInstance(project)
+
+            override fun superTypes(typeCode: String) = metaModelAccess.findMetaItemByName(typeCode)
+                ?.allExtends
+                ?.mapNotNull { it.name }
+                ?: emptyList()
+
+            override fun subTypes(typeCode: String) = metaModelAccess.findMetaItemByName(typeCode)
+                ?.let { metaModelAccess.findSubItems(it) }
+                ?.mapNotNull { it.name }
+                ?: emptyList()
+        }
+    }
+}
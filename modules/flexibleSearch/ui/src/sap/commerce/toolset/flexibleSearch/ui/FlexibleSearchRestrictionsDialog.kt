@@ -30,6 +30,7 @@ import com.intellij.util.ui.JBUI
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.Notifications
 import sap.commerce.toolset.flexibleSearch.FlexibleSearchLanguage
+import sap.commerce.toolset.flexibleSearch.restrictions.FlexibleSearchCheckRestriction
 import sap.commerce.toolset.flexibleSearch.restrictions.FlexibleSearchRestriction
 import sap.commerce.toolset.scratch.createScratchFile
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
@@ -43,9 +44,25 @@ import javax.swing.ScrollPaneConstants
 class FlexibleSearchRestrictionsDialog(
     private val project: Project,
     private val userUid: String,
-    private val restrictions: Collection<FlexibleSearchRestriction>,
+    private val tableRestrictions: Map<FlexibleSearchCheckRestriction, List<FlexibleSearchRestriction>>,
+    private val effectiveQuery: String,
+    private val onRefresh: () -> Unit,
 ) : DialogWrapper(project, null, false, IdeModalityType.IDE) {
 
+    private val restrictions = tableRestrictions.values
+        .flatten()
+        .distinct()
+
+    private val refreshButton = object : DialogWrapperAction("Refresh from Server") {
+        @Serial
+        private val serialVersionUID: Long = 4519832756023418870L
+
+        override fun doAction(e: ActionEvent) {
+            close(CANCEL_EXIT_CODE)
+            onRefresh()
+        }
+    }
+
     private val copyToImpExButton = object : DialogWrapperAction("Copy as ImpEx and Close") {
         @Serial
         private val serialVersionUID: Long = -6131274562037160651L
@@ -82,13 +99,19 @@ class FlexibleSearchRestrictionsDialog(
 
     override fun createActions() = arrayOf(cancelAction)
     override fun getInitialSize() = JBUI.DialogSizes.large()
-    override fun createLeftSideActions() = arrayOf(copyToImpExButton)
+    override fun createLeftSideActions() = arrayOf(copyToImpExButton, refreshButton)
 
     override fun createCenterPanel() = panel {
         row {
             text("The following search restrictions have been identified for the <strong>$userUid</strong> and the given FlexibleSearch query.")
         }
 
+        row {
+            cell(queryViewer(effectiveQuery, 120))
+                .label("Effective query:", LabelPosition.TOP)
+                .align(Align.FILL)
+        }.topGap(TopGap.SMALL)
+
         row {
             scrollCell(restrictions())
                 .resizableColumn()
@@ -103,6 +126,20 @@ class FlexibleSearchRestrictionsDialog(
     private fun restrictions() = panel {
         val metaModelAccess = TSMetaModelAccess.getInstance(project)
 
+        tableRestrictions.forEach { (table, restrictions) ->
+            val tableName = buildString {
+                append(table.typeCode)
+                if (table.excludeSubTypes) append("!")
+                table.alias?.let { append(" AS $it") }
+            }
+
+            group(tableName) {
+                restrictions(metaModelAccess, restrictions)
+            }
+        }
+    }
+
+    private fun Panel.restrictions(metaModelAccess: TSMetaModelAccess, restrictions: List<FlexibleSearchRestriction>) {
         restrictions.forEach { restriction ->
             row {
                 icon(HybrisIcons.FlexibleSearch.RESTRICTIONS)
@@ -126,21 +163,22 @@ class FlexibleSearchRestrictionsDialog(
             }.layout(RowLayout.PARENT_GRID)
 
             row {
-                cell(LanguageTextField(FlexibleSearchLanguage, project, restriction.query, false))
+                cell(queryViewer(restriction.query, 60))
                     .align(Align.FILL)
-                    .applyToComponent {
-                        preferredSize = Dimension(preferredSize.width, JBUI.scale(60))
-                        isViewer = true
-
-                        setDisposedWith(disposable)
-                        val editorEx = getEditor(true)
-
-                        editorEx?.settings?.isUseSoftWraps = true
-                        editorEx?.scrollPane?.verticalScrollBarPolicy = ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED
-                    }
             }
                 .layout(RowLayout.PARENT_GRID)
                 .bottomGap(BottomGap.MEDIUM)
         }
     }
-}
\ No newline at end of file
+
+    private fun queryViewer(query: String, height: Int) = LanguageTextField(FlexibleSearchLanguage, project, query, false).apply {
+        preferredSize = Dimension(preferredSize.width, JBUI.scale(height))
+        isViewer = true
+
+        setDisposedWith(disposable)
+        val editorEx = getEditor(true)
+
+        editorEx?.settings?.isUseSoftWraps = true
+        editorEx?.scrollPane?.verticalScrollBarPolicy = ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED
+    }
+}
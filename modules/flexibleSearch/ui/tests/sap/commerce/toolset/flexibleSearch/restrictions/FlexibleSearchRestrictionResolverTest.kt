@@ -0,0 +1,155 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.restrictions
+
+import com.intellij.openapi.util.TextRange
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class FlexibleSearchRestrictionResolverTest {
+
+    private val hierarchy = object : FlexibleSearchTypeHierarchy {
+        private val parents = mapOf(
+            "Principal" to "Item",
+            "User" to "Principal",
+            "Customer" to "User",
+            "Employee" to "User",
+            "Product" to "Item",
+            "VariantProduct" to "Product",
+            "ApparelSizeVariantProduct" to "VariantProduct",
+        )
+
+        override fun superTypes(typeCode: String) = generateSequence(parents[typeCode]) { parents[it] }.toList()
+        override fun subTypes(typeCode: String) = parents.filterValues { it == typeCode }.keys
+    }
+
+    private val hideSystemPrincipals = FlexibleSearchRestriction("HideSystemPrincipals", "Principal", "employeegroup", "{uid} not in ( 'anonymous', 'admin' )")
+    private val employeesOnly = FlexibleSearchRestriction("EmployeesOnly", "Employee", "cmsmanagergroup", "{name} IS NOT NULL")
+    private val customersOnly = FlexibleSearchRestriction("CustomersOnly", "Customer", "customergroup", "{name} IS NOT NULL")
+    private val backendVisibility = FlexibleSearchRestriction("Backend_visibility", "Product", "cmsmanagergroup", "{catalogVersion} IN (?session.catalogversions)")
+    private val variantVisibility = FlexibleSearchRestriction(
+        "Variant_visibility", "VariantProduct", "CMSManagerGroup",
+        "EXISTS ({{SELECT {pk} FROM {Product AS base} WHERE {base:pk}={item:baseProduct}}})"
+    )
+
+    private val snapshot = FlexibleSearchRestrictionsSnapshot(
+        userUid = "cmsmanager",
+        principals = setOf("cmsmanager", "cmsmanagergroup", "employeegroup"),
+        restrictions = listOf(hideSystemPrincipals, employeesOnly, customersOnly, backendVisibility, variantVisibility),
+    )
+
+    private val resolver = FlexibleSearchRestrictionResolver(hierarchy)
+
+    @Test
+    fun test_resolve_superAndSubTypesOfUserPrincipals() {
+        val users = FlexibleSearchCheckRestriction("User", false)
+        val exactUsers = FlexibleSearchCheckRestriction("User", true)
+        val products = FlexibleSearchCheckRestriction("Product", false, "p")
+        val exactProducts = FlexibleSearchCheckRestriction("Product", true, "p")
+
+        val restrictions = resolver.resolve(snapshot, listOf(users, exactUsers, products, exactProducts))
+
+        assertEquals(listOf(hideSystemPrincipals, employeesOnly), restrictions[users])
+        assertEquals(listOf(hideSystemPrincipals), restrictions[exactUsers])
+        assertEquals(listOf(backendVisibility, variantVisibility), restrictions[products])
+        assertEquals(listOf(backendVisibility), restrictions[exactProducts])
+    }
+
+    @Test
+    fun test_resolve_notApplicable() {
+        val restrictions = resolver.resolve(snapshot, listOf(FlexibleSearchCheckRestriction("Customer", true)))
+
+        assertEquals(listOf(hideSystemPrincipals), restrictions.values.single())
+        assertEquals(
+            emptyMap(),
+            resolver.resolve(snapshot.copy(principals = setOf("anonymous")), listOf(FlexibleSearchCheckRestriction("Customer", true)))
+        )
+    }
+
+    @Test
+    fun test_qualify_attributesOfRestrictedItem() {
+        assertEquals(
+            "{p.catalogVersion} IN (?session.catalogversions) AND {p.name[en]} <> '{code}'",
+            FlexibleSearchRestrictionResolver.qualify("{catalogVersion} IN (?session.catalogversions) AND {name[en]} <> '{code}'", "p")
+        )
+        assertEquals(
+            "EXISTS ({{SELECT {pk} FROM {Product AS base} WHERE {base:pk}={p.baseProduct}}})",
+            FlexibleSearchRestrictionResolver.qualify(variantVisibility.query, "p")
+        )
+        assertEquals(
+            "EXISTS ({{SELECT {pk} FROM {Product AS base} WHERE {base:pk}={baseProduct}}})",
+            FlexibleSearchRestrictionResolver.qualify(variantVisibility.query, null)
+        )
+    }
+
+    @Test
+    fun test_rewrite_appendedToWhereClause() {
+        val query = "SELECT {p.pk} FROM {Product AS p} WHERE {p.code} = 'x'"
+        val products = FlexibleSearchCheckRestriction("Product", false, "p")
+        val scope = FlexibleSearchRestrictionScope(
+            tables = listOf(products),
+            where = TextRange(query.indexOf("{p.code}"), query.length),
+            fromEndOffset = query.indexOf(" WHERE"),
+        )
+
+        val rewritten = resolver.rewrite(query, listOf(scope), resolver.resolve(snapshot, listOf(products)))
+
+        assertEquals(
+            """
+            SELECT {p.pk} FROM {Product AS p} WHERE ({p.code} = 'x')
+              AND ({p.catalogVersion} IN (?session.catalogversions))
+              AND ({p.itemtype} NOT IN ({{SELECT {pk} FROM {ComposedType} WHERE {code} IN ('VariantProduct', 'ApparelSizeVariantProduct')}}) OR (EXISTS ({{SELECT {pk} FROM {Product AS base} WHERE {base:pk}={p.baseProduct}}})))
+            """.trimIndent(),
+            rewritten
+        )
+    }
+
+    @Test
+    fun test_rewrite_whereClauseAddedToEachSelect() {
+        val query = "SELECT {p.pk} FROM {Product! AS p} WHERE {p.owner} IN ({{SELECT {u.pk} FROM {User! AS u}}})"
+        val products = FlexibleSearchCheckRestriction("Product", true, "p")
+        val users = FlexibleSearchCheckRestriction("User", true, "u")
+        val scopes = listOf(
+            FlexibleSearchRestrictionScope(listOf(products), TextRange(query.indexOf("{p.owner}"), query.length), query.indexOf(" WHERE")),
+            FlexibleSearchRestrictionScope(listOf(users), null, query.indexOf("{User! AS u}") + "{User! AS u}".length),
+        )
+
+        val rewritten = resolver.rewrite(query, scopes, resolver.resolve(snapshot, listOf(products, users)))
+
+        assertEquals(
+            """
+            SELECT {p.pk} FROM {Product! AS p} WHERE ({p.owner} IN ({{SELECT {u.pk} FROM {User! AS u}
+            WHERE ({u.uid} not in ( 'anonymous', 'admin' ))}}))
+              AND ({p.catalogVersion} IN (?session.catalogversions))
+            """.trimIndent(),
+            rewritten
+        )
+    }
+
+    @Test
+    fun test_rewrite_withoutRestrictions_unchanged() {
+        val query = "SELECT {pk} FROM {Title}"
+        val titles = FlexibleSearchCheckRestriction("Title", false)
+
+        assertEquals(
+            query,
+            resolver.rewrite(query, listOf(FlexibleSearchRestrictionScope(listOf(titles), null, query.length)), resolver.resolve(snapshot, listOf(titles)))
+        )
+    }
+}
@@ -85,31 +85,8 @@ class GroovyExecClient(project: Project, coroutineScope: CoroutineScope) : Defau
 
         try {
             val response = response.entity.content.readBytes().toString(Charsets.UTF_8)
-            val responseWrapperJson = Json.parseToJsonElement(response)
-            val json = when (context.execMode) {
-                GroovyExecMode.DIRECT -> responseWrapperJson
-                GroovyExecMode.TEMPLATE -> responseWrapperJson.jsonObject[GroovyExecConstants.RESPONSE_EXECUTION_RESULT]
-                    ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
-                    ?.let {
-                        runCatching { Json.parseToJsonElement(it) }.getOrElse { responseWrapperJson }
-                    }
-                    ?: responseWrapperJson
-            }
-
-            val outputText = json.jsonObject[GroovyExecConstants.RESPONSE_OUTPUT_TEXT]
-                ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
-            val executionResult = json.jsonObject[GroovyExecConstants.RESPONSE_EXECUTION_RESULT]
-                ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
-            val error = GroovyExecResponseError.from(json)
 
-            return DefaultExecResult(
-                statusCode = error?.let { HttpStatus.SC_BAD_REQUEST } ?: HttpStatus.SC_OK,
-                replicaContext = context.replicaContext,
-                errorMessage = error?.message,
-                errorDetailMessage = error?.details,
-                output = outputText,
-                result = executionResult
-            )
+            return GroovyExecResponseParser.parse(response, context.execMode, context.replicaContext)
         } catch (e: SerializationException) {
             thisLogger().error("Cannot parse response", e)
 
@@ -0,0 +1,64 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.groovy.exec
+
+import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.jsonObject
+import kotlinx.serialization.json.jsonPrimitive
+import org.apache.http.HttpStatus
+import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.context.ReplicaContext
+import sap.commerce.toolset.groovy.settings.state.GroovyExecMode
+
+/**
+ * Maps the response of the hAC scripting console to the [DefaultExecResult].
+ */
+internal object GroovyExecResponseParser {
+
+    /**
+     * @throws kotlinx.serialization.SerializationException if the [response] is not a valid JSON
+     */
+    fun parse(response: String, execMode: GroovyExecMode, replicaContext: ReplicaContext? = null): DefaultExecResult {
+        val responseWrapperJson = Json.parseToJsonElement(response)
+        val json = when (execMode) {
+            GroovyExecMode.DIRECT -> responseWrapperJson
+            GroovyExecMode.TEMPLATE -> responseWrapperJson.jsonObject[GroovyExecConstants.RESPONSE_EXECUTION_RESULT]
+                ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
+                ?.let {
+                    runCatching { Json.parseToJsonElement(it) }.getOrElse { responseWrapperJson }
+                }
+                ?: responseWrapperJson
+        }
+
+        val outputText = json.jsonObject[GroovyExecConstants.RESPONSE_OUTPUT_TEXT]
+            ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
+        val executionResult = json.jsonObject[GroovyExecConstants.RESPONSE_EXECUTION_RESULT]
+            ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
+        val error = GroovyExecResponseError.from(json)
+
+        return DefaultExecResult(
+            statusCode = error?.let { HttpStatus.SC_BAD_REQUEST } ?: HttpStatus.SC_OK,
+            replicaContext = replicaContext,
+            errorMessage = error?.message,
+            errorDetailMessage = error?.details,
+            output = outputText,
+            result = executionResult
+        )
+    }
+}
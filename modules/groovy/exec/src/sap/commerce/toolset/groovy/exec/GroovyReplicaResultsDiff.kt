@@ -0,0 +1,90 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.groovy.exec
+
+import sap.commerce.toolset.exec.context.DefaultExecResult
+
+/**
+ * Side-by-side comparison of the results of the same script executed on several replicas.
+ *
+ * Result and output of each replica are split into lines. Lines in the `key=value` or `key: value` form are compared by key,
+ * so a row shows the value reported by each replica, e.g., a cache size or a configuration property.
+ * Any other line is compared as a whole and is present only for the replicas which printed it.
+ * Rows keep the order in which they appeared first, a failed execution is reported in the [ERROR_KEY] row.
+ */
+class GroovyReplicaResultsDiff private constructor(
+    val replicas: List<String>,
+    val rows: List<Row>,
+) {
+
+    val differences
+        get() = rows.filter { it.divergent }
+
+    val identical
+        get() = rows.none { it.divergent }
+
+    data class Row(val key: String, val values: List<String?>) {
+        val divergent = values.distinct().size > 1
+    }
+
+    companion object {
+        const val ERROR_KEY = "<error>"
+
+        private val KEY_VALUE = Regex("""^([^\s=:][^=:]*?)\s*[=:]\s*(.*)$""")
+
+        fun of(results: Collection<DefaultExecResult>): GroovyReplicaResultsDiff {
+            val sortedResults = results.sortedBy { it.replicaContext?.replicaId }
+            val replicas = sortedResults.mapIndexed { index, result -> result.replicaContext?.replicaId ?: "#${index + 1}" }
+            val values = LinkedHashMap<String, Array<String?>>()
+
+            sortedResults.forEachIndexed { index, result ->
+                entries(result).forEach { (key, value) ->
+                    values.computeIfAbsent(key) { arrayOfNulls(replicas.size) }[index] = value
+                }
+            }
+
+            return GroovyReplicaResultsDiff(
+                replicas = replicas,
+                rows = values.map { (key, values) -> Row(key, values.toList()) },
+            )
+        }
+
+        private fun entries(result: DefaultExecResult): List<Pair<String, String>> {
+            val occurrences = mutableMapOf<String, Int>()
+            val entries = listOfNotNull(result.result, result.output)
+                .flatMap { it.lineSequence() }
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+                .map { line ->
+                    KEY_VALUE.matchEntire(line)
+                        ?.destructured
+                        ?.let { (key, value) -> key to value }
+                        ?: (line to line)
+                }
+                .map { (key, value) ->
+                    // repeated keys are compared by their occurrence
+                    val occurrence = occurrences.merge(key, 1, Int::plus)!!
+                    (if (occurrence > 1) "$key #$occurrence" else key) to value
+                }
+
+            return if (result.hasError) listOf(ERROR_KEY to (result.errorMessage ?: "")) + entries
+            else entries
+        }
+    }
+}
@@ -26,6 +26,7 @@ import sap.commerce.toolset.groovy.settings.state.GroovyExecExceptionHandling
 import sap.commerce.toolset.groovy.settings.state.GroovyExecMode
 import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.settings.state.TransactionMode
+import kotlin.time.Duration.Companion.milliseconds
 
 data class GroovyExecContext(
     val connection: HacConnectionSettingsState,
@@ -57,6 +58,18 @@ data class GroovyExecContext(
         replicaContext = replicaContext,
     )
 
+    override val connectionKey
+        get() = replicaContext
+            ?.let { "${connection.uuid}${it.replicaCookie}" }
+            ?: connection.uuid
+
+    override val fanOutKey
+        get() = replicaContext
+            ?.let { connection.uuid }
+
+    override val deadline
+        get() = timeout.takeIf { it > 0 }?.milliseconds
+
     fun params(): Map<String, String> = buildMap {
         put("scriptType", "groovy")
         put("commit", BooleanUtils.toStringTrueFalse(transactionMode == TransactionMode.COMMIT))
@@ -0,0 +1,193 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.groovy.exec
+
+import com.sun.net.httpserver.HttpServer
+import kotlinx.coroutines.*
+import kotlinx.serialization.json.buildJsonObject
+import kotlinx.serialization.json.put
+import sap.commerce.toolset.exec.ExecDeadlineExceededException
+import sap.commerce.toolset.exec.ExecScheduler
+import sap.commerce.toolset.exec.ExecSchedulingPolicy
+import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.context.ExecContext
+import sap.commerce.toolset.exec.context.ReplicaContext
+import sap.commerce.toolset.groovy.settings.state.GroovyExecMode
+import java.net.HttpURLConnection
+import java.net.InetSocketAddress
+import java.net.URI
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.milliseconds
+
+class GroovyReplicaResultsDiffTest {
+
+    private lateinit var scope: CoroutineScope
+    private val servers = mutableMapOf<String, HttpServer>()
+
+    private val inFlight = AtomicInteger()
+    private val maxInFlight = AtomicInteger()
+
+    @BeforeTest
+    fun setUp() {
+        scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+
+        replica("node1", output = "cache.entity.size=1200\ncache.query.size=300\ntenant: master\ncluster node 1 started")
+        replica("node2", output = "cache.entity.size=1200\ncache.query.size=300\ntenant: master\ncluster node 2 started")
+        replica("node3", output = "cache.entity.size=950\ncache.query.size=300\ntenant: master\ncluster node 3 started\nreadonly=true")
+        replica("node4", output = "cache.entity.size=1200\ncache.query.size=300\ntenant: master", delay = 2_000)
+        replica("node5", stacktrace = "java.lang.IllegalStateException: no tenant\n\tat Script1.run(Script1.groovy:1)")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        scope.cancel()
+        servers.values.forEach { it.stop(0) }
+    }
+
+    @Test
+    fun test_fanOut_divergentReplicasHighlighted() = runBlocking {
+        val results = fanOut(servers.keys, parallelism = 2, timeout = 500.milliseconds)
+
+        val diff = GroovyReplicaResultsDiff.of(results)
+        val differences = diff.differences.associate { it.key to it.values }
+
+        assertEquals(listOf("node1", "node2", "node3", "node4", "node5"), diff.replicas)
+        assertEquals(2, maxInFlight.get(), "Fan-out has to be bounded")
+        assertEquals(listOf("1200", "1200", "950", null, null), differences["cache.entity.size"])
+        assertEquals(listOf(null, null, "true", null, null), differences["readonly"])
+        assertEquals(listOf("cluster node 1 started", null, null, null, null), differences["cluster node 1 started"])
+        assertEquals(listOf(null, null, null, true, true), differences[GroovyReplicaResultsDiff.ERROR_KEY]?.map { it?.isNotEmpty() })
+        assertTrue(differences[GroovyReplicaResultsDiff.ERROR_KEY]!![3]!!.startsWith("Remote SAP Commerce instance did not respond"))
+        assertEquals("java.lang.IllegalStateException: no tenant\n", differences[GroovyReplicaResultsDiff.ERROR_KEY]!![4])
+    }
+
+    @Test
+    fun test_fanOut_slowReplicaTimedOutIndividually() = runBlocking {
+        val results = fanOut(servers.keys, parallelism = 5, timeout = 500.milliseconds)
+            .associateBy { it.replicaContext?.replicaId }
+
+        assertFalse(results["node1"]!!.hasError)
+        assertFalse(results["node3"]!!.hasError)
+        assertTrue(results["node4"]!!.hasError)
+    }
+
+    @Test
+    fun test_diff_identicalReplicas() = runBlocking {
+        val results = fanOut(listOf("node1", "node1", "node1"), parallelism = 3, timeout = 500.milliseconds)
+            .mapIndexed { index, result -> result.copy(replicaContext = ReplicaContext("replica$index")) }
+
+        val diff = GroovyReplicaResultsDiff.of(results)
+
+        assertTrue(diff.identical)
+        assertEquals(4, diff.rows.size)
+    }
+
+    @Test
+    fun test_diff_repeatedKeysComparedByOccurrence() {
+        val diff = GroovyReplicaResultsDiff.of(
+            listOf(
+                DefaultExecResult(output = "region=a\nregion=b", replicaContext = ReplicaContext("r1")),
+                DefaultExecResult(output = "region=a\nregion=c", replicaContext = ReplicaContext("r2")),
+            )
+        )
+
+        assertEquals(listOf("region", "region #2"), diff.rows.map { it.key })
+        assertEquals(listOf(GroovyReplicaResultsDiff.Row("region #2", listOf("b", "c"))), diff.differences)
+    }
+
+    @Test
+    fun test_diff_resultAndOutputCompared() {
+        val diff = GroovyReplicaResultsDiff.of(
+            listOf(
+                DefaultExecResult(result = "42", output = "done", replicaContext = ReplicaContext("r1")),
+                DefaultExecResult(result = "43", output = "done", replicaContext = ReplicaContext("r2")),
+            )
+        )
+
+        assertEquals(setOf("42", "43"), diff.differences.map { it.key }.toSet())
+        assertFalse(diff.rows.single { it.key == "done" }.divergent)
+    }
+
+    private suspend fun fanOut(replicas: Collection<String>, parallelism: Int, timeout: Duration): List<DefaultExecResult> {
+        val scheduler = ExecScheduler(scope, ExecSchedulingPolicy(maxConcurrentFanOutRequests = parallelism))
+
+        return coroutineScope {
+            replicas
+                .map { replica ->
+                    val context = TestExecContext(replica, timeout)
+                    async {
+                        try {
+                            scheduler.schedule(context) { execute(replica) }
+                        } catch (e: ExecDeadlineExceededException) {
+                            DefaultExecResult(errorMessage = e.message, replicaContext = context.replicaContext)
+                        }
+                    }
+                }
+                .awaitAll()
+        }
+    }
+
+    private fun execute(replica: String): DefaultExecResult {
+        val port = servers[replica]!!.address.port
+        val connection = URI("http://localhost:$port/hac/console/scripting/execute").toURL().openConnection() as HttpURLConnection
+
+        return try {
+            val response = connection.inputStream.readBytes().toString(Charsets.UTF_8)
+            GroovyExecResponseParser.parse(response, GroovyExecMode.DIRECT, ReplicaContext(replica))
+        } finally {
+            connection.disconnect()
+        }
+    }
+
+    private fun replica(name: String, output: String = "", stacktrace: String = "", delay: Long = 50) {
+        val response = buildJsonObject {
+            put(GroovyExecConstants.RESPONSE_OUTPUT_TEXT, output)
+            put(GroovyExecConstants.RESPONSE_EXECUTION_RESULT, "")
+            put(GroovyExecConstants.RESPONSE_STACKTRACE_TEXT, stacktrace)
+        }.toString().toByteArray()
+
+        servers[name] = HttpServer.create(InetSocketAddress("localhost", 0), 0).apply {
+            executor = Executors.newCachedThreadPool()
+            createContext("/hac/console/scripting/execute") { exchange ->
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), ::maxOf)
+                try {
+                    Thread.sleep(delay)
+                } finally {
+                    inFlight.decrementAndGet()
+                }
+                exchange.sendResponseHeaders(200, response.size.toLong())
+                exchange.responseBody.use { it.write(response) }
+            }
+            start()
+        }
+    }
+
+    private data class TestExecContext(
+        val replica: String,
+        override val deadline: Duration?,
+    ) : ExecContext {
+        val replicaContext = ReplicaContext(replica)
+
+        override val connectionKey = "hac.$replica"
+        override val fanOutKey = "hac"
+    }
+}
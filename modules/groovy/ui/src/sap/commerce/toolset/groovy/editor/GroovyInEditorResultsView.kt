@@ -20,19 +20,29 @@ package sap.commerce.toolset.groovy.editor
 
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
+import com.intellij.openapi.diff.DiffColors
+import com.intellij.openapi.editor.colors.EditorColorsManager
 import com.intellij.openapi.project.Project
 import com.intellij.ui.EditorNotificationPanel
 import com.intellij.ui.InlineBanner
+import com.intellij.ui.JBColor
 import com.intellij.ui.dsl.builder.Align
 import com.intellij.ui.dsl.builder.Panel
 import com.intellij.ui.dsl.builder.TopGap
 import com.intellij.ui.dsl.gridLayout.UnscaledGaps
+import com.intellij.ui.table.JBTable
 import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.groovy.exec.GroovyReplicaResultsDiff
 import sap.commerce.toolset.ui.editor.InEditorResultsView
+import java.awt.Component
+import java.awt.Dimension
 import java.lang.Boolean
 import javax.swing.JComponent
 import javax.swing.JEditorPane
+import javax.swing.JTable
+import javax.swing.table.AbstractTableModel
+import javax.swing.table.DefaultTableCellRenderer
 import kotlin.String
 import kotlin.apply
 import kotlin.let
@@ -83,6 +93,8 @@ class GroovyInEditorResultsView(project: Project, coroutineScope: CoroutineScope
                         .customize(UnscaledGaps(16, 16, 16, 16))
                 }
 
+                it.differencesView(execResults)
+
                 execResults
                     .sortedBy { result -> result.replicaContext?.replicaId }
                     .forEach { result ->
@@ -105,6 +117,69 @@ class GroovyInEditorResultsView(project: Project, coroutineScope: CoroutineScope
             }
     }
 
+    /**
+     * Rows of the [GroovyReplicaResultsDiff] with divergent values, cells which differ from the value reported by most replicas are highlighted.
+     */
+    private fun Panel.differencesView(execResults: Collection<DefaultExecResult>) {
+        val diff = GroovyReplicaResultsDiff.of(execResults)
+        val differences = diff.differences
+
+        collapsibleGroup("Differences Between Replicas (${differences.size})") {
+            if (differences.isEmpty()) {
+                row {
+                    label("Results of all ${diff.replicas.size} replicas are identical.")
+                }
+                return@collapsibleGroup
+            }
+
+            val model = object : AbstractTableModel() {
+                override fun getRowCount() = differences.size
+                override fun getColumnCount() = diff.replicas.size + 1
+                override fun getColumnName(column: Int) = if (column == 0) "Key" else diff.replicas[column - 1]
+                override fun getValueAt(rowIndex: Int, columnIndex: Int): String? = differences[rowIndex]
+                    .let { if (columnIndex == 0) it.key else it.values[columnIndex - 1] }
+            }
+            val table = JBTable(model).apply {
+                setDefaultRenderer(Any::class.java, DifferenceCellRenderer(differences))
+                setShowGrid(true)
+                preferredScrollableViewportSize = Dimension(
+                    preferredScrollableViewportSize.width,
+                    rowHeight * differences.size.coerceAtMost(MAX_VISIBLE_DIFFERENCES)
+                )
+            }
+
+            row {
+                scrollCell(table)
+                    .align(Align.FILL)
+                    .resizableColumn()
+            }
+        }.expanded = true
+    }
+
+    private class DifferenceCellRenderer(private val differences: List<GroovyReplicaResultsDiff.Row>) : DefaultTableCellRenderer() {
+
+        private val majorities = differences.map { row ->
+            row.values
+                .groupingBy { it }
+                .eachCount()
+                .maxBy { it.value }
+                .key
+        }
+
+        override fun getTableCellRendererComponent(table: JTable, value: Any?, isSelected: kotlin.Boolean, hasFocus: kotlin.Boolean, row: Int, column: Int): Component {
+            val component = super.getTableCellRendererComponent(table, value ?: MISSING_VALUE, isSelected, hasFocus, row, column)
+            if (isSelected) return component
+
+            val differs = column > 0 && differences[row].values[column - 1] != majorities[row]
+            background = if (differs) EditorColorsManager.getInstance().globalScheme.getAttributes(DiffColors.DIFF_MODIFIED)?.backgroundColor
+            else table.background
+            foreground = if (value == null) JBColor.GRAY
+            else table.foreground
+
+            return component
+        }
+    }
+
     private fun Panel.group(title: String, text: String?) {
         if (text == null) return
 
@@ -126,6 +201,9 @@ class GroovyInEditorResultsView(project: Project, coroutineScope: CoroutineScope
     }
 
     companion object {
+        private const val MAX_VISIBLE_DIFFERENCES = 15
+        private const val MISSING_VALUE = "—"
+
         fun getInstance(project: Project): GroovyInEditorResultsView = project.service()
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ package sap.commerce.toolset.impex.exec.context
 import org.apache.commons.lang3.BooleanUtils
 import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
+import kotlin.time.Duration.Companion.milliseconds
 
 data class ImpExExecContext(
     val connection: HacConnectionSettingsState,
@@ -63,6 +64,15 @@ data class ImpExExecContext(
             ImpExExecutionMode.VALIDATE -> "Validating ${dialect.title} on the remote SAP Commerce instance…"
         }
 
+    override val connectionKey
+        get() = connection.uuid
+
+    override val deadline
+        get() = timeout.takeIf { it > 0 }?.milliseconds
+
+    override val idempotent
+        get() = executionMode == ImpExExecutionMode.VALIDATE
+
     fun params(): Map<String, String> = buildMap {
         put("scriptContent", content)
         put("validationEnum", validationMode.name.lowercase())
@@ -42,6 +42,8 @@ dependencies {
     implementation(project(":typeSystem-core"))
     implementation(libs.kotlinxJson)
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
@@ -21,16 +21,13 @@ package sap.commerce.toolset.java.codeInsight.daemon
 import com.intellij.codeInsight.daemon.LineMarkerInfo
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
-import com.intellij.openapi.project.Project
 import com.intellij.psi.*
 import com.intellij.psi.impl.source.PsiClassReferenceType
-import com.intellij.psi.search.GlobalSearchScope
-import com.intellij.psi.search.searches.ClassInheritorsSearch
-import org.apache.commons.lang3.StringUtils
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.codeInsight.daemon.HybrisLineMarkerProvider
 import sap.commerce.toolset.i18n
+import sap.commerce.toolset.java.index.PopulatorIndexAccess
 import javax.swing.Icon
 
 class PopulatorsLineMarkerProvider : HybrisLineMarkerProvider<PsiClass>() {
@@ -41,40 +38,20 @@ class PopulatorsLineMarkerProvider : HybrisLineMarkerProvider<PsiClass>() {
     override fun tryCast(psi: PsiElement) = psi as? PsiClass
 
     override fun collectDeclarations(psi: PsiClass): Collection<LineMarkerInfo<PsiElement>> {
-        val populatorClass = findPopulatorClass(psi.project) ?: return emptyList()
-        val element = populatorClass.element ?: return emptyList()
         val converterFields = retrieveConverterFields(psi)
 
         if (converterFields.isEmpty()) return emptyList()
 
-        val allPopulators = ClassInheritorsSearch.search(element)
+        val indexAccess = PopulatorIndexAccess.getInstance(psi.project)
 
         return converterFields
             .mapNotNull { field ->
-                val fieldName = field.name.replace("Converter", StringUtils.EMPTY)
-                return@mapNotNull allPopulators
-                    .filter { byName(it, fieldName) || byGenerics(it, field) }
-                    .map { if (byGenerics(it, field)) CandidateWrapper(0, it) else CandidateWrapper(1, it) }
-                    .sortedBy { it.priority }
-                    .map { it.psiClass }
+                indexAccess.findPopulators(field)
                     .takeIf { it.isNotEmpty() }
                     ?.let { createTargetsWithGutterIcon(field.nameIdentifier, it) }
             }
     }
 
-    private fun byName(it: PsiClass, fieldName: String) = it.name?.contains(fieldName, true) ?: false
-
-    private fun byGenerics(it: PsiClass, field: PsiField): Boolean {
-        if (field.type !is PsiClassReferenceType) return false
-
-        val interfaces = it.implementsListTypes
-
-        if (interfaces.isEmpty()) return false
-        if (interfaces.first().parameterCount != (field.type as PsiClassReferenceType).parameterCount) return false
-
-        return interfaces.first().parameters.contentEquals((field.type as PsiClassReferenceType).parameters)
-    }
-
     private fun retrieveConverterFields(psiClass: PsiClass): List<PsiField> {
         return psiClass.fields
             .filterNot { it.modifierList?.hasModifierProperty("static") ?: false }
@@ -83,13 +60,6 @@ class PopulatorsLineMarkerProvider : HybrisLineMarkerProvider<PsiClass>() {
             }
     }
 
-    private fun findPopulatorClass(project: Project): SmartPsiElementPointer<PsiClass>? {
-        val populatorClass = JavaPsiFacade.getInstance(project).findClass(HybrisConstants.CLASS_FQN_POPULATOR, GlobalSearchScope.allScope(project))
-            ?: return null
-
-        return SmartPointerManager.getInstance(project).createSmartPsiElementPointer(populatorClass)
-    }
-
     private fun createTargetsWithGutterIcon(psiElement: PsiElement, targets: Collection<PsiElement>) = NavigationGutterIconBuilder
         .create(icon)
         .setTargets(targets)
@@ -98,6 +68,4 @@ class PopulatorsLineMarkerProvider : HybrisLineMarkerProvider<PsiClass>() {
         .setTooltipText(i18n("hybris.editor.gutter.populator.class.tooltip.text"))
         .setAlignment(GutterIconRenderer.Alignment.LEFT)
         .createLineMarkerInfo(psiElement)
-
-    private data class CandidateWrapper(var priority: Int, var psiClass: PsiClass)
 }
\ No newline at end of file
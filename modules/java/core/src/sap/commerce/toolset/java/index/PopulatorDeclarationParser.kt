@@ -0,0 +1,54 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiClassOwner
+import com.intellij.psi.util.PsiTreeUtil
+
+/**
+ * Extracts [PopulatorDeclaration]s at indexing time, only the syntax is used, no references are resolved.
+ */
+object PopulatorDeclarationParser {
+
+    private const val MARKER = "Populator"
+
+    fun parse(javaFile: PsiClassOwner, text: CharSequence): List<PopulatorDeclaration> {
+        // cheap rejection of the unrelated sources without walking the PSI
+        if (!text.contains(MARKER)) return emptyList()
+
+        return PsiTreeUtil.findChildrenOfType(javaFile, PsiClass::class.java)
+            .mapNotNull { psiClass ->
+                val className = psiClass.name ?: return@mapNotNull null
+                val supertypes = listOfNotNull(psiClass.extendsList, psiClass.implementsList)
+                    .flatMap { it.referenceElements.asList() }
+                    .mapNotNull { reference ->
+                        val name = reference.referenceName ?: return@mapNotNull null
+                        val typeArguments = reference.parameterList?.typeParameterElements
+                            ?.map { PopulatorIndexKeys.simpleName(it.text) }
+                            ?: emptyList()
+
+                        PopulatorDeclaration.Supertype(name, typeArguments)
+                    }
+
+                PopulatorDeclaration(className, supertypes)
+            }
+            .filter { PopulatorIndexKeys.isCandidate(it) }
+    }
+}
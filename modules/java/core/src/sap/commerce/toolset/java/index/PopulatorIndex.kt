@@ -0,0 +1,55 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import com.intellij.ide.highlighter.JavaFileType
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiClassOwner
+import com.intellij.util.indexing.*
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+
+/**
+ * Populator classes declared in the local sources, i.e. in the project and SAP Commerce extensions, keyed by the simple names of their source and target types and by the name tokens.
+ * Sources attached to the libraries are not indexed, compiled populators are looked up via [PopulatorIndexAccess].
+ *
+ * See [PopulatorIndexKeys] for the keys.
+ */
+class PopulatorIndex : ScalarIndexExtension<String>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 2
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getInputFilter() = object : DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE) {
+        override fun acceptInput(file: VirtualFile) = file.isInLocalFileSystem
+    }
+
+    override fun getIndexer() = DataIndexer<String, Void?, FileContent> { fileContent ->
+        (fileContent.psiFile as? PsiClassOwner)
+            ?.let { PopulatorDeclarationParser.parse(it, fileContent.contentAsText) }
+            ?.flatMap { PopulatorIndexKeys.of(it) }
+            ?.associateWith { null }
+            ?: emptyMap()
+    }
+
+    companion object {
+        val NAME = ID.create<String, Void>("sap.commerce.toolset.java.populator")
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ProjectRootModificationTracker
+import com.intellij.openapi.util.Key
+import com.intellij.psi.*
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.search.ProjectScope
+import com.intellij.psi.search.PsiSearchScopeUtil
+import com.intellij.psi.search.searches.ClassInheritorsSearch
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.TypeConversionUtil
+import com.intellij.util.indexing.FileBasedIndex
+import sap.commerce.toolset.HybrisConstants
+
+/**
+ * Read access to the populator indexes, all methods have to be called under the read action in the smart mode.
+ */
+@Service(Service.Level.PROJECT)
+class PopulatorIndexAccess(private val project: Project) {
+
+    /**
+     * Populators of the converter field, ordered by relevance:
+     * populators wired into the converter bean, populators with the same source and target types and populators named after the field.
+     */
+    fun findPopulators(field: PsiField, scope: GlobalSearchScope = ProjectScope.getAllScope(project)): List<PsiClass> {
+        val populatorClass = JavaPsiFacade.getInstance(project).findClass(HybrisConstants.CLASS_FQN_POPULATOR, scope)
+            ?: return emptyList()
+
+        return (findWiredPopulators(converterBeanNames(field), scope) +
+            findPopulatorsByGenerics(populatorClass, field, scope) +
+            findPopulatorsByName(populatorClass, field, scope))
+            .distinct()
+    }
+
+    /**
+     * Populators wired into the converter bean directly or via `modifyPopulatorList`, aliases of the converter and populator beans are followed.
+     */
+    fun findWiredPopulators(converterBeans: Collection<String>, scope: GlobalSearchScope = ProjectScope.getAllScope(project)): List<PsiClass> {
+        val javaPsiFacade = JavaPsiFacade.getInstance(project)
+
+        val wiring = converterBeans
+            .flatMap { aliases(it) }
+            .distinct()
+            .flatMap { values(PopulatorWiringParser.converterKey(it), scope) }
+        val populatorClasses = wiring.flatMap { it.classes } + wiring
+            .flatMap { it.beans }
+            .flatMap { aliases(it) }
+            .flatMap { values(PopulatorWiringParser.beanKey(it), scope) }
+            .flatMap { it.classes }
+
+        return populatorClasses
+            .distinct()
+            .mapNotNull { javaPsiFacade.findClass(it.replace('$', '.'), scope) }
+    }
+
+    private fun findPopulatorsByGenerics(populatorClass: PsiClass, field: PsiField, scope: GlobalSearchScope): List<PsiClass> {
+        val keys = fieldTypeArguments(field)
+            ?.let { listOf(genericsKey(it[0], it[1])) }
+            ?: return emptyList()
+
+        return (candidates(keys, scope) + compiledCandidates(populatorClass, keys, scope))
+            .filter { isSameGenerics(it, populatorClass, field) }
+    }
+
+    private fun findPopulatorsByName(populatorClass: PsiClass, field: PsiField, scope: GlobalSearchScope): List<PsiClass> {
+        val keys = PopulatorIndexKeys.tokens(populatorName(field))
+            .map { PopulatorIndexKeys.nameToken(it) }
+            .takeIf { it.isNotEmpty() }
+            ?: return emptyList()
+
+        return (candidates(keys, scope) + compiledCandidates(populatorClass, keys, scope))
+            .filter { isSameName(it, field) }
+            .filter { it.isInheritor(populatorClass, true) }
+    }
+
+    private fun compiledCandidates(populatorClass: PsiClass, keys: Collection<String>, scope: GlobalSearchScope) = compiledPopulators(populatorClass)
+        .candidates(keys)
+        .filter { it.isValid && PsiSearchScopeUtil.isInScope(scope, it) }
+
+    /**
+     * Populators of the libraries aren't indexed, they change only together with the project roots, so the inheritors search is done once per roots change
+     * and its result is keyed the same way as the [PopulatorIndex]. Cached per `Populator` class, as each library may bring its own.
+     */
+    private fun compiledPopulators(populatorClass: PsiClass): PopulatorKeyIndex<PsiClass> = CachedValuesManager.getCachedValue(populatorClass, KEY_COMPILED_POPULATORS) {
+        val populators = ClassInheritorsSearch.search(populatorClass, ProjectScope.getLibrariesScope(project), true)
+            .filtering { it is PsiCompiledElement }
+            .findAll()
+
+        val index = PopulatorKeyIndex(populators) { populator ->
+            val generics = populatorTypeArguments(populator, populatorClass)
+                ?.filterNotNull()
+                ?.takeIf { it.size == 2 }
+                ?.let { genericsKey(it[0], it[1]) }
+            val names = PopulatorIndexKeys.tokens(populator.name ?: "")
+                .map { PopulatorIndexKeys.nameToken(it) }
+
+            listOfNotNull(generics) + names
+        }
+
+        CachedValueProvider.Result.create(index, ProjectRootModificationTracker.getInstance(project))
+    }
+
+    private fun genericsKey(source: PsiType, target: PsiType) = PopulatorIndexKeys.generics(
+        PopulatorIndexKeys.simpleName(source.presentableText),
+        PopulatorIndexKeys.simpleName(target.presentableText)
+    )
+
+    private fun isSameGenerics(candidate: PsiClass, populatorClass: PsiClass, field: PsiField) = fieldTypeArguments(field)
+        ?.let { populatorTypeArguments(candidate, populatorClass)?.contentEquals(it) }
+        ?: false
+
+    private fun isSameName(candidate: PsiClass, field: PsiField) = candidate.name?.contains(populatorName(field), true) == true
+
+    private fun fieldTypeArguments(field: PsiField) = (field.type as? PsiClassType)?.parameters
+        ?.takeIf { it.size == 2 }
+
+    private fun populatorName(field: PsiField) = field.name.replace("Converter", "")
+
+    /**
+     * Classes declared in the files which contain all given keys.
+     */
+    private fun candidates(keys: Collection<String>, scope: GlobalSearchScope): List<PsiClass> {
+        val psiManager = PsiManager.getInstance(project)
+
+        return keys
+            .map { FileBasedIndex.getInstance().getContainingFiles(PopulatorIndex.NAME, it, scope) }
+            .sortedBy { it.size }
+            .reduce { files, other -> files.filterTo(mutableSetOf()) { it in other } }
+            .mapNotNull { psiManager.findFile(it) as? PsiClassOwner }
+            .flatMap { allClasses(it.classes.asList()) }
+    }
+
+    private fun allClasses(classes: Collection<PsiClass>): List<PsiClass> = classes
+        .flatMap { listOf(it) + allClasses(it.innerClasses.asList()) }
+
+    private fun populatorTypeArguments(candidate: PsiClass, populatorClass: PsiClass): Array<PsiType?>? {
+        if (!candidate.isInheritor(populatorClass, true)) return null
+
+        val substitutor = TypeConversionUtil.getSuperClassSubstitutor(populatorClass, candidate, PsiSubstitutor.EMPTY)
+        return populatorClass.typeParameters
+            .map { substitutor.substitute(it) }
+            .toTypedArray()
+    }
+
+    /**
+     * The bean itself and the beans it is an alias of.
+     */
+    private fun aliases(bean: String): List<String> {
+        val names = mutableListOf(bean)
+        var index = 0
+
+        while (index < names.size && names.size < MAX_ALIASES) {
+            values(PopulatorWiringParser.aliasKey(names[index]), ProjectScope.getAllScope(project))
+                .flatMap { it.beans }
+                .filterNot { it in names }
+                .forEach { names.add(it) }
+            index++
+        }
+
+        return names
+    }
+
+    private fun values(key: String, scope: GlobalSearchScope) = FileBasedIndex.getInstance().getValues(PopulatorWiringIndex.NAME, key, scope)
+
+    private fun converterBeanNames(field: PsiField): List<String> {
+        val qualifier = field.annotations
+            .firstNotNullOfOrNull { annotation ->
+                when (annotation.qualifiedName) {
+                    ANNOTATION_RESOURCE, ANNOTATION_JAKARTA_RESOURCE -> annotation.findDeclaredAttributeValue("name")
+                    ANNOTATION_QUALIFIER -> annotation.findDeclaredAttributeValue(PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME)
+                    else -> null
+                }
+            }
+            ?.let { JavaPsiFacade.getInstance(project).constantEvaluationHelper.computeConstantExpression(it) as? String }
+
+        return listOfNotNull(qualifier, field.name).distinct()
+    }
+
+    companion object {
+        private val KEY_COMPILED_POPULATORS = Key.create<CachedValue<PopulatorKeyIndex<PsiClass>>>("SAP_CX_COMPILED_POPULATORS")
+        private const val MAX_ALIASES = 16
+        private const val ANNOTATION_RESOURCE = "javax.annotation.Resource"
+        private const val ANNOTATION_JAKARTA_RESOURCE = "jakarta.annotation.Resource"
+        private const val ANNOTATION_QUALIFIER = "org.springframework.beans.factory.annotation.Qualifier"
+
+        fun getInstance(project: Project): PopulatorIndexAccess = project.service()
+    }
+}
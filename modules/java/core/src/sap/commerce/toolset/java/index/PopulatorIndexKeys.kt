@@ -0,0 +1,76 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+/**
+ * Keys of the [PopulatorIndex].
+ *
+ * Populators are indexed by simple names of the `Populator` source and target types and by the lowercase camel-case tokens of their name,
+ * so both the generics and the name based candidates of the converter field are found via exact lookups.
+ */
+object PopulatorIndexKeys {
+
+    private const val POPULATOR = "Populator"
+    private val camelCaseBoundary = Regex("(?<=[a-z])(?=[A-Z])|(?<=[A-Z0-9])(?=[A-Z][a-z])")
+
+    fun generics(source: String, target: String) = "g:$source,$target"
+    fun nameToken(token: String) = "n:$token"
+
+    /**
+     * @return keys of the declaration or empty set when it cannot be a populator
+     */
+    fun of(declaration: PopulatorDeclaration): Set<String> {
+        if (!isCandidate(declaration)) return emptySet()
+
+        val keys = mutableSetOf<String>()
+
+        generics(declaration)
+            ?.let { (source, target) -> keys.add(generics(source, target)) }
+        tokens(declaration.className)
+            .forEach { keys.add(nameToken(it)) }
+
+        return keys
+    }
+
+    fun tokens(name: String) = name
+        .split(camelCaseBoundary)
+        .filter { it.isNotEmpty() }
+        .map { it.lowercase() }
+
+    /**
+     * Direct `Populator` implementations and classes following the `*Populator` naming, inheritance is verified by the caller.
+     */
+    fun isCandidate(declaration: PopulatorDeclaration) = declaration.className.endsWith(POPULATOR)
+        || declaration.supertypes.any { it.name.endsWith(POPULATOR) }
+
+    /**
+     * Type arguments of the `Populator` itself take precedence over the ones of the abstract populators, e.g., `AbstractProductPopulator<S, T>`.
+     */
+    fun generics(declaration: PopulatorDeclaration) = (declaration.supertypes.firstOrNull { it.name == POPULATOR && it.typeArguments.size == 2 }
+        ?: declaration.supertypes.firstOrNull { it.name.endsWith(POPULATOR) && it.typeArguments.size == 2 })
+        ?.typeArguments
+        ?.let { it[0] to it[1] }
+
+    fun simpleName(typeText: String) = typeText
+        .substringAfterLast(' ')
+        .substringBefore('<')
+        .substringAfterLast('.')
+        .substringAfterLast('$')
+        .trim()
+}
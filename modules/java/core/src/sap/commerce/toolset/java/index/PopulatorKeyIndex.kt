@@ -0,0 +1,43 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+/**
+ * In-memory counterpart of the [PopulatorIndex] for populators which are not indexed, i.e. compiled populators of the libraries.
+ *
+ * See [PopulatorIndexKeys] for the keys.
+ */
+class PopulatorKeyIndex<T>(populators: Collection<T>, keys: (T) -> Collection<String>) {
+
+    private val populators = HashMap<String, MutableList<T>>()
+
+    init {
+        populators.forEach { populator ->
+            keys(populator).forEach { this.populators.computeIfAbsent(it) { mutableListOf() }.add(populator) }
+        }
+    }
+
+    /**
+     * @return populators of the smallest key, so a superset of the populators having all [keys], the caller verifies the candidates
+     */
+    fun candidates(keys: Collection<String>): List<T> = keys
+        .map { populators[it].orEmpty() }
+        .minByOrNull { it.size }
+        .orEmpty()
+}
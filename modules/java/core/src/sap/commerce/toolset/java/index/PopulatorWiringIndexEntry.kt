@@ -0,0 +1,58 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import com.intellij.openapi.util.io.DataInputOutputUtilRt
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.IOUtil
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Indexed Spring wiring of the populators, meaning of the values depends on the key, see [PopulatorWiringIndex].
+ *
+ * @param beans names of the referenced Spring beans
+ * @param classes fully qualified names of the referenced classes
+ */
+data class PopulatorWiringIndexEntry(
+    val beans: List<String> = emptyList(),
+    val classes: List<String> = emptyList(),
+) {
+
+    object Externalizer : DataExternalizer<PopulatorWiringIndexEntry> {
+
+        override fun save(out: DataOutput, value: PopulatorWiringIndexEntry) {
+            writeList(out, value.beans)
+            writeList(out, value.classes)
+        }
+
+        override fun read(input: DataInput) = PopulatorWiringIndexEntry(
+            beans = readList(input),
+            classes = readList(input),
+        )
+
+        private fun writeList(out: DataOutput, values: List<String>) = DataInputOutputUtilRt.writeSeq(out, values) {
+            IOUtil.writeUTF(out, it)
+        }
+
+        private fun readList(input: DataInput): List<String> = DataInputOutputUtilRt.readSeq(input) {
+            IOUtil.readUTF(input)
+        }
+    }
+}
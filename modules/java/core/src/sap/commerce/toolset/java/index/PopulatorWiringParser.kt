@@ -0,0 +1,191 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import com.intellij.util.xml.NanoXmlBuilder
+import com.intellij.util.xml.NanoXmlUtil
+
+/**
+ * Lightweight SAX-like parser of the Spring beans xml, collects populators wired into the converters at indexing time.
+ *
+ * Recognized wiring:
+ * - `populators` property of the converter bean with `ref`, `idref` and inline `bean` list entries
+ * - `modifyPopulatorList` beans, adding populators to the converter referenced by the `list` property
+ * - `alias` declarations and classes of the populator beans, so references can be followed to the populator class
+ */
+object PopulatorWiringParser {
+
+    private const val MARKER = "opulator"
+    private const val PROPERTY_POPULATORS = "populators"
+    private const val PROPERTY_LIST = "list"
+    private const val PROPERTY_ADD = "add"
+    private const val BEAN_MODIFY_POPULATOR_LIST = "modifyPopulatorList"
+    private val nameDelimiters = charArrayOf(',', ';', ' ')
+
+    fun converterKey(bean: String) = "converter:$bean"
+    fun beanKey(bean: String) = "bean:$bean"
+    fun aliasKey(alias: String) = "alias:$alias"
+
+    fun parse(text: CharSequence): Map<String, PopulatorWiringIndexEntry> {
+        // cheap rejection of the unrelated xml files without running the parser
+        if (!text.contains(MARKER)) return emptyMap()
+
+        val builder = Builder()
+        NanoXmlUtil.parse(text.toString().reader(), builder)
+
+        return builder.entries
+            .mapValues { (_, entry) -> PopulatorWiringIndexEntry(entry.beans.distinct(), entry.classes.distinct()) }
+    }
+
+    private fun isRelated(vararg values: String?) = values.any { it?.contains("onverter", true) == true || it?.contains(MARKER, true) == true }
+
+    private class Builder : NanoXmlBuilder {
+        val entries = mutableMapOf<String, MutableEntry>()
+
+        private val path = ArrayDeque<String>()
+        private val beans = ArrayDeque<Bean>()
+        private var aliasName: String? = null
+        private var alias: String? = null
+
+        override fun startElement(name: String, nsPrefix: String?, nsURI: String?, systemID: String?, lineNr: Int) {
+            if (path.isEmpty() && name != "beans") NanoXmlUtil.stop()
+
+            path.addLast(name)
+            when (name) {
+                "bean" -> beans.addLast(Bean(owner = beans.lastOrNull()))
+                "property" -> beans.lastOrNull()?.property = Property()
+            }
+        }
+
+        override fun addAttribute(key: String, nsPrefix: String?, nsURI: String?, value: String, type: String?) {
+            val attributeValue = value.trim().takeIf { it.isNotEmpty() } ?: return
+            val bean = beans.lastOrNull()
+
+            when (path.lastOrNull()) {
+                "bean" -> bean?.let {
+                    when (key) {
+                        "id" -> it.names.add(0, attributeValue)
+                        "name" -> it.names.addAll(attributeValue.split(*nameDelimiters).filter { name -> name.isNotEmpty() })
+                        "class" -> it.beanClass = attributeValue
+                        "parent" -> it.parent = attributeValue
+                    }
+                }
+
+                "property" -> bean?.property?.let {
+                    when (key) {
+                        "name" -> it.name = attributeValue
+                        "ref" -> it.refs.add(attributeValue)
+                    }
+                }
+
+                "ref", "idref" -> if (key == "bean" || key == "parent") bean?.property?.refs?.add(attributeValue)
+
+                "alias" -> when (key) {
+                    "name" -> aliasName = attributeValue
+                    "alias" -> alias = attributeValue
+                }
+            }
+        }
+
+        override fun endElement(name: String, nsPrefix: String?, nsURI: String?) {
+            path.removeLastOrNull()
+
+            when (name) {
+                "property" -> beans.lastOrNull()?.let { bean ->
+                    bean.property?.let { onProperty(bean, it) }
+                    bean.property = null
+                }
+
+                "bean" -> beans.removeLastOrNull()?.let { onBean(it) }
+
+                "alias" -> {
+                    val name = aliasName
+                    val alias = alias
+                    if (name != null && alias != null && isRelated(name, alias)) entry(aliasKey(alias)).beans.add(name)
+
+                    aliasName = null
+                    this.alias = null
+                }
+            }
+        }
+
+        private fun onProperty(bean: Bean, property: Property) {
+            when {
+                property.name == PROPERTY_POPULATORS -> {
+                    bean.populatorBeans.addAll(property.refs)
+                    bean.populatorClasses.addAll(property.classes)
+                }
+
+                bean.parent == BEAN_MODIFY_POPULATOR_LIST && property.name == PROPERTY_LIST -> bean.modifiedList = property.refs.firstOrNull()
+                bean.parent == BEAN_MODIFY_POPULATOR_LIST && property.name == PROPERTY_ADD -> {
+                    bean.populatorBeans.addAll(property.refs)
+                    bean.populatorClasses.addAll(property.classes)
+                }
+            }
+        }
+
+        private fun onBean(bean: Bean) {
+            val beanClass = bean.beanClass
+
+            // inline bean is a value of the owner's property, e.g., a populator declared directly in the `populators` list
+            if (beanClass != null) bean.owner?.property?.classes?.add(beanClass)
+
+            if (beanClass != null && isRelated(beanClass, *bean.names.toTypedArray())) {
+                bean.names.forEach { entry(beanKey(it)).classes.add(beanClass) }
+            }
+
+            if (bean.populatorBeans.isEmpty() && bean.populatorClasses.isEmpty()) return
+
+            val converters = bean.modifiedList
+                ?.let { listOf(it) }
+                ?: bean.names.takeIf { bean.parent != BEAN_MODIFY_POPULATOR_LIST }
+                ?: emptyList()
+
+            converters.forEach { converter ->
+                entry(converterKey(converter)).apply {
+                    beans.addAll(bean.populatorBeans)
+                    classes.addAll(bean.populatorClasses)
+                }
+            }
+        }
+
+        private fun entry(key: String) = entries.getOrPut(key) { MutableEntry() }
+    }
+
+    private class Bean(val owner: Bean?) {
+        val names = mutableListOf<String>()
+        var beanClass: String? = null
+        var parent: String? = null
+        var property: Property? = null
+        var modifiedList: String? = null
+        val populatorBeans = mutableListOf<String>()
+        val populatorClasses = mutableListOf<String>()
+    }
+
+    private class Property {
+        var name: String? = null
+        val refs = mutableListOf<String>()
+        val classes = mutableListOf<String>()
+    }
+
+    private class MutableEntry {
+        val beans = mutableListOf<String>()
+        val classes = mutableListOf<String>()
+    }
+}
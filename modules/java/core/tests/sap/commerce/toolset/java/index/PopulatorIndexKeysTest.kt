@@ -0,0 +1,167 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import sap.commerce.toolset.java.index.PopulatorDeclaration.Supertype
+import kotlin.random.Random
+import kotlin.test.*
+
+class PopulatorIndexKeysTest {
+
+    @Test
+    fun test_tokens_camelCaseAndAcronyms() {
+        assertEquals(listOf("product", "price", "populator"), PopulatorIndexKeys.tokens("ProductPricePopulator"))
+        assertEquals(listOf("b2b", "unit", "populator"), PopulatorIndexKeys.tokens("B2BUnitPopulator"))
+        assertEquals(listOf("cms", "component"), PopulatorIndexKeys.tokens("CMSComponent"))
+        assertEquals(listOf("cms", "component"), PopulatorIndexKeys.tokens("cmsComponent"))
+    }
+
+    @Test
+    fun test_of_populatorGenericsPreferred() {
+        val declaration = PopulatorDeclaration(
+            "ProductPopulator",
+            listOf(
+                Supertype("AbstractProductPopulator", listOf("SOURCE", "TARGET")),
+                Supertype("Populator", listOf("ProductModel", "ProductData")),
+            )
+        )
+
+        assertEquals(setOf("g:ProductModel,ProductData", "n:product", "n:populator"), PopulatorIndexKeys.of(declaration))
+    }
+
+    @Test
+    fun test_of_abstractPopulatorGenericsAsFallback() {
+        val declaration = PopulatorDeclaration("ProductPopulator", listOf(Supertype("AbstractProductPopulator", listOf("ProductModel", "ProductData"))))
+
+        assertEquals("ProductModel" to "ProductData", PopulatorIndexKeys.generics(declaration))
+    }
+
+    @Test
+    fun test_of_unrelatedClassNotIndexed() {
+        assertTrue(PopulatorIndexKeys.of(PopulatorDeclaration("ProductService", listOf(Supertype("AbstractService")))).isEmpty())
+    }
+
+    @Test
+    fun test_simpleName() {
+        assertEquals("ProductData", PopulatorIndexKeys.simpleName("de.hybris.platform.commercefacades.product.data.ProductData"))
+        assertEquals("List", PopulatorIndexKeys.simpleName("java.util.List<ProductData>"))
+        assertEquals("ProductModel", PopulatorIndexKeys.simpleName("? extends ProductModel"))
+        assertEquals("Entry", PopulatorIndexKeys.simpleName("Map\$Entry"))
+    }
+
+    @Test
+    fun test_candidates_smallestKey() {
+        val index = PopulatorKeyIndex(listOf("ProductPricePopulator", "ProductStockPopulator", "CartPricePopulator")) { name ->
+            PopulatorIndexKeys.tokens(name).map { PopulatorIndexKeys.nameToken(it) }
+        }
+
+        assertEquals(listOf("ProductStockPopulator"), index.candidates(listOf("n:product", "n:stock")))
+        assertEquals(listOf("ProductPricePopulator", "CartPricePopulator"), index.candidates(listOf("n:price", "n:populator")))
+        assertEquals(emptyList(), index.candidates(listOf("n:product", "n:unknown")))
+        assertEquals(emptyList(), index.candidates(emptyList()))
+    }
+
+    /**
+     * Bounded to the size of the large project with thousands of populators, lookups via the keys must find the same populators as the linear scan.
+     */
+    @Test
+    fun test_lookup_largeProject_sameAsLinearScan() {
+        val corpus = corpus(populators = 10_000)
+        val index = PopulatorKeyIndex(corpus) { PopulatorIndexKeys.of(it) }
+
+        queries(corpus).forEach { query ->
+            assertEquals(linearScan(corpus, query), indexedLookup(index, query), "Populators of ${query.fieldName} differ from the linear scan")
+        }
+    }
+
+    @Test
+    fun test_springWiring_allPopulatorBeansParsed() {
+        val corpus = corpus(populators = 5_000)
+
+        assertEquals(corpus.size, PopulatorWiringParser.parse(springWiring(corpus)).filterKeys { it.startsWith("bean:") }.size)
+    }
+
+    private data class Query(val fieldName: String, val source: String, val target: String)
+
+    /**
+     * Candidate filter of the previous gutter implementation: any populator, whose name contains the field name or which has the same generics.
+     */
+    private fun linearScan(corpus: List<PopulatorDeclaration>, query: Query) = corpus
+        .filter {
+            it.className.contains(query.fieldName, true)
+                || PopulatorIndexKeys.generics(it) == (query.source to query.target)
+        }
+        .map { it.className }
+        .toSet()
+
+    private fun indexedLookup(index: PopulatorKeyIndex<PopulatorDeclaration>, query: Query): Set<String> {
+        val byGenerics = index.candidates(listOf(PopulatorIndexKeys.generics(query.source, query.target)))
+        val byName = index.candidates(PopulatorIndexKeys.tokens(query.fieldName).map { PopulatorIndexKeys.nameToken(it) })
+            .filter { it.className.contains(query.fieldName, true) }
+
+        return (byGenerics + byName)
+            .map { it.className }
+            .toSet()
+    }
+
+    private fun queries(corpus: List<PopulatorDeclaration>): List<Query> {
+        val random = Random(42)
+
+        return (1..200).map {
+            val domain = DOMAINS.random(random)
+            val aspect = ASPECTS.random(random)
+
+            Query(domain.replaceFirstChar { it.lowercase() } + aspect, domain + "Model", domain + "Data")
+        } + corpus.take(20).map { Query(it.className.removeSuffix("Populator").replaceFirstChar { c -> c.lowercase() }, "Unknown", "Unknown") }
+    }
+
+    private fun corpus(populators: Int): List<PopulatorDeclaration> {
+        val random = Random(42)
+
+        return (0 until populators).map { index ->
+            val domain = DOMAINS.random(random)
+            val aspect = ASPECTS.random(random)
+            val supertype = if (random.nextInt(4) == 0) Supertype("Abstract${domain}Populator", listOf(domain + "Model", domain + "Data"))
+            else Supertype("Populator", listOf(domain + "Model", if (random.nextBoolean()) domain + "Data" else domain + aspect + "Data"))
+
+            PopulatorDeclaration("${PREFIXES[index % PREFIXES.size]}$domain${aspect}Populator", listOf(supertype))
+        }
+    }
+
+    private fun springWiring(corpus: List<PopulatorDeclaration>) = buildString {
+        appendLine("<beans xmlns=\"http://www.springframework.org/schema/beans\">")
+        corpus.forEachIndexed { index, populator ->
+            appendLine("    <bean id=\"populator$index\" class=\"com.acme.populators.p$index.${populator.className}\"/>")
+        }
+        corpus.indices.chunked(25).forEachIndexed { index, chunk ->
+            appendLine("    <bean id=\"converter${index}Converter\" parent=\"abstractPopulatingConverter\">")
+            appendLine("        <property name=\"populators\"><list>")
+            chunk.forEach { appendLine("            <ref bean=\"populator$it\"/>") }
+            appendLine("        </list></property>")
+            appendLine("    </bean>")
+        }
+        appendLine("</beans>")
+    }
+
+    companion object {
+        private val PREFIXES = listOf("", "Default", "Acme", "B2B", "Commerce")
+        private val DOMAINS = listOf("Product", "Category", "Cart", "Customer", "Address", "Payment", "Consignment", "Warehouse", "Promotion", "Voucher")
+        private val ASPECTS = listOf("Basic", "Price", "Stock", "Media", "Url", "Summary", "Details", "Review", "Classification", "Gallery")
+    }
+}
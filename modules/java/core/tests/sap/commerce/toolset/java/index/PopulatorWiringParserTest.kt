@@ -0,0 +1,96 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.java.index
+
+import kotlin.test.*
+
+class PopulatorWiringParserTest {
+
+    @Test
+    fun test_parse_populatorsList() {
+        val entries = PopulatorWiringParser.parse(
+            """
+            <beans xmlns="http://www.springframework.org/schema/beans">
+                <alias name="defaultProductConverter" alias="productConverter"/>
+                <bean id="defaultProductConverter" parent="abstractPopulatingConverter">
+                    <property name="targetClass" value="de.hybris.platform.commercefacades.product.data.ProductData"/>
+                    <property name="populators">
+                        <list>
+                            <ref bean="productBasicPopulator"/>
+                            <idref bean="productPricePopulator"/>
+                            <bean class="com.acme.facades.populators.InlineProductPopulator">
+                                <property name="priceService" ref="priceService"/>
+                            </bean>
+                        </list>
+                    </property>
+                </bean>
+                <bean id="productBasicPopulator" class="com.acme.facades.populators.ProductBasicPopulator"/>
+                <bean id="priceService" class="com.acme.PriceService"/>
+            </beans>
+            """.trimIndent()
+        )
+
+        assertEquals(
+            PopulatorWiringIndexEntry(
+                beans = listOf("productBasicPopulator", "productPricePopulator"),
+                classes = listOf("com.acme.facades.populators.InlineProductPopulator"),
+            ),
+            entries[PopulatorWiringParser.converterKey("defaultProductConverter")]
+        )
+        assertEquals(listOf("defaultProductConverter"), entries[PopulatorWiringParser.aliasKey("productConverter")]?.beans)
+        assertEquals(
+            listOf("com.acme.facades.populators.ProductBasicPopulator"),
+            entries[PopulatorWiringParser.beanKey("productBasicPopulator")]?.classes
+        )
+        assertNull(entries[PopulatorWiringParser.beanKey("priceService")])
+    }
+
+    @Test
+    fun test_parse_modifyPopulatorList() {
+        val entries = PopulatorWiringParser.parse(
+            """
+            <beans xmlns="http://www.springframework.org/schema/beans">
+                <bean parent="modifyPopulatorList">
+                    <property name="list" ref="productConverter"/>
+                    <property name="add" ref="productStockPopulator"/>
+                </bean>
+                <bean name="customProductConverterPopulators" parent="modifyPopulatorList">
+                    <property name="list"><ref bean="productConverter"/></property>
+                    <property name="add"><bean class="com.acme.ProductBadgesPopulator"/></property>
+                </bean>
+            </beans>
+            """.trimIndent()
+        )
+
+        assertEquals(
+            PopulatorWiringIndexEntry(
+                beans = listOf("productStockPopulator"),
+                classes = listOf("com.acme.ProductBadgesPopulator"),
+            ),
+            entries[PopulatorWiringParser.converterKey("productConverter")]
+        )
+        assertNull(entries[PopulatorWiringParser.converterKey("customProductConverterPopulators")])
+    }
+
+    @Test
+    fun test_parse_unrelatedXmlRejected() {
+        assertTrue(PopulatorWiringParser.parse("<items><itemtype code=\"Populator\"/></items>").isEmpty())
+        assertTrue(PopulatorWiringParser.parse("<beans><bean id=\"productService\"/></beans>").isEmpty())
+    }
+}
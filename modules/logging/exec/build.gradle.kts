@@ -41,6 +41,8 @@ dependencies {
     implementation(project(":hac-exec"))
     implementation(project(":groovy-exec"))
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
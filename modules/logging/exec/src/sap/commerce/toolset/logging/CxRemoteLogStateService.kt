@@ -44,15 +44,15 @@ import sap.commerce.toolset.logging.exec.context.CxRemoteLogGroovyScriptExecResu
 import sap.commerce.toolset.logging.exec.event.CxRemoteLogStateListener
 import sap.commerce.toolset.logging.presentation.CxLoggerPresentation
 import sap.commerce.toolset.settings.state.TransactionMode
-import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 @Service(Service.Level.PROJECT)
 class CxRemoteLogStateService(private val project: Project, private val coroutineScope: CoroutineScope) : Disposable {
 
     private var fetching: Boolean = false
 
-    //map: key is HacConnectionSettingsState.UUID value is a Pair of CxRemoteLogState and HacConnectionSettingsState
-    private val loggersStates = WeakHashMap<String, CxRemoteLogState>()
+    //map: key is HacConnectionSettingsState.UUID value is CxRemoteLogState
+    private val loggersStates = ConcurrentHashMap<String, CxRemoteLogState>()
 
     val ready: Boolean
         get() = !fetching
@@ -81,6 +81,27 @@ class CxRemoteLogStateService(private val project: Project, private val coroutin
         state(activeConnection.uuid).get(loggerIdentifier)
     } else null
 
+    /**
+     * Resolves all loggers in a single batch against the state of the active connection.
+     * Returns `null` if the state is not yet fetched.
+     */
+    fun loggers(loggerIdentifiers: Collection<String>): Map<String, CxLoggerPresentation>? {
+        val activeConnection = HacExecConnectionService.getInstance(project).activeConnection
+        val state = state(activeConnection.uuid)
+
+        return if (state.initialized) state.get(loggerIdentifiers)
+        else null
+    }
+
+    /**
+     * Represents the current version of the active connection state, it changes on each update of the state or switch of the active connection.
+     */
+    fun stateVersion(): String {
+        val activeConnection = HacExecConnectionService.getInstance(project).activeConnection
+
+        return "${activeConnection.uuid}:${state(activeConnection.uuid).version}"
+    }
+
     fun setLogger(loggerName: String, logLevel: CxLogLevel, callback: (CoroutineScope, CxRemoteLogExecResult) -> Unit = { _, _ -> }) {
         val normalizedLoggerName = loggerName.trim()
         if (!isMutableLoggerName(normalizedLoggerName)) return
@@ -236,7 +257,7 @@ class CxRemoteLogStateService(private val project: Project, private val coroutin
                     clearState(server)
                     project.messageBus.syncPublisher(CxRemoteLogStateListener.TOPIC).onLoggersStateChanged(server)
                 } else {
-                    updateState(loggers, server)
+                    updateState(loggers, server, execResult.replicaContext?.replicaId)
                 }
 
                 callback.invoke(coroutineScope, CxRemoteLogGroovyScriptExecResult(loggers, execResult))
@@ -247,10 +268,10 @@ class CxRemoteLogStateService(private val project: Project, private val coroutin
     fun state(settingsUUID: String): CxRemoteLogState = loggersStates
         .computeIfAbsent(settingsUUID) { CxRemoteLogState() }
 
-    private fun updateState(loggers: Map<String, CxLoggerPresentation>?, activeConnection: HacConnectionSettingsState) {
+    private fun updateState(loggers: Map<String, CxLoggerPresentation>?, activeConnection: HacConnectionSettingsState, replicaId: String? = null) {
         coroutineScope.launch {
 
-            state(activeConnection.uuid).update(loggers ?: emptyMap())
+            state(activeConnection.uuid).update(loggers ?: emptyMap(), replicaId)
 
             edtWriteAction {
                 PsiDocumentManager.getInstance(project).reparseFiles(emptyList(), true)
@@ -20,51 +20,184 @@ package sap.commerce.toolset.logging.exec
 
 import sap.commerce.toolset.logging.CxLogConstants
 import sap.commerce.toolset.logging.presentation.CxLoggerPresentation
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicReference
 
+/**
+ * Thread-safe store of the remote logger levels.
+ *
+ * Loggers are kept in an immutable trie keyed by the package segments, which is atomically replaced on each update.
+ * Effective level of the non-declared logger is resolved in O(depth) via the nearest declared ancestor and memoized in a bounded cache.
+ *
+ * In addition to the merged state, the store keeps a per-replica snapshot to be able to represent level divergence across cluster nodes.
+ */
 class CxRemoteLogState {
 
-    private val _loggers: MutableMap<String, CxLoggerPresentation>
-    private var _initialized: Boolean = false
+    private val state: AtomicReference<State>
 
     val initialized: Boolean
-        get() = _initialized
+        get() = state.get().merged.initialized
+
+    /**
+     * Incremented on each update of the state, can be used as a part of the cache key by the state consumers.
+     */
+    val version: Long
+        get() = state.get().merged.version
 
     constructor(loggers: Map<String, CxLoggerPresentation>) {
-        this._loggers = loggers.toMutableMap()
-        _initialized = !loggers.isEmpty()
+        state = AtomicReference(State(Snapshot(0, loggers.toMap(), loggers.isNotEmpty()), emptyMap()))
     }
 
     constructor() : this(mapOf())
 
-    fun get(loggerIdentifier: String): CxLoggerPresentation = _loggers[loggerIdentifier]
-        ?: createLoggerModel(loggerIdentifier)
+    fun get(loggerIdentifier: String): CxLoggerPresentation = state.get().merged.resolve(loggerIdentifier)
 
-    fun update(loggers: Map<String, CxLoggerPresentation>) {
-        synchronized(_loggers) {
-            this._loggers.clear()
-            this._loggers.putAll(loggers)
-            _initialized = true
-        }
+    /**
+     * Resolves all loggers against the same snapshot of the state.
+     */
+    fun get(loggerIdentifiers: Collection<String>): Map<String, CxLoggerPresentation> {
+        val currentSnapshot = state.get().merged
+
+        return loggerIdentifiers.associateWith { currentSnapshot.resolve(it) }
     }
 
-    fun get() : Map<String, CxLoggerPresentation>? = if (_initialized) _loggers else null
+    fun get(): Map<String, CxLoggerPresentation>? = state.get().merged
+        .takeIf { it.initialized }
+        ?.loggers
+
+    /**
+     * Updates the state with loggers reported by a single replica, the merged state is re-computed from all known replicas.
+     * Loggers without replica replace the whole state, as such response is not replica-aware, all known replicas are dropped.
+     */
+    fun update(loggers: Map<String, CxLoggerPresentation>, replicaId: String? = null) {
+        val loggersCopy = loggers.toMap()
+
+        state.updateAndGet {
+            if (replicaId == null) State(Snapshot(it.merged.version + 1, loggersCopy, true), emptyMap())
+            else State.of(it.merged.version + 1, it.replicas + (replicaId to Snapshot(0, loggersCopy, true)))
+        }
+    }
 
     fun clear() {
-        synchronized(_loggers) {
-            this._loggers.clear()
-            _initialized = false
+        state.updateAndGet { State(Snapshot(it.merged.version + 1, emptyMap(), false), emptyMap()) }
+    }
+
+    fun replicas(): Set<String> = state.get().replicas.keys
+
+    /**
+     * Returns names of the declared loggers which effective level differs between replicas, computed once per update.
+     */
+    fun divergentLoggers(): Set<String> = state.get().divergentLoggers
+
+    /**
+     * Merged snapshot together with the per-replica snapshots it was computed from, always replaced as a whole.
+     */
+    private class State(
+        val merged: Snapshot,
+        val replicas: Map<String, Snapshot>,
+    ) {
+
+        val divergentLoggers: Set<String> by lazy {
+            if (replicas.size < 2) return@lazy emptySet()
+
+            replicas.values
+                .flatMap { it.loggers.keys }
+                .filterTo(mutableSetOf()) { isDivergent(it) }
+        }
+
+        private fun isDivergent(loggerIdentifier: String) = replicas.values
+            .map { it.resolve(loggerIdentifier).level }
+            .distinct()
+            .size > 1
+
+        companion object {
+
+            /**
+             * Union of the loggers declared by all replicas, in case of conflict declaration of the replica with the lowest id wins,
+             * divergence itself is represented via [divergentLoggers].
+             */
+            fun of(version: Long, replicas: Map<String, Snapshot>): State {
+                val loggers = replicas.toSortedMap().values
+                    .reversed()
+                    .fold(mutableMapOf<String, CxLoggerPresentation>()) { merged, replica -> merged.apply { putAll(replica.loggers) } }
+
+                return State(Snapshot(version, loggers, true), replicas)
+            }
         }
     }
 
-    private fun createLoggerModel(loggerIdentifier: String): CxLoggerPresentation {
-        val parentLogger = loggerIdentifier.substringBeforeLast('.', "")
-            .takeIf { it.isNotBlank() }
-            ?.let { get(it) }
-            ?: _loggers[CxLogConstants.ROOT_LOGGER_NAME]
+    private class Snapshot(
+        val version: Long,
+        val loggers: Map<String, CxLoggerPresentation>,
+        val initialized: Boolean,
+    ) {
+        private val root = TrieNode()
+        private val memo = ConcurrentHashMap<String, CxLoggerPresentation>()
+        private val rootLogger = loggers[CxLogConstants.ROOT_LOGGER_NAME]
             ?: CxLoggerPresentation.rootFallback()
 
-        return _loggers.getOrPut(loggerIdentifier) {
-            CxLoggerPresentation.inherited(loggerIdentifier, parentLogger)
+        init {
+            loggers.values
+                .filter { it.name != CxLogConstants.ROOT_LOGGER_NAME }
+                .forEach { insert(it) }
+        }
+
+        fun resolve(loggerIdentifier: String): CxLoggerPresentation = loggers[loggerIdentifier]
+            ?: memo[loggerIdentifier]
+            ?: CxLoggerPresentation.inherited(loggerIdentifier, nearestAncestor(loggerIdentifier))
+                .also { memoize(loggerIdentifier, it) }
+
+        private fun insert(logger: CxLoggerPresentation) {
+            var node = root
+            forEachSegment(logger.name, true) { segment ->
+                node = node.children.getOrPut(segment) { TrieNode() }
+                true
+            }
+            node.logger = logger
         }
+
+        private fun nearestAncestor(loggerIdentifier: String): CxLoggerPresentation {
+            var node = root
+            var nearest = rootLogger
+
+            forEachSegment(loggerIdentifier, false) { segment ->
+                node = node.children[segment] ?: return@forEachSegment false
+                node.logger?.let { nearest = it }
+                true
+            }
+
+            return nearest
+        }
+
+        private fun memoize(loggerIdentifier: String, logger: CxLoggerPresentation) {
+            if (memo.size >= MEMO_LIMIT) memo.clear()
+            memo[loggerIdentifier] = logger
+        }
+
+        /**
+         * Iterates over package segments of the logger, the last segment is skipped when looking for ancestors.
+         * Iteration is stopped once [consumer] returns `false`.
+         */
+        private inline fun forEachSegment(loggerIdentifier: String, includeLast: Boolean, consumer: (String) -> Boolean) {
+            var start = 0
+            var end = loggerIdentifier.indexOf('.')
+
+            while (end >= 0) {
+                if (!consumer(loggerIdentifier.substring(start, end))) return
+                start = end + 1
+                end = loggerIdentifier.indexOf('.', start)
+            }
+
+            if (includeLast) consumer(loggerIdentifier.substring(start))
+        }
+    }
+
+    private class TrieNode {
+        val children: MutableMap<String, TrieNode> = HashMap()
+        var logger: CxLoggerPresentation? = null
+    }
+
+    companion object {
+        private const val MEMO_LIMIT = 4096
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ package sap.commerce.toolset.logging.exec.context
 import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.logging.CxLogLevel
+import kotlin.time.Duration.Companion.milliseconds
 
 data class CxRemoteLogExecContext(
     val connection: HacConnectionSettingsState,
@@ -29,6 +30,13 @@ data class CxRemoteLogExecContext(
     private val logLevel: CxLogLevel,
     val timeout: Int,
 ) : ExecContext {
+
+    override val connectionKey
+        get() = connection.uuid
+
+    override val deadline
+        get() = timeout.takeIf { it > 0 }?.milliseconds
+
     fun params(): Map<String, String> = buildMap {
         put("loggerName", loggerName)
         put("levelName", logLevel.name)
@@ -0,0 +1,222 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package sap.commerce.toolset.logging.exec
+
+import sap.commerce.toolset.logging.CxLogConstants
+import sap.commerce.toolset.logging.CxLogLevel
+import sap.commerce.toolset.logging.presentation.CxLoggerPresentation
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.test.*
+
+class CxRemoteLogStateTest {
+
+    @Test
+    fun test_get_declaredLogger() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de.hybris" to "DEBUG"))
+
+        val logger = state.get("de.hybris")
+
+        assertEquals(CxLogLevel.DEBUG, logger.level)
+        assertFalse(logger.inherited)
+    }
+
+    @Test
+    fun test_get_nearestDeclaredAncestor() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de" to "ERROR", "de.hybris.platform" to "DEBUG"))
+
+        val logger = state.get("de.hybris.platform.core.Registry")
+
+        assertEquals(CxLogLevel.DEBUG, logger.level)
+        assertEquals("de.hybris.platform", logger.parentName)
+        assertTrue(logger.inherited)
+    }
+
+    @Test
+    fun test_get_rootFallback() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de.hybris" to "DEBUG"))
+
+        val logger = state.get("com.epam.Service")
+
+        assertEquals(CxLogLevel.WARN, logger.level)
+        assertEquals(CxLogConstants.ROOT_LOGGER_NAME, logger.parentName)
+    }
+
+    @Test
+    fun test_get_siblingPrefixIsNotAncestor() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de.hybris" to "DEBUG"))
+
+        val logger = state.get("de.hybrisx.Service")
+
+        assertEquals(CxLogLevel.WARN, logger.level)
+    }
+
+    @Test
+    fun test_get_resolvedLoggersAreNotDeclared() {
+        val state = CxRemoteLogState(loggers("root" to "WARN"))
+
+        repeat(10_000) { state.get("com.epam.Service$it") }
+
+        assertEquals(1, state.get()?.size)
+    }
+
+    @Test
+    fun test_get_batchMatchesSingleResolution() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de.hybris" to "DEBUG", "de.hybris.platform.core" to "TRACE", "com.epam" to "ERROR"))
+        val packages = listOf("de.hybris.platform.core", "de.hybris.platform.servicelayer", "com.epam.facades", "org.springframework")
+        val loggerIdentifiers = (0 until 5_000)
+            .map { "${packages[it % packages.size]}.package$it.Service$it" }
+
+        val loggers = state.get(loggerIdentifiers)
+
+        assertEquals(loggerIdentifiers.size, loggers.size)
+        loggerIdentifiers.forEach { assertEquals(state.get(it), loggers[it]) }
+    }
+
+    @Test
+    fun test_update_resetsResolvedLoggers() {
+        val state = CxRemoteLogState(loggers("root" to "WARN"))
+        assertEquals(CxLogLevel.WARN, state.get("de.hybris.Service").level)
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "TRACE"))
+
+        assertEquals(CxLogLevel.TRACE, state.get("de.hybris.Service").level)
+    }
+
+    @Test
+    fun test_clear() {
+        val state = CxRemoteLogState(loggers("root" to "WARN"))
+        val version = state.version
+
+        state.clear()
+
+        assertFalse(state.initialized)
+        assertNull(state.get())
+        assertTrue(state.version > version)
+    }
+
+    @Test
+    fun test_divergentLoggers() {
+        val state = CxRemoteLogState()
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "DEBUG", "com.epam" to "INFO"), "replica-1")
+        state.update(loggers("root" to "WARN", "de.hybris" to "ERROR", "com.epam" to "INFO"), "replica-2")
+
+        assertEquals(setOf("replica-1", "replica-2"), state.replicas())
+        assertEquals(setOf("de.hybris"), state.divergentLoggers())
+    }
+
+    @Test
+    fun test_update_replicasMerged() {
+        val state = CxRemoteLogState()
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "DEBUG"), "replica-2")
+        state.update(loggers("root" to "WARN", "de.hybris" to "ERROR", "com.epam" to "INFO"), "replica-1")
+        state.update(loggers("root" to "WARN", "org.apache" to "TRACE"), "replica-3")
+
+        assertEquals(setOf("root", "de.hybris", "com.epam", "org.apache"), state.get()?.keys)
+        // declaration of the replica with the lowest id wins, regardless of the order of the responses
+        assertEquals(CxLogLevel.ERROR, state.get("de.hybris").level)
+        assertEquals(CxLogLevel.TRACE, state.get("org.apache.http").level)
+    }
+
+    @Test
+    fun test_update_withoutReplicaDropsReplicas() {
+        val state = CxRemoteLogState()
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "DEBUG"), "replica-1")
+        state.update(loggers("root" to "WARN", "de.hybris" to "ERROR"), "replica-2")
+
+        assertEquals(setOf("de.hybris"), state.divergentLoggers())
+
+        state.update(loggers("root" to "WARN"))
+
+        assertTrue(state.replicas().isEmpty())
+        assertEquals(CxLogLevel.WARN, state.get("de.hybris").level)
+    }
+
+    @Test
+    fun test_divergentLoggers_computedOncePerUpdate() {
+        val state = CxRemoteLogState()
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "DEBUG"), "replica-1")
+        state.update(loggers("root" to "WARN", "de.hybris" to "ERROR"), "replica-2")
+
+        val divergentLoggers = state.divergentLoggers()
+        assertSame(divergentLoggers, state.divergentLoggers())
+
+        state.update(loggers("root" to "WARN", "de.hybris" to "DEBUG"), "replica-2")
+
+        assertNotSame(divergentLoggers, state.divergentLoggers())
+        assertTrue(state.divergentLoggers().isEmpty())
+    }
+
+    @Test
+    fun test_concurrentReadersWithRefreshingWriter() {
+        val state = CxRemoteLogState(loggers("root" to "WARN", "de.hybris" to "DEBUG"))
+        val readers = 8
+        val executor = Executors.newFixedThreadPool(readers + 1)
+        val running = AtomicBoolean(true)
+        val failure = AtomicReference<Throwable>()
+        val started = CountDownLatch(readers + 1)
+
+        executor.submit {
+            started.countDown()
+            var iteration = 0
+            while (running.get()) {
+                val level = if (iteration++ % 2 == 0) "DEBUG" else "ERROR"
+                state.update(loggers("root" to "WARN", "de.hybris" to level, "de.hybris.platform.core" to level))
+            }
+        }
+
+        repeat(readers) { reader ->
+            executor.submit {
+                started.countDown()
+                try {
+                    var iteration = 0
+                    while (running.get()) {
+                        val logger = state.get("de.hybris.platform.core.Service${reader}_${iteration++ % 10_000}")
+
+                        assertTrue(logger.level == CxLogLevel.DEBUG || logger.level == CxLogLevel.ERROR, "Unexpected level: ${logger.level}")
+                        assertTrue(logger.inherited)
+                    }
+                } catch (e: Throwable) {
+                    failure.compareAndSet(null, e)
+                }
+            }
+        }
+
+        started.await()
+        Thread.sleep(2_000)
+        running.set(false)
+        executor.shutdown()
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS))
+        failure.get()?.let { throw it }
+        assertEquals(3, state.get()?.size)
+    }
+
+    private fun loggers(vararg loggers: Pair<String, String>) = loggers
+        .map { (name, level) -> CxLoggerPresentation.of(name, level, null, false) }
+        .associateBy { it.name }
+}
@@ -32,8 +32,12 @@ import com.intellij.openapi.actionSystem.CommonDataKeys
 import com.intellij.openapi.actionSystem.impl.SimpleDataContext
 import com.intellij.openapi.editor.Editor
 import com.intellij.openapi.ui.popup.JBPopupFactory
+import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.TextRange
 import com.intellij.psi.*
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
 import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.ui.JBColor
 import com.intellij.ui.SimpleTextAttributes
@@ -58,15 +62,27 @@ class CxLoggerInlayHintsProvider : JavaCodeVisionProviderBase() {
         val loggerIdentifier: String,
     )
 
+    /**
+     * Loggers resolved for all hint targets of the file, valid as long as both file and remote log state were not modified.
+     */
+    private data class ResolvedLoggers(
+        val modificationStamp: Long,
+        val stateVersion: String,
+        val loggers: Map<String, CxLoggerPresentation>?,
+    )
+
     override fun computeLenses(editor: Editor, psiFile: PsiFile): List<Pair<TextRange, CodeVisionEntry>> {
         if (psiFile.isNotHybrisProject) return emptyList()
-        val project = psiFile.project
-        val logStateService = CxRemoteLogStateService.getInstance(project)
 
-        return collectHintTargets(psiFile)
+        val targets = getHintTargets(psiFile)
+        if (targets.isEmpty()) return emptyList()
+
+        val loggers = resolveLoggers(psiFile, targets)
+
+        return targets
             .map { target ->
                 val range = InlayHintsUtils.getTextRangeWithoutLeadingCommentsAndWhitespaces(target.element)
-                val logger = logStateService.logger(target.loggerIdentifier)
+                val logger = loggers?.get(target.loggerIdentifier)
                 val text = buildHintText(logger)
                 val handler = ClickHandler(target.element, target.loggerIdentifier)
                 val tooltip = buildTooltip(logger)
@@ -75,6 +91,29 @@ class CxLoggerInlayHintsProvider : JavaCodeVisionProviderBase() {
             }
     }
 
+    private fun getHintTargets(psiFile: PsiFile): List<LoggerHintTarget> = CachedValuesManager.getCachedValue(psiFile, KEY_HINT_TARGETS) {
+        CachedValueProvider.Result.create(collectHintTargets(psiFile), psiFile)
+    }
+
+    private fun resolveLoggers(psiFile: PsiFile, targets: List<LoggerHintTarget>): Map<String, CxLoggerPresentation>? {
+        val logStateService = CxRemoteLogStateService.getInstance(psiFile.project)
+        val modificationStamp = psiFile.modificationStamp
+        val stateVersion = logStateService.stateVersion()
+
+        psiFile.getUserData(KEY_RESOLVED_LOGGERS)
+            ?.takeIf { it.modificationStamp == modificationStamp && it.stateVersion == stateVersion }
+            ?.let { return it.loggers }
+
+        val loggerIdentifiers = targets
+            .map { it.loggerIdentifier }
+            .toSet()
+        val loggers = logStateService.loggers(loggerIdentifiers)
+
+        psiFile.putUserData(KEY_RESOLVED_LOGGERS, ResolvedLoggers(modificationStamp, stateVersion, loggers))
+
+        return loggers
+    }
+
     private inner class ClickHandler(
         element: PsiElement,
         private val loggerIdentifier: String,
@@ -149,4 +188,9 @@ class CxLoggerInlayHintsProvider : JavaCodeVisionProviderBase() {
         logger.inherited -> "Inherited from: ${logger.parentName}"
         else -> "Setup the logger for SAP Commerce"
     }
+
+    companion object {
+        private val KEY_HINT_TARGETS = Key.create<CachedValue<List<LoggerHintTarget>>>("SAP_CX_LOGGER_HINT_TARGETS")
+        private val KEY_RESOLVED_LOGGERS = Key.create<ResolvedLoggers>("SAP_CX_LOGGER_RESOLVED_LOGGERS")
+    }
 }
@@ -43,11 +43,14 @@ class CxRemoteLogStateNode(
 
         presentation.addText(name, SimpleTextAttributes.REGULAR_ATTRIBUTES)
         if (active) {
-            val tip = CxRemoteLogStateService.getInstance(project).state(connection.uuid)
+            val state = CxRemoteLogStateService.getInstance(project).state(connection.uuid)
+            val divergentLoggers = state.divergentLoggers().size
+            val tip = state
                 .get()
                 ?.values
                 ?.count { !it.inherited }
                 ?.let { size -> " active | $size logger(s)" }
+                ?.let { tip -> if (divergentLoggers > 0) "$tip | $divergentLoggers diverged across replicas" else tip }
                 ?: " (active)"
             presentation.addText(ColoredFragment(tip, SimpleTextAttributes.GRAYED_ITALIC_ATTRIBUTES))
         }
@@ -20,10 +20,6 @@ package sap.commerce.toolset.meta
 
 import com.intellij.openapi.application.smartReadAction
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.roots.OrderRootType
-import com.intellij.openapi.roots.ProjectFileIndex
-import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
-import com.intellij.openapi.vfs.VfsUtilCore
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.PsiFile
 import com.intellij.psi.search.ProjectScope
@@ -35,9 +31,6 @@ import com.intellij.util.xml.DomElement
 import com.intellij.util.xml.DomManager
 import com.intellij.util.xml.stubs.index.DomElementClassIndex
 import kotlinx.collections.immutable.toImmutableSet
-import sap.commerce.toolset.project.descriptor.ModuleDescriptorType
-import sap.commerce.toolset.project.yExtensionDescriptor
-import sap.commerce.toolset.project.yExtensionName
 
 abstract class MetaCollector<T : DomElement>(
     protected val project: Project,
@@ -49,8 +42,7 @@ abstract class MetaCollector<T : DomElement>(
 
     open suspend fun collectDependencies(): Set<Meta<T>> {
         val myDomManager = DomManager.getDomManager(project)
-        val projectFileIndex = ProjectFileIndex.getInstance(project)
-        val libraryTable = LibraryTablesRegistrar.getInstance().getLibraryTable(project)
+        val containerResolver = MetaContainerResolver(project)
         val files = HashSet<Meta<T>>()
 
         smartReadAction(project) {
@@ -64,19 +56,7 @@ abstract class MetaCollector<T : DomElement>(
                     override fun process(psiFile: PsiFile): Boolean {
                         val xmlFile = psiFile.asSafely<XmlFile>() ?: return true
                         val virtualFile = xmlFile.virtualFile ?: return true
-                        val metaContainer = projectFileIndex.getModuleForFile(virtualFile)
-                            ?.takeIf { it.yExtensionDescriptor?.type in allowedModuleTypes }
-                            ?.let {
-                                val extensionName = it.yExtensionName ?: return@let null
-                                it.name to extensionName
-                            }
-                        // Some files are part of the Library and, as a result, aren't associated with any Module
-                            ?: libraryTable.libraries
-                                .firstNotNullOfOrNull { library ->
-                                    library.getFiles(OrderRootType.CLASSES)
-                                        .firstOrNull { libraryVirtualFile -> VfsUtilCore.isAncestor(libraryVirtualFile, virtualFile, false) }
-                                        ?.let { library.presentableName to it.name }
-                                }
+                        val metaContainer = containerResolver.resolve(virtualFile)
                             ?: return true
                         val rootElement = myDomManager.getFileElement(psiFile, clazz)
                             ?.rootElement
@@ -84,7 +64,7 @@ abstract class MetaCollector<T : DomElement>(
                             ?: return true
 
                         val meta = Meta(
-                            metaContainer.first, metaContainer.second, psiFile, virtualFile, rootElement,
+                            metaContainer.name, metaContainer.yName, psiFile, virtualFile, rootElement,
                             nameProvider.invoke(virtualFile),
                             representationNameProvider.invoke(virtualFile, rootElement),
                         )
@@ -98,12 +78,4 @@ abstract class MetaCollector<T : DomElement>(
 
         return files.toImmutableSet()
     }
-
-    companion object {
-        private val allowedModuleTypes = arrayOf(
-            ModuleDescriptorType.EXT,
-            ModuleDescriptorType.OOTB,
-            ModuleDescriptorType.CUSTOM
-        )
-    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.roots.ProjectFileIndex
+import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
+import com.intellij.openapi.vfs.VfsUtilCore
+import com.intellij.openapi.vfs.VirtualFile
+import sap.commerce.toolset.project.descriptor.ModuleDescriptorType
+import sap.commerce.toolset.project.yExtensionDescriptor
+import sap.commerce.toolset.project.yExtensionName
+
+/**
+ * Resolves the module or library which owns the meta file, has to be called under the read action.
+ */
+class MetaContainerResolver(project: Project) {
+
+    private val projectFileIndex = ProjectFileIndex.getInstance(project)
+    private val libraryTable = LibraryTablesRegistrar.getInstance().getLibraryTable(project)
+
+    fun resolve(virtualFile: VirtualFile): MetaContainer? = resolveModule(virtualFile)
+    // Some files are part of the Library and, as a result, aren't associated with any Module
+        ?: resolveLibrary(virtualFile)
+
+    /**
+     * Same as [resolve], but without scanning the libraries, so it is cheap enough to filter large amount of files.
+     */
+    fun resolveModule(virtualFile: VirtualFile): MetaContainer? = projectFileIndex.getModuleForFile(virtualFile)
+        ?.takeIf { it.yExtensionDescriptor?.type in allowedModuleTypes }
+        ?.let {
+            val extensionName = it.yExtensionName ?: return@let null
+            MetaContainer(it.name, extensionName, it.yExtensionDescriptor?.type == ModuleDescriptorType.CUSTOM)
+        }
+
+    private fun resolveLibrary(virtualFile: VirtualFile): MetaContainer? = libraryTable.libraries
+            .firstNotNullOfOrNull { library ->
+                library.getFiles(OrderRootType.CLASSES)
+                    .firstOrNull { libraryVirtualFile -> VfsUtilCore.isAncestor(libraryVirtualFile, virtualFile, false) }
+                    ?.let { MetaContainer(library.presentableName, it.name, false) }
+            }
+
+    data class MetaContainer(
+        val name: String,
+        val yName: String,
+        val custom: Boolean,
+    )
+
+    companion object {
+        private val allowedModuleTypes = arrayOf(
+            ModuleDescriptorType.EXT,
+            ModuleDescriptorType.OOTB,
+            ModuleDescriptorType.CUSTOM
+        )
+    }
+}
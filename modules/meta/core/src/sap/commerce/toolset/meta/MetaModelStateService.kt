@@ -50,6 +50,13 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
     protected val metaModelState = _metaModelState.asStateFlow()
 
     protected abstract suspend fun create(metaModelsToMerge: Collection<M>): G
+
+    /**
+     * Creates the global meta model when it was already computed before, unchanged local meta models are the same instances
+     * as in [previousMetaModels]. By default, the global meta model is re-created from scratch.
+     */
+    protected open suspend fun create(previousState: G, previousMetaModels: Map<String, M>, metaModels: Map<String, M>): G = create(metaModels.values)
+
     protected abstract fun onCompletion(newState: G)
 
     override fun init() {
@@ -74,6 +81,7 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
     private fun processState(metaModels: Collection<String> = emptyList()) {
         if (metaModelState.value.computing) return
 
+        val previousState = metaModelState.value.value
         _metaModelState.value = CachedMetaState(null, computed = false, computing = true)
 
         coroutineScope.launch {
@@ -103,9 +111,11 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
                         .associate { it.first to it.second!! }
                 }
 
+                val previousMetaModels = metaModelsState.value
                 _metaModelsState.value = localMetaModels
 
-                create(metaModelsState.value.values)
+                if (previousState == null) create(localMetaModels.values)
+                else create(previousState, previousMetaModels, localMetaModels)
             }
 
             _metaModelState.value = CachedMetaState(newState, computed = true, computing = false)
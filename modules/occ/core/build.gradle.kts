@@ -39,6 +39,8 @@ dependencies {
     implementation(project(":project-core"))
     implementation(project(":beanSystem-core"))
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
@@ -0,0 +1,48 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.meta
+
+import com.intellij.openapi.util.io.DataInputOutputUtilRt
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.IOUtil
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Level declared by the `levelMapping` property of the `fieldSetLevelMapping` bean.
+ *
+ * @param offset start offset of the `key` attribute value within the file
+ */
+data class OccLevelMapping(
+    val name: String,
+    val offset: Int,
+) {
+
+    object ListExternalizer : DataExternalizer<List<OccLevelMapping>> {
+
+        override fun save(out: DataOutput, value: List<OccLevelMapping>) = DataInputOutputUtilRt.writeSeq(out, value) {
+            IOUtil.writeUTF(out, it.name)
+            out.writeInt(it.offset)
+        }
+
+        override fun read(input: DataInput): List<OccLevelMapping> = DataInputOutputUtilRt.readSeq(input) {
+            OccLevelMapping(IOUtil.readUTF(input), input.readInt())
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.meta
+
+import com.intellij.ide.highlighter.XmlFileType
+import com.intellij.psi.xml.XmlFile
+import com.intellij.psi.xml.XmlTag
+import com.intellij.util.indexing.*
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.beanSystem.BSConstants
+
+/**
+ * Levels of the `fieldSetLevelMapping` Spring beans keyed by the `dtoClass`, levels of all beans of the same DTO within the file are merged.
+ */
+class OccLevelMappingIndex : FileBasedIndexExtension<String, List<OccLevelMapping>>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 1
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer() = OccLevelMapping.ListExternalizer
+    override fun getInputFilter() = DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE)
+
+    override fun getIndexer() = DataIndexer<String, List<OccLevelMapping>, FileContent> { fileContent ->
+        // cheap rejection of the unrelated xml files without building the PSI
+        if (!fileContent.contentAsText.contains(BSConstants.ATTRIBUTE_VALUE_LEVEL_MAPPING)) return@DataIndexer emptyMap()
+
+        val rootTag = (fileContent.psiFile as? XmlFile)
+            ?.rootTag
+            ?.takeIf { it.localName == "beans" && it.namespace == HybrisConstants.SPRING_NAMESPACE }
+            ?: return@DataIndexer emptyMap()
+
+        buildMap<String, MutableList<OccLevelMapping>> {
+            collect(rootTag, this)
+        }
+    }
+
+    private fun collect(tag: XmlTag, levelMappings: MutableMap<String, MutableList<OccLevelMapping>>) {
+        tag.subTags.forEach { subTag ->
+            if (subTag.localName == "bean") collectBean(subTag, levelMappings)
+
+            collect(subTag, levelMappings)
+        }
+    }
+
+    private fun collectBean(bean: XmlTag, levelMappings: MutableMap<String, MutableList<OccLevelMapping>>) {
+        val properties = bean.subTags.filter { it.localName == "property" }
+        val dtoClass = properties
+            .firstOrNull { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_DTO_CLASS }
+            ?.getAttributeValue("value")
+            ?.trim()
+            ?.takeIf { it.isNotEmpty() }
+            ?: return
+
+        properties
+            .firstOrNull { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_LEVEL_MAPPING }
+            ?.subTags
+            ?.filter { it.localName == "map" }
+            ?.flatMap { map -> map.subTags.filter { it.localName == "entry" } }
+            ?.mapNotNull { it.getAttribute("key")?.valueElement }
+            ?.filter { it.value.isNotBlank() }
+            ?.map { OccLevelMapping(it.value, it.textRange.startOffset) }
+            ?.takeIf { it.isNotEmpty() }
+            ?.let { levelMappings.getOrPut(dtoClass) { mutableListOf() }.addAll(it) }
+    }
+
+    companion object {
+        val NAME = ID.create<String, List<OccLevelMapping>>("sap.commerce.toolset.occ.levelMapping")
+    }
+}
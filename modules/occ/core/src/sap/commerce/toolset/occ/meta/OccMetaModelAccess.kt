@@ -0,0 +1,105 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.meta
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiManager
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.parentOfType
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.util.indexing.FileBasedIndex
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.beanSystem.meta.BSMetaModelAccess
+import sap.commerce.toolset.beanSystem.meta.BSModificationTracker
+import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
+
+/**
+ * Global OCC meta model: property paths of all beans and levels of the `fieldSetLevelMapping` beans per DTO class.
+ *
+ * The [OccPropertyTrie] is rebuilt only when the Bean System meta model changes, levels are read from the [OccLevelMappingIndex].
+ */
+@Service(Service.Level.PROJECT)
+class OccMetaModelAccess(private val project: Project) {
+
+    fun getPropertyTrie(): OccPropertyTrie<BSGlobalMetaBean> = CachedValuesManager.getManager(project).getCachedValue(
+        project, KEY_PROPERTY_TRIE,
+        {
+            val trie = OccPropertyTrie.build(
+                BSMetaModelAccess.getInstance(project).getAllBeans(),
+                { it.name },
+                { bean -> bean.allProperties.mapValues { it.value.referencedType } }
+            )
+            CachedValueProvider.Result.create(trie, BSModificationTracker.getInstance(project))
+        },
+        false
+    )
+
+    /**
+     * @return default levels and levels declared for the [dtoClass] by all `fieldSetLevelMapping` beans
+     */
+    fun getLevelMappings(dtoClass: String?): Set<String> = HybrisConstants.OCC_DEFAULT_LEVEL_MAPPINGS + findLevelMappings(dtoClass)
+        .flatMap { (_, levelMappings) -> levelMappings }
+        .map { it.name }
+
+    fun findLevelMappingElements(dtoClass: String?, levelMapping: String): List<XmlAttributeValue> {
+        val psiManager = PsiManager.getInstance(project)
+
+        return findLevelMappings(dtoClass)
+            .flatMap { (file, levelMappings) ->
+                val psiFile = psiManager.findFile(file) ?: return@flatMap emptyList()
+
+                // offsets of the modified, not yet re-indexed, files may be outdated
+                levelMappings
+                    .filter { it.name == levelMapping }
+                    .mapNotNull { psiFile.findElementAt(it.offset)?.parentOfType<XmlAttributeValue>(true) }
+                    .filter { it.value == levelMapping }
+            }
+    }
+
+    private fun findLevelMappings(dtoClass: String?): List<Pair<VirtualFile, List<OccLevelMapping>>> {
+        if (dtoClass == null || DumbService.isDumb(project)) return emptyList()
+
+        val result = mutableListOf<Pair<VirtualFile, List<OccLevelMapping>>>()
+
+        FileBasedIndex.getInstance().processValues(
+            OccLevelMappingIndex.NAME, dtoClass, null,
+            { file, levelMappings ->
+                result.add(file to levelMappings)
+                true
+            },
+            GlobalSearchScope.allScope(project)
+        )
+
+        return result
+    }
+
+    companion object {
+        private val KEY_PROPERTY_TRIE = Key.create<CachedValue<OccPropertyTrie<BSGlobalMetaBean>>>("SAP_CX_OCC_PROPERTY_TRIE")
+
+        fun getInstance(project: Project): OccMetaModelAccess = project.service()
+    }
+}
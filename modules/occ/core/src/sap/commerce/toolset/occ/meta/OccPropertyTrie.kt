@@ -0,0 +1,79 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.meta
+
+/**
+ * Property paths of the WS DTO beans, used to resolve `fieldSetLevelMapping` field definitions like `price(value,currency(isocode))`.
+ *
+ * There is a single [Node] per bean shared by all paths leading to it, so recursive beans do not lead to unbounded expansion,
+ * and resolution of the path costs a single hash lookup per segment.
+ */
+class OccPropertyTrie<T> private constructor(private val nodes: Map<String, Node<T>>) {
+
+    val size
+        get() = nodes.size
+
+    operator fun get(beanName: String?): Node<T>? = beanName?.let { nodes[it] }
+
+    fun resolve(beanName: String?, path: List<String>): Node<T>? {
+        var node = get(beanName) ?: return null
+        for (segment in path) node = node.child(segment) ?: return null
+        return node
+    }
+
+    class Node<T> internal constructor(
+        val bean: T,
+        val beanName: String,
+        private val referencedTypes: Map<String, String?>,
+    ) {
+        private val children = HashMap<String, Node<T>>()
+
+        val properties: Set<String>
+            get() = referencedTypes.keys
+
+        /**
+         * @return node of the bean referenced by the [property] or `null` when the property is unknown or not of a bean type
+         */
+        fun child(property: String): Node<T>? = children[property]
+
+        internal fun link(nodes: Map<String, Node<T>>) = referencedTypes.forEach { (property, referencedType) ->
+            referencedType
+                ?.let { nodes[it] }
+                ?.let { children[property] = it }
+        }
+    }
+
+    companion object {
+
+        /**
+         * @param properties names of the bean properties mapped to the name of the referenced type, e.g. element type of the collection
+         */
+        fun <T> build(beans: Collection<T>, name: (T) -> String?, properties: (T) -> Map<String, String?>): OccPropertyTrie<T> {
+            val nodes = HashMap<String, Node<T>>(beans.size)
+
+            beans.forEach { bean ->
+                val beanName = name(bean) ?: return@forEach
+                nodes[beanName] = Node(bean, beanName, properties(bean))
+            }
+            nodes.values.forEach { it.link(nodes) }
+
+            return OccPropertyTrie(nodes)
+        }
+    }
+}
@@ -19,54 +19,35 @@
 package sap.commerce.toolset.occ.psi.reference
 
 import com.intellij.codeInsight.highlighting.HighlightedReference
-import com.intellij.openapi.util.Key
-import com.intellij.openapi.util.TextRange
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiPolyVariantReference
 import com.intellij.psi.PsiReferenceBase
 import com.intellij.psi.ResolveResult
-import com.intellij.psi.util.*
+import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.beanSystem.codeInsight.completion.BSCompletionService
-import sap.commerce.toolset.beanSystem.meta.BSModificationTracker
 import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
 import sap.commerce.toolset.beanSystem.psi.reference.result.BeanPropertyResolveResult
 import sap.commerce.toolset.occ.psi.OccPropertyMapping
 import sap.commerce.toolset.psi.getValidResults
 
+/**
+ * @param levelMappings levels applicable to the [meta], offered by the completion along with the properties
+ */
 class OccBSBeanPropertyReference(
     private val meta: BSGlobalMetaBean,
     element: PsiElement,
-    mapping: OccPropertyMapping
+    mapping: OccPropertyMapping,
+    private val levelMappings: Collection<String> = HybrisConstants.OCC_DEFAULT_LEVEL_MAPPINGS,
 ) : PsiReferenceBase.Poly<PsiElement>(element, mapping.textRange, false), PsiPolyVariantReference, HighlightedReference {
 
     override fun getVariants() = BSCompletionService.getInstance(element.project)
-        .getCompletions(meta)
+        .getCompletions(meta, levelMappings)
         .toTypedArray()
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CachedValuesManager.getManager(element.project)
-        .getParameterizedCachedValue(element, cacheKey(rangeInElement), provider, false, this to meta)
-        .let { getValidResults(it) }
-
-    companion object {
-        private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, Pair<OccBSBeanPropertyReference, BSGlobalMetaBean>> { param ->
-            val ref = param.first
-            val meta = param.second
-            val element = ref.element
-            val propertyName = ref.value
-
-            val result = meta.allProperties[propertyName]
-                ?.let { BeanPropertyResolveResult(it) }
-                ?.let { arrayOf(it) }
-                ?.let { getValidResults(it) }
-                ?: emptyArray()
-
-            val project = element.project
-            CachedValueProvider.Result.create(
-                result,
-                BSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT
-            )
-        }
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = OccResolveResultsCache.resolve(element, rangeInElement) {
+        meta.allProperties[value]
+            ?.let { arrayOf<ResolveResult>(BeanPropertyResolveResult(it)) }
+            ?: emptyArray()
     }
-
-    private fun cacheKey(range: TextRange) = Key.create<ParameterizedCachedValue<Array<ResolveResult>, Pair<OccBSBeanPropertyReference, BSGlobalMetaBean>>>("HYBRIS_OCCBSBEANPROPERTYREFERENCE_" + range)
-}
\ No newline at end of file
+        .let { getValidResults(it) }
+}
@@ -19,61 +19,57 @@
 package sap.commerce.toolset.occ.psi.reference
 
 import com.intellij.codeInsight.highlighting.HighlightedReference
-import com.intellij.openapi.util.Key
-import com.intellij.openapi.util.TextRange
 import com.intellij.psi.*
-import com.intellij.psi.util.*
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.util.childrenOfType
+import com.intellij.psi.util.parents
 import com.intellij.psi.xml.XmlAttribute
 import com.intellij.psi.xml.XmlTag
 import sap.commerce.toolset.beanSystem.BSConstants
 import sap.commerce.toolset.beanSystem.codeInsight.completion.BSCompletionService
-import sap.commerce.toolset.beanSystem.meta.BSModificationTracker
 import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
+import sap.commerce.toolset.occ.meta.OccMetaModelAccess
 import sap.commerce.toolset.occ.psi.OccPropertyMapping
 import sap.commerce.toolset.psi.getValidResults
 
+/**
+ * Level of the [meta] DTO, resolved to the `levelMapping` entries of the enclosing bean and of all other `fieldSetLevelMapping` beans of the same DTO.
+ */
 class OccLevelMappingReference(
     private val meta: BSGlobalMetaBean,
     element: PsiElement,
-    mapping: OccPropertyMapping
+    mapping: OccPropertyMapping,
+    private val levelMappings: Collection<String>,
 ) : PsiReferenceBase.Poly<PsiElement>(element, mapping.textRange, false), PsiPolyVariantReference, HighlightedReference {
 
     override fun getVariants() = BSCompletionService.getInstance(element.project)
-        .getCompletions(meta)
+        .getCompletions(meta, levelMappings)
         .toTypedArray()
 
-    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = CachedValuesManager.getManager(element.project)
-        .getParameterizedCachedValue(element, cacheKey(rangeInElement), provider, false, this to meta)
-        .let { getValidResults(it) }
-
-    companion object {
-        private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, Pair<OccLevelMappingReference, BSGlobalMetaBean>> { param ->
-            val ref = param.first
-            val element = ref.element
-            val levelMapping = ref.value
+    override fun multiResolve(incompleteCode: Boolean): Array<ResolveResult> = OccResolveResultsCache.resolve(element, rangeInElement) {
+        val levelMapping = value
+        val beanProperties = element.parents(false)
+            .mapNotNull { it as? XmlTag }
+            .firstOrNull { it.localName == "bean" }
+            ?.childrenOfType<XmlTag>()
+            ?.filter { it.localName == "property" }
+            ?: emptyList()
 
-            val result = element.parents(false)
-                .mapNotNull { it as? XmlTag }
-                .filter { it.localName == "bean" }
-                .firstOrNull()
-                ?.childrenOfType<XmlTag>()
-                ?.filter { it.localName == "property" }
-                ?.firstOrNull { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_LEVEL_MAPPING }
-                ?.let { PsiTreeUtil.collectElements(it) { element -> element is XmlAttribute && element.localName == "key" } }
-                ?.map { it as XmlAttribute }
-                ?.mapNotNull { it.valueElement }
-                ?.filter { it.value == levelMapping }
-                ?.let { PsiElementResolveResult.createResults(it) }
-                ?.let { getValidResults(it) }
-                ?: emptyArray()
+        // entries of the enclosing bean are taken from the PSI, so they are available in the dumb mode as well
+        val localEntries = beanProperties
+            .takeIf { properties ->
+                properties.any { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_DTO_CLASS && it.getAttributeValue("value") == meta.name }
+            }
+            ?.firstOrNull { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_LEVEL_MAPPING }
+            ?.let { PsiTreeUtil.collectElements(it) { element -> element is XmlAttribute && element.localName == "key" } }
+            ?.map { it as XmlAttribute }
+            ?.mapNotNull { it.valueElement }
+            ?.filter { it.value == levelMapping }
+            ?: emptyList()
+        val indexedEntries = OccMetaModelAccess.getInstance(element.project)
+            .findLevelMappingElements(meta.name, levelMapping)
 
-            val project = element.project
-            CachedValueProvider.Result.create(
-                result,
-                BSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT
-            )
-        }
+        PsiElementResolveResult.createResults((localEntries + indexedEntries).distinct())
     }
-
-    private fun cacheKey(range: TextRange) = Key.create<ParameterizedCachedValue<Array<ResolveResult>, Pair<OccLevelMappingReference, BSGlobalMetaBean>>>("HYBRIS_OCCLEVELMAPPINGREFERENCE_" + range)
-}
\ No newline at end of file
+        .let { getValidResults(it) }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.psi.reference
+
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.util.TextRange
+import com.intellij.psi.PsiElement
+import com.intellij.psi.ResolveResult
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
+import sap.commerce.toolset.beanSystem.meta.BSModificationTracker
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Resolve results of all OCC references of the single attribute value keyed by the range of the reference.
+ *
+ * All references share the same [Key], so no new key is registered on each resolve.
+ */
+internal object OccResolveResultsCache {
+
+    private val KEY = Key.create<CachedValue<MutableMap<TextRange, Array<ResolveResult>>>>("SAP_CX_OCC_RESOLVE_RESULTS")
+
+    fun resolve(element: PsiElement, range: TextRange, resolver: () -> Array<ResolveResult>): Array<ResolveResult> = CachedValuesManager.getManager(element.project)
+        .getCachedValue(
+            element, KEY,
+            {
+                CachedValueProvider.Result.create(
+                    ConcurrentHashMap<TextRange, Array<ResolveResult>>(),
+                    BSModificationTracker.getInstance(element.project), PsiModificationTracker.MODIFICATION_COUNT
+                )
+            },
+            false
+        )
+        .computeIfAbsent(range) { resolver() }
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.meta
+
+import sap.commerce.toolset.occ.psi.OccPropertyMapping
+import sap.commerce.toolset.occ.psi.OccPropertyMappingParser
+import kotlin.random.Random
+import kotlin.test.*
+
+class OccPropertyTrieTest {
+
+    @Test
+    fun test_resolve_nestedPath() {
+        val trie = trie(
+            bean("ProductWsDTO", "code" to null, "price" to "PriceWsDTO", "images" to "ImageWsDTO"),
+            bean("PriceWsDTO", "value" to null, "currency" to "CurrencyWsDTO"),
+            bean("CurrencyWsDTO", "isocode" to null),
+            bean("ImageWsDTO", "url" to null),
+        )
+
+        assertEquals("CurrencyWsDTO", trie.resolve("ProductWsDTO", listOf("price", "currency"))?.beanName)
+        assertEquals(setOf("isocode"), trie.resolve("ProductWsDTO", listOf("price", "currency"))?.properties)
+        assertNull(trie.resolve("ProductWsDTO", listOf("price", "unknown")))
+        assertNull(trie.resolve("ProductWsDTO", listOf("code", "value")), "Property of the primitive type has no nested properties")
+        assertNull(trie.resolve("UnknownWsDTO", emptyList()))
+    }
+
+    @Test
+    fun test_resolve_recursiveBeans_sharedNodes() {
+        val trie = trie(
+            bean("CategoryWsDTO", "code" to null, "subcategories" to "CategoryWsDTO", "parent" to "CategoryHierarchyWsDTO"),
+            bean("CategoryHierarchyWsDTO", "category" to "CategoryWsDTO"),
+        )
+        val category = trie["CategoryWsDTO"]!!
+
+        assertSame(category, category.child("subcategories"))
+        assertSame(category, trie.resolve("CategoryWsDTO", List(100) { "subcategories" }))
+        assertSame(category, trie.resolve("CategoryWsDTO", listOf("parent", "category", "parent", "category")))
+    }
+
+    @Test
+    fun test_resolve_syntheticConfig_allMappedPathsResolved() {
+        val config = SyntheticConfig(dtos = 1_000)
+        val trie = config.trie()
+
+        val resolved = config.levelMappings.sumOf { (dto, fields) ->
+            paths(OccPropertyMappingParser.parse(fields)).count { trie.resolve(dto, it) != null }
+        }
+        val total = config.levelMappings.sumOf { (_, fields) -> paths(OccPropertyMappingParser.parse(fields)).size }
+
+        assertEquals(total, resolved)
+        assertTrue(config.levelMappings.size >= 3_000)
+    }
+
+    @Test
+    fun test_resolve_syntheticConfig_sameAsBeanLookupPerLevel() {
+        val config = SyntheticConfig(dtos = 1_000)
+
+        assertSameAsBeanLookupPerLevel(config)
+        assertTrue(config.wsBeans.isNotEmpty())
+        assertTrue(config.events.isNotEmpty())
+    }
+
+    /**
+     * Bounded to the size of the large project, the trie must keep a single node per bean regardless of the amount of the level mappings.
+     */
+    @Test
+    fun test_resolve_largeSyntheticConfig_sameAsBeanLookupPerLevel() {
+        val config = SyntheticConfig(dtos = 3_000)
+
+        assertSameAsBeanLookupPerLevel(config)
+        assertEquals(3_000, config.trie().size)
+        assertTrue(config.levelMappings.size >= 9_000)
+    }
+
+    private fun assertSameAsBeanLookupPerLevel(config: SyntheticConfig) {
+        val trie = config.trie()
+        val paths = config.levelMappings.flatMap { (dto, fields) -> paths(OccPropertyMappingParser.parse(fields)).map { dto to it } }
+
+        // resolution through the bean lookup on every nested level, the same way as it was done by the reference provider
+        fun legacyResolve(dto: String, path: List<String>): Map<String, String?>? {
+            var properties = config.lookup(dto) ?: return null
+            for (segment in path) {
+                val referencedType = properties[segment] ?: return null
+                properties = config.lookup(referencedType) ?: return null
+            }
+            return properties
+        }
+
+        paths.forEach { (dto, path) ->
+            assertEquals(legacyResolve(dto, path)?.keys, trie.resolve(dto, path)?.properties, "$dto: ${path.joinToString(".")}")
+        }
+    }
+
+    private fun paths(mappings: List<OccPropertyMapping>, prefix: List<String> = emptyList()): List<List<String>> = mappings
+        .flatMap { mapping ->
+            val path = prefix + mapping.value
+            if (mapping.children.isEmpty()) emptyList()
+            else listOf(path) + paths(mapping.children, path)
+        }
+
+    private fun trie(vararg beans: Pair<String, Map<String, String?>>) = OccPropertyTrie.build(beans.toList(), { it.first }, { it.second })
+
+    private fun bean(name: String, vararg properties: Pair<String, String?>) = name to properties.toMap()
+
+    /**
+     * DTOs referencing each other, including self-references, with `BASIC`, `DEFAULT` and `FULL` level mappings per DTO.
+     * DTOs are declared as beans, WS beans and events, nested fields may refer to levels of the nested DTOs, e.g. `price(DEFAULT)`.
+     */
+    private class SyntheticConfig(dtos: Int, random: Random = Random(42)) {
+        val beans = HashMap<String, Map<String, String?>>()
+        val wsBeans = HashMap<String, Map<String, String?>>()
+        val events = HashMap<String, Map<String, String?>>()
+        val levelMappings = mutableListOf<Pair<String, String>>()
+
+        init {
+            val names = (0 until dtos).map { "de.hybris.occ.dto.Dto${it}WsDTO" }
+
+            names.forEachIndexed { dtoIndex, name ->
+                val declarations = when (dtoIndex % 10) {
+                    7, 8 -> wsBeans
+                    9 -> events
+                    else -> beans
+                }
+                declarations[name] = (0 until 12).associate { index ->
+                    "property$index" to (if (index % 3 == 0) names.random(random) else null)
+                }
+            }
+            names.forEach { name ->
+                val properties = lookup(name)!!
+                val basic = properties.keys.take(3).joinToString(",")
+                val default = basic + "," + properties.entries
+                    .filter { it.value != null }
+                    .joinToString(",") { "${it.key}(BASIC)" }
+                val full = properties.entries.joinToString(",") { (property, referencedType) ->
+                    referencedType
+                        ?.let { nested -> "$property(${nestedFields(nested, 3, random)})" }
+                        ?: property
+                }
+
+                levelMappings.add(name to basic)
+                levelMappings.add(name to default)
+                levelMappings.add(name to full)
+            }
+        }
+
+        fun lookup(name: String) = beans[name] ?: wsBeans[name] ?: events[name]
+
+        fun trie() = OccPropertyTrie.build(beans.entries + wsBeans.entries + events.entries, { it.key }, { it.value })
+
+        private fun nestedFields(beanName: String, depth: Int, random: Random): String = lookup(beanName)!!.entries
+            .shuffled(random)
+            .take(4)
+            .joinToString(",") { (property, referencedType) ->
+                when {
+                    referencedType == null -> property
+                    depth > 0 -> "$property(${nestedFields(referencedType, depth - 1, random)})"
+                    else -> "$property(${levels.random(random)})"
+                }
+            }
+
+        companion object {
+            private val levels = listOf("BASIC", "DEFAULT", "FULL")
+        }
+    }
+}
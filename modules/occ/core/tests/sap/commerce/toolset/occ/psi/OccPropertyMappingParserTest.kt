@@ -0,0 +1,50 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.occ.psi
+
+import com.intellij.openapi.util.TextRange
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class OccPropertyMappingParserTest {
+
+    @Test
+    fun test_parse_nestedMappings() {
+        // the text of the attribute value, so ranges start after the opening quote
+        val text = "code,price(value,currency(isocode)),images(BASIC)"
+
+        val mappings = OccPropertyMappingParser.parse(text)
+
+        assertEquals(listOf("code", "price", "images"), mappings.map { it.value })
+        assertEquals(listOf("value", "currency"), mappings[1].children.map { it.value })
+        assertEquals(listOf("isocode"), mappings[1].children[1].children.map { it.value })
+        assertEquals(listOf("BASIC"), mappings[2].children.map { it.value })
+        assertEquals(mappings[1], mappings[1].children[0].parent)
+        assertEquals(TextRange.from(6, 5), mappings[1].textRange)
+        assertEquals(TextRange.from(27, 7), mappings[1].children[1].children[0].textRange)
+    }
+
+    @Test
+    fun test_parse_whitespacesAndLineBreaks() {
+        val mappings = OccPropertyMappingParser.parse("code,\n\t name,\n\t price( value )")
+
+        assertEquals(listOf("code", "name", "price"), mappings.map { it.value })
+        assertEquals(listOf("value"), mappings[2].children.map { it.value })
+    }
+}
@@ -26,19 +26,18 @@ import com.intellij.psi.xml.XmlAttribute
 import com.intellij.psi.xml.XmlAttributeValue
 import com.intellij.psi.xml.XmlTag
 import com.intellij.util.ProcessingContext
-import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.beanSystem.BSConstants
-import sap.commerce.toolset.beanSystem.meta.BSMetaModelAccess
+import sap.commerce.toolset.beanSystem.meta.BSModificationTracker
 import sap.commerce.toolset.beanSystem.meta.model.BSGlobalMetaBean
+import sap.commerce.toolset.occ.meta.OccMetaModelAccess
+import sap.commerce.toolset.occ.meta.OccPropertyTrie
 import sap.commerce.toolset.occ.psi.OccPropertyMapping
+import sap.commerce.toolset.occ.psi.OccPropertyMappingParser
 import sap.commerce.toolset.occ.psi.reference.OccBSBeanPropertyReference
 import sap.commerce.toolset.occ.psi.reference.OccLevelMappingReference
-import java.util.*
 
 class OccBeanPropertyReferenceProvider : PsiReferenceProvider() {
 
-    // TODO*: Create new Global OCC Meta Model, which will contain list of levelMappings and properties per dtoClass
-
     override fun getReferencesByElement(
         element: PsiElement, context: ProcessingContext
     ): Array<out PsiReference> = CachedValuesManager.getManager(element.project).getCachedValue(element) {
@@ -58,119 +57,43 @@ class OccBeanPropertyReferenceProvider : PsiReferenceProvider() {
             ?.mapNotNull { it.value }
             ?: return@getCachedValue CachedValueProvider.Result.createSingleDependency(emptyArray(), element)
 
-        val meta = propertyXmlTags
+        val occMetaModelAccess = OccMetaModelAccess.getInstance(element.project)
+        val dtoClass = propertyXmlTags
             .firstOrNull { it.getAttributeValue("name") == BSConstants.ATTRIBUTE_VALUE_DTO_CLASS }
-            ?.let { BSMetaModelAccess.getInstance(element.project).findMetaBeanByName(it.getAttributeValue("value")) }
-            ?: return@getCachedValue CachedValueProvider.Result.createSingleDependency(emptyArray(), element)
-
-        val levelMappings = currentLevelMappings + HybrisConstants.OCC_DEFAULT_LEVEL_MAPPINGS
-
-        val properties = processProperties(attributeValue.value)
-        val ignoredProperties = listOf<String>()
-        val references = collectReferences(meta, attributeValue, properties, levelMappings, ignoredProperties, 0)
+            ?.getAttributeValue("value")
+        // level mappings of other DTOs are declared in other Spring files, so any PSI change may affect them
+        val dependencies = arrayOf(element, BSModificationTracker.getInstance(element.project), PsiModificationTracker.getInstance(element.project))
+        val node = occMetaModelAccess.getPropertyTrie()[dtoClass]
+            ?: return@getCachedValue CachedValueProvider.Result.create(emptyArray(), *dependencies)
+
+        val levelMappings = currentLevelMappings + occMetaModelAccess.getLevelMappings(dtoClass)
+        val properties = OccPropertyMappingParser.parse(attributeValue.value)
+        val references = collectReferences(occMetaModelAccess, node, attributeValue, properties, levelMappings)
             .toTypedArray()
 
-        CachedValueProvider.Result.createSingleDependency(
-            references,
-            element,
-        )
+        CachedValueProvider.Result.create(references, *dependencies)
     }
 
+    /**
+     * Nested properties are resolved via the [OccPropertyTrie], nested levels are validated against the levels of the nested DTO.
+     */
     private fun collectReferences(
-        meta: BSGlobalMetaBean,
+        occMetaModelAccess: OccMetaModelAccess,
+        node: OccPropertyTrie.Node<BSGlobalMetaBean>,
         attributeValue: XmlAttributeValue,
         properties: List<OccPropertyMapping>,
-        levelMappings: List<String>,
-        ignoredProperties: List<String>,
-        recursiveLevel: Int
-    ): List<PsiReference> {
-        val ownReferences = properties
-            .mapNotNull {
-                if (ignoredProperties.contains(it.value)) return@mapNotNull null
-
-                return@mapNotNull if (levelMappings.contains(it.value)) OccLevelMappingReference(meta, attributeValue, it)
-                else OccBSBeanPropertyReference(meta, attributeValue, it)
-            }
-
-        if (recursiveLevel > 10) return ownReferences
-
-        // we cannot detect valid Level mapping for nested properties without global OCC Meta Model
-        val nestedIgnoredProperties = listOf("BASIC", "DEFAULT", "FULL")
-
-        val nestedReferences = properties
-            .filter { it.children.isNotEmpty() }
-            .mapNotNull {
-                val metaProperty = meta.allProperties[it.value]
-                    ?.referencedType
-                    ?: return@mapNotNull null
-                val nestedMeta = BSMetaModelAccess.getInstance(attributeValue.project).findMetaBeanByName(metaProperty)
-                    ?: return@mapNotNull null
-
-                collectReferences(nestedMeta, attributeValue, it.children, emptyList(), nestedIgnoredProperties, recursiveLevel + 1)
-            }
-            .flatten()
-
-        return ownReferences + nestedReferences
-    }
-
-    private fun processProperties(text: String): List<OccPropertyMapping> {
-        val parentProperties = LinkedList<OccPropertyMapping>()
-        val properties = mutableListOf<OccPropertyMapping>()
-        val textLength = text.length - 1
-        val tempPropertyName = StringBuilder("")
-        var newPropertyIndex = 0
-
-        text.withIndex().forEach { iv ->
-            val c = iv.value
-            val index = iv.index
-
-            if (tempPropertyName.isEmpty()) newPropertyIndex = index + 1
-
-            if (c != '\n' && c != '\t' && c != ',' && c != '(' && c != ')' && (tempPropertyName.isNotEmpty() || c != ' ')) {
-                tempPropertyName.append(c)
-            }
-
-            if ((c == ',' || index == textLength) && tempPropertyName.isNotEmpty()) {
-                val newProperty = OccPropertyMapping(newPropertyIndex, tempPropertyName.toString().trim())
-
-                if (parentProperties.lastOrNull() == null) properties.add(newProperty)
-                else {
-                    val lastParent = parentProperties.last()
-                    lastParent.children.add(newProperty)
-                    newProperty.parent = lastParent
-                }
-                tempPropertyName.clear()
-            } else if (c == '(') {
-                val newProperty = OccPropertyMapping(newPropertyIndex, tempPropertyName.toString().trim())
-
-                if (parentProperties.lastOrNull() == null) {
-                    properties.add(newProperty)
-                    parentProperties.add(newProperty)
-                } else {
-                    val lastParent = parentProperties.last()
-                    lastParent.children.add(newProperty)
-                    newProperty.parent = lastParent
-                    parentProperties.add(newProperty)
-                }
-                tempPropertyName.clear()
-            } else if (c == ')') {
-                if (tempPropertyName.isNotEmpty()) {
-                    val newProperty = OccPropertyMapping(newPropertyIndex, tempPropertyName.toString().trim())
-
-                    parentProperties.lastOrNull()
-                        ?.let {
-                            it.children.add(newProperty)
-                            newProperty.parent = it
-                        }
-                }
-
-                parentProperties.removeLastOrNull()
-
-                tempPropertyName.clear()
-            }
-        }
-
-        return properties
+        levelMappings: Collection<String>,
+    ): List<PsiReference> = properties.flatMap { property ->
+        if (levelMappings.contains(property.value)) return@flatMap listOf(OccLevelMappingReference(node.bean, attributeValue, property, levelMappings))
+
+        val ownReference = OccBSBeanPropertyReference(node.bean, attributeValue, property, levelMappings)
+        val nestedNode = property.children
+            .takeIf { it.isNotEmpty() }
+            ?.let { node.child(property.value) }
+            ?: return@flatMap listOf(ownReference)
+        val nestedLevelMappings = occMetaModelAccess.getLevelMappings(nestedNode.beanName)
+
+        listOf(ownReference) + collectReferences(occMetaModelAccess, nestedNode, attributeValue, property.children, nestedLevelMappings)
     }
 
-}
\ No newline at end of file
+}
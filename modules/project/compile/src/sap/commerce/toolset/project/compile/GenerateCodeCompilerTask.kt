@@ -23,6 +23,7 @@ import com.intellij.openapi.compiler.CompileTask
 import com.intellij.openapi.compiler.CompilerManager
 import com.intellij.openapi.compiler.CompilerMessageCategory
 import com.intellij.openapi.module.Module
+import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.projectRoots.JavaSdk
 import com.intellij.openapi.projectRoots.JavaSdkType
 import com.intellij.openapi.roots.ModuleRootManager
@@ -33,12 +34,13 @@ import sap.commerce.toolset.extensioninfo.EiConstants
 import sap.commerce.toolset.isHybrisProject
 import sap.commerce.toolset.project.compile.context.CompileTaskContext
 import sap.commerce.toolset.project.compile.context.WslCompileTaskContext
+import sap.commerce.toolset.project.compile.manifest.CodeGenerationManifest
+import sap.commerce.toolset.project.compile.manifest.IncrementalCodeGeneration
 import sap.commerce.toolset.project.compile.tasks.GenerateCodePreCompileTask
 import sap.commerce.toolset.project.compile.tasks.PreCompileTask
 import sap.commerce.toolset.project.compile.tasks.WslGenerateCodePreCompileTask
 import sap.commerce.toolset.project.contentRoot
 import sap.commerce.toolset.project.settings.ProjectSettings
-import sap.commerce.toolset.project.settings.ySettings
 import sap.commerce.toolset.project.yExtensionName
 import kotlin.io.path.pathString
 
@@ -58,12 +60,24 @@ class GenerateCodeCompilerTask : CompileTask {
         if (HybrisConstants.RunConfiguration.JUNIT == typeId && !settings.generateCodeOnJUnitRunConfiguration) return true
         if (HybrisConstants.RunConfiguration.SAP_CX == typeId && !settings.generateCodeOnServerRunConfiguration) return true
 
-        val preCompileTask = getPreCompileTask(context) ?: return true
+        val moduleMapping = settings.module2extensionMapping
+        val modules = application.runReadAction<Array<Module>> { context.compileScope.affectedModules }
+            .associateBy { it.yExtensionName(moduleMapping) }
+        val preCompileTask = getPreCompileTask(context, modules) ?: return true
+
+        // partial make affects only some modules, but items.xml of any extension may require regeneration of the models
+        val allModules = application.runReadAction<Array<Module>> { ModuleManager.getInstance(project).modules }
+        val inputs = CodeGenerationManifest.collect(
+            platformVersion = settings.hybrisVersion,
+            extensions = allModules
+                .mapNotNull { module -> module.yExtensionName(moduleMapping)?.let { name -> module.contentRoot?.let { name to it } } }
+                .toMap()
+        )
+        val codeGeneration = IncrementalCodeGeneration(preCompileTask.taskContext.bootstrapPath, preCompileTask) {
+            context.addMessage(CompilerMessageCategory.INFORMATION, it, null, -1, -1)
+        }
 
-        if (!preCompileTask.invokeCodeGeneration()
-            || !preCompileTask.invokeCodeCompilation()
-            || !preCompileTask.invokeModelsJarCreation()
-        ) {
+        if (!codeGeneration.execute(inputs)) {
             ProjectCompileService.getInstance(project).triggerRefreshGeneratedFiles(preCompileTask.taskContext.bootstrapPath)
             return false
         }
@@ -71,11 +85,7 @@ class GenerateCodeCompilerTask : CompileTask {
         return true
     }
 
-    private fun getPreCompileTask(context: CompileContext): PreCompileTask? {
-        val moduleMapping = context.project.ySettings.module2extensionMapping
-        val modules = application.runReadAction<Array<Module>> { context.compileScope.affectedModules }
-            .associateBy { it.yExtensionName(moduleMapping) }
-
+    private fun getPreCompileTask(context: CompileContext, modules: Map<String?, Module>): PreCompileTask? {
         val platformModule = modules[EiConstants.Extension.PLATFORM] ?: return null
         val coreModulePath = modules[EiConstants.Extension.CORE]?.contentRoot ?: return null
         val platformModulePath = platformModule.contentRoot ?: return null
@@ -0,0 +1,149 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.compile.manifest
+
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.*
+import kotlin.io.path.*
+
+/**
+ * Fingerprint of the code generation inputs and outputs persisted after each successful generation.
+ *
+ * Inputs are content hashes of all `*-items.xml` and `*-beans.xml` files of the extensions together with the platform version
+ * and sorted list of the extensions. Outputs are content hashes of the generated sources, relative to the `gensrc` directory,
+ * and are used to recompile only changed sources when only bean definitions were modified.
+ */
+data class CodeGenerationManifest(
+    val platformVersion: String?,
+    val extensions: List<String>,
+    val items: Map<String, String>,
+    val beans: Map<String, String>,
+    val generatedSources: Map<String, String> = emptyMap(),
+) {
+
+    fun scopeSince(previous: CodeGenerationManifest?) = when {
+        previous == null -> CodeGenerationScope.FULL
+        platformVersion != previous.platformVersion -> CodeGenerationScope.FULL
+        extensions != previous.extensions -> CodeGenerationScope.FULL
+        items != previous.items -> CodeGenerationScope.FULL
+        beans != previous.beans -> CodeGenerationScope.BEANS
+        else -> CodeGenerationScope.NONE
+    }
+
+    fun write(path: Path) {
+        val properties = Properties()
+        platformVersion?.let { properties.setProperty(KEY_PLATFORM_VERSION, it) }
+        properties.setProperty(KEY_EXTENSIONS, extensions.joinToString(","))
+        items.forEach { (file, hash) -> properties.setProperty(PREFIX_ITEMS + file, hash) }
+        beans.forEach { (file, hash) -> properties.setProperty(PREFIX_BEANS + file, hash) }
+        generatedSources.forEach { (file, hash) -> properties.setProperty(PREFIX_GENERATED_SOURCES + file, hash) }
+
+        path.parent?.createDirectories()
+        path.bufferedWriter().use { properties.store(it, "SAP Commerce code generation manifest") }
+    }
+
+    companion object {
+        const val FILE_NAME = ".sap-commerce-codegen.properties"
+
+        private const val KEY_PLATFORM_VERSION = "platform.version"
+        private const val KEY_EXTENSIONS = "extensions"
+        private const val PREFIX_ITEMS = "items."
+        private const val PREFIX_BEANS = "beans."
+        private const val PREFIX_GENERATED_SOURCES = "gensrc."
+
+        private const val ITEMS_FILE_ENDING = "-items.xml"
+        private const val BEANS_FILE_ENDING = "-beans.xml"
+        private const val RESOURCES_DIRECTORY = "resources"
+
+        /**
+         * Collects fingerprint of the code generation inputs.
+         *
+         * @param extensions extension name to the extension root directory
+         */
+        fun collect(platformVersion: String?, extensions: Map<String, Path>): CodeGenerationManifest {
+            val items = sortedMapOf<String, String>()
+            val beans = sortedMapOf<String, String>()
+
+            extensions.values
+                .map { it.resolve(RESOURCES_DIRECTORY) }
+                .filter { it.isDirectory() }
+                .flatMap { resources -> resources.listDirectoryEntries().filter { it.isRegularFile() } }
+                .forEach { file ->
+                    when {
+                        file.name.endsWith(ITEMS_FILE_ENDING) -> items[file.invariantSeparatorsPathString] = hash(file)
+                        file.name.endsWith(BEANS_FILE_ENDING) -> beans[file.invariantSeparatorsPathString] = hash(file)
+                    }
+                }
+
+            return CodeGenerationManifest(
+                platformVersion = platformVersion,
+                extensions = extensions.keys.sorted(),
+                items = items,
+                beans = beans,
+            )
+        }
+
+        /**
+         * Collects content hashes of the generated `*.java` sources keyed by path relative to the given directory.
+         */
+        fun collectGeneratedSources(directory: Path): Map<String, String> {
+            if (!directory.isDirectory()) return emptyMap()
+
+            return Files.walk(directory).use { paths ->
+                paths
+                    .filter { it.isRegularFile() && it.extension == "java" }
+                    .toList()
+                    .associateTo(sortedMapOf()) { it.relativeTo(directory).invariantSeparatorsPathString to hash(it) }
+            }
+        }
+
+        fun read(path: Path): CodeGenerationManifest? {
+            if (!path.isRegularFile()) return null
+
+            val properties = try {
+                Properties().apply { path.bufferedReader().use { load(it) } }
+            } catch (_: IOException) {
+                return null
+            } catch (_: IllegalArgumentException) {
+                return null
+            }
+
+            val extensions = properties.getProperty(KEY_EXTENSIONS) ?: return null
+
+            return CodeGenerationManifest(
+                platformVersion = properties.getProperty(KEY_PLATFORM_VERSION),
+                extensions = extensions.split(",").filter { it.isNotBlank() },
+                items = properties.withPrefix(PREFIX_ITEMS),
+                beans = properties.withPrefix(PREFIX_BEANS),
+                generatedSources = properties.withPrefix(PREFIX_GENERATED_SOURCES),
+            )
+        }
+
+        private fun Properties.withPrefix(prefix: String) = stringPropertyNames()
+            .filter { it.startsWith(prefix) }
+            .associateTo(sortedMapOf()) { it.removePrefix(prefix) to getProperty(it) }
+
+        private fun hash(file: Path) = MessageDigest.getInstance("SHA-256")
+            .digest(file.readBytes())
+            .let { HexFormat.of().formatHex(it) }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.compile.manifest
+
+/**
+ * Amount of work required to bring generated sources in sync with `*-items.xml` and `*-beans.xml` definitions.
+ */
+enum class CodeGenerationScope {
+    /**
+     * Nothing has changed since the last successful generation.
+     */
+    NONE,
+
+    /**
+     * Only bean definitions have changed, models are still valid, so only changed generated sources have to be recompiled.
+     */
+    BEANS,
+
+    /**
+     * Items definitions, platform version or set of extensions have changed, everything has to be regenerated and recompiled.
+     */
+    FULL,
+}
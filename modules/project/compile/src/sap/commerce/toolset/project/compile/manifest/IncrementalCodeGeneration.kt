@@ -0,0 +1,111 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.compile.manifest
+
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.project.ProjectConstants
+import java.nio.file.Path
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.isDirectory
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.nameWithoutExtension
+import kotlin.io.path.readText
+
+/**
+ * Runs code generation only when the inputs fingerprint differs from the one stored after the last successful run.
+ *
+ * The platform code generator has no beans-only mode, so in case of [CodeGenerationScope.BEANS] sources are still regenerated,
+ * but only changed generated sources and sources referencing them are recompiled on top of the existing model classes.
+ */
+class IncrementalCodeGeneration(
+    private val bootstrapPath: Path,
+    private val generator: CodeGenerator,
+    private val log: (String) -> Unit = {},
+) {
+
+    private val manifestPath = bootstrapPath.resolve(CodeGenerationManifest.FILE_NAME)
+    private val generatedSourcesPath = bootstrapPath.resolve(ProjectConstants.Directory.GEN_SRC)
+    private val modelClassesPath = bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES)
+    private val modelsJarPath = bootstrapPath.resolve(ProjectConstants.Directory.BIN).resolve(HybrisConstants.JAR_MODELS)
+
+    fun execute(inputs: CodeGenerationManifest): Boolean {
+        val previous = CodeGenerationManifest.read(manifestPath)
+        val scope = inputs.scopeSince(previous)
+            .takeIf { it == CodeGenerationScope.FULL || outputsExist() }
+            ?: CodeGenerationScope.FULL
+
+        if (scope == CodeGenerationScope.NONE) {
+            log("[y] Skipped code generation, items and beans definitions are unchanged.")
+            return true
+        }
+
+        // invalidate the manifest until generated code is compiled and packed again
+        manifestPath.deleteIfExists()
+
+        if (!generator.invokeCodeGeneration()) return false
+
+        val generatedSources = CodeGenerationManifest.collectGeneratedSources(generatedSourcesPath)
+        val sourceFiles = previous
+            ?.takeIf { scope == CodeGenerationScope.BEANS }
+            ?.let { changedSources(it.generatedSources, generatedSources) }
+
+        when {
+            sourceFiles == null -> {
+                if (!generator.invokeCodeCompilation()) return false
+                if (!generator.invokeModelsJarCreation()) return false
+            }
+
+            sourceFiles.isEmpty() -> log("[y] Skipped code compilation, generated sources are unchanged.")
+
+            else -> {
+                log("[y] Only bean definitions have changed, recompiling ${sourceFiles.size} generated source(s).")
+                if (!generator.invokeCodeCompilation(sourceFiles)) return false
+                if (!generator.invokeModelsJarCreation()) return false
+            }
+        }
+
+        inputs.copy(generatedSources = generatedSources).write(manifestPath)
+        return true
+    }
+
+    private fun outputsExist() = generatedSourcesPath.isDirectory()
+        && modelClassesPath.isDirectory()
+        && modelsJarPath.isRegularFile()
+
+    /**
+     * Returns changed generated sources together with unchanged sources which refer to them by simple name,
+     * or `null` if some source has been removed and stale classes have to be wiped by a full compilation.
+     */
+    private fun changedSources(previous: Map<String, String>, current: Map<String, String>): Collection<Path>? {
+        if (previous.isEmpty() || !current.keys.containsAll(previous.keys)) return null
+
+        val (changed, unchanged) = current.keys
+            .partition { previous[it] != current[it] }
+            .let { (changed, unchanged) -> changed.map(generatedSourcesPath::resolve) to unchanged.map(generatedSourcesPath::resolve) }
+
+        if (changed.isEmpty()) return emptyList()
+
+        val references = changed
+            .joinToString("|") { Regex.escape(it.nameWithoutExtension) }
+            .let { Regex("\\b($it)\\b") }
+        val dependents = unchanged.filter { references.containsMatchIn(it.readText()) }
+
+        return changed + dependents
+    }
+}
@@ -32,6 +32,7 @@ import java.io.BufferedOutputStream
 import java.io.File
 import java.io.FileOutputStream
 import java.io.IOException
+import java.nio.file.Path
 import java.nio.file.Paths
 import java.util.jar.JarOutputStream
 import kotlin.io.path.pathString
@@ -56,19 +57,21 @@ open class GenerateCodePreCompileTask(taskContext: CompileTaskContext) : PreComp
         return commandLine
     }
 
-    override fun invokeCodeCompilation(): Boolean {
+    override fun invokeCodeCompilation(sourceFiles: Collection<Path>?): Boolean {
         val context = taskContext.context
         val bootstrapPath = taskContext.bootstrapPath
-        val pathToBeDeleted = bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES)
-        cleanDirectory(pathToBeDeleted)
+        val modelClassesPath = bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES)
+        if (sourceFiles == null) cleanDirectory(modelClassesPath)
 
         try {
             context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Compiling generated code...", null, -1, -1)
-            val sourceFiles = collectSourceFiles().map { it.toFile() }
+            val compiledSourceFiles = (sourceFiles ?: collectSourceFiles()).map { it.toFile() }
 
             val rootManager = ModuleRootManager.getInstance(taskContext.platformModule)
             val classpath = rootManager.orderEntries().compileOnly().recursively().exportedOnly().withoutSdk().pathsList.pathList
                 .map { File(it) }
+                // already compiled unchanged classes have to be visible for the partial compilation
+                .let { if (sourceFiles != null) it + modelClassesPath.toFile() else it }
             val platformClasspath = rootManager.orderEntries().compileOnly().sdkOnly().pathsList.pathList
                 .map { File(it) }
 
@@ -79,8 +82,8 @@ open class GenerateCodePreCompileTask(taskContext: CompileTaskContext) : PreComp
                 emptyList(),
                 emptyList(),
                 listOf(bootstrapPath.resolve(ProjectConstants.Directory.GEN_SRC).toFile()),
-                sourceFiles,
-                bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES).toFile()
+                compiledSourceFiles,
+                modelClassesPath.toFile()
             )
             context.addMessage(CompilerMessageCategory.STATISTICS, "[y] Compiled ${classes.size} generated classes.", null, -1, -1)
             val flushedClasses = classes
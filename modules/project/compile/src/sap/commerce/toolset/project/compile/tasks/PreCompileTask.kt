@@ -30,6 +30,7 @@ import com.intellij.openapi.util.text.StringUtil
 import com.intellij.util.lang.JavaVersion
 import sap.commerce.toolset.project.ProjectConstants
 import sap.commerce.toolset.project.compile.context.CompileTaskContext
+import sap.commerce.toolset.project.compile.manifest.CodeGenerator
 import sap.commerce.toolset.project.settings.ySettings
 import sap.commerce.toolset.util.directoryExists
 import java.io.File
@@ -41,14 +42,11 @@ import java.nio.file.attribute.BasicFileAttributes
 import kotlin.io.path.extension
 import kotlin.io.path.name
 
-abstract class PreCompileTask(val taskContext: CompileTaskContext) {
-
-    abstract fun invokeCodeCompilation(): Boolean
-    abstract fun invokeModelsJarCreation(): Boolean
+abstract class PreCompileTask(val taskContext: CompileTaskContext) : CodeGenerator {
 
     protected abstract fun getCodeGenerationCommandLine(): GeneralCommandLine
 
-    fun invokeCodeGeneration() = startProcess(
+    override fun invokeCodeGeneration() = startProcess(
         action = "code generation",
         beforeProcessStart = {
             val pathToBeDeleted = taskContext.bootstrapPath.resolve(ProjectConstants.Directory.GEN_SRC)
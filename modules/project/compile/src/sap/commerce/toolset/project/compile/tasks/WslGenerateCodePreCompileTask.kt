@@ -54,17 +54,20 @@ class WslGenerateCodePreCompileTask(
             .apply { patchCommandLine(this) }
     }
 
-    override fun invokeCodeCompilation() = startProcess(
+    override fun invokeCodeCompilation(sourceFiles: Collection<Path>?) = startProcess(
         "code compilation",
         beforeProcessStart = {
             val pathToBeDeleted = taskContext.bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES)
-            cleanDirectory(pathToBeDeleted)
+            if (sourceFiles == null) cleanDirectory(pathToBeDeleted)
         }
     ) {
         val wslDistribution = wslContext.wslDistribution
+        val modelClassesPath = taskContext.bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES)
         val classpath = ModuleRootManager.getInstance(taskContext.platformModule)
             .orderEntries().compileOnly().recursively().exportedOnly().withoutSdk()
             .pathsList.pathList
+            // already compiled unchanged classes have to be visible for the partial compilation
+            .let { if (sourceFiles != null) it + modelClassesPath.pathString else it }
             .joinToString(":") { osSpecificPath(it) }
 
         val mntClasspathFile = Files.createTempFile("compile", "cx")
@@ -72,13 +75,13 @@ class WslGenerateCodePreCompileTask(
             .apply { Files.writeString(this, classpath, StandardCharsets.UTF_8) }
             .let { wslDistribution.getWslPath(it) }
 
-        val sourceFiles = collectSourceFiles()
+        val compiledSourceFiles = (sourceFiles ?: collectSourceFiles())
             .joinToString("\n") { osSpecificPath(it) }
         val mntSourceFilesFile = Files.createTempFile("sources", "cx")
             .also { it.toFile().deleteOnExit() }
-            .apply { Files.writeString(this, sourceFiles, StandardCharsets.UTF_8) }
+            .apply { Files.writeString(this, compiledSourceFiles, StandardCharsets.UTF_8) }
             .let { wslDistribution.getWslPath(it) }
-        val outputDir = osSpecificPath(taskContext.bootstrapPath.resolve(ProjectConstants.Directory.MODEL_CLASSES))
+        val outputDir = osSpecificPath(modelClassesPath)
 
         GeneralCommandLine()
             .withParentEnvironmentType(GeneralCommandLine.ParentEnvironmentType.CONSOLE)
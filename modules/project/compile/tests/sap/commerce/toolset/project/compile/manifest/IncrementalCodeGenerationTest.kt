@@ -0,0 +1,241 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.compile.manifest
+
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.*
+import kotlin.test.*
+
+@OptIn(ExperimentalPathApi::class)
+class IncrementalCodeGenerationTest {
+
+    private lateinit var root: Path
+    private lateinit var bootstrap: Path
+    private lateinit var generator: FakeCodeGenerator
+
+    @BeforeTest
+    fun setUp() {
+        root = Files.createTempDirectory("codegen")
+        bootstrap = root.resolve("platform").resolve("bootstrap")
+        generator = FakeCodeGenerator(bootstrap, ::extensions)
+
+        extension("core", items = """<itemtype code="Product"/>""", beans = """<bean class="ProductData"/>""")
+        extension("custom", items = """<itemtype code="Custom"/>""", beans = """<bean class="CustomData" ref="ProductData"/>""")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        root.deleteRecursively()
+    }
+
+    @Test
+    fun test_execute_firstRun_fullGeneration() {
+        assertTrue(execute())
+
+        assertEquals(1, generator.generations)
+        assertEquals(listOf(null), generator.compilations)
+        assertEquals(1, generator.jars)
+        assertTrue(bootstrap.resolve(CodeGenerationManifest.FILE_NAME).exists())
+    }
+
+    @Test
+    fun test_execute_unchangedInputs_skipped() {
+        execute()
+        generator.reset()
+
+        assertTrue(execute())
+
+        assertEquals(0, generator.generations)
+        assertTrue(generator.compilations.isEmpty())
+        assertEquals(0, generator.jars)
+    }
+
+    @Test
+    fun test_execute_changedItems_fullGeneration() {
+        execute()
+        generator.reset()
+
+        extension("custom", items = """<itemtype code="Custom" extends="Product"/>""", beans = """<bean class="CustomData" ref="ProductData"/>""")
+
+        assertTrue(execute())
+
+        assertEquals(1, generator.generations)
+        assertEquals(listOf(null), generator.compilations)
+    }
+
+    @Test
+    fun test_execute_changedPlatformVersion_fullGeneration() {
+        execute()
+        generator.reset()
+
+        assertTrue(execute(platformVersion = "2211.30"))
+
+        assertEquals(listOf(null), generator.compilations)
+    }
+
+    @Test
+    fun test_execute_changedBeans_partialCompilation() {
+        execute()
+        generator.reset()
+
+        extension("core", items = """<itemtype code="Product"/>""", beans = """<bean class="ProductData" property="code"/>""")
+
+        assertTrue(execute())
+
+        assertEquals(1, generator.generations)
+        val sourceFiles = generator.compilations.single()
+        assertNotNull(sourceFiles)
+        assertEquals(
+            setOf("ProductData.java", "CustomData.java"),
+            sourceFiles.map { it.name }.toSet(),
+            "Changed bean and unchanged bean referencing it have to be recompiled"
+        )
+        assertEquals(1, generator.jars)
+    }
+
+    @Test
+    fun test_execute_removedGeneratedSource_fullCompilation() {
+        execute()
+        generator.reset()
+
+        extension("custom", items = """<itemtype code="Custom"/>""", beans = "")
+
+        assertTrue(execute())
+
+        assertEquals(listOf(null), generator.compilations)
+    }
+
+    @Test
+    fun test_execute_missingOutputs_fullGeneration() {
+        execute()
+        generator.reset()
+
+        bootstrap.resolve("modelclasses").deleteRecursively()
+
+        assertTrue(execute())
+
+        assertEquals(listOf(null), generator.compilations)
+    }
+
+    @Test
+    fun test_execute_missingModelsJar_fullGeneration() {
+        execute()
+        generator.reset()
+
+        bootstrap.resolve("bin/models.jar").deleteIfExists()
+
+        assertTrue(execute())
+
+        assertEquals(1, generator.generations)
+        assertEquals(listOf(null), generator.compilations)
+        assertEquals(1, generator.jars)
+    }
+
+    @Test
+    fun test_execute_failedCompilation_manifestNotStored() {
+        generator.failCompilation = true
+
+        assertFalse(execute())
+        assertFalse(bootstrap.resolve(CodeGenerationManifest.FILE_NAME).exists())
+
+        generator.failCompilation = false
+        generator.reset()
+
+        assertTrue(execute())
+        assertEquals(1, generator.generations)
+    }
+
+    @Test
+    fun test_read_storedManifest() {
+        val manifest = CodeGenerationManifest.collect("2211", extensions())
+            .copy(generatedSources = mapOf("de/hybris/Product.java" to "hash"))
+        val path = root.resolve("manifest.properties")
+
+        manifest.write(path)
+
+        assertEquals(manifest, CodeGenerationManifest.read(path))
+    }
+
+    private fun execute(platformVersion: String = "2211") = IncrementalCodeGeneration(bootstrap, generator)
+        .execute(CodeGenerationManifest.collect(platformVersion, extensions()))
+
+    private fun extensions() = root.listDirectoryEntries()
+        .filter { it.name != "platform" }
+        .associateBy { it.name }
+
+    private fun extension(name: String, items: String, beans: String) {
+        val resources = root.resolve(name).resolve("resources").createDirectories()
+        resources.resolve("$name-items.xml").writeText(items)
+        resources.resolve("$name-beans.xml").writeText(beans)
+    }
+
+    /**
+     * Generates single source per `<itemtype code>` and `<bean class>` with the definition as a body.
+     */
+    private class FakeCodeGenerator(bootstrap: Path, private val extensions: () -> Map<String, Path>) : CodeGenerator {
+
+        private val genSrc = bootstrap.resolve("gensrc")
+        private val modelClasses = bootstrap.resolve("modelclasses")
+        private val modelsJar = bootstrap.resolve("bin/models.jar")
+        private val definition = Regex("""<(itemtype code|bean class)="(\w+)"([^>]*)/>""")
+
+        var generations = 0
+        var jars = 0
+        val compilations = mutableListOf<Collection<Path>?>()
+        var failCompilation = false
+
+        fun reset() {
+            generations = 0
+            jars = 0
+            compilations.clear()
+        }
+
+        override fun invokeCodeGeneration(): Boolean {
+            generations++
+            genSrc.deleteRecursively()
+            genSrc.createDirectories()
+
+            extensions().values
+                .flatMap { it.resolve("resources").listDirectoryEntries() }
+                .flatMap { definition.findAll(it.readText()) }
+                .forEach {
+                    val (_, className, body) = it.destructured
+                    val name = if (it.value.startsWith("<itemtype")) "${className}Model" else className
+                    genSrc.resolve("$name.java").writeText("class $name { /* $body */ }")
+                }
+            return true
+        }
+
+        override fun invokeCodeCompilation(sourceFiles: Collection<Path>?): Boolean {
+            compilations.add(sourceFiles)
+            if (failCompilation) return false
+
+            modelClasses.createDirectories()
+            return true
+        }
+
+        override fun invokeModelsJarCreation(): Boolean {
+            jars++
+            modelsJar.parent.createDirectories()
+            modelsJar.writeText("models")
+            return true
+        }
+    }
+}
@@ -336,6 +336,9 @@ object HybrisIcons {
             object Actions {
                 val RESET_VIEW = getIcon("/icons/typeSystem/diagram/resetView.svg")
                 val OPEN_SETTINGS = SETTINGS
+                val EXPAND_SUPERTYPES = AllIcons.Hierarchy.Supertypes
+                val EXPAND_SUBTYPES = AllIcons.Hierarchy.Subtypes
+                val EXPAND_RELATIONS = TypeSystem.Types.RELATION
             }
         }
     }
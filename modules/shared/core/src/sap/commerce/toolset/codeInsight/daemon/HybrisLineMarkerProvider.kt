@@ -20,9 +20,14 @@ package sap.commerce.toolset.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
 import com.intellij.codeInsight.daemon.LineMarkerProviderDescriptor
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
+import com.intellij.openapi.editor.markup.GutterIconRenderer
+import com.intellij.openapi.util.NotNullLazyValue
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiFile
+import sap.commerce.toolset.i18n
 import sap.commerce.toolset.isHybrisProject
+import javax.swing.Icon
 
 abstract class HybrisLineMarkerProvider<T : PsiElement> : LineMarkerProviderDescriptor() {
 
@@ -46,4 +51,26 @@ abstract class HybrisLineMarkerProvider<T : PsiElement> : LineMarkerProviderDesc
         ?.takeIf { it.isHybrisProject }
         ?.let { canProcess(it) }
         ?: false
+
+    /**
+     * Navigation gutter with targets resolved only when the popup is opened or the gutter is clicked.
+     *
+     * Highlighting runs for every element of the file, so callers should only check cheap existence predicates against the meta model
+     * and leave retrieval of the DOM elements to the [targets].
+     */
+    protected fun createLazyLineMarkerInfo(
+        element: PsiElement,
+        icon: Icon,
+        alignment: GutterIconRenderer.Alignment,
+        tooltipText: String,
+        popupTitle: String? = null,
+        targets: () -> Collection<PsiElement>,
+    ): LineMarkerInfo<PsiElement> = NavigationGutterIconBuilder
+        .create(icon)
+        .setTargets(NotNullLazyValue.lazy { targets() })
+        .setEmptyPopupText(i18n("hybris.editor.gutter.targets.empty.popup.text"))
+        .apply { popupTitle?.let { setPopupTitle(it) } }
+        .setTooltipText(tooltipText)
+        .setAlignment(alignment)
+        .createLineMarkerInfo(element)
 }
\ No newline at end of file
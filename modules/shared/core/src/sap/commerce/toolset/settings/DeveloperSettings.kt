@@ -51,6 +51,11 @@ class DeveloperSettings(val project: Project) : SerializablePersistentStateCompo
         set(value) {
             updateState { it.copy(impexSettings = value) }
         }
+    var businessProcessSettings
+        get() = state.businessProcessSettings
+        set(value) {
+            updateState { it.copy(businessProcessSettings = value) }
+        }
 
     override fun getModificationCount() = stateModificationCount
 
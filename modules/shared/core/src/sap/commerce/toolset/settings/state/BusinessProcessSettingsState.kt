@@ -0,0 +1,44 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.settings.state
+
+import com.intellij.util.xmlb.annotations.OptionTag
+import com.intellij.util.xmlb.annotations.Tag
+import kotlinx.collections.immutable.toImmutableSet
+
+@Tag("BusinessProcessSettings")
+data class BusinessProcessSettingsState(
+    // case-insensitive names of the transitions which lead to the failure handling
+    @JvmField @OptionTag val badTransitions: Set<String> = setOf("NOK", "ERROR", "FAIL", "ON ERROR"),
+) {
+
+    fun isBadTransition(name: String) = badTransitions.any { it.equals(name, true) }
+
+    fun mutable() = Mutable(
+        badTransitions = badTransitions.toMutableSet(),
+    )
+
+    data class Mutable(
+        var badTransitions: MutableSet<String>,
+    ) {
+        fun immutable() = BusinessProcessSettingsState(
+            badTransitions = badTransitions.toImmutableSet(),
+        )
+    }
+}
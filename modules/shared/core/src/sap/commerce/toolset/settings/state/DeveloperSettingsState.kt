@@ -28,4 +28,5 @@ data class DeveloperSettingsState(
     @JvmField @OptionTag val flexibleSearchSettings: FlexibleSearchSettingsState = FlexibleSearchSettingsState(),
     @JvmField @OptionTag val polyglotQuerySettings: PolyglotQuerySettingsState = PolyglotQuerySettingsState(),
     @JvmField @OptionTag val impexSettings: ImpExSettingsState = ImpExSettingsState(),
+    @JvmField @OptionTag val businessProcessSettings: BusinessProcessSettingsState = BusinessProcessSettingsState(),
 )
\ No newline at end of file
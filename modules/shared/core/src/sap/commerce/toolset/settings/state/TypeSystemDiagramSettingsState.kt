@@ -32,6 +32,7 @@ data class TypeSystemDiagramSettingsState(
     @JvmField @OptionTag val showCustomEnumNodes: Boolean = false,
     @JvmField @OptionTag val showCustomMapNodes: Boolean = false,
     @JvmField @OptionTag val showCustomRelationNodes: Boolean = false,
+    @JvmField @OptionTag val neighborhoodDepth: Int = 1,
     @JvmField val excludedTypeNames: Set<String> = setOf(
         HybrisConstants.TS_TYPE_ITEM,
         HybrisConstants.TS_TYPE_GENERIC_ITEM,
@@ -49,6 +50,7 @@ data class TypeSystemDiagramSettingsState(
         showCustomEnumNodes = showCustomEnumNodes,
         showCustomMapNodes = showCustomMapNodes,
         showCustomRelationNodes = showCustomRelationNodes,
+        neighborhoodDepth = neighborhoodDepth,
         excludedTypeNames = excludedTypeNames.toMutableSet(),
     )
 
@@ -60,6 +62,7 @@ data class TypeSystemDiagramSettingsState(
         var showCustomEnumNodes: Boolean,
         var showCustomMapNodes: Boolean,
         var showCustomRelationNodes: Boolean,
+        var neighborhoodDepth: Int,
         var excludedTypeNames: MutableSet<String>,
     ) {
         fun immutable() = TypeSystemDiagramSettingsState(
@@ -70,6 +73,7 @@ data class TypeSystemDiagramSettingsState(
             showCustomEnumNodes = showCustomEnumNodes,
             showCustomMapNodes = showCustomMapNodes,
             showCustomRelationNodes = showCustomRelationNodes,
+            neighborhoodDepth = neighborhoodDepth,
             excludedTypeNames = excludedTypeNames.toImmutableSet(),
         )
     }
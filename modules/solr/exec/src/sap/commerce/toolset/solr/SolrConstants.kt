@@ -21,6 +21,7 @@ package sap.commerce.toolset.solr
 internal object SolrConstants {
     const val CONNECTION_TIMEOUT_MILLIS: Int = 15000
     const val SOCKET_TIMEOUT_MILLIS: Int = 120000
+    const val UNIQUE_KEY = "id"
 
     const val PROPERTY_SOLR_DEFAULT_PORT = "solrserver.instances.default.port"
     const val PROPERTY_SOLR_DEFAULT_USER = "solrserver.instances.default.user"
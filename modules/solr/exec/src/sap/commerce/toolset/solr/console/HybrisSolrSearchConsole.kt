@@ -35,6 +35,7 @@ import com.intellij.ui.dsl.builder.panel
 import com.intellij.ui.dsl.builder.whenItemSelectedFromUi
 import com.intellij.ui.dsl.listCellRenderer.textListCellRenderer
 import com.intellij.util.asSafely
+import org.apache.solr.common.params.CursorMarkParams
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.Notifications
 import sap.commerce.toolset.console.HybrisConsole
@@ -44,10 +45,12 @@ import sap.commerce.toolset.solr.exec.SolrExecClient
 import sap.commerce.toolset.solr.exec.SolrExecConnectionService
 import sap.commerce.toolset.solr.exec.context.SolrCoreData
 import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecResult
 import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
 import java.awt.BorderLayout
 import java.io.Serial
 import javax.swing.Icon
+import javax.swing.JButton
 import javax.swing.JLabel
 
 class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecContext>(project, "[y] Solr search", PlainTextLanguage.INSTANCE) {
@@ -58,6 +61,13 @@ class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecCon
     private lateinit var docsLabel: JLabel
     private lateinit var coresComboBox: ComboBox<SolrCoreData>
     private lateinit var maxRowsSpinner: JBIntSpinner
+    private lateinit var nextPageButton: JButton
+    private lateinit var pageLabel: JLabel
+
+    @Volatile
+    private var nextPageContext: SolrQueryExecContext? = null
+    @Volatile
+    private var page = 0
 
     init {
         prompt = "q="
@@ -81,6 +91,13 @@ class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecCon
                     .label("Rows (max 500):")
                     .component
                     .apply { value = 10 }
+
+                nextPageButton = button("Next Page") { nextPageContext?.let { execute(it, page + 1) } }
+                    .enabled(false)
+                    .component
+
+                pageLabel = label("")
+                    .component
             }
         }
 
@@ -104,6 +121,12 @@ class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecCon
     override fun printResult(result: ConsoleAwareExecResult) {
         clear()
 
+        nextPageButton.isEnabled = nextPageContext != null
+        pageLabel.text = result.asSafely<SolrQueryExecResult>()
+            ?.numFound
+            ?.let { "Page $page, found: $it" }
+            ?: ""
+
         printHost(result.replicaContext)
 
         when {
@@ -142,11 +165,7 @@ class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecCon
     }
 
     private fun retrieveListOfCores() = try {
-        val activeConnection = activeConnection()
-        val credentials = SolrExecConnectionService.getInstance(project).getCredentials(activeConnection)
-        val username = credentials.userName ?: ""
-        val password = credentials.getPasswordAsString() ?: ""
-        SolrExecClient.getInstance(project).coresData(activeConnection, username, password).toList()
+        SolrExecClient.getInstance(project).coresData(activeConnection()).toList()
     } catch (e: Exception) {
         Notifications.create(
             NotificationType.WARNING,
@@ -164,15 +183,29 @@ class HybrisSolrSearchConsole(project: Project) : HybrisConsole<SolrQueryExecCon
         connection = activeConnection(),
         content = content,
         core = (coresComboBox.selectedItem as SolrCoreData).core,
-        rows = maxRowsSpinner.value as Int
+        rows = maxRowsSpinner.value as Int,
+        cursorMark = CursorMarkParams.CURSOR_MARK_START,
     )
 
     override fun title() = "Solr Search"
     override fun tip() = "Solr Search Console"
-    override fun execute() = SolrExecClient.getInstance(project).execute(
+    override fun execute() = execute(context, 1) { beforeExecution() }
+
+    /**
+     * Only the current page is kept in memory, the next one is retrieved by the cursor of the previous page.
+     */
+    private fun execute(
+        context: SolrQueryExecContext,
+        page: Int,
+        beforeCallback: () -> Unit = {},
+    ) = SolrExecClient.getInstance(project).execute(
         context = context,
-        beforeCallback = { _ -> beforeExecution() },
-        resultCallback = { _, result -> print(result) }
+        beforeCallback = { _ -> beforeCallback() },
+        resultCallback = { _, result ->
+            this.page = page
+            nextPageContext = context.nextPage(result.nextCursorMark)
+            print(result)
+        }
     )
 
     companion object {
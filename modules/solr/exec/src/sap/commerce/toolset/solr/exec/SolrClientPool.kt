@@ -0,0 +1,123 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec
+
+import com.intellij.credentialStore.Credentials
+import com.intellij.openapi.diagnostic.thisLogger
+import org.apache.solr.client.solrj.SolrClient
+import org.apache.solr.client.solrj.impl.HttpSolrClient
+import sap.commerce.toolset.solr.exec.settings.event.SolrConnectionSettingsListener
+import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Pool of the [SolrClient]s, one per connection, each client keeps own pool of the HTTP connections.
+ *
+ * Client is re-created as soon as the connection settings or credentials are changed.
+ * Replaced and invalidated clients are closed only after all requests leased them are completed.
+ * Clients are addressed by the base Solr URL, so the same client is used for all cores of the connection.
+ */
+internal class SolrClientPool(
+    private val factory: (SolrConnectionSettingsState) -> SolrClient = ::newClient,
+) : SolrConnectionSettingsListener {
+
+    private val clients = ConcurrentHashMap<String, Entry>()
+
+    /**
+     * Leases the client of the connection for the [action], the client must not be used after it.
+     */
+    fun <T> use(settings: SolrConnectionSettingsState, credentials: Credentials, action: (SolrClient) -> T): T {
+        val key = key(settings, credentials)
+        var replaced: Entry? = null
+
+        // lease is taken under the lock of the map entry, so the entry cannot be retired in between
+        val entry = clients.compute(settings.uuid) { _, entry ->
+            val current = entry?.takeIf { it.key == key }
+                ?: Entry(key, factory(settings)).also { replaced = entry }
+
+            current.apply { lease() }
+        }!!
+
+        replaced?.retire()
+
+        return try {
+            action(entry.client)
+        } finally {
+            entry.release()
+        }
+    }
+
+    fun invalidate(uuid: String) {
+        clients.remove(uuid)?.retire()
+    }
+
+    fun clear() = clients.keys.toList().forEach { invalidate(it) }
+
+    override fun onUpdate(settings: Collection<SolrConnectionSettingsState>) = settings.forEach { invalidate(it.uuid) }
+    override fun onSave(settings: Collection<SolrConnectionSettingsState>) = clear()
+    override fun onDelete(connection: SolrConnectionSettingsState) = invalidate(connection.uuid)
+
+    private class Entry(val key: Int, val client: SolrClient) {
+        private var leases = 0
+        private var retired = false
+
+        @Synchronized
+        fun lease() {
+            leases++
+        }
+
+        @Synchronized
+        fun release() {
+            leases--
+            closeIfUnused()
+        }
+
+        /**
+         * Entry is no longer in the pool, its client is closed as soon as the last lease is released.
+         */
+        @Synchronized
+        fun retire() {
+            retired = true
+            closeIfUnused()
+        }
+
+        private fun closeIfUnused() {
+            if (!retired || leases > 0) return
+
+            try {
+                client.close()
+            } catch (e: Exception) {
+                thisLogger().debug("Unable to close Solr client", e)
+            }
+        }
+    }
+    companion object {
+        fun newClient(settings: SolrConnectionSettingsState): SolrClient = HttpSolrClient.Builder(settings.generatedURL)
+            .withConnectionTimeout(settings.timeout)
+            .withSocketTimeout(settings.socketTimeout)
+            .build()
+
+        private fun key(settings: SolrConnectionSettingsState, credentials: Credentials) = Objects.hash(
+            settings,
+            credentials.userName,
+            credentials.getPasswordAsString(),
+        )
+    }
+}
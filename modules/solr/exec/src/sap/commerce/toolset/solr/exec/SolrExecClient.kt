@@ -18,71 +18,78 @@
 
 package sap.commerce.toolset.solr.exec
 
+import com.intellij.openapi.Disposable
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
 import com.intellij.util.asSafely
 import com.intellij.util.containers.mapSmartNotNull
 import kotlinx.coroutines.CoroutineScope
-import org.apache.http.HttpStatus
-import org.apache.solr.client.solrj.SolrQuery
-import org.apache.solr.client.solrj.SolrRequest
-import org.apache.solr.client.solrj.impl.HttpSolrClient
-import org.apache.solr.client.solrj.impl.NoOpResponseParser
+import org.apache.solr.client.solrj.SolrClient
 import org.apache.solr.client.solrj.request.CoreAdminRequest
-import org.apache.solr.client.solrj.request.QueryRequest
 import org.apache.solr.client.solrj.response.CoreAdminResponse
 import org.apache.solr.common.params.CoreAdminParams
 import org.apache.solr.common.util.NamedList
-import sap.commerce.toolset.exec.DefaultExecClient
-import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.ExecClient
 import sap.commerce.toolset.solr.exec.context.SolrCoreData
 import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecResult
+import sap.commerce.toolset.solr.exec.settings.event.SolrConnectionSettingsListener
 import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
 import java.io.Serial
 
 @Service(Service.Level.PROJECT)
-class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecClient<SolrQueryExecContext>(project, coroutineScope) {
+class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : ExecClient<SolrQueryExecContext, SolrQueryExecResult>(project, coroutineScope),
+    Disposable {
 
-    override suspend fun execute(context: SolrQueryExecContext): DefaultExecResult {
+    private val clientPool = SolrClientPool()
+
+    init {
+        project.messageBus.connect(this).subscribe(SolrConnectionSettingsListener.TOPIC, clientPool)
+    }
+
+    override suspend fun execute(context: SolrQueryExecContext): SolrQueryExecResult {
         val settings = context.connection
-        val solrQuery = buildSolrQuery(context)
-        val queryRequest = buildQueryRequest(solrQuery, settings)
-        val url = "${settings.generatedURL}/${context.core}"
-
-        return buildHttpSolrClient(settings, url)
-            .runCatching { request(queryRequest) }
-            .map { namedList ->
-                DefaultExecResult(
-                    output = (namedList["response"] as String).takeIf { it.isNotBlank() }
-                )
-            }
-            .getOrElse {
-                DefaultExecResult(
-                    errorMessage = it.message,
-                    statusCode = HttpStatus.SC_BAD_GATEWAY
-                )
-            }
+        val credentials = SolrExecConnectionService.getInstance(project).getCredentials(settings)
+
+        return runCatching { clientPool.use(settings, credentials) { SolrQueryRequests.execute(it, context, credentials) } }
+            .getOrElse { SolrQueryRequests.failure(it) }
     }
 
-    fun testConnection(solrConnectionSettings: SolrConnectionSettingsState, username: String, password: String) = coresData(
-        solrConnectionSettings,
-        username,
-        password
+    override suspend fun onError(context: SolrQueryExecContext, exception: Throwable) = SolrQueryExecResult(
+        errorMessage = exception.message,
+        errorDetailMessage = exception.stackTraceToString(),
     )
+
+    override fun isRetryable(result: SolrQueryExecResult) = SolrQueryRequests.isRetryable(result)
+
+    override fun dispose() = clientPool.clear()
+
+    /**
+     * Connection being tested may not be persisted yet, so a short-living client is used instead of the pooled one.
+     */
+    fun testConnection(solrConnectionSettings: SolrConnectionSettingsState, username: String, password: String) = SolrClientPool
+        .newClient(solrConnectionSettings)
+        .use { coresData(it, username, password) }
         .map { it.core }
         .toTypedArray()
 
-    fun coresData(settings: SolrConnectionSettingsState, username: String, password: String) = CoreAdminRequest()
+    /**
+     * Pooled client is used only with the stored credentials, so the client of the connection in use is never replaced by a lookup.
+     */
+    fun coresData(settings: SolrConnectionSettingsState): Array<SolrCoreData> {
+        val credentials = SolrExecConnectionService.getInstance(project).getCredentials(settings)
+
+        return clientPool.use(settings, credentials) { coresData(it, credentials.userName ?: "", credentials.getPasswordAsString() ?: "") }
+    }
+
+    private fun coresData(client: SolrClient, username: String, password: String) = CoreAdminRequest()
         .apply {
             setAction(CoreAdminParams.CoreAdminAction.STATUS)
             setBasicAuthCredentials(username, password)
         }
-        .runCatching { process(buildHttpSolrClient(settings, settings.generatedURL)) }
-        .map { parseCoreResponse(it) }
-        .getOrElse {
-            throw it
-        }
+        .process(client)
+        .let { parseCoreResponse(it) }
 
     private fun parseCoreResponse(response: CoreAdminResponse) = response
         .coreStatus
@@ -98,30 +105,6 @@ class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : Default
         (it["index"] as NamedList<*>)["numDocs"] as Int
     )
 
-    private fun buildHttpSolrClient(settings: SolrConnectionSettingsState, url: String) = HttpSolrClient.Builder(url)
-        .withConnectionTimeout(settings.timeout)
-        .withSocketTimeout(settings.socketTimeout)
-        .build()
-
-    private fun buildQueryRequest(solrQuery: SolrQuery, settings: SolrConnectionSettingsState) = QueryRequest(solrQuery).apply {
-        val credentials = SolrExecConnectionService.getInstance(project).getCredentials(settings)
-        val username = credentials.userName ?: ""
-        val password = credentials.getPasswordAsString() ?: ""
-
-        setBasicAuthCredentials(username, password)
-
-        method = SolrRequest.METHOD.POST
-        // https://issues.apache.org/jira/browse/SOLR-5530
-        // https://stackoverflow.com/questions/28374428/return-solr-response-in-json-format/37212234#37212234
-        responseParser = NoOpResponseParser("json")
-    }
-
-    private fun buildSolrQuery(queryObject: SolrQueryExecContext) = SolrQuery().apply {
-        rows = queryObject.rows
-        query = queryObject.content
-        setParam("wt", "json")
-    }
-
     companion object {
         @Serial
         private const val serialVersionUID: Long = -4606760283632482489L
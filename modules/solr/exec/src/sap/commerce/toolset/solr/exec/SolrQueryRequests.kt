@@ -0,0 +1,129 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec
+
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.intellij.credentialStore.Credentials
+import org.apache.http.HttpStatus
+import org.apache.solr.client.solrj.SolrClient
+import org.apache.solr.client.solrj.SolrQuery
+import org.apache.solr.client.solrj.SolrRequest
+import org.apache.solr.client.solrj.impl.NoOpResponseParser
+import org.apache.solr.client.solrj.request.QueryRequest
+import org.apache.solr.common.SolrException
+import org.apache.solr.common.params.CursorMarkParams
+import sap.commerce.toolset.solr.SolrConstants
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecResult
+import java.io.IOException
+import java.io.StringReader
+
+/**
+ * Builds the Solr query requests and reads the paging details of the raw JSON responses.
+ *
+ * Cursor-based queries are used for deep paging, instead of `start` offsets, which force Solr to collect all preceding
+ * documents, each page is retrieved by the cursor of the previous one. Cursor requires the sort to include the unique key.
+ */
+internal object SolrQueryRequests {
+
+    fun execute(client: SolrClient, context: SolrQueryExecContext, credentials: Credentials): SolrQueryExecResult {
+        val response = client.request(request(context, credentials), context.core)["response"] as String
+
+        return read(response)
+    }
+
+    /**
+     * Status reported by Solr is kept and connection failures are reported as [HttpStatus.SC_SERVICE_UNAVAILABLE],
+     * so only server errors and unreachable servers are retried, see [isRetryable], while invalid requests are reported as is.
+     */
+    fun failure(exception: Throwable) = SolrQueryExecResult(
+        errorMessage = exception.message,
+        statusCode = when {
+            exception is SolrException -> exception.code().takeIf { it > 0 } ?: HttpStatus.SC_INTERNAL_SERVER_ERROR
+            exception is IOException || exception.cause is IOException -> HttpStatus.SC_SERVICE_UNAVAILABLE
+            else -> HttpStatus.SC_BAD_REQUEST
+        }
+    )
+
+    fun isRetryable(result: SolrQueryExecResult) = result.statusCode in HttpStatus.SC_INTERNAL_SERVER_ERROR..599
+
+    fun request(context: SolrQueryExecContext, credentials: Credentials) = QueryRequest(query(context)).apply {
+        setBasicAuthCredentials(credentials.userName ?: "", credentials.getPasswordAsString() ?: "")
+
+        method = SolrRequest.METHOD.POST
+        // https://issues.apache.org/jira/browse/SOLR-5530
+        // https://stackoverflow.com/questions/28374428/return-solr-response-in-json-format/37212234#37212234
+        responseParser = NoOpResponseParser("json")
+    }
+
+    fun query(context: SolrQueryExecContext) = SolrQuery().apply {
+        rows = context.rows
+        query = context.content
+        setParam("wt", "json")
+
+        context.cursorMark?.let { cursorMark ->
+            addSort("score", SolrQuery.ORDER.desc)
+            addSort(SolrConstants.UNIQUE_KEY, SolrQuery.ORDER.asc)
+            setParam(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark)
+        }
+    }
+
+    /**
+     * Reads `response.numFound` and `nextCursorMark` without building the tree of the whole response.
+     */
+    fun read(response: String): SolrQueryExecResult {
+        var numFound: Long? = null
+        var nextCursorMark: String? = null
+
+        if (response.isNotBlank()) JsonReader(StringReader(response)).use { reader ->
+            reader.beginObject()
+            while (reader.hasNext()) {
+                when (reader.nextName()) {
+                    CursorMarkParams.CURSOR_MARK_NEXT -> nextCursorMark = reader.nextString()
+                    "response" -> numFound = readNumFound(reader)
+                    else -> reader.skipValue()
+                }
+            }
+        }
+
+        return SolrQueryExecResult(
+            output = response.takeIf { it.isNotBlank() },
+            numFound = numFound,
+            nextCursorMark = nextCursorMark,
+        )
+    }
+
+    private fun readNumFound(reader: JsonReader): Long? {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue()
+            return null
+        }
+
+        var numFound: Long? = null
+        reader.beginObject()
+        while (reader.hasNext()) {
+            if (reader.nextName() == "numFound") numFound = reader.nextLong()
+            else reader.skipValue()
+        }
+        reader.endObject()
+
+        return numFound
+    }
+}
@@ -26,5 +26,23 @@ data class SolrQueryExecContext(
     override val executionTitle: String = "Execute HTTP Call to SOLR...",
     val content: String,
     val core: String,
-    val rows: Int
-) : ExecContext
\ No newline at end of file
+    val rows: Int,
+    /**
+     * Cursor of the page to be retrieved, `*` for the first page. Cursor-based queries are sorted by score and unique key.
+     */
+    val cursorMark: String? = null,
+) : ExecContext {
+
+    /**
+     * Context of the next page or `null` when the [nextCursorMark] is the same as the current one, i.e. all documents were retrieved.
+     */
+    fun nextPage(nextCursorMark: String?) = nextCursorMark
+        ?.takeIf { cursorMark != null && it != cursorMark }
+        ?.let { copy(cursorMark = it) }
+
+    override val connectionKey
+        get() = connection.uuid
+
+    override val idempotent
+        get() = true
+}
\ No newline at end of file
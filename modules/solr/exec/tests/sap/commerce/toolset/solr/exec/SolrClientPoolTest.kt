@@ -0,0 +1,155 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec
+
+import com.intellij.credentialStore.Credentials
+import org.apache.solr.client.solrj.SolrClient
+import org.apache.solr.client.solrj.SolrRequest
+import org.apache.solr.common.util.NamedList
+import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class SolrClientPoolTest {
+
+    private val created = mutableListOf<TrackingClient>()
+    private val pool = SolrClientPool { TrackingClient().also { synchronized(created) { created.add(it) } } }
+    private val connection = SolrConnectionSettingsState(uuid = "solr1")
+    private val credentials = Credentials("solrserver", "server123")
+
+    @Test
+    fun test_client_reusedForSameSettingsAndCredentials() {
+        val first = client(connection, credentials)
+
+        repeat(10) { assertSame(first, client(connection.copy(), Credentials("solrserver", "server123"))) }
+        assertEquals(1, created.size)
+    }
+
+    @Test
+    fun test_client_singleInstanceAcrossConcurrentRequests() {
+        val executor = Executors.newFixedThreadPool(8)
+
+        try {
+            (1..200)
+                .map { executor.submit<SolrClient> { client(connection, credentials) } }
+                .map { it.get(10, TimeUnit.SECONDS) }
+                .forEach { assertSame(created.single(), it) }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun test_client_recreatedOnCredentialsChange() {
+        val first = client(connection, credentials)
+        val second = client(connection, Credentials("solrserver", "changed"))
+
+        assertNotSame(first, second)
+        assertTrue(created[0].closed, "Replaced client has to be closed")
+        assertFalse(created[1].closed)
+    }
+
+    @Test
+    fun test_client_replacedWhileInUse_closedAfterRequest() {
+        pool.use(connection, credentials) { inFlight ->
+            val replacement = client(connection, Credentials("solrserver", "changed"))
+
+            assertNotSame(inFlight, replacement)
+            assertFalse(created[0].closed, "Client of the in-flight request must not be closed")
+        }
+
+        assertTrue(created[0].closed, "Replaced client has to be closed once the request is completed")
+        assertFalse(created[1].closed)
+    }
+
+    @Test
+    fun test_client_invalidatedWhileInUse_closedAfterLastRequest() {
+        pool.use(connection, credentials) {
+            pool.use(connection, credentials) {
+                pool.onDelete(connection)
+            }
+            assertFalse(created[0].closed, "Client is still used by the outer request")
+        }
+
+        assertTrue(created[0].closed)
+        assertEquals(1, created.size)
+    }
+
+    @Test
+    fun test_client_releasedOnFailedRequest() {
+        assertFailsWith<IllegalStateException> { pool.use(connection, credentials) { error("failed") } }
+
+        pool.invalidate(connection.uuid)
+
+        assertTrue(created[0].closed)
+    }
+
+    @Test
+    fun test_client_recreatedOnSettingsChange() {
+        val first = client(connection, credentials)
+        val second = client(connection.copy(socketTimeout = 1000), credentials)
+
+        assertNotSame(first, second)
+        assertTrue(created[0].closed)
+    }
+
+    @Test
+    fun test_client_connectionsPooledSeparately() {
+        val other = SolrConnectionSettingsState(uuid = "solr2")
+
+        assertNotSame(client(connection, credentials), client(other, credentials))
+
+        pool.onDelete(other)
+
+        assertFalse(created[0].closed)
+        assertTrue(created[1].closed)
+    }
+
+    @Test
+    fun test_client_closedByConnectionEvents() {
+        client(connection, credentials)
+        pool.onUpdate(listOf(connection))
+        assertTrue(created[0].closed)
+
+        client(connection, credentials)
+        pool.onSave(listOf(connection))
+        assertTrue(created[1].closed)
+
+        client(connection, credentials)
+        pool.clear()
+        assertTrue(created[2].closed)
+
+        client(connection, credentials)
+        assertEquals(4, created.size)
+    }
+
+    private fun client(settings: SolrConnectionSettingsState, credentials: Credentials) = pool.use(settings, credentials) { it }
+
+    private class TrackingClient : SolrClient() {
+        @Volatile
+        var closed = false
+
+        override fun request(request: SolrRequest<*>, collection: String?): NamedList<Any> = NamedList()
+
+        override fun close() {
+            closed = true
+        }
+    }
+}
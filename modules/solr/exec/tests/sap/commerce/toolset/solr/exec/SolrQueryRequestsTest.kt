@@ -0,0 +1,217 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec
+
+import com.google.gson.JsonParser
+import com.intellij.credentialStore.Credentials
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import sap.commerce.toolset.exec.settings.state.ExecConnectionScope
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
+import java.net.InetSocketAddress
+import java.net.URLDecoder
+import java.util.concurrent.CopyOnWriteArrayList
+import kotlin.test.*
+
+class SolrQueryRequestsTest {
+
+    private lateinit var server: HttpServer
+    private lateinit var connection: SolrConnectionSettingsState
+
+    private val requests = CopyOnWriteArrayList<Map<String, String>>()
+    private val authorizations = CopyOnWriteArrayList<String?>()
+    private val credentials = Credentials("solrserver", "server123")
+    private val pool = SolrClientPool()
+
+    @BeforeTest
+    fun setUp() {
+        server = HttpServer.create(InetSocketAddress("localhost", 0), 0).apply {
+            // stub of the /select handler, cursor is the offset of the next document prefixed with 'c'
+            createContext("/solr/$CORE/select") { exchange -> select(exchange) }
+            createContext("/solr/$INVALID_CORE/select") { exchange -> badRequest(exchange) }
+            start()
+        }
+        connection = SolrConnectionSettingsState(
+            uuid = "stub",
+            scope = ExecConnectionScope.PROJECT_PERSONAL,
+            port = server.address.port.toString(),
+            ssl = false,
+        )
+    }
+
+    @AfterTest
+    fun tearDown() {
+        pool.clear()
+        server.stop(0)
+    }
+
+    @Test
+    fun test_execute_cursorPagingThroughAllDocuments() {
+        val client = pool.client(connection, credentials)
+        var context: SolrQueryExecContext? = context(cursorMark = "*", rows = 500)
+        val ids = mutableListOf<String>()
+        var pages = 0
+
+        while (context != null) {
+            val result = SolrQueryRequests.execute(client, context, credentials)
+
+            assertEquals(TOTAL.toLong(), result.numFound)
+            ids += ids(result.output)
+            pages++
+            context = context.nextPage(result.nextCursorMark)
+        }
+
+        assertEquals((1..TOTAL).map { "doc-$it" }, ids)
+        // the last page is empty and returns the same cursor
+        assertEquals(TOTAL / 500 + 2, pages)
+        assertTrue(requests.all { it["sort"] == "score desc,id asc" }, "Cursor requires sort by the unique key")
+        assertTrue(requests.all { it["rows"] == "500" })
+        assertEquals(pages, requests.size)
+    }
+
+    @Test
+    fun test_execute_pooledClientReusedAcrossRequests() {
+        val client = pool.client(connection, credentials)
+
+        repeat(3) { SolrQueryRequests.execute(pool.client(connection, credentials), context(cursorMark = "*", rows = 10), credentials) }
+
+        assertSame(client, pool.client(connection, credentials))
+        assertEquals(3, requests.size)
+        assertTrue(authorizations.all { it?.startsWith("Basic ") == true }, "Credentials have to be applied to each request")
+    }
+
+    @Test
+    fun test_execute_withoutCursor() {
+        val result = SolrQueryRequests.execute(pool.client(connection, credentials), context(rows = 5), credentials)
+
+        assertEquals(5, ids(result.output).size)
+        assertNull(result.nextCursorMark)
+        assertNull(requests.single()["cursorMark"])
+        assertNull(requests.single()["sort"])
+    }
+
+    @Test
+    fun test_nextPage_stopsOnSameCursor() {
+        val context = context(cursorMark = "c10", rows = 10)
+
+        assertEquals("c20", context.nextPage("c20")?.cursorMark)
+        assertNull(context.nextPage("c10"))
+        assertNull(context.nextPage(null))
+        assertNull(context(rows = 10).nextPage("c10"), "Non-cursor query has no next page")
+    }
+
+    @Test
+    fun test_failure_keepsSolrStatus() {
+        val exception = assertFails {
+            SolrQueryRequests.execute(pool.client(connection, credentials), context(rows = 5, core = INVALID_CORE), credentials)
+        }
+        val result = SolrQueryRequests.failure(exception)
+
+        assertEquals(400, result.statusCode)
+        assertFalse(SolrQueryRequests.isRetryable(result), "Invalid query fails the same way on retry")
+    }
+
+    @Test
+    fun test_failure_unreachableServerIsRetryable() {
+        server.stop(0)
+
+        val exception = assertFails {
+            SolrQueryRequests.execute(pool.client(connection, credentials), context(rows = 5), credentials)
+        }
+        val result = SolrQueryRequests.failure(exception)
+
+        assertEquals(503, result.statusCode)
+        assertTrue(SolrQueryRequests.isRetryable(result))
+    }
+
+    @Test
+    fun test_read_skipsDocuments() {
+        val result = SolrQueryRequests.read(
+            """{"responseHeader":{"status":0},"response":{"numFound":42,"start":0,"docs":[{"id":"a","nested":{"numFound":1}}]},"nextCursorMark":"AoE"}"""
+        )
+
+        assertEquals(42, result.numFound)
+        assertEquals("AoE", result.nextCursorMark)
+    }
+
+    private fun select(exchange: HttpExchange) {
+        val params = params(exchange.requestURI.rawQuery) + params(exchange.requestBody.readBytes().toString(Charsets.UTF_8))
+        requests += params
+        authorizations += exchange.requestHeaders.getFirst("Authorization")
+
+        val rows = params["rows"]?.toInt() ?: 10
+        val cursorMark = params["cursorMark"]
+        val offset = cursorMark?.removePrefix("c")?.toIntOrNull() ?: 0
+        val docs = (offset + 1..minOf(offset + rows, TOTAL)).joinToString(",") { """{"id":"doc-$it"}""" }
+        val nextCursorMark = when {
+            cursorMark == null -> null
+            offset >= TOTAL -> cursorMark
+            else -> "c${offset + rows}"
+        }
+
+        val response = buildString {
+            append("""{"responseHeader":{"status":0},"response":{"numFound":$TOTAL,"start":0,"docs":[$docs]}""")
+            nextCursorMark?.let { append(""","nextCursorMark":"$it"""") }
+            append("}")
+        }
+            .toByteArray()
+
+        exchange.responseHeaders.add("Content-Type", "application/json;charset=utf-8")
+        exchange.sendResponseHeaders(200, response.size.toLong())
+        exchange.responseBody.use { it.write(response) }
+    }
+
+    private fun badRequest(exchange: HttpExchange) {
+        exchange.requestBody.readBytes()
+
+        val response = """{"responseHeader":{"status":400},"error":{"msg":"undefined field nonexistent","code":400}}""".toByteArray()
+
+        exchange.responseHeaders.add("Content-Type", "application/json;charset=utf-8")
+        exchange.sendResponseHeaders(400, response.size.toLong())
+        exchange.responseBody.use { it.write(response) }
+    }
+
+    private fun params(encoded: String?) = encoded
+        ?.split("&")
+        ?.filter { it.isNotBlank() }
+        ?.associate {
+            URLDecoder.decode(it.substringBefore("="), Charsets.UTF_8) to URLDecoder.decode(it.substringAfter("=", ""), Charsets.UTF_8)
+        }
+        ?: emptyMap()
+
+    private fun ids(output: String?) = JsonParser.parseString(output).asJsonObject
+        .getAsJsonObject("response")
+        .getAsJsonArray("docs")
+        .map { it.asJsonObject["id"].asString }
+
+    private fun context(cursorMark: String? = null, rows: Int, core: String = CORE) = SolrQueryExecContext(
+        connection = connection,
+        content = "*:*",
+        core = core,
+        rows = rows,
+        cursorMark = cursorMark,
+    )
+
+    companion object {
+        private const val CORE = "master_default_Product"
+        private const val INVALID_CORE = "master_invalid_Product"
+        private const val TOTAL = 2_345
+    }
+}
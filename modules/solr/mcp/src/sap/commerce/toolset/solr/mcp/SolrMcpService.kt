@@ -53,12 +53,7 @@ class SolrMcpService(private val project: Project) {
 
     fun listCores(request: SolrListCoresMcpRequest): SolrCoresDto {
         val connection = request.connection(project)
-        val connectionService = SolrExecConnectionService.getInstance(project)
-        val credentials = connectionService.getCredentials(connection)
-        val username = credentials.userName ?: ""
-        val password = credentials.getPasswordAsString() ?: ""
-
-        val items = SolrExecClient.getInstance(project).coresData(connection, username, password)
+        val items = SolrExecClient.getInstance(project).coresData(connection)
             .map { SolrCoreDto(it.core, it.docs) }
 
         return SolrCoresDto(
@@ -76,6 +71,7 @@ class SolrMcpService(private val project: Project) {
             content = request.query,
             core = request.core,
             rows = request.rows.coerceIn(1, 500),
+            cursorMark = request.cursorMark?.takeIf { it.isNotBlank() },
         )
 
         val result = SolrExecClient.getInstance(project).execute(execContext)
@@ -33,6 +33,8 @@ class SolrMcpToolset : McpToolset {
     @McpDescription(
         """Executes a Solr query against a SAP Commerce Solr server.
         |Returns the raw JSON response from Solr.
+        |To page through large result sets pass cursorMark '*' for the first page and then the 'nextCursorMark'
+        |of the previous response, paging is complete when 'nextCursorMark' is equal to the passed cursorMark.
         |Requires a configured Solr connection with valid credentials."""
     )
     suspend fun solrQuery(
@@ -42,13 +44,15 @@ class SolrMcpToolset : McpToolset {
         core: String,
         @McpDescription("Maximum number of rows to return. Default is 10, max is 500")
         rows: Int = 10,
+        @McpDescription("Cursor for deep paging: '*' for the first page, then 'nextCursorMark' of the previous response. Results are sorted by score and id")
+        cursorMark: String? = null,
         @McpDescription(SolrMcpConstants.Descriptions.CONNECTION_NAME)
         connectionName: String? = null,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
         val mapper = resolveMapper(outputFormat)
-        val request = SolrQueryExecMcpRequest(connectionName, query, core, rows)
+        val request = SolrQueryExecMcpRequest(connectionName, query, core, rows, cursorMark)
         val result = SolrMcpService.getInstance().executeQuery(request)
         return mapper.map(result)
     }
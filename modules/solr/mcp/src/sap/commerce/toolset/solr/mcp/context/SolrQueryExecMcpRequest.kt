@@ -23,4 +23,5 @@ data class SolrQueryExecMcpRequest(
     val query: String,
     val core: String,
     val rows: Int = 10,
+    val cursorMark: String? = null,
 ) : SolrExecMcpRequest
\ No newline at end of file
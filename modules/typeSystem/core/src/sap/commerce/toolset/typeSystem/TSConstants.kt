@@ -31,6 +31,8 @@ object TSConstants {
     val TYPECODE_RANGE_XPRINT = 24400..24599
     val TYPECODE_RANGE_PRINT = 23400..23999
     val TYPECODE_RANGE_PROCESSING = 32700..32799
+    val TYPECODE_RANGES_RESERVED = listOf(TYPECODE_RANGE_COMMONS, TYPECODE_RANGE_XPRINT, TYPECODE_RANGE_PRINT, TYPECODE_RANGE_PROCESSING)
+    val TYPECODE_RANGE_AVAILABLE = TYPECODE_RANGE_B2BCOMMERCE.last + 1..Short.MAX_VALUE
 
     const val MAX_RECURSION_LEVEL = 2
     const val JAVA_LANG_PREFIX = HybrisConstants.JAVA_LANG_PREFIX
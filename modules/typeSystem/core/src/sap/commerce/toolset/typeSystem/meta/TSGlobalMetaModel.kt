@@ -32,6 +32,27 @@ class TSGlobalMetaModel : GlobalMetaModel {
     private val myTypecode2Getters = CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap<String, Collection<String>>()
     private val myDeploymentTypeCodes = ConcurrentHashMap<Int, MutableSet<TSMetaDeployment>>()
 
+    // new Global Meta Model is created for each merge, so sub-types and relation indexes are computed once per Type System version, on the first access
+    private val mySubItems by lazy {
+        getItems().values
+            .filter { it.extendedMetaItemName != null }
+            .groupByTo(CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap<String, MutableList<TSGlobalMetaItem>>()) { it.extendedMetaItemName!! }
+    }
+    private val myRelationsByName by lazy {
+        getAllRelations().values()
+            .map { it.owner }
+            .groupBy { it.name }
+    }
+    private val myRelationsByEndType by lazy {
+        CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap<String, MutableSet<TSGlobalMetaRelation>>().also { index ->
+            getRelations().values.forEach { relation ->
+                listOf(relation.source.type, relation.target.type)
+                    .filter { it.isNotBlank() }
+                    .forEach { index.computeIfAbsent(it) { mutableSetOf() }.add(relation) }
+            }
+        }
+    }
+
     fun getDeploymentForTable(table: String?): Collection<TSMetaDeployment>? = if (table != null) myDeploymentTables[table] else null
     fun getDeploymentForTypeCode(typeCode: Int?): Collection<TSMetaDeployment>? = if (typeCode != null) myDeploymentTypeCodes[typeCode] else null
     fun getDeploymentForTypeCode(typeCode: String?): Collection<TSMetaDeployment>? = getDeploymentForTypeCode(typeCode?.toIntOrNull())
@@ -59,10 +80,26 @@ class TSGlobalMetaModel : GlobalMetaModel {
     fun getRelations(name: String?): Collection<TSMetaRelation.TSMetaRelationElement>? = name?.let { getAllRelations()[it] }
 
     fun getAllRelations() = myReferencesBySourceTypeName
+
+    /**
+     * Declarations of the relations with the given name, one per navigable relation end, same as the scan of the [getAllRelations].
+     */
+    fun getRelationsByName(name: String?): List<TSMetaRelation> = myRelationsByName[name] ?: emptyList()
+
+    /**
+     * Relations which have the given type on the source or target end, regardless of navigability.
+     */
+    fun getRelationsByEndType(type: String?): Collection<TSGlobalMetaRelation> = type?.let { myRelationsByEndType[it] } ?: emptyList()
+
     fun getDeploymentTypeCodes() = myDeploymentTypeCodes
 
     fun getTypecode2Getters() = myTypecode2Getters
 
+    /**
+     * Item types which directly extend the given one.
+     */
+    fun getSubItems(name: String?): Collection<TSGlobalMetaItem> = name?.let { mySubItems[it] } ?: emptyList()
+
     fun addDeployment(deployment: TSMetaDeployment) {
         myDeploymentTables.computeIfAbsent(deployment.table) { mutableSetOf() }.add(deployment)
         val typeCode = deployment.typeCode?.toIntOrNull()
@@ -69,6 +69,10 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
             ?: emptyMap()
     }
 
+    // allocator depends on the deployments of the particular Type System version, it is re-created once the version is changed
+    @Volatile
+    private var myTypeCodeAllocator: Pair<TSGlobalMetaModel, TSTypeCodeAllocator>? = null
+
     fun <T : TSGlobalMetaClassifier<*>> getAll(metaType: TSMetaType) = TSMetaModelStateService.state(project).getMetaType<T>(metaType).values
     fun getAllOf(vararg metaTypes: TSMetaType): Collection<TSGlobalMetaClassifier<*>> = (metaTypes
         .takeIf { it.isNotEmpty() }
@@ -89,9 +93,27 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
     fun findMetaMapByName(name: String?) = findMetaByName<TSGlobalMetaMap>(TSMetaType.META_MAP, name)
     fun findMetaRelationByName(name: String?) = findMetaByName<TSGlobalMetaRelation>(TSMetaType.META_RELATION, name)
 
-    fun findRelationByName(name: String?) = TSMetaModelStateService.state(project).getAllRelations().values()
-        .mapNotNull { metaRelationElement -> metaRelationElement.owner }
-        .filter { ref: TSMetaRelation -> name == ref.name }
+    fun findSubItems(meta: TSGlobalMetaItem) = TSMetaModelStateService.state(project).getSubItems(meta.name)
+
+    fun findRelationByName(name: String?) = TSMetaModelStateService.state(project).getRelationsByName(name)
+
+    /**
+     * Bulk variant of the [findRelationByName], all names are resolved against the same Type System version.
+     */
+    fun findRelationsByNames(names: Collection<String>): Map<String, List<TSMetaRelation>> {
+        val state = TSMetaModelStateService.state(project)
+        return names.associateWith { state.getRelationsByName(it) }
+    }
+
+    fun findRelationsByEndType(type: String?) = TSMetaModelStateService.state(project).getRelationsByEndType(type)
+
+    /**
+     * Bulk variant of the [findRelationsByEndType], all types are resolved against the same Type System version.
+     */
+    fun findRelationsByEndTypes(types: Collection<String>): Map<String, Collection<TSGlobalMetaRelation>> {
+        val state = TSMetaModelStateService.state(project)
+        return types.associateWith { state.getRelationsByEndType(it) }
+    }
 
     fun findMetaClassifierByName(name: String?): TSGlobalMetaClassifier<out DomElement>? = findMetaItemByName(name)
         ?: findMetaCollectionByName(name)
@@ -100,18 +122,21 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
         ?: findMetaMapByName(name)
         ?: findMetaAtomicByName(name)
 
-    fun getNextAvailableTypeCode(): Int? {
-        val projectTypeCodes = TSMetaModelStateService.state(project).getDeploymentTypeCodes().keys
-        val reservedTypesCodes = getReservedTypeCodes().keys
-        val keys = projectTypeCodes + reservedTypesCodes
-
-        return (10100..Short.MAX_VALUE)
-            .asSequence()
-            .filterNot { it in TSConstants.TYPECODE_RANGE_COMMONS }
-            .filterNot { it in TSConstants.TYPECODE_RANGE_XPRINT }
-            .filterNot { it in TSConstants.TYPECODE_RANGE_PRINT }
-            .filterNot { it in TSConstants.TYPECODE_RANGE_PROCESSING }
-            .firstOrNull { !keys.contains(it) }
+    fun getNextAvailableTypeCode() = getTypeCodeAllocator().firstAvailable
+
+    /**
+     * Up to [count] distinct available type codes, so fixes applied to several declarations do not produce duplicates.
+     */
+    fun getNextAvailableTypeCodes(count: Int) = getTypeCodeAllocator().firstAvailable(count)
+
+    fun getTypeCodeAllocator(): TSTypeCodeAllocator {
+        val state = TSMetaModelStateService.state(project)
+        myTypeCodeAllocator
+            ?.takeIf { it.first === state }
+            ?.let { return it.second }
+
+        return TSTypeCodeAllocator(state.getDeploymentTypeCodes().keys + getReservedTypeCodes().keys)
+            .also { myTypeCodeAllocator = state to it }
     }
 
     fun getReservedTypeCodes() = myReservedTypeCodes
@@ -0,0 +1,64 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.meta
+
+import sap.commerce.toolset.typeSystem.TSConstants
+import java.util.*
+
+/**
+ * Bitmap of the occupied deployment type codes within the [range], type codes of the reserved ranges are treated as occupied.
+ *
+ * Allocator is immutable and created once per Type System version, so the first available type code is resolved only once
+ * and each subsequent lookup is a single bitmap scan from the given type code.
+ */
+class TSTypeCodeAllocator(
+    occupied: Collection<Int>,
+    private val range: IntRange = TSConstants.TYPECODE_RANGE_AVAILABLE,
+    reservedRanges: Collection<IntRange> = TSConstants.TYPECODE_RANGES_RESERVED,
+) {
+
+    private val bitmap = BitSet(range.last - range.first + 1)
+
+    init {
+        reservedRanges
+            .filter { it.last >= range.first && it.first <= range.last }
+            .forEach { bitmap.set(it.first.coerceAtLeast(range.first) - range.first, it.last.coerceAtMost(range.last) - range.first + 1) }
+        occupied
+            .filter { it in range }
+            .forEach { bitmap.set(it - range.first) }
+    }
+
+    val firstAvailable = availableFrom(range.first)
+
+    fun isAvailable(typeCode: Int) = typeCode in range && !bitmap[typeCode - range.first]
+
+    /**
+     * First available type code which is equal or greater than the given one.
+     */
+    fun availableFrom(typeCode: Int): Int? = bitmap.nextClearBit(typeCode.coerceAtLeast(range.first) - range.first)
+        .let { it + range.first }
+        .takeIf { it in range }
+
+    /**
+     * Up to [count] distinct available type codes in ascending order, e.g., for fixes applied to several declarations at once.
+     */
+    fun firstAvailable(count: Int): List<Int> = generateSequence(firstAvailable) { availableFrom(it + 1) }
+        .take(count)
+        .toList()
+}
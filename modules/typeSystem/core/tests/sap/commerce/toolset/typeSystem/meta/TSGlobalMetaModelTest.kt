@@ -0,0 +1,168 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.meta
+
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaRelation
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation
+import java.lang.reflect.Proxy
+import kotlin.test.*
+
+class TSGlobalMetaModelTest {
+
+    @Test
+    fun test_getSubItems_directSubTypesOnly() {
+        val model = model(
+            item("Product", "GenericItem"),
+            item("VariantProduct", "Product"),
+            item("ApparelProduct", "Product"),
+            item("ApparelStyleVariantProduct", "VariantProduct"),
+        )
+
+        assertEquals(setOf("VariantProduct", "ApparelProduct"), model.getSubItems("Product").map { it.name }.toSet())
+        assertEquals(listOf("ApparelStyleVariantProduct"), model.getSubItems("variantproduct").map { it.name })
+        assertTrue(model.getSubItems("ApparelProduct").isEmpty())
+        assertTrue(model.getSubItems(null).isEmpty())
+    }
+
+    @Test
+    fun test_getRelationsByName_sameAsScan() {
+        val model = relationsModel(relations = 600, itemTypes = 40)
+
+        ((0 until 600).map { "Relation$it" } + listOf("relation1", "Unknown"))
+            .forEach { name ->
+                assertEquals(scanRelationsByName(model, name).counts(), model.getRelationsByName(name).counts(), "Relations $name differ from the scan")
+            }
+        assertTrue(model.getRelationsByName(null).isEmpty())
+    }
+
+    @Test
+    fun test_getRelationsByName_declarationPerNavigableEnd() {
+        val model = relationsModel(relations = 3, itemTypes = 2)
+
+        // source end of the Relation0 is not navigable
+        assertEquals(1, model.getRelationsByName("Relation0").size)
+        assertEquals(2, model.getRelationsByName("Relation1").size)
+    }
+
+    @Test
+    fun test_getRelationsByEndType_sameAsScan() {
+        val model = relationsModel(relations = 600, itemTypes = 40)
+
+        ((0 until 40).map { "Item$it" } + listOf("item1", "Unknown"))
+            .forEach { type ->
+                val expected = model.getRelations().values
+                    .filter { type.equals(it.source.type, true) || type.equals(it.target.type, true) }
+                    .toSet()
+
+                assertEquals(expected, model.getRelationsByEndType(type).toSet(), "Relations of $type differ from the scan")
+            }
+        assertTrue(model.getRelationsByEndType(null).isEmpty())
+    }
+
+    @Test
+    fun test_getRelationsByName_largeModel_sameAsScan() {
+        val model = relationsModel(relations = 5_000, itemTypes = 500)
+        val names = (0 until 500).map { "Relation${it * 10}" }
+
+        assertEquals(5_000, model.getRelations().size)
+        names.forEach { name ->
+            assertEquals(scanRelationsByName(model, name).counts(), model.getRelationsByName(name).counts(), "Relations $name differ from the scan")
+        }
+    }
+
+    /**
+     * Lookup as it was before the index, used as the reference.
+     */
+    private fun scanRelationsByName(model: TSGlobalMetaModel, name: String?) = model.getAllRelations().values()
+        .mapNotNull { metaRelationElement -> metaRelationElement.owner }
+        .filter { ref: TSMetaRelation -> name == ref.name }
+
+    private fun <T> Collection<T>.counts() = groupingBy { it }.eachCount()
+
+    /**
+     * Relations registered the same way as by the merger: each navigable end is referenced from the type of the opposite end.
+     */
+    private fun relationsModel(relations: Int, itemTypes: Int) = TSGlobalMetaModel().apply {
+        repeat(relations) { index ->
+            val relation = relation("Relation$index", "Item${index % itemTypes}", "Item${(index * 7 + 1) % itemTypes}")
+            getRelations()[relation.name!!] = relation
+
+            if (index % 3 != 0) getAllRelations().putValue(relation.target.type, relation.source)
+            getAllRelations().putValue(relation.source.type, relation.target)
+        }
+    }
+
+    private fun relation(name: String, sourceType: String, targetType: String): TSGlobalMetaRelation {
+        lateinit var relation: TSGlobalMetaRelation
+        val source = proxy<TSMetaRelation.TSMetaRelationElement>(name) {
+            when (it) {
+                "getOwner" -> relation
+                "getType" -> sourceType
+                else -> throw UnsupportedOperationException(it)
+            }
+        }
+        val target = proxy<TSMetaRelation.TSMetaRelationElement>(name) {
+            when (it) {
+                "getOwner" -> relation
+                "getType" -> targetType
+                else -> throw UnsupportedOperationException(it)
+            }
+        }
+        relation = proxy<TSGlobalMetaRelation>(name) {
+            when (it) {
+                "getName" -> name
+                "getSource" -> source
+                "getTarget" -> target
+                else -> throw UnsupportedOperationException(it)
+            }
+        }
+        return relation
+    }
+
+    private inline fun <reified T> proxy(toString: String, crossinline answer: (String) -> Any?) = Proxy.newProxyInstance(
+        T::class.java.classLoader,
+        arrayOf(T::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "hashCode" -> System.identityHashCode(proxy)
+            "equals" -> proxy === args?.firstOrNull()
+            "toString" -> toString
+            else -> answer(method.name)
+        }
+    } as T
+
+    private fun model(vararg items: TSGlobalMetaItem) = TSGlobalMetaModel().apply {
+        items.forEach { getItems()[it.name!!] = it }
+    }
+
+    private fun item(name: String, extends: String) = Proxy.newProxyInstance(
+        TSGlobalMetaItem::class.java.classLoader,
+        arrayOf(TSGlobalMetaItem::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "getName" -> name
+            "getExtendedMetaItemName" -> extends
+            "hashCode" -> System.identityHashCode(proxy)
+            "equals" -> proxy === args?.firstOrNull()
+            "toString" -> name
+            else -> throw UnsupportedOperationException(method.name)
+        }
+    } as TSGlobalMetaItem
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.meta
+
+import sap.commerce.toolset.typeSystem.TSConstants
+import kotlin.random.Random
+import kotlin.test.*
+
+class TSTypeCodeAllocatorTest {
+
+    @Test
+    fun test_firstAvailable_sameAsLegacyAllocation() {
+        val random = Random(42)
+
+        repeat(50) {
+            val occupied = (0 until random.nextInt(0, 5_000)).map { random.nextInt(0, 40_000) }.toSet()
+
+            assertEquals(legacyNextAvailableTypeCode(occupied), TSTypeCodeAllocator(occupied).firstAvailable)
+        }
+    }
+
+    @Test
+    fun test_firstAvailable_denselyOccupied_sameAsLegacyAllocation() {
+        listOf(13199, 13299, 23399, 24599, 32699, 32799)
+            .forEach { last ->
+                val occupied = (TSConstants.TYPECODE_RANGE_AVAILABLE.first..last).toSet()
+
+                assertEquals(legacyNextAvailableTypeCode(occupied), TSTypeCodeAllocator(occupied).firstAvailable, "Occupied up to $last")
+            }
+    }
+
+    @Test
+    fun test_firstAvailable_reservedRangesSkipped() {
+        val allocator = TSTypeCodeAllocator((10100..13199).toList())
+
+        assertEquals(13300, allocator.firstAvailable)
+        assertFalse(allocator.isAvailable(13250))
+        assertFalse(allocator.isAvailable(10050), "B2B Commerce type codes are out of the range")
+        assertEquals(23399, allocator.availableFrom(23399))
+        assertEquals(24000, allocator.availableFrom(23400))
+    }
+
+    @Test
+    fun test_firstAvailable_exhausted() {
+        val allocator = TSTypeCodeAllocator(TSConstants.TYPECODE_RANGE_AVAILABLE.toList())
+
+        assertNull(allocator.firstAvailable)
+        assertEquals(emptyList(), allocator.firstAvailable(3))
+        assertNull(allocator.availableFrom(Short.MAX_VALUE + 1))
+    }
+
+    @Test
+    fun test_firstAvailable_bulk_sameAsRepeatedLegacyAllocation() {
+        val occupied = ((10100..10150) + (10152..13150) + (13300..13310)).toMutableSet()
+        val allocator = TSTypeCodeAllocator(occupied)
+
+        val expected = (1..200).mapNotNull {
+            legacyNextAvailableTypeCode(occupied)?.also { occupied.add(it) }
+        }
+
+        assertEquals(expected, allocator.firstAvailable(200))
+    }
+
+    @Test
+    fun test_firstAvailable_largeRange_sameAsLegacyAllocation() {
+        val occupied = ((10100..13100) + (0 until 3_000).map { 13300 + it * 3 }).toMutableSet()
+        val allocator = TSTypeCodeAllocator(occupied)
+
+        val expected = (1..1_000).mapNotNull {
+            legacyNextAvailableTypeCode(occupied)?.also { occupied.add(it) }
+        }
+
+        assertEquals(1_000, expected.size)
+        assertEquals(expected, allocator.firstAvailable(1_000))
+    }
+
+    /**
+     * Allocation as it was before the bitmap, used as the reference.
+     */
+    private fun legacyNextAvailableTypeCode(keys: Set<Int>) = (10100..Short.MAX_VALUE)
+        .asSequence()
+        .filterNot { it in TSConstants.TYPECODE_RANGE_COMMONS }
+        .filterNot { it in TSConstants.TYPECODE_RANGE_XPRINT }
+        .filterNot { it in TSConstants.TYPECODE_RANGE_PRINT }
+        .filterNot { it in TSConstants.TYPECODE_RANGE_PROCESSING }
+        .firstOrNull { !keys.contains(it) }
+}
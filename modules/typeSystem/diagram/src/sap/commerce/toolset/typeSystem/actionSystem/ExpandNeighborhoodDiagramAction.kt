@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.actionSystem
+
+import com.intellij.diagram.DiagramAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.util.asSafely
+import sap.commerce.toolset.HybrisIcons
+import sap.commerce.toolset.actionSystem.triggerAction
+import sap.commerce.toolset.i18n
+import sap.commerce.toolset.settings.yDeveloperSettings
+import sap.commerce.toolset.typeSystem.diagram.node.TSDiagramDataModel
+import sap.commerce.toolset.typeSystem.diagram.node.TSDiagramNeighborhood
+import sap.commerce.toolset.typeSystem.diagram.node.TSDiagramNode
+import javax.swing.Icon
+
+abstract class ExpandNeighborhoodDiagramAction(
+    private val neighborhood: TSDiagramNeighborhood,
+    private val actionName: String,
+    icon: Icon
+) : DiagramAction(actionName, null, icon) {
+
+    override fun perform(event: AnActionEvent) {
+        val project = event.project ?: return
+        val dataModel = getBuilder(event)
+            ?.dataModel
+            ?.asSafely<TSDiagramDataModel>() ?: return
+
+        val nodes = getSelectedNodesExceptNotes(event)
+            .filterIsInstance<TSDiagramNode>()
+            .takeIf { it.isNotEmpty() }
+            ?: return
+
+        val depth = project.yDeveloperSettings.typeSystemDiagramSettings.neighborhoodDepth
+        dataModel.expandNeighborhood(nodes, neighborhood, depth)
+
+        triggerAction("Diagram.RefreshDataModelManually", event)
+    }
+
+    override fun getActionName() = actionName
+}
+
+class ExpandSupertypesDiagramAction : ExpandNeighborhoodDiagramAction(
+    TSDiagramNeighborhood.SUPERTYPES,
+    i18n("hybris.diagram.ts.provider.actions.expand_supertypes"),
+    HybrisIcons.TypeSystem.Diagram.Actions.EXPAND_SUPERTYPES
+)
+
+class ExpandSubtypesDiagramAction : ExpandNeighborhoodDiagramAction(
+    TSDiagramNeighborhood.SUBTYPES,
+    i18n("hybris.diagram.ts.provider.actions.expand_subtypes"),
+    HybrisIcons.TypeSystem.Diagram.Actions.EXPAND_SUBTYPES
+)
+
+class ExpandRelationsDiagramAction : ExpandNeighborhoodDiagramAction(
+    TSDiagramNeighborhood.RELATIONS,
+    i18n("hybris.diagram.ts.provider.actions.expand_relations"),
+    HybrisIcons.TypeSystem.Diagram.Actions.EXPAND_RELATIONS
+)
@@ -25,6 +25,7 @@ import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.i18n
 import sap.commerce.toolset.typeSystem.diagram.node.graph.TSGraphNode
 import sap.commerce.toolset.typeSystem.diagram.node.graph.TSGraphNodeClassifier
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaClassifier
 
 class TSDiagramScopeManager(project: Project) : DiagramScopeManager<TSGraphNode>(project) {
 
@@ -35,14 +36,22 @@ class TSDiagramScopeManager(project: Project) : DiagramScopeManager<TSGraphNode>
     override fun getScopes() = allowedScopes
 
     override fun contains(graphNode: TSGraphNode?): Boolean {
+        if (graphNode !is TSGraphNodeClassifier) return true
+
+        return contains(graphNode.meta, graphNode.transitiveNode)
+    }
+
+    /**
+     * Allows to verify the scope before creation of the Graph Node, it is important for big projects with thousands of types.
+     */
+    fun contains(meta: TSGlobalMetaClassifier<*>, transitiveNode: Boolean): Boolean {
         val scope = currentScope ?: return true
         if (scope == scopeAll) return true
-        if (graphNode !is TSGraphNodeClassifier) return true
 
-        val isCustom = graphNode.meta.isCustom
+        val isCustom = meta.isCustom
 
         return (scope == scopeCustom && isCustom)
-            || (scope == scopeCustomExtends && (isCustom || graphNode.transitiveNode))
+            || (scope == scopeCustomExtends && (isCustom || transitiveNode))
             || (scope == scopeOOTB && !isCustom)
     }
 
@@ -37,6 +37,8 @@ class TSDiagramDataModel(val myProject: Project, provider: TSDiagramProvider) :
     val everShownNodes: MutableSet<String> = mutableSetOf()
     val removedNodes: MutableSet<String> = mutableSetOf()
     val collapsedNodes: MutableSet<String> = mutableSetOf()
+    val pinnedNodes: MutableSet<String> = mutableSetOf()
+    var refreshKey: Any? = null
 
     @Contract(pure = true)
     override fun getModificationTracker() = createModificationTracker()
@@ -78,6 +80,14 @@ class TSDiagramDataModel(val myProject: Project, provider: TSDiagramProvider) :
             .executeSynchronously()
     }
 
+    fun expandNeighborhood(nodes: Collection<TSDiagramNode>, neighborhood: TSDiagramNeighborhood, depth: Int) {
+        val typeNames = nodes.map { it.graphNode.name }
+        val neighbours = neighborhood.resolve(project, typeNames, depth)
+
+        removedNodes.removeAll(neighbours)
+        pinnedNodes.addAll(neighbours)
+    }
+
     fun collapseAllNodes() {
         collapsedNodes.clear()
         nodes.forEach { collapseNode(it) }
@@ -92,7 +102,9 @@ class TSDiagramDataModel(val myProject: Project, provider: TSDiagramProvider) :
         nodesMap.clear()
         removedNodes.clear()
         collapsedNodes.clear()
+        pinnedNodes.clear()
         everShownNodes.clear()
+        refreshKey = null
     }
 
     companion object {
@@ -0,0 +1,71 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.diagram.node
+
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaRelation
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
+
+/**
+ * Represents direction of the on-demand expansion of the Diagram Node.
+ * Resolved type names will be added to the Diagram regardless of the current Scope.
+ */
+enum class TSDiagramNeighborhood {
+    SUPERTYPES,
+    SUBTYPES,
+    RELATIONS;
+
+    fun resolve(project: Project, typeNames: Collection<String>, depth: Int): Set<String> {
+        val metaModelAccess = TSMetaModelAccess.getInstance(project)
+        val subtypes by lazy {
+            metaModelAccess.getAll<TSGlobalMetaItem>(TSMetaType.META_ITEM)
+                .filter { it.name != null && it.extendedMetaItemName != null }
+                .groupBy({ it.extendedMetaItemName!! }, { it.name!! })
+        }
+
+        val resolved = mutableSetOf<String>()
+        var level = typeNames.toSet()
+
+        repeat(depth.coerceAtLeast(1)) {
+            level = level
+                .flatMap { typeName ->
+                    when (this) {
+                        SUPERTYPES -> listOfNotNull(metaModelAccess.findMetaItemByName(typeName)?.extendedMetaItemName)
+                        SUBTYPES -> subtypes[typeName] ?: emptyList()
+                        RELATIONS -> relatedTypeNames(metaModelAccess, typeName)
+                    }
+                }
+                .filterNot { typeNames.contains(it) }
+                .filter { resolved.add(it) }
+                .toSet()
+
+            if (level.isEmpty()) return resolved
+        }
+
+        return resolved
+    }
+
+    private fun relatedTypeNames(metaModelAccess: TSMetaModelAccess, typeName: String) = when (val meta = metaModelAccess.findMetaClassifierByName(typeName)) {
+        is TSGlobalMetaItem -> meta.relationEnds.map { it.type }
+        is TSGlobalMetaRelation -> listOf(meta.source.type, meta.target.type)
+        else -> emptyList()
+    }
+}
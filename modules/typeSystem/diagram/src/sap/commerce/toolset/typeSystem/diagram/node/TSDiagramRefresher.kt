@@ -19,98 +19,171 @@
 package sap.commerce.toolset.typeSystem.diagram.node
 
 import com.intellij.diagram.DiagramElementManager
+import com.intellij.diagram.DiagramNode
 import com.intellij.diagram.DiagramRelationshipInfo
 import com.intellij.diagram.presentation.DiagramLineType
+import com.intellij.util.xml.DomElement
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.i18n
 import sap.commerce.toolset.settings.state.TypeSystemDiagramSettingsState
 import sap.commerce.toolset.settings.yDeveloperSettings
+import sap.commerce.toolset.typeSystem.diagram.TSDiagramScopeManager
 import sap.commerce.toolset.typeSystem.diagram.node.graph.*
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
 import sap.commerce.toolset.typeSystem.meta.model.*
 import sap.commerce.toolset.typeSystem.model.Cardinality
 import java.awt.Shape
+import java.util.*
 
+/**
+ * Diagram is refreshed incrementally:
+ *  - Scope and Settings filters are applied to the Meta Model before creation of the Graph Nodes
+ *  - Graph Nodes of types with unchanged declarations are re-used between refreshes
+ *  - Edges are re-calculated only for changed Nodes and Nodes which are referencing them
+ *
+ * Complete re-calculation of the Edges is performed only if Settings, Scope or visible Content Categories were changed.
+ */
 object TSDiagramRefresher {
 
     fun refresh(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
         val settings = model.project.yDeveloperSettings.typeSystemDiagramSettings
+        val refreshKey = refreshKey(model, settings)
+        val completeRefresh = model.refreshKey != refreshKey
+        model.refreshKey = refreshKey
+
+        val changedNodes = refreshNodes(model, nodesMap, settings)
+        refreshEdges(model, nodesMap, edges, changedNodes, completeRefresh)
+    }
+
+    private fun refreshKey(model: TSDiagramDataModel, settings: TypeSystemDiagramSettingsState): List<Any?> {
+        val contentManager = model.builder.nodeContentManager
+        val enabledCategories = contentManager.contentCategories
+            .filter { contentManager.isCategoryEnabled(it) }
 
-        refreshNodes(model, nodesMap, settings)
-        refreshEdges(model, nodesMap, edges)
+        return listOf(settings, model.isShowDependencies, model.scopeManager?.currentScope?.scopeId, enabledCategories)
     }
 
-    private fun refreshNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState) {
+    /**
+     * Returns names of the new or re-created Nodes.
+     */
+    private fun refreshNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState): Set<String> {
+        val previousNodes = nodesMap.toMap()
         nodesMap.clear()
 
-        collectNodesItems(model, nodesMap, settings)
-        collectNodesDependencies(model, nodesMap, settings)
-        collectNodesExtends(model, nodesMap, settings)
+        collectNodesItems(model, previousNodes, nodesMap, settings)
+        collectNodesPinned(model, previousNodes, nodesMap, settings)
+        collectNodesDependencies(model, previousNodes, nodesMap, settings)
+        collectNodesExtends(model, previousNodes, nodesMap, settings)
 
-        updatedCollapsedNodes(model, nodesMap, settings)
+        val collapsedNodes = updatedCollapsedNodes(model, nodesMap, settings)
+
+        return nodesMap
+            .filterNot { (name, node) -> isSameNode(previousNodes[name], node) }
+            .keys + collapsedNodes
     }
 
-    private fun collectNodesItems(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState) {
-        TSMetaModelAccess.getInstance(model.project).getAll()
+    /**
+     * Node re-created for the new Global Meta Model is not considered as changed, if declarations of its type were not changed.
+     */
+    private fun isSameNode(previousNode: TSDiagramNode?, node: TSDiagramNode): Boolean {
+        if (previousNode === node) return true
+
+        val previousGraphNode = previousNode?.graphNode as? TSGraphNodeClassifier ?: return false
+        val graphNode = node.graphNode as? TSGraphNodeClassifier ?: return false
+
+        return previousGraphNode.transitiveNode == graphNode.transitiveNode
+            && previousGraphNode.collapsed == graphNode.collapsed
+            && isSameDeclarations(previousGraphNode.meta, graphNode.meta)
+    }
+
+    private fun collectNodesItems(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettingsState
+    ) {
+        val scopeManager = model.scopeManager as? TSDiagramScopeManager
+        val metaTypes = listOfNotNull(
+            TSMetaType.META_ITEM,
+            TSMetaType.META_ATOMIC.takeIf { settings.showCustomAtomicNodes },
+            TSMetaType.META_COLLECTION.takeIf { settings.showCustomCollectionNodes },
+            TSMetaType.META_ENUM.takeIf { settings.showCustomEnumNodes },
+            TSMetaType.META_MAP.takeIf { settings.showCustomMapNodes },
+            TSMetaType.META_RELATION,
+        )
+
+        TSMetaModelAccess.getInstance(model.project).getAllOf(*metaTypes.toTypedArray())
             .asSequence()
             .filter { it.name != null }
             .filterNot { model.removedNodes.contains(it.name) }
             .filterNot { settings.excludedTypeNames.contains(it.name) }
-            .filter {
-                when (it) {
-                    is TSGlobalMetaItem -> true
-                    is TSGlobalMetaAtomic -> settings.showCustomAtomicNodes
-                    is TSGlobalMetaCollection -> settings.showCustomCollectionNodes
-                    is TSGlobalMetaEnum -> settings.showCustomEnumNodes
-                    is TSGlobalMetaMap -> settings.showCustomMapNodes
-                    is TSGlobalMetaRelation -> settings.showCustomRelationNodes || it.deployment != null
-                    else -> false
-                }
-            }
-            .mapNotNull { TSGraphFactory.buildNode(it) }
-            .filter { model.scopeManager?.contains(it) ?: true }
-            .map { TSDiagramNode(it, model.provider) }
+            .filter { it !is TSGlobalMetaRelation || settings.showCustomRelationNodes || it.deployment != null }
+            .filter { scopeManager?.contains(it, false) ?: true }
+            .mapNotNull { obtainNode(model, previousNodes, it, false) }
             .toList()
             .forEach {
                 nodesMap[it.graphNode.name] = it
             }
     }
 
+    /**
+     * Pinned nodes are added on-demand via expansion of the Node neighborhood and are not limited by the current Scope.
+     */
+    private fun collectNodesPinned(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettingsState
+    ) {
+        if (model.pinnedNodes.isEmpty()) return
+
+        val metaModelAccess = TSMetaModelAccess.getInstance(model.project)
+
+        model.pinnedNodes
+            .asSequence()
+            .filterNot { nodesMap.containsKey(it) }
+            .filterNot { model.removedNodes.contains(it) }
+            .filterNot { settings.excludedTypeNames.contains(it) }
+            .mapNotNull { metaModelAccess.findMetaClassifierByName(it) }
+            .filter { it !is TSGlobalMetaAtomic }
+            .mapNotNull { obtainNode(model, previousNodes, it, false) }
+            .toList()
+            .forEach { nodesMap[it.graphNode.name] = it }
+    }
+
     /**
      * Additional dependency nodes will be shown only if the User selected "Show Dependencies".
      * Each Node field will be traversed and corresponding new Node (`transitiveNode` = true) will be created.
      * Nested dependencies will not be created as we're not interested at this stage in the complete picture.
      * If All possible dependencies are needed, another Type-Specific filter can be introduced with Scope = "All"
      */
-    private fun collectNodesDependencies(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState) {
+    private fun collectNodesDependencies(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettingsState
+    ) {
         if (!model.isShowDependencies) return
 
+        val metaModelAccess = TSMetaModelAccess.getInstance(model.project)
+
         nodesMap.values
             .flatMap { sourceNode ->
                 if (sourceNode.graphNode !is TSGraphNodeClassifier) return@flatMap emptyList()
 
                 return@flatMap DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
                     .filterIsInstance<TSGraphField>()
-                    .mapNotNull { graphField ->
-                        val dependencyType = when (graphField) {
-                            is TSGraphFieldRelationEnd -> graphField.meta.type
-                            is TSGraphFieldRelationElement -> graphField.meta.type
-                            is TSGraphFieldAttribute -> graphField.meta.type
-                            is TSGraphFieldTyped -> graphField.value
-                            else -> null
-                        }
-                            ?: return@mapNotNull null
-
-                        if (model.removedNodes.contains(dependencyType)) return@mapNotNull null
-                        if (settings.excludedTypeNames.contains(dependencyType)) return@mapNotNull null
-                        if (nodesMap.containsKey(dependencyType)) return@mapNotNull null
-
-                        val transitiveNode = TSGraphFactory.buildTransitiveNode(model.project, dependencyType)
-                        if (!settings.showOOTBMapNodes && transitiveNode?.meta is TSGlobalMetaMap) return@mapNotNull null
-                        return@mapNotNull transitiveNode
-                    }
+                    .mapNotNull { graphField -> dependencyType(graphField) }
+                    .filterNot { dependencyType -> model.removedNodes.contains(dependencyType) }
+                    .filterNot { dependencyType -> settings.excludedTypeNames.contains(dependencyType) }
+                    .filterNot { dependencyType -> nodesMap.containsKey(dependencyType) }
+                    .mapNotNull { dependencyType -> metaModelAccess.findMetaClassifierByName(dependencyType) }
+                    .filter { dependencyMeta -> dependencyMeta.name != null }
+                    .filter { dependencyMeta -> dependencyMeta !is TSGlobalMetaAtomic }
+                    .filter { dependencyMeta -> settings.showOOTBMapNodes || dependencyMeta !is TSGlobalMetaMap }
             }
-            .map { TSDiagramNode(it, model.provider) }
+            .distinctBy { it.name }
+            .mapNotNull { obtainNode(model, previousNodes, it, true) }
             .forEach { nodesMap[it.graphNode.name] = it }
     }
 
@@ -121,7 +194,14 @@ object TSDiagramRefresher {
      *
      * Also, it is possible to specify STOP Types for extent names to limit down amount of created "shared" Edges
      */
-    private fun collectNodesExtends(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState) {
+    private fun collectNodesExtends(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        settings: TypeSystemDiagramSettingsState
+    ) {
+        val scopeManager = model.scopeManager as? TSDiagramScopeManager
+
         nodesMap.values
             .flatMap { sourceNode ->
                 val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return@flatMap emptyList()
@@ -133,15 +213,73 @@ object TSDiagramRefresher {
                     .filterNot { extendsMeta -> settings.excludedTypeNames.contains(extendsMeta.name) }
                     .filter { extendsMeta -> nodesMap[extendsMeta.name] == null }
                     .filterNot { extendsMeta -> model.removedNodes.contains(extendsMeta.name) }
-                    .mapNotNull { extendsMeta -> TSGraphFactory.buildTransitiveNode(extendsMeta) }
-                    .filter { extendsGraphNode -> model.scopeManager?.contains(extendsGraphNode) ?: true }
+                    .filter { extendsMeta -> scopeManager?.contains(extendsMeta, true) ?: true }
                     .toList()
             }
-            .map { TSDiagramNode(it, model.provider) }
+            .distinctBy { it.name }
+            .mapNotNull { obtainNode(model, previousNodes, it, true) }
             .forEach { nodesMap[it.graphNode.name] = it }
     }
 
-    private fun updatedCollapsedNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState) {
+    /**
+     * Previously created Node will be re-used if it was created for the same Meta.
+     * Collapsed Node with unchanged declarations is copied for the new Meta, it has no fields to be re-calculated.
+     * Collapsed Node has no fields, so it has to be re-created once expanded.
+     */
+    private fun obtainNode(
+        model: TSDiagramDataModel,
+        previousNodes: Map<String, TSDiagramNode>,
+        meta: TSGlobalMetaClassifier<out DomElement>,
+        transitiveNode: Boolean
+    ): TSDiagramNode? {
+        val name = meta.name ?: return null
+        val previousNode = previousNodes[name]
+        val previousGraphNode = previousNode?.graphNode as? TSGraphNodeClassifier
+
+        if (previousGraphNode != null
+            && previousGraphNode.transitiveNode == transitiveNode
+            && (!previousGraphNode.collapsed || model.collapsedNodes.contains(name))
+            && isSameDeclarations(previousGraphNode.meta, meta)
+        ) {
+            if (previousGraphNode.meta === meta) return previousNode
+            if (previousGraphNode.collapsed) return TSDiagramNode(previousGraphNode.copy(meta = meta, fields = mutableListOf()), model.provider)
+        }
+
+        val graphNode = if (transitiveNode) TSGraphFactory.buildTransitiveNode(meta)
+        else TSGraphFactory.buildNode(meta)
+
+        return graphNode?.let { TSDiagramNode(it, model.provider) }
+    }
+
+    /**
+     * Local Meta Models of the unchanged `items.xml` files are re-used during re-creation of the Global Meta Model,
+     * so identity of the declarations can be used to detect changes of the type.
+     */
+    private fun isSameDeclarations(previous: TSGlobalMetaClassifier<*>, current: TSGlobalMetaClassifier<*>): Boolean {
+        if (previous === current) return true
+        if (previous.javaClass != current.javaClass) return false
+        if (!isSameIdentities(previous.declarations, current.declarations)) return false
+
+        return previous !is TSGlobalMetaItem
+            || current !is TSGlobalMetaItem
+            || isSameIdentities(previous.relationEnds, current.relationEnds)
+    }
+
+    private fun isSameIdentities(previous: Collection<*>, current: Collection<*>) = previous.size == current.size
+        && previous.all { previousElement -> current.any { it === previousElement } }
+
+    private fun dependencyType(graphField: TSGraphField) = when (graphField) {
+        is TSGraphFieldRelationEnd -> graphField.meta.type
+        is TSGraphFieldRelationElement -> graphField.meta.type
+        is TSGraphFieldAttribute -> graphField.meta.type
+        is TSGraphFieldTyped -> graphField.value
+        else -> null
+    }
+
+    /**
+     * Returns names of the Nodes which were collapsed during this refresh.
+     */
+    private fun updatedCollapsedNodes(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, settings: TypeSystemDiagramSettingsState): Set<String> {
         if (settings.nodesCollapsedByDefault) {
             if (model.modificationCount == 0L) {
                 model.collapseAllNodes()
@@ -155,25 +293,107 @@ object TSDiagramRefresher {
                     }
             }
         }
-        nodesMap.values
+        return nodesMap.values
             .map { it.graphNode }
             .filter { model.collapsedNodes.contains(it.name) }
-            .forEach {
+            .filter { it.fields.isNotEmpty() || !it.collapsed }
+            .onEach {
                 it.fields.clear()
                 it.collapsed = true
             }
+            .map { it.name }
+            .toSet()
     }
 
-    private fun refreshEdges(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
+    private fun refreshEdges(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        edges: MutableCollection<TSDiagramEdge>,
+        changedNodes: Set<String>,
+        completeRefresh: Boolean
+    ) {
+        if (completeRefresh) {
+            edges.clear()
+            collectEdges(model, nodesMap, nodesMap.values, edges)
+            return
+        }
+
+        val currentNodes = nodesMap.values.toIdentitySet()
+        val retainedEdges = edges.mapNotNull { retainEdge(it, nodesMap, currentNodes, changedNodes) }
         edges.clear()
+        edges.addAll(retainedEdges)
+
+        val sourceNodes = nodesMap.values
+            .filter { sourceNode ->
+                changedNodes.contains(sourceNode.graphNode.name)
+                    || isReferencingChangedNode(sourceNode, changedNodes)
+            }
+        if (sourceNodes.isEmpty()) return
+
+        val recalculatedNodes = sourceNodes.toIdentitySet()
+        edges.removeIf { edge -> edge.source in recalculatedNodes }
+
+        collectEdges(model, nodesMap, sourceNodes, edges)
+    }
+
+    /**
+     * Edge between Nodes re-created for the new Meta with unchanged declarations is re-attached to the new Node instances.
+     */
+    private fun retainEdge(
+        edge: TSDiagramEdge,
+        nodesMap: Map<String, TSDiagramNode>,
+        currentNodes: Set<DiagramNode<TSGraphNode>>,
+        changedNodes: Set<String>
+    ): TSDiagramEdge? {
+        if (edge.source in currentNodes && edge.target in currentNodes) return edge
+
+        val source = retainedNode(edge.source, nodesMap, currentNodes, changedNodes) ?: return null
+        val target = retainedNode(edge.target, nodesMap, currentNodes, changedNodes) ?: return null
+
+        return TSDiagramEdge(source, target, edge.relationship, edge.type)
+    }
+
+    private fun retainedNode(
+        node: DiagramNode<TSGraphNode>,
+        nodesMap: Map<String, TSDiagramNode>,
+        currentNodes: Set<DiagramNode<TSGraphNode>>,
+        changedNodes: Set<String>
+    ): DiagramNode<TSGraphNode>? = when {
+        node in currentNodes -> node
+        changedNodes.contains(node.identifyingElement.name) -> null
+        else -> nodesMap[node.identifyingElement.name]
+    }
 
-        collectEdgesExtends(nodesMap, edges)
-        collectEdgesPartOf(model, nodesMap, edges)
-        collectEdgesDependencies(model, nodesMap, edges)
+    private fun collectEdges(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        sourceNodes: Collection<TSDiagramNode>,
+        edges: MutableCollection<TSDiagramEdge>
+    ) {
+        collectEdgesExtends(nodesMap, sourceNodes, edges)
+        collectEdgesPartOf(model, nodesMap, sourceNodes, edges)
+        collectEdgesDependencies(model, nodesMap, sourceNodes, edges)
     }
 
-    private fun collectEdgesPartOf(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
-        nodesMap.values.forEach { sourceNode ->
+    private fun isReferencingChangedNode(sourceNode: TSDiagramNode, changedNodes: Set<String>): Boolean {
+        val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return false
+        val extendsName = (graphNode.meta as? TSGlobalMetaItem)
+            ?.let { it.extendedMetaItemName ?: HybrisConstants.TS_TYPE_GENERIC_ITEM }
+
+        return changedNodes.contains(extendsName)
+            || graphNode.fields.any { changedNodes.contains(dependencyType(it)) }
+    }
+
+    private fun Collection<TSDiagramNode>.toIdentitySet(): Set<DiagramNode<TSGraphNode>> = Collections.newSetFromMap<DiagramNode<TSGraphNode>>(IdentityHashMap())
+        .also { it.addAll(this) }
+
+    private fun collectEdgesPartOf(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        sourceNodes: Collection<TSDiagramNode>,
+        edges: MutableCollection<TSDiagramEdge>
+    ) {
+        sourceNodes.forEach { sourceNode ->
             if (sourceNode.graphNode !is TSGraphNodeClassifier) return@forEach
 
             DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
@@ -208,8 +428,13 @@ object TSDiagramRefresher {
         }
     }
 
-    private fun collectEdgesDependencies(model: TSDiagramDataModel, nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
-        nodesMap.values.forEach { sourceNode ->
+    private fun collectEdgesDependencies(
+        model: TSDiagramDataModel,
+        nodesMap: MutableMap<String, TSDiagramNode>,
+        sourceNodes: Collection<TSDiagramNode>,
+        edges: MutableCollection<TSDiagramEdge>
+    ) {
+        sourceNodes.forEach { sourceNode ->
             if (sourceNode.graphNode !is TSGraphNodeClassifier) return@forEach
 
             DiagramElementManager.getNodeItemsAccordingToCurrentContentSettings(sourceNode, model.builder)
@@ -283,9 +508,9 @@ object TSDiagramRefresher {
         }
     }
 
-    private fun collectEdgesExtends(nodesMap: MutableMap<String, TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
+    private fun collectEdgesExtends(nodesMap: MutableMap<String, TSDiagramNode>, sourceNodes: Collection<TSDiagramNode>, edges: MutableCollection<TSDiagramEdge>) {
         val label: String by lazy { i18n("hybris.diagram.ts.provider.edge.extends") }
-        nodesMap.values.forEach { sourceNode ->
+        sourceNodes.forEach { sourceNode ->
             val graphNode = sourceNode.graphNode as? TSGraphNodeClassifier ?: return@forEach
             val meta = graphNode.meta as? TSGlobalMetaItem ?: return@forEach
 
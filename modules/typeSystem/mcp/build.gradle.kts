@@ -41,6 +41,8 @@ dependencies {
     implementation(project(":ai-mcp"))
     implementation(libs.kotlinxJson)
 
+    testImplementation(kotlin("test"))
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
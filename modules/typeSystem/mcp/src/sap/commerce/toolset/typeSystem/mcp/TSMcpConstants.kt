@@ -0,0 +1,35 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.mcp
+
+object TSMcpConstants {
+
+    object Pagination {
+        const val DEFAULT_PAGE_SIZE = 500
+        const val MAX_PAGE_SIZE = 5000
+    }
+
+    object Descriptions {
+        const val CURSOR = """Optional opaque cursor to continue a previous listing, use the 'nextCursor' value of the previous response.
+            |Keep the same 'filter', 'extensions' and 'detail' between pages. Omit to start from the first page.
+            |Pages stay consistent when the type system is changed between calls: the next page continues after the last returned type name."""
+        const val PAGE_SIZE = """Maximum number of types returned per page, from 1 to ${Pagination.MAX_PAGE_SIZE}. Default: ${Pagination.DEFAULT_PAGE_SIZE}.
+            |When more types match, the response contains 'nextCursor'; pass it as 'cursor' to fetch the next page."""
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.mcp
+
+import java.util.*
+
+/**
+ * Opaque keyset cursor of the paginated type-system tools, it holds the name of the last returned type.
+ *
+ * Unlike an offset, the name stays meaningful when types are added or removed between two calls,
+ * so the next page always continues right after the last returned type.
+ */
+object TSMcpCursor {
+
+    fun encode(name: String): String = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(name.toByteArray(Charsets.UTF_8))
+
+    fun decode(cursor: String): String = runCatching { Base64.getUrlDecoder().decode(cursor.trim()) }
+        .getOrNull()
+        ?.toString(Charsets.UTF_8)
+        ?.takeIf { it.isNotEmpty() }
+        ?: error("Invalid cursor '$cursor'. Use the 'nextCursor' value returned by the previous call.")
+}
@@ -26,39 +26,54 @@ import com.intellij.openapi.project.Project
 import sap.commerce.toolset.ai.mcp.regexOrContainsMatcher
 import sap.commerce.toolset.typeSystem.mcp.context.TSSearchMcpRequest
 import sap.commerce.toolset.typeSystem.mcp.context.TSSearchResult
+import sap.commerce.toolset.typeSystem.meta.TSGlobalMetaModel
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelStateService
 import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaClassifier
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
+import java.util.concurrent.ConcurrentHashMap
 
 /**
- * Strategy behind the `sap_commerce_list_*` type-system tools. Each subclass owns the parts that
- * vary per type — the per-type JSON [itemBuilder] and how the types are [fetched][fetch] — while
- * [search] holds the shared pipeline: normalize the name/extension filters, ensure the model is ready,
- * then (inside a read action) fetch, drop nameless types, apply the filters and render the standard
- * `{<additionalFields>, filter?, extensions?, matched, total, items}` response.
+ * Strategy behind the `sap_commerce_list_*` type-system tools. [search] holds the shared pipeline:
+ * normalize the name/extension filters, ensure the model is ready, then page through the [TSMcpSnapshot]
+ * of the requested meta type.
+ *
+ * Snapshots and the DTOs rendered from them are cached per meta-model version — each rebuild of the
+ * type system produces a new [TSGlobalMetaModel] instance, so the whole cache is dropped on the first call after a rebuild.
+ * Pages are keyset-based ([TSMcpCursor]), so a cursor obtained before the rebuild still continues after the last returned type.
  *
  * `name`/`extensionName` are read directly from [sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaClassifier], so only genuinely
- * type-specific behaviour is left to subclasses.
+ * type-specific behaviour is left to [TSMcpService].
  */
 @Service(Service.Level.PROJECT)
 class TSMcpDataProvider(private val project: Project) {
 
+    @Volatile
+    private var snapshots: Snapshots? = null
+
     suspend fun <T : TSGlobalMetaClassifier<*>> search(request: TSSearchMcpRequest): TSSearchResult<T> {
         val normalizedFilter = request.filter?.trim()?.takeIf { it.isNotEmpty() }
         val matcher = normalizedFilter?.let { regexOrContainsMatcher(it) }
-        val extensions = request.extensions
 
         ensureTypeSystemReady(project)
 
-        return readAction {
-            val all = TSMetaModelAccess.getInstance(project).getAll<T>(request.metaType)
-                .filter { it.name != null }
-            val matched = all.filter { item ->
-                (matcher == null || matcher(item.name!!))
-                    && (extensions == null || item.extensionName.lowercase() in extensions)
-            }
-            TSSearchResult(items = matched, total = all.size)
-        }
+        return readAction { snapshots().snapshot<T>(request.metaType) }
+            .page(matcher, request.extensions, request.cursor, request.pageSize)
+    }
+
+    /**
+     * Returns the DTO of the [item] rendered with the given [detail], computed once per meta-model version.
+     */
+    fun <D : Any> dto(item: TSGlobalMetaClassifier<*>, detail: Any?, compute: () -> D): D = snapshots
+        ?.dto(item, detail, compute)
+        ?: compute()
+
+    private fun snapshots(): Snapshots {
+        val model = TSMetaModelStateService.state(project)
+
+        return snapshots
+            ?.takeIf { it.model === model }
+            ?: Snapshots(model).also { snapshots = it }
     }
 
     /**
@@ -79,6 +94,26 @@ class TSMcpDataProvider(private val project: Project) {
         }
     }
 
+    private class Snapshots(val model: TSGlobalMetaModel) {
+        private val snapshots = ConcurrentHashMap<TSMetaType, TSMcpSnapshot<*>>()
+        private val dtos = ConcurrentHashMap<DtoKey, Any>()
+
+        @Suppress("UNCHECKED_CAST")
+        fun <T : TSGlobalMetaClassifier<*>> snapshot(metaType: TSMetaType) = snapshots.computeIfAbsent(metaType) {
+            TSMcpSnapshot(model.getMetaType<T>(metaType).values, { it.name }, { it.extensionName })
+        } as TSMcpSnapshot<T>
+
+        @Suppress("UNCHECKED_CAST")
+        fun <D : Any> dto(item: TSGlobalMetaClassifier<*>, detail: Any?, compute: () -> D): D = dtos
+            .computeIfAbsent(DtoKey(item, detail)) { compute() } as D
+    }
+
+    // items are compared by identity, so DTOs of a previous model version can never be handed out for the current one
+    private class DtoKey(val item: TSGlobalMetaClassifier<*>, val detail: Any?) {
+        override fun equals(other: Any?) = other is DtoKey && item === other.item && detail == other.detail
+        override fun hashCode() = 31 * System.identityHashCode(item) + (detail?.hashCode() ?: 0)
+    }
+
     companion object {
         fun getInstance(project: Project): TSMcpDataProvider = project.service()
     }
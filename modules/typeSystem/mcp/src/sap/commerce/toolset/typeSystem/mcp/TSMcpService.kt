@@ -31,69 +31,87 @@ import sap.commerce.toolset.typeSystem.meta.model.*
 class TSMcpService(private val project: Project) {
 
     suspend fun searchItems(request: TSSearchItemMcpRequest): TSItemsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaItem>(request)
-        val items = result.items.map { it.toDto(request.detailLevel) }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaItem>(request)
+        val items = result.items.map { provider.dto(it, request.detailLevel) { it.toDto(request.detailLevel) } }
         return TSItemsDto(
             detail = request.detailLevel.name,
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
 
     suspend fun searchAtomics(request: TSSearchMcpRequest): TSAtomicsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaAtomic>(request)
-        val items = result.items.map { it.toDto() }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaAtomic>(request)
+        val items = result.items.map { provider.dto(it, null) { it.toDto() } }
         return TSAtomicsDto(
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
 
     suspend fun searchCollections(request: TSSearchMcpRequest): TSCollectionsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaCollection>(request)
-        val items = result.items.map { it.toDto() }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaCollection>(request)
+        val items = result.items.map { provider.dto(it, null) { it.toDto() } }
         return TSCollectionsDto(
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
 
     suspend fun searchRelations(request: TSSearchMcpRequest): TSRelationsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaRelation>(request)
-        val items = result.items.map { it.toDto() }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaRelation>(request)
+        val items = result.items.map { provider.dto(it, null) { it.toDto() } }
         return TSRelationsDto(
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
 
     suspend fun searchMaps(request: TSSearchMcpRequest): TSMapsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaMap>(request)
-        val items = result.items.map { it.toDto() }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaMap>(request)
+        val items = result.items.map { provider.dto(it, null) { it.toDto() } }
         return TSMapsDto(
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
 
     suspend fun searchEnums(request: TSSearchEnumMcpRequest): TSEnumsDto {
-        val result = TSMcpDataProvider.getInstance(project).search<TSGlobalMetaEnum>(request)
-        val items = result.items.map { it.toDto(request.detailLevel) }
+        val provider = TSMcpDataProvider.getInstance(project)
+        val result = provider.search<TSGlobalMetaEnum>(request)
+        val items = result.items.map { provider.dto(it, request.detailLevel) { it.toDto(request.detailLevel) } }
         return TSEnumsDto(
             detail = request.detailLevel.name,
             filter = request.filter?.trim()?.takeIf { it.isNotEmpty() },
             extensions = request.extensions?.sorted(),
             total = result.total,
+            matched = result.matched,
+            nextCursor = result.nextCursor,
             items = items,
         )
     }
@@ -110,16 +128,18 @@ class TSMcpService(private val project: Project) {
 
         return TSTypeSystemDto(
             extensions = TSSearchMcpRequest(TSMetaType.META_ITEM, null, rawExtensions).extensions?.sorted(),
-            items = items.items.map { it.toDto(itemDetail) },
-            enums = enums.items.map { it.toDto(enumDetail) },
-            relations = relations.items.map { it.toDto() },
-            collections = collections.items.map { it.toDto() },
-            maps = maps.items.map { it.toDto() },
-            atomics = atomics.items.map { it.toDto() },
+            items = items.items.map { provider.dto(it, itemDetail) { it.toDto(itemDetail) } },
+            enums = enums.items.map { provider.dto(it, enumDetail) { it.toDto(enumDetail) } },
+            relations = relations.items.map { provider.dto(it, null) { it.toDto() } },
+            collections = collections.items.map { provider.dto(it, null) { it.toDto() } },
+            maps = maps.items.map { provider.dto(it, null) { it.toDto() } },
+            atomics = atomics.items.map { provider.dto(it, null) { it.toDto() } },
         )
     }
 
     private fun TSGlobalMetaItem.toDto(detail: ItemTypeDetail): TSItemDto {
+        if (detail == ItemTypeDetail.NAMES) return TSItemDto(name = name!!)
+
         val attrs = if (detail != ItemTypeDetail.TYPES) {
             attributes.values.sortedBy { it.name }.map { it.toAttributeDto(detail) }
         } else null
@@ -202,6 +222,8 @@ class TSMcpService(private val project: Project) {
     )
 
     private fun TSGlobalMetaEnum.toDto(detail: EnumTypeDetail): TSEnumDto {
+        if (detail == EnumTypeDetail.NAMES) return TSEnumDto(name = name!!)
+
         val full = detail == EnumTypeDetail.VALUES
         return TSEnumDto(
             name = name!!,
@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.mcp
+
+import sap.commerce.toolset.typeSystem.mcp.context.TSSearchResult
+
+/**
+ * Immutable, name-ordered view of all types of a single meta type, taken once per meta-model version.
+ *
+ * Types without a name are dropped and extension names are lower-cased up front,
+ * so each [page] is a single pass without re-reading the meta model.
+ */
+class TSMcpSnapshot<T : Any>(
+    items: Collection<T>,
+    name: (T) -> String?,
+    extension: (T) -> String,
+) {
+
+    private val entries = items
+        .mapNotNull { item -> name(item)?.let { Entry(it, extension(item).lowercase(), item) } }
+        .sortedBy { it.name }
+
+    val total
+        get() = entries.size
+
+    fun page(
+        matcher: ((String) -> Boolean)? = null,
+        extensions: Set<String>? = null,
+        cursor: String? = null,
+        pageSize: Int = Int.MAX_VALUE,
+    ): TSSearchResult<T> {
+        val after = cursor?.let { TSMcpCursor.decode(it) }
+        val page = mutableListOf<Entry<T>>()
+        var matched = 0
+        var hasMore = false
+
+        entries.forEach { entry ->
+            if (matcher != null && !matcher(entry.name)) return@forEach
+            if (extensions != null && entry.extension !in extensions) return@forEach
+
+            matched++
+
+            if (after != null && entry.name <= after) return@forEach
+            if (page.size < pageSize) page.add(entry)
+            else hasMore = true
+        }
+
+        return TSSearchResult(
+            items = page.map { it.item },
+            total = total,
+            matched = matched,
+            nextCursor = page.lastOrNull()
+                ?.takeIf { hasMore }
+                ?.let { TSMcpCursor.encode(it.name) },
+        )
+    }
+
+    private data class Entry<T>(val name: String, val extension: String, val item: T)
+}
@@ -21,6 +21,8 @@ package sap.commerce.toolset.typeSystem.mcp
 import com.intellij.mcpserver.McpToolset
 import com.intellij.mcpserver.annotations.McpDescription
 import com.intellij.mcpserver.annotations.McpTool
+import com.intellij.mcpserver.project
+import kotlinx.coroutines.currentCoroutineContext
 import sap.commerce.toolset.ai.mcp.McpConstants
 import sap.commerce.toolset.ai.mcp.map
 import sap.commerce.toolset.ai.mcp.resolveMapper
@@ -33,7 +35,8 @@ class TSMcpToolset : McpToolset {
     @McpDescription(
         """Lists the Item types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"detail", "filter", "matched", "total", "items": [...]}. Boolean flags (custom, abstract, deprecated, singleton, jaloOnly, catalogAware) are present only when true and omitted otherwise.
+        |Returns a JSON object: {"detail", "filter", "matched", "total", "nextCursor", "items": [...]}. Boolean flags (custom, abstract, deprecated, singleton, jaloOnly, catalogAware) are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Each item includes: name, extends, deployment (table, typeCode), extension, description, jaloClass, flattenType, deprecatedSince and the flag fields listed above.
         |A project can define thousands of item types, so narrow the result with 'filter' (by name) and/or 'extensions' (by owning extension), and use 'detail' to control how much per-type information is returned, keeping the response (and token usage) small."""
     )
@@ -53,18 +56,23 @@ class TSMcpToolset : McpToolset {
         extensions: String? = null,
         @McpDescription(
             """Controls how much information is returned per item type, to balance completeness against token usage:
+            |- NAMES: item type names only, the cheapest way to discover which types exist.
             |- TYPES: item type identity only (name, extends, deployment, extension, description, jaloClass, flattenType, deprecatedSince, and the flag fields). No attributes.
             |- ATTRIBUTES: the above plus each type's declared attributes as {name, type}.
             |- FULL: the above plus all available attribute meta-information: the extension it is 'declaredIn' and any extensions it is 'redeclaredIn', the localized/dynamic/deprecated/autoCreate/generate flags, defaultValue, selectionOf, flattenType, description, the active 'modifiers' (which include 'optional' — a mandatory attribute is simply one without it) and 'persistence' details. Only non-empty values are included.
             |Default: TYPES. Prefer the smallest level that answers the question. Attributes are the type's DECLARED attributes, not inherited ones."""
         )
         detail: String = ItemTypeDetail.TYPES.name,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val detailLevel = ItemTypeDetail.resolve(detail)
-        val request = TSSearchItemMcpRequest(filter, extensions, detailLevel)
+        val request = TSSearchItemMcpRequest(filter, extensions, detailLevel, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val itemTypes = TSMcpService.getInstance().searchItems(request)
         return mapper.map(itemTypes)
     }
@@ -74,7 +82,8 @@ class TSMcpToolset : McpToolset {
         """Lists the Atomic types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |Atomic types are the primitive/scalar building blocks (e.g. 'java.lang.String', 'java.lang.Boolean', 'java.util.Date'); their name and 'extends' are fully-qualified Java class names.
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"filter", "extensions", "matched", "total", "items": [{"name", "extends", "extension", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Returns a JSON object: {"filter", "extensions", "matched", "total", "nextCursor", "items": [{"name", "extends", "extension", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Use 'filter' (by name) and/or 'extensions' (by owning extension) to narrow the result and keep the response (and token usage) small."""
     )
     suspend fun listAtomicTypes(
@@ -90,11 +99,15 @@ class TSMcpToolset : McpToolset {
             |Omit to include atomic types from all extensions."""
         )
         extensions: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
-        val request = TSSearchMcpRequest(TSMetaType.META_ATOMIC, filter, extensions)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
+        val request = TSSearchMcpRequest(TSMetaType.META_ATOMIC, filter, extensions, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val atomicTypes = TSMcpService.getInstance().searchAtomics(request)
         return mapper.map(atomicTypes)
     }
@@ -104,7 +117,8 @@ class TSMcpToolset : McpToolset {
         """Lists the Collection types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |A collection type wraps an element type as a 'collection', 'list' or 'set' (its 'kind').
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"filter", "extensions", "matched", "total", "items": [{"name", "kind", "elementType", "extension", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Returns a JSON object: {"filter", "extensions", "matched", "total", "nextCursor", "items": [{"name", "kind", "elementType", "extension", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Use 'filter' (by name) and/or 'extensions' (by owning extension) to narrow the result and keep the response (and token usage) small."""
     )
     suspend fun listCollectionTypes(
@@ -120,11 +134,15 @@ class TSMcpToolset : McpToolset {
             |Omit to include collection types from all extensions."""
         )
         extensions: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
-        val request = TSSearchMcpRequest(TSMetaType.META_COLLECTION, filter, extensions)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
+        val request = TSSearchMcpRequest(TSMetaType.META_COLLECTION, filter, extensions, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val collectionTypes = TSMcpService.getInstance().searchCollections(request)
         return mapper.map(collectionTypes)
     }
@@ -134,7 +152,8 @@ class TSMcpToolset : McpToolset {
         """Lists the Enum types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |An enum type is an enumeration whose members are its enum values (e.g. 'OrderStatus' with values 'CREATED', 'COMPLETED', ...). It may be 'dynamic' (values resolved at runtime rather than fixed in the model).
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"detail", "filter", "extensions", "matched", "total", "items": [{"name", "extension", "dynamic", "custom", "autoCreate", "generate", "deprecated", "description"?, "values"?: [{"name", "description"?}]}]}. Boolean flags are present only when true and omitted otherwise.
+        |Returns a JSON object: {"detail", "filter", "extensions", "matched", "total", "nextCursor", "items": [{"name", "extension", "dynamic", "custom", "autoCreate", "generate", "deprecated", "description"?, "values"?: [{"name", "description"?}]}]}. Boolean flags are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Use 'filter' (by name) and/or 'extensions' (by owning extension) to narrow the result, and 'detail' to control whether each enum's values are returned, keeping the response (and token usage) small."""
     )
     suspend fun listEnumTypes(
@@ -152,17 +171,22 @@ class TSMcpToolset : McpToolset {
         extensions: String? = null,
         @McpDescription(
             """Controls how much information is returned per enum type, to balance completeness against token usage:
+            |- NAMES: enum type names only, the cheapest way to discover which enums exist.
             |- TYPES: enum identity only (name, extension, and the dynamic/custom/autoCreate/generate/deprecated flags). No values or description.
             |- VALUES: the above plus the enum's 'description' and its 'values' as {name, description}. Only non-empty values are included.
             |Default: TYPES. Prefer the smallest level that answers the question. Dynamic enums may declare no values in the local model."""
         )
         detail: String = EnumTypeDetail.TYPES.name,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val detailLevel = EnumTypeDetail.resolve(detail)
-        val request = TSSearchEnumMcpRequest(filter, extensions, detailLevel)
+        val request = TSSearchEnumMcpRequest(filter, extensions, detailLevel, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val enumTypes = TSMcpService.getInstance().searchEnums(request)
         return mapper.map(enumTypes)
     }
@@ -172,7 +196,8 @@ class TSMcpToolset : McpToolset {
         """Lists the Map types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |A map type associates a key type ('argumentType') with a value type ('returnType').
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"filter", "extensions", "matched", "total", "items": [{"name", "argumentType", "returnType", "extension", "custom", "autoCreate", "generate", "redeclare"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Returns a JSON object: {"filter", "extensions", "matched", "total", "nextCursor", "items": [{"name", "argumentType", "returnType", "extension", "custom", "autoCreate", "generate", "redeclare"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Use 'filter' (by name) and/or 'extensions' (by owning extension) to narrow the result and keep the response (and token usage) small."""
     )
     suspend fun listMapTypes(
@@ -188,11 +213,15 @@ class TSMcpToolset : McpToolset {
             |Omit to include map types from all extensions."""
         )
         extensions: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
-        val request = TSSearchMcpRequest(TSMetaType.META_MAP, filter, extensions)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
+        val request = TSSearchMcpRequest(TSMetaType.META_MAP, filter, extensions, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val mapTypes = TSMcpService.getInstance().searchMaps(request)
         return mapper.map(mapTypes)
     }
@@ -214,6 +243,7 @@ class TSMcpToolset : McpToolset {
         extensions: String? = null,
         @McpDescription(
             """Controls how much information is returned per item type:
+            |- NAMES: item type names only.
             |- TYPES: item type identity and all type-level metadata (name, extends, deployment, description, flags). No attributes.
             |- ATTRIBUTES: the above plus each type's declared attributes as {name, type}.
             |- FULL: the above plus complete attribute metadata (declaredIn, redeclaredIn, localized, dynamic, deprecated, modifiers, persistence, etc.).
@@ -222,6 +252,7 @@ class TSMcpToolset : McpToolset {
         itemDetail: String = ItemTypeDetail.FULL.name,
         @McpDescription(
             """Controls how much information is returned per enum type:
+            |- NAMES: enum type names only.
             |- TYPES: enum identity only (name, extension, flags). No values or description.
             |- VALUES: the above plus the enum's 'description' and its 'values' as {name, description}.
             |Default: VALUES."""
@@ -230,7 +261,7 @@ class TSMcpToolset : McpToolset {
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.FILE,
     ): String {
-        val mapper = resolveMapper(outputFormat)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
         val itemDetailLevel = ItemTypeDetail.resolve(itemDetail)
         val enumDetailLevel = EnumTypeDetail.resolve(enumDetail)
         val typeSystem = TSMcpService.getInstance().getTypeSystem(extensions, itemDetailLevel, enumDetailLevel)
@@ -242,7 +273,8 @@ class TSMcpToolset : McpToolset {
         """Lists the Relation types defined in the current project's SAP Commerce (Hybris) type system, as shown in the "Type System" tool window.
         |A relation type connects two item types via a 'source' and a 'target' end; each end has the referenced item 'type', its 'qualifier', 'cardinality' ('one'/'many'), the 'collectionType' used for a 'many' end ('collection'/'list'/'set'), and the 'ordered'/'navigable'/'deprecated' flags plus an optional 'description'.
         |This is the project's LOCAL model, parsed from the `*-items.xml` definitions — it does NOT query a remote server and does NOT require a HAC connection.
-        |Returns a JSON object: {"filter", "extensions", "matched", "total", "items": [{"name", "deployment": {"table", "typeCode"}, "description", "source": {...}, "target": {...}, "extension", "localized", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Returns a JSON object: {"filter", "extensions", "matched", "total", "nextCursor", "items": [{"name", "deployment": {"table", "typeCode"}, "description", "source": {...}, "target": {...}, "extension", "localized", "custom", "autoCreate", "generate"}]}. Boolean flags are present only when true and omitted otherwise.
+        |Types are ordered by name and returned in pages: 'matched' counts all matching types, while more pages remain the response contains 'nextCursor' to pass as 'cursor'.
         |Use 'filter' (by name) and/or 'extensions' (by owning extension) to narrow the result and keep the response (and token usage) small."""
     )
     suspend fun listRelationTypes(
@@ -258,11 +290,15 @@ class TSMcpToolset : McpToolset {
             |Omit to include relation types from all extensions."""
         )
         extensions: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.CURSOR)
+        cursor: String? = null,
+        @McpDescription(TSMcpConstants.Descriptions.PAGE_SIZE)
+        pageSize: Int = TSMcpConstants.Pagination.DEFAULT_PAGE_SIZE,
         @McpDescription(McpConstants.Descriptions.OUTPUT_FORMAT)
         outputFormat: String = McpConstants.Formats.JSON,
     ): String {
-        val mapper = resolveMapper(outputFormat)
-        val request = TSSearchMcpRequest(TSMetaType.META_RELATION, filter, extensions)
+        val mapper = resolveMapper(outputFormat, currentCoroutineContext().project)
+        val request = TSSearchMcpRequest(TSMetaType.META_RELATION, filter, extensions, cursor, pageSize.coerceAtMost(TSMcpConstants.Pagination.MAX_PAGE_SIZE))
         val relationTypes = TSMcpService.getInstance().searchRelations(request)
         return mapper.map(relationTypes)
     }
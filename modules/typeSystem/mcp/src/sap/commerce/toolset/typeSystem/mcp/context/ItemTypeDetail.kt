@@ -19,6 +19,7 @@
 package sap.commerce.toolset.typeSystem.mcp.context
 
 enum class ItemTypeDetail {
+    NAMES,
     TYPES,
     ATTRIBUTES,
     FULL;
@@ -23,5 +23,7 @@ import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
 class TSSearchEnumMcpRequest(
     filter: String? = null,
     extensions: String? = null,
-    val detailLevel: EnumTypeDetail
-) : TSSearchMcpRequest(TSMetaType.META_ENUM, filter, extensions)
\ No newline at end of file
+    val detailLevel: EnumTypeDetail,
+    cursor: String? = null,
+    pageSize: Int = Int.MAX_VALUE,
+) : TSSearchMcpRequest(TSMetaType.META_ENUM, filter, extensions, cursor, pageSize)
@@ -23,5 +23,7 @@ import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
 class TSSearchItemMcpRequest(
     filter: String? = null,
     extensions: String? = null,
-    val detailLevel: ItemTypeDetail
-) : TSSearchMcpRequest(TSMetaType.META_ITEM, filter, extensions)
\ No newline at end of file
+    val detailLevel: ItemTypeDetail,
+    cursor: String? = null,
+    pageSize: Int = Int.MAX_VALUE,
+) : TSSearchMcpRequest(TSMetaType.META_ITEM, filter, extensions, cursor, pageSize)
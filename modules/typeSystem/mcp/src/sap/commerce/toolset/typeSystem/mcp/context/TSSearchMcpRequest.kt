@@ -25,4 +25,11 @@ open class TSSearchMcpRequest(
     val metaType: TSMetaType,
     val filter: String? = null,
     override val rawExtensions: String?,
-) : ExtensionsAwareMcpRequest
+    val cursor: String? = null,
+    val pageSize: Int = Int.MAX_VALUE,
+) : ExtensionsAwareMcpRequest {
+
+    init {
+        if (pageSize < 1) error("Invalid pageSize '$pageSize'. It must be a positive number.")
+    }
+}
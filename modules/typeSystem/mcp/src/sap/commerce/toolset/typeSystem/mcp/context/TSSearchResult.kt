@@ -20,5 +20,7 @@ package sap.commerce.toolset.typeSystem.mcp.context
 
 data class TSSearchResult<out T>(
     val items: Collection<T>,
-    val total: Int
-)
\ No newline at end of file
+    val total: Int,
+    val matched: Int = items.size,
+    val nextCursor: String? = null,
+)
@@ -24,5 +24,5 @@ interface TSClassifiersDto<T : TSClassifierDto> {
     val total: Int
     val items: List<T>
     val matched: Int
-        get() = items.size
+    val nextCursor: String?
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ data class TSEnumsDto(
     override val filter: String? = null,
     override val extensions: List<String>? = null,
     override val total: Int,
+    override val matched: Int,
+    override val nextCursor: String? = null,
     override val items: List<TSEnumDto>,
     val detail: String,
 ) : TSClassifiersDto<TSEnumDto>
@@ -25,5 +25,7 @@ data class TSRelationsDto(
     override val filter: String? = null,
     override val extensions: List<String>? = null,
     override val total: Int,
+    override val matched: Int,
+    override val nextCursor: String? = null,
     override val items: List<TSRelationDto>,
 ) : TSClassifiersDto<TSRelationDto>
@@ -0,0 +1,132 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.mcp
+
+import sap.commerce.toolset.typeSystem.mcp.context.TSSearchResult
+import kotlin.test.*
+
+class TSMcpSnapshotTest {
+
+    @Test
+    fun test_page_allPagesCoverMatchedTypesOnce() {
+        val snapshot = snapshot((1..1_234).map { Type("Type%04d".format(it), if (it % 2 == 0) "core" else "custom") })
+
+        val pages = pages(snapshot, pageSize = 100)
+        val names = pages.flatMap { it.names }
+
+        assertEquals(13, pages.size)
+        assertEquals(1_234, names.size)
+        assertEquals(names.sorted(), names)
+        assertEquals(names.toSet().size, names.size)
+        assertTrue(pages.all { it.matched == 1_234 && it.total == 1_234 })
+        assertNull(pages.last().nextCursor)
+    }
+
+    @Test
+    fun test_page_filtersAppliedBeforePaging() {
+        val snapshot = snapshot((1..50).map { Type("Type%02d".format(it), if (it % 5 == 0) "Core" else "custom") })
+
+        val pages = pages(snapshot, pageSize = 3, matcher = { it.endsWith("0") }, extensions = setOf("core"))
+
+        assertEquals(listOf("Type10", "Type20", "Type30", "Type40", "Type50"), pages.flatMap { it.names })
+        assertTrue(pages.all { it.matched == 5 && it.total == 50 })
+    }
+
+    @Test
+    fun test_page_stableAcrossModelUpdates() {
+        val before = (1..300).map { Type("Type%03d".format(it)) }
+        val first = snapshot(before).page(cursor = null, pageSize = 100)
+        val lastReturned = first.names.last()
+
+        // model rebuilt between the calls: types are added and removed both before and after the cursor
+        val after = before
+            .filterNot { it.name in setOf("Type050", "Type101", "Type150", "Type250") }
+            .plus(listOf(Type("Type000"), Type("Type100a"), Type("Type175a"), Type("Type999")))
+        val rest = pages(snapshot(after), pageSize = 100, cursor = first.nextCursor)
+
+        val returned = first.names + rest.flatMap { it.names }
+        val unchanged = before.map { it.name!! }.intersect(after.map { it.name!! }.toSet())
+
+        assertEquals(returned.toSet().size, returned.size, "No type may be returned twice")
+        assertTrue(returned.containsAll(unchanged), "Types present in both versions may not be skipped")
+        assertTrue(returned.containsAll(listOf("Type100a", "Type175a", "Type999")), "Types added after the cursor are returned")
+        assertFalse("Type000" in returned, "Types added before the cursor belong to the already returned pages")
+        assertEquals("Type100a", rest.first().names.first())
+        assertTrue(rest.first().names.all { it > lastReturned })
+    }
+
+    @Test
+    fun test_page_cursorOfRemovedTypeContinuesAfterIt() {
+        val first = snapshot((1..10).map { Type("Type%02d".format(it)) }).page(pageSize = 5)
+
+        val next = snapshot((1..10).filter { it != 5 }.map { Type("Type%02d".format(it)) })
+            .page(cursor = first.nextCursor, pageSize = 5)
+
+        assertEquals(listOf("Type06", "Type07", "Type08", "Type09", "Type10"), next.names)
+        assertNull(next.nextCursor)
+    }
+
+    @Test
+    fun test_page_namelessTypesDropped() {
+        val snapshot = snapshot(listOf(Type("B"), Type(null), Type("A")))
+
+        val page = snapshot.page()
+
+        assertEquals(listOf("A", "B"), page.names)
+        assertEquals(2, page.total)
+    }
+
+    @Test
+    fun test_page_exactPageHasNoNextCursor() {
+        val page = snapshot((1..10).map { Type("Type%02d".format(it)) }).page(pageSize = 10)
+
+        assertEquals(10, page.items.size)
+        assertNull(page.nextCursor)
+    }
+
+    @Test
+    fun test_cursor_roundTrip() {
+        listOf("Product", "java.lang.String", "Ünïcödé", "A/B+C=").forEach {
+            assertEquals(it, TSMcpCursor.decode(TSMcpCursor.encode(it)))
+        }
+    }
+
+    @Test
+    fun test_cursor_invalid() {
+        assertFailsWith<IllegalStateException> { TSMcpCursor.decode("%%%") }
+        assertFailsWith<IllegalStateException> { TSMcpCursor.decode("") }
+    }
+
+    private fun snapshot(types: Collection<Type>) = TSMcpSnapshot(types, { it.name }, { it.extension })
+
+    private fun pages(
+        snapshot: TSMcpSnapshot<Type>,
+        pageSize: Int,
+        cursor: String? = null,
+        matcher: ((String) -> Boolean)? = null,
+        extensions: Set<String>? = null,
+    ) = generateSequence(snapshot.page(matcher, extensions, cursor, pageSize)) { previous ->
+        previous.nextCursor?.let { snapshot.page(matcher, extensions, it, pageSize) }
+    }.toList()
+
+    private val TSSearchResult<Type>.names
+        get() = items.map { it.name!! }
+
+    private data class Type(val name: String?, val extension: String = "core")
+}
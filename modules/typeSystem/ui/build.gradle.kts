@@ -16,6 +16,8 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 
+import org.jetbrains.intellij.platform.gradle.TestFrameworkType
+
 fun properties(key: String) = providers.gradleProperty(key)
 
 plugins {
@@ -46,6 +48,9 @@ dependencies {
     implementation(project(":project-core"))
     implementation(project(":typeSystem-core"))
 
+    testImplementation(kotlin("test"))
+    testImplementation("junit:junit:4.13.2")
+
     intellijPlatform {
         intellijIdea(properties("intellij.version")) {
             useInstaller = true
@@ -56,5 +61,7 @@ dependencies {
             "com.intellij.modules.xml",
             "com.intellij.properties",
         )
+
+        testFramework(TestFrameworkType.Platform)
     }
 }
@@ -18,7 +18,6 @@
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.childrenOfType
@@ -48,23 +47,21 @@ class ItemsXmlEnumAlternativeDeclarationsLineMarkerProvider : AbstractItemsXmlLi
         val enumType = DomManager.getDomManager(psi.project).getDomElement(psi.parent.parent as XmlTag) as? EnumType
             ?: return emptyList()
 
-        return TSMetaModelAccess.getInstance(psi.project).findMetaForDom(enumType)
-            ?.retrieveAllDoms()
-            ?.filter { it != enumType }
-            ?.map { it.code }
-            ?.mapNotNull { it.xmlAttributeValue }
-            ?.takeIf { it.isNotEmpty() }
-            ?.let { targets ->
-                NavigationGutterIconBuilder
-                    .create(icon)
-                    .setTargets(targets)
-                    .setPopupTitle(i18n("hybris.editor.gutter.ts.items.enum.alternativeDeclarations.popup.title"))
-                    .setTooltipText(i18n("hybris.editor.gutter.ts.items.enum.alternativeDeclarations.tooltip.text"))
-                    .setAlignment(GutterIconRenderer.Alignment.RIGHT)
-                    .createLineMarkerInfo(leaf)
+        val meta = TSMetaModelAccess.getInstance(psi.project).findMetaForDom(enumType)
+            ?.takeIf { it.declarations.size > 1 }
+            ?: return emptyList()
+
+        return listOf(
+            createLazyLineMarkerInfo(
+                leaf, icon, GutterIconRenderer.Alignment.RIGHT,
+                i18n("hybris.editor.gutter.ts.items.enum.alternativeDeclarations.tooltip.text"),
+                i18n("hybris.editor.gutter.ts.items.enum.alternativeDeclarations.popup.title"),
+            ) {
+                meta.retrieveAllDoms()
+                    .filter { it != enumType }
+                    .mapNotNull { it.code.xmlAttributeValue }
             }
-            ?.let { listOf(it) }
-            ?: emptyList()
+        )
     }
 
 }
\ No newline at end of file
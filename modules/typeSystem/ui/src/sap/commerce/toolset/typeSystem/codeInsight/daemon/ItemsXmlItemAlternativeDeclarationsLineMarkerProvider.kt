@@ -18,7 +18,6 @@
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.childrenOfType
@@ -49,23 +48,21 @@ class ItemsXmlItemAlternativeDeclarationsLineMarkerProvider : AbstractItemsXmlLi
         val itemType = DomManager.getDomManager(psi.project).getDomElement(psi.parent.parent as XmlTag) as? ItemType
             ?: return emptyList()
 
-        return TSMetaModelAccess.getInstance(psi.project).findMetaForDom(itemType)
-            ?.retrieveAllDoms()
-            ?.filter { it != itemType }
-            ?.map { it.code }
-            ?.mapNotNull { it.xmlAttributeValue }
-            ?.takeIf { it.isNotEmpty() }
-            ?.let { targets ->
-                NavigationGutterIconBuilder
-                    .create(icon)
-                    .setTargets(targets)
-                    .setPopupTitle(i18n("hybris.editor.gutter.ts.items.item.alternativeDeclarations.popup.title"))
-                    .setTooltipText(i18n("hybris.editor.gutter.ts.items.item.alternativeDeclarations.tooltip.text"))
-                    .setAlignment(GutterIconRenderer.Alignment.RIGHT)
-                    .createLineMarkerInfo(leaf)
+        val meta = TSMetaModelAccess.getInstance(psi.project).findMetaForDom(itemType)
+            ?.takeIf { it.declarations.size > 1 }
+            ?: return emptyList()
+
+        return listOf(
+            createLazyLineMarkerInfo(
+                leaf, icon, GutterIconRenderer.Alignment.RIGHT,
+                i18n("hybris.editor.gutter.ts.items.item.alternativeDeclarations.tooltip.text"),
+                i18n("hybris.editor.gutter.ts.items.item.alternativeDeclarations.popup.title"),
+            ) {
+                meta.retrieveAllDoms()
+                    .filter { it != itemType }
+                    .mapNotNull { it.code.xmlAttributeValue }
             }
-            ?.let { listOf(it) }
-            ?: emptyList()
+        )
     }
 
 }
\ No newline at end of file
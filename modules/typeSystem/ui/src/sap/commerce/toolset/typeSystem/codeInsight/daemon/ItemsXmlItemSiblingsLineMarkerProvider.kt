@@ -18,8 +18,8 @@
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
+import com.intellij.openapi.project.Project
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.childrenOfType
 import com.intellij.psi.xml.XmlAttribute
@@ -31,11 +31,22 @@ import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.i18n
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
 import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
-import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
 import sap.commerce.toolset.typeSystem.model.ItemType
 import javax.swing.Icon
 
-class ItemsXmlItemSiblingsLineMarkerProvider : AbstractItemsXmlLineMarkerProvider<XmlAttributeValue>() {
+/**
+ * @param findSubItems direct sub-types of the item type, only existence is checked during highlighting, their DOM is retrieved for the opened popup
+ */
+class ItemsXmlItemSiblingsLineMarkerProvider internal constructor(
+    private val findSubItems: (Project, String) -> Collection<TSGlobalMetaItem>,
+) : AbstractItemsXmlLineMarkerProvider<XmlAttributeValue>() {
+
+    constructor() : this({ project, name ->
+        val metaModelAccess = TSMetaModelAccess.getInstance(project)
+        metaModelAccess.findMetaItemByName(name)
+            ?.let { metaModelAccess.findSubItems(it) }
+            ?: emptyList()
+    })
 
     override fun getName() = i18n("hybris.editor.gutter.ts.items.item.siblings.name")
     override fun getIcon(): Icon = HybrisIcons.TypeSystem.SIBLING
@@ -51,26 +62,21 @@ class ItemsXmlItemSiblingsLineMarkerProvider : AbstractItemsXmlLineMarkerProvide
             .find { it.tokenType == XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN }
             ?: return emptyList()
 
-        val meta = TSMetaModelAccess.getInstance(psi.project).findMetaItemByName(psi.value)
+        val subItems = findSubItems(psi.project, psi.value)
+            .takeIf { it.isNotEmpty() }
             ?: return emptyList()
 
-        return TSMetaModelAccess.getInstance(psi.project).getAll<TSGlobalMetaItem>(TSMetaType.META_ITEM)
-            .filter { it.extendedMetaItemName == meta.name }
-            .mapNotNull { it.retrieveDom() }
-            .map { it.code }
-            .mapNotNull { it.xmlAttributeValue }
-            .takeIf { it.isNotEmpty() }
-            ?.let { targets ->
-                NavigationGutterIconBuilder
-                    .create(icon)
-                    .setTargets(targets)
-                    .setPopupTitle(i18n("hybris.editor.gutter.ts.items.item.siblings.popup.title"))
-                    .setTooltipText(i18n("hybris.editor.gutter.ts.items.item.siblings.tooltip.text", psi.value))
-                    .setAlignment(GutterIconRenderer.Alignment.CENTER)
-                    .createLineMarkerInfo(leaf)
+        return listOf(
+            createLazyLineMarkerInfo(
+                leaf, icon, GutterIconRenderer.Alignment.CENTER,
+                i18n("hybris.editor.gutter.ts.items.item.siblings.tooltip.text", psi.value),
+                i18n("hybris.editor.gutter.ts.items.item.siblings.popup.title"),
+            ) {
+                subItems
+                    .mapNotNull { it.retrieveDom() }
+                    .mapNotNull { it.code.xmlAttributeValue }
             }
-            ?.let { listOf(it) }
-            ?: emptyList()
+        )
     }
 
 }
\ No newline at end of file
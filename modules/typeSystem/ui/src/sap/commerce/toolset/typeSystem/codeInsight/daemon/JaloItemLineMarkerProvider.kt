@@ -17,7 +17,6 @@
  */
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
@@ -41,17 +40,16 @@ class JaloItemLineMarkerProvider : HybrisClassLineMarkerProvider<PsiClass>() {
 
     override fun collectDeclarations(psi: PsiClass) = TSMetaModelAccess.getInstance(psi.project)
         .findMetaItemByName(psi.name)
-        ?.retrieveAllDoms()
-        ?.mapNotNull { it.code.xmlAttributeValue }
-        ?.takeIf { it.isNotEmpty() }
-        ?.let {
-            NavigationGutterIconBuilder
-                .create(icon)
-                .setTargets(it)
-                .setPopupTitle(i18n("hybris.editor.gutter.ts.model.item.popup.title"))
-                .setTooltipText(i18n("hybris.editor.gutter.ts.model.item.tooltip.text"))
-                .setAlignment(GutterIconRenderer.Alignment.LEFT)
-                .createLineMarkerInfo(psi.nameIdentifier!!)
+        ?.takeIf { it.declarations.isNotEmpty() }
+        ?.let { meta ->
+            createLazyLineMarkerInfo(
+                psi.nameIdentifier!!, icon, GutterIconRenderer.Alignment.LEFT,
+                i18n("hybris.editor.gutter.ts.model.item.tooltip.text"),
+                i18n("hybris.editor.gutter.ts.model.item.popup.title"),
+            ) {
+                meta.retrieveAllDoms()
+                    .mapNotNull { it.code.xmlAttributeValue }
+            }
         }
         ?.let { listOf(it) }
         ?: emptyList()
@@ -19,17 +19,16 @@
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
 import com.intellij.codeInsight.daemon.LineMarkerInfo
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiIdentifier
-import com.intellij.psi.xml.XmlElement
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.i18n
 import sap.commerce.toolset.project.codeInsight.daemon.HybrisClassLineMarkerProvider
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
 import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation
 import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation.RelationEnd
 import sap.commerce.toolset.typeSystem.util.TSUtils
 import javax.swing.Icon
@@ -47,62 +46,43 @@ abstract class ModelAttributeLineMarkerProvider<T : PsiElement> : HybrisClassLin
 
     protected open fun getPsiElementItemLineMarkerInfo(
         meta: TSGlobalMetaItem, name: String, nameIdentifier: PsiIdentifier
-    ) = with(getAttributeElements(meta, name)) {
-        if (this == null) {
-            val groupedRelElements = getRelations(meta, name)
-            return@with getRelationMarkers(groupedRelElements, RelationEnd.SOURCE, HybrisIcons.TypeSystem.RELATION_SOURCE, nameIdentifier)
-                ?: getRelationMarkers(groupedRelElements, RelationEnd.TARGET, HybrisIcons.TypeSystem.RELATION_TARGET, nameIdentifier)
-        } else {
-            return@with createTargetsWithGutterIcon(
-                nameIdentifier,
-                this,
-                HybrisIcons.TypeSystem.ATTRIBUTE,
-                i18n("hybris.editor.gutter.ts.model.item.attribute.popup.title"),
-                i18n("hybris.editor.gutter.ts.model.item.attribute.tooltip.text")
-            )
+    ): LineMarkerInfo<PsiElement>? {
+        val attribute = meta.allAttributes[name]
+            ?: return with(getRelations(meta, name)) {
+                getRelationMarkers(this, RelationEnd.SOURCE, HybrisIcons.TypeSystem.RELATION_SOURCE, nameIdentifier)
+                    ?: getRelationMarkers(this, RelationEnd.TARGET, HybrisIcons.TypeSystem.RELATION_TARGET, nameIdentifier)
+            }
+
+        return createLazyLineMarkerInfo(
+            nameIdentifier, HybrisIcons.TypeSystem.ATTRIBUTE, GutterIconRenderer.Alignment.LEFT,
+            i18n("hybris.editor.gutter.ts.model.item.attribute.tooltip.text"),
+            i18n("hybris.editor.gutter.ts.model.item.attribute.popup.title"),
+        ) {
+            attribute.declarations
+                .mapNotNull { it.retrieveDom() }
+                .mapNotNull { it.qualifier.xmlAttributeValue }
         }
     }
 
-    open fun getAttributeElements(meta: TSGlobalMetaItem, name: String) = meta.allAttributes[name]
-        ?.declarations
-        ?.mapNotNull { it.retrieveDom() }
-        ?.map { it.qualifier }
-        ?.mapNotNull { it.xmlAttributeValue }
-
     open fun getRelations(meta: TSGlobalMetaItem, name: String) = meta.allRelationEnds
         .filter { it.qualifier == name }
         .filter { it.isNavigable }
-        .filter { it.retrieveDom()?.qualifier?.xmlAttributeValue != null }
-        .groupBy({ it.end }, { it.retrieveDom()!!.qualifier.xmlAttributeValue!! })
+        .groupBy { it.end }
 
     open fun getRelationMarkers(
-        groupedRelElements: Map<RelationEnd, List<XmlElement>>,
+        relationEnds: Map<RelationEnd, List<TSMetaRelation.TSMetaRelationElement>>,
         target: RelationEnd,
         icon: Icon,
         nameIdentifier: PsiIdentifier
-    ) = groupedRelElements[target]
-        ?.let {
-            createTargetsWithGutterIcon(
-                nameIdentifier,
-                it,
-                icon,
-                i18n("hybris.editor.gutter.ts.model.item.relationEnd.popup.title"),
+    ) = relationEnds[target]
+        ?.let { ends ->
+            createLazyLineMarkerInfo(
+                nameIdentifier, icon, GutterIconRenderer.Alignment.LEFT,
                 i18n("hybris.editor.gutter.ts.model.item.relationEnd.tooltip.text"),
-            )
+                i18n("hybris.editor.gutter.ts.model.item.relationEnd.popup.title"),
+            ) {
+                ends.mapNotNull { it.retrieveDom()?.qualifier?.xmlAttributeValue }
+            }
         }
 
-    private fun createTargetsWithGutterIcon(
-        nameIdentifier: PsiIdentifier,
-        targets: List<XmlElement>,
-        icon: Icon,
-        popupTitle: String,
-        tooltipText: String,
-    ) = NavigationGutterIconBuilder
-        .create(icon)
-        .setTargets(targets)
-        .setPopupTitle(popupTitle)
-        .setTooltipText(tooltipText)
-        .setAlignment(GutterIconRenderer.Alignment.LEFT)
-        .createLineMarkerInfo(nameIdentifier)
-
-}
\ No newline at end of file
+}
@@ -17,7 +17,6 @@
  */
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
@@ -37,17 +36,16 @@ class ModelEnumLineMarkerProvider : HybrisClassLineMarkerProvider<PsiClass>() {
         ?.takeIf { it.nameIdentifier != null }
 
     override fun collectDeclarations(psi: PsiClass) = TSMetaModelAccess.getInstance(psi.project).findMetaEnumByName(psi.name)
-        ?.retrieveAllDoms()
-        ?.mapNotNull { it.code.xmlAttributeValue }
-        ?.takeIf { it.isNotEmpty() }
-        ?.let {
-            NavigationGutterIconBuilder
-                .create(icon)
-                .setTargets(it)
-                .setPopupTitle(i18n("hybris.editor.gutter.ts.model.enum.popup.title"))
-                .setTooltipText(i18n("hybris.editor.gutter.ts.model.enum.tooltip.text"))
-                .setAlignment(GutterIconRenderer.Alignment.LEFT)
-                .createLineMarkerInfo(psi.nameIdentifier!!)
+        ?.takeIf { it.declarations.isNotEmpty() }
+        ?.let { meta ->
+            createLazyLineMarkerInfo(
+                psi.nameIdentifier!!, icon, GutterIconRenderer.Alignment.LEFT,
+                i18n("hybris.editor.gutter.ts.model.enum.tooltip.text"),
+                i18n("hybris.editor.gutter.ts.model.enum.popup.title"),
+            ) {
+                meta.retrieveAllDoms()
+                    .mapNotNull { it.code.xmlAttributeValue }
+            }
         }
         ?.let { listOf(it) }
         ?: emptyList()
@@ -18,7 +18,6 @@
 
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
@@ -40,15 +39,13 @@ class ModelEnumValueLineMarkerProvider : HybrisClassLineMarkerProvider<PsiField>
     override fun collectDeclarations(psi: PsiField) = TSMetaModelAccess.getInstance(psi.project).findMetaEnumByName(psi.containingClass!!.name)
         ?.values
         ?.get(psi.name)
-        ?.retrieveDom()
-        ?.xmlElement
-        ?.let {
-            NavigationGutterIconBuilder
-                .create(icon)
-                .setTargets(it)
-                .setTooltipText(i18n("hybris.editor.gutter.ts.model.enum.value.tooltip.text"))
-                .setAlignment(GutterIconRenderer.Alignment.LEFT)
-                .createLineMarkerInfo(psi.nameIdentifier)
+        ?.let { metaValue ->
+            createLazyLineMarkerInfo(
+                psi.nameIdentifier, icon, GutterIconRenderer.Alignment.LEFT,
+                i18n("hybris.editor.gutter.ts.model.enum.value.tooltip.text"),
+            ) {
+                listOfNotNull(metaValue.retrieveDom()?.xmlElement)
+            }
         }
         ?.let { listOf(it) }
         ?: emptyList()
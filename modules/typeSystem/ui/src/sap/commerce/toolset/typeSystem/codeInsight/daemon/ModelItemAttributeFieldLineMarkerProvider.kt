@@ -18,7 +18,6 @@
 
 package sap.commerce.toolset.typeSystem.codeInsight.daemon
 
-import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.openapi.editor.markup.GutterIconRenderer
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiField
@@ -56,32 +55,26 @@ class ModelItemAttributeFieldLineMarkerProvider : ModelAttributeLineMarkerProvid
         name: String,
         nameIdentifier: PsiIdentifier
     ) = meta.allOrderingAttributes[name]
-        ?.retrieveDom()
-        ?.qualifier
-        ?.xmlAttributeValue
-        ?.let {
-            NavigationGutterIconBuilder
-                .create(HybrisIcons.TypeSystem.ORDERING_ATTRIBUTE)
-                .setTargets(it)
-                .setTooltipText(i18n("hybris.editor.gutter.ts.model.item.orderingAttribute.tooltip.text"))
-                .setAlignment(GutterIconRenderer.Alignment.LEFT)
-                .createLineMarkerInfo(nameIdentifier)
+        ?.let { orderingAttribute ->
+            createLazyLineMarkerInfo(
+                nameIdentifier, HybrisIcons.TypeSystem.ORDERING_ATTRIBUTE, GutterIconRenderer.Alignment.LEFT,
+                i18n("hybris.editor.gutter.ts.model.item.orderingAttribute.tooltip.text"),
+            ) {
+                listOfNotNull(orderingAttribute.retrieveDom()?.qualifier?.xmlAttributeValue)
+            }
         }
 
     private fun getPsiElementRelationLineMarkerInfo(
         name: String,
         nameIdentifier: PsiIdentifier
     ) = TSMetaModelAccess.getInstance(nameIdentifier.project).findMetaRelationByName(name)
-        ?.retrieveDom()
-        ?.code
-        ?.xmlAttributeValue
-        ?.let {
-            NavigationGutterIconBuilder
-                .create(HybrisIcons.TypeSystem.Types.RELATION)
-                .setTargets(it)
-                .setTooltipText(i18n("hybris.editor.gutter.ts.model.item.attribute.field.relation.tooltip.text"))
-                .setAlignment(GutterIconRenderer.Alignment.LEFT)
-                .createLineMarkerInfo(nameIdentifier)
+        ?.let { relation ->
+            createLazyLineMarkerInfo(
+                nameIdentifier, HybrisIcons.TypeSystem.Types.RELATION, GutterIconRenderer.Alignment.LEFT,
+                i18n("hybris.editor.gutter.ts.model.item.attribute.field.relation.tooltip.text"),
+            ) {
+                listOfNotNull(relation.retrieveDom()?.code?.xmlAttributeValue)
+            }
         }
 
-}
\ No newline at end of file
+}
@@ -23,6 +23,7 @@ import com.intellij.openapi.options.ConfigurableProvider
 import com.intellij.openapi.project.Project
 import com.intellij.ui.ToolbarDecorator
 import com.intellij.ui.dsl.builder.Align
+import com.intellij.ui.dsl.builder.bindIntValue
 import com.intellij.ui.dsl.builder.bindSelected
 import com.intellij.ui.dsl.builder.panel
 import com.intellij.util.ui.JBUI
@@ -92,6 +93,12 @@ class TSProjectConfigurableProvider(private val project: Project) : Configurable
                         .comment("Relations with set Deployment will be always displayed.")
                         .bindSelected(tsDiagramMutableSettings::showCustomRelationNodes)
                 }
+
+                row("Neighborhood expansion depth:") {
+                    spinner(1..10, 1)
+                        .comment("Amount of levels added to the Diagram when expanding supertypes, subtypes or relations of the Node.")
+                        .bindIntValue(tsDiagramMutableSettings::neighborhoodDepth)
+                }
             }
 
             group("Diagram - Excluded Type Names", true) {
@@ -0,0 +1,100 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.codeInsight.daemon
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo
+import com.intellij.psi.SyntaxTraverser
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import com.intellij.util.xml.DomFileDescription
+import sap.commerce.toolset.settings.WorkspaceSettings
+import sap.commerce.toolset.typeSystem.TSDomFileDescription
+import sap.commerce.toolset.typeSystem.meta.TSGlobalMetaModel
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import java.lang.reflect.Proxy
+import java.util.concurrent.atomic.AtomicInteger
+
+class ItemsXmlItemSiblingsLineMarkerProviderTest : BasePlatformTestCase() {
+
+    private val domRetrievals = AtomicInteger()
+
+    override fun setUp() {
+        super.setUp()
+        WorkspaceSettings.getInstance(project).hybrisProject = true
+        DomFileDescription.EP_NAME.point.registerExtension(TSDomFileDescription(), testRootDisposable)
+    }
+
+    override fun tearDown() {
+        try {
+            WorkspaceSettings.getInstance(project).hybrisProject = false
+        } finally {
+            super.tearDown()
+        }
+    }
+
+    fun test_largeItemsXml_domRetrievedOnlyForOpenedPopup() {
+        val names = (0 until 3_000).map { "Item$it" }
+        val parents = names.associateWith { name -> name.removePrefix("Item").toInt().let { if (it < 100) "GenericItem" else "Item${it % 100}" } }
+        val model = TSGlobalMetaModel().apply {
+            names.forEach { getItems()[it] = item(it, parents.getValue(it)) }
+        }
+        val file = myFixture.configureByText("large-items.xml", itemsXml(parents))
+        val provider = ItemsXmlItemSiblingsLineMarkerProvider { _, name -> model.getSubItems(name) }
+
+        val markers = mutableListOf<LineMarkerInfo<*>>()
+        provider.collectSlowLineMarkers(SyntaxTraverser.psiTraverser(file).toList(), markers)
+
+        assertEquals(100, markers.size)
+        assertEquals("DOM must not be retrieved during highlighting", 0, domRetrievals.get())
+
+        // targets of the popup, the same way as they are requested when the gutter is clicked
+        val marker = markers.first() as RelatedItemLineMarkerInfo<*>
+        marker.createGotoRelatedItems()
+        marker.createGotoRelatedItems()
+
+        assertEquals("Only targets of the opened popup have to be retrieved, once", 29, domRetrievals.get())
+    }
+
+    private fun itemsXml(parents: Map<String, String>) = buildString {
+        appendLine("""<items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">""")
+        appendLine("    <itemtypes>")
+        parents.forEach { (name, parent) -> appendLine("""        <itemtype code="$name" extends="$parent"/>""") }
+        appendLine("    </itemtypes>")
+        appendLine("</items>")
+    }
+
+    private fun item(name: String, extends: String) = Proxy.newProxyInstance(
+        TSGlobalMetaItem::class.java.classLoader,
+        arrayOf(TSGlobalMetaItem::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "getName" -> name
+            "getExtendedMetaItemName" -> extends
+            "retrieveDom" -> {
+                domRetrievals.incrementAndGet()
+                null
+            }
+
+            "hashCode" -> System.identityHashCode(proxy)
+            "equals" -> proxy === args?.firstOrNull()
+            "toString" -> name
+            else -> throw UnsupportedOperationException(method.name)
+        }
+    } as TSGlobalMetaItem
+}
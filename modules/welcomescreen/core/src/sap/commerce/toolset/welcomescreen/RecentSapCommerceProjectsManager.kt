@@ -31,20 +31,29 @@ import com.intellij.util.asSafely
 import com.intellij.util.concurrency.annotations.RequiresEdt
 import com.intellij.util.messages.Topic
 import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.util.fileExists
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProject
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectSettings
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectVcsDetails
+import sap.commerce.toolset.welcomescreen.reader.RecentProjectDetailsCache
 import sap.commerce.toolset.welcomescreen.reader.SapCommerceProjectSettingsReader
 import sap.commerce.toolset.welcomescreen.reader.SapCommerceProjectVcsDetailsReader
 import java.nio.file.Path
 
+/**
+ * Details of the recent projects are loaded lazily, at most [MAX_PARALLEL_PROJECTS] projects at a time, and cached between the loads
+ * until the underlying files change, so slow (e.g., network) mounts are not hammered on each re-render of the welcome tab.
+ */
 @Service
 class RecentSapCommerceProjectsManager(private val coroutineScope: CoroutineScope) {
 
     private val stateLock = Any()
     private var lazyEvaluationJob: Job? = null
+    private val settingsCache = RecentProjectDetailsCache(SapCommerceProjectSettingsReader.getInstance())
+    private val vcsDetailsCache = RecentProjectDetailsCache(SapCommerceProjectVcsDetailsReader.getInstance())
 
     init {
         application.messageBus.connect(coroutineScope).subscribe(
@@ -71,25 +80,47 @@ class RecentSapCommerceProjectsManager(private val coroutineScope: CoroutineScop
 
             runInEdt { application.messageBus.syncPublisher(TOPIC).loaded(recentProjects) }
 
+            val paths = recentProjects.map { it.path }
+            settingsCache.retainAll(paths)
+            vcsDetailsCache.retainAll(paths)
+
             lazyEvaluationJob?.cancel()
             lazyEvaluationJob = coroutineScope.launch {
-                for (recentProject in recentProjects) {
-                    supervisorScope {
-                        launch { loadSettings(recentProject) }
-                        launch { loadVcsDetails(recentProject) }
+                val permits = Semaphore(MAX_PARALLEL_PROJECTS)
+
+                supervisorScope {
+                    for (recentProject in recentProjects) {
+                        launch {
+                            permits.withPermit {
+                                coroutineScope {
+                                    launch { loadSettings(recentProject) }
+                                    launch { loadVcsDetails(recentProject) }
+                                }
+                            }
+                        }
                     }
                 }
             }
         }
     }
 
+    /**
+     * Stops loading of the details, e.g., when the welcome tab is hidden. Already loaded details stay cached.
+     */
+    fun cancelLoading() {
+        synchronized(stateLock) {
+            lazyEvaluationJob?.cancel()
+            lazyEvaluationJob = null
+        }
+    }
+
     private suspend fun loadSettings(recentProject: RecentSapCommerceProject) = lazyLoad(
         recentProject = recentProject,
         onError = {
             thisLogger().debug("Failed to read hybris settings for ${recentProject.location}", it)
             recentProject.settingsProperty.set(RecentSapCommerceProjectSettings.NotLoaded)
         }) {
-        SapCommerceProjectSettingsReader.getInstance().read(recentProject).apply {
+        settingsCache.read(recentProject)?.apply {
             recentProject.settingsProperty.set(this)
         }
     }
@@ -100,7 +131,7 @@ class RecentSapCommerceProjectsManager(private val coroutineScope: CoroutineScop
             thisLogger().debug("Failed to read git HEAD for ${recentProject.location}", it)
             recentProject.vcsDetailsProperty.set(RecentSapCommerceProjectVcsDetails.NotAGitRepo)
         }) {
-        SapCommerceProjectVcsDetailsReader.getInstance().read(recentProject).apply {
+        vcsDetailsCache.read(recentProject)?.apply {
             recentProject.vcsDetailsProperty.set(this)
         }
     }
@@ -138,6 +169,8 @@ class RecentSapCommerceProjectsManager(private val coroutineScope: CoroutineScop
     }
 
     companion object {
+        private const val MAX_PARALLEL_PROJECTS = 4
+
         @Topic.AppLevel
         val TOPIC = Topic(
             RecentSapCommerceProjectsListener::class.java,
@@ -28,5 +28,8 @@ object WelcomeScreenConstants {
     object Vcs {
         const val GIT = ".git"
         const val COMMIT_HEAD = "HEAD"
+        const val PACKED_REFS = "packed-refs"
+        const val COMMON_DIR = "commondir"
+        const val GIT_DIR_PREFIX = "gitdir:"
     }
 }
@@ -19,9 +19,16 @@
 package sap.commerce.toolset.welcomescreen.reader
 
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProject
+import java.nio.file.Path
 
 interface LazyRecentProjectDetailsReader<T> {
 
+    /**
+     * Files the details are read from, change of their modification stamps invalidates the details cached by the [RecentProjectDetailsCache].
+     * Invoked on the IO dispatcher.
+     */
+    fun dependencies(recentProject: RecentSapCommerceProject): Collection<Path>
+
     suspend fun read(recentProject: RecentSapCommerceProject): T?
 
 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.welcomescreen.reader
+
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProject
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Details of the recent projects read by the [reader], keyed by the project path.
+ *
+ * Cached details are reused as long as modification time and size of each [LazyRecentProjectDetailsReader.dependencies] stay the same,
+ * so re-rendering of the welcome tab costs a single `stat` per dependency instead of reading and parsing the files again.
+ */
+internal class RecentProjectDetailsCache<T : Any>(private val reader: LazyRecentProjectDetailsReader<T>) {
+
+    private val entries = ConcurrentHashMap<Path, Entry<T>>()
+
+    suspend fun read(recentProject: RecentSapCommerceProject): T? {
+        val path = recentProject.path
+        val stamp = withContext(Dispatchers.IO) { stamp(reader.dependencies(recentProject)) }
+
+        entries[path]
+            ?.takeIf { it.stamp == stamp }
+            ?.let { return it.details }
+
+        // files changed after taking the stamp are detected on the next read, because the stamp will differ
+        return reader.read(recentProject)
+            ?.also { entries[path] = Entry(stamp, it) }
+    }
+
+    fun retainAll(paths: Collection<Path>) = entries.keys.retainAll(paths.toSet())
+
+    fun clear() = entries.clear()
+
+    private fun stamp(files: Collection<Path>) = files.map { file ->
+        try {
+            val attributes = Files.readAttributes(file, BasicFileAttributes::class.java)
+            FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size())
+        } catch (_: IOException) {
+            FileStamp.MISSING
+        }
+    }
+
+    private data class FileStamp(val modified: Long, val size: Long) {
+        companion object {
+            val MISSING = FileStamp(-1, -1)
+        }
+    }
+
+    private data class Entry<T>(val stamp: List<FileStamp>, val details: T)
+}
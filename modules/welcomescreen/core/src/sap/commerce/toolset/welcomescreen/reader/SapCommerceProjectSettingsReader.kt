@@ -50,10 +50,10 @@ import kotlin.coroutines.cancellation.CancellationException
 @Service
 internal class SapCommerceProjectSettingsReader : LazyRecentProjectDetailsReader<RecentSapCommerceProjectSettings> {
 
+    override fun dependencies(recentProject: RecentSapCommerceProject) = listOf(settingsFile(recentProject))
+
     override suspend fun read(recentProject: RecentSapCommerceProject): RecentSapCommerceProjectSettings {
-        val settingsFile = recentProject.path
-            .resolve(Project.DIRECTORY_STORE_FOLDER)
-            .resolve(HybrisConstants.STORAGE_HYBRIS_PROJECT_SETTINGS)
+        val settingsFile = settingsFile(recentProject)
             .takeIf { it.fileExists }
             ?: return RecentSapCommerceProjectSettings.NotLoaded
 
@@ -84,6 +84,10 @@ internal class SapCommerceProjectSettingsReader : LazyRecentProjectDetailsReader
         )
     }
 
+    private fun settingsFile(recentProject: RecentSapCommerceProject) = recentProject.path
+        .resolve(Project.DIRECTORY_STORE_FOLDER)
+        .resolve(HybrisConstants.STORAGE_HYBRIS_PROJECT_SETTINGS)
+
     /** Extracts the contents of `value="..."` from a line, or `null` if absent/blank. */
     private fun extractValue(line: String): String? {
         val start = line.indexOf(VALUE_ATTR).takeIf { it >= 0 } ?: return null
@@ -25,20 +25,26 @@ import com.intellij.util.application
 import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
+import sap.commerce.toolset.util.directoryExists
 import sap.commerce.toolset.util.fileExists
 import sap.commerce.toolset.welcomescreen.WelcomeScreenConstants
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProject
 import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectVcsDetails
 import java.nio.file.Files
+import java.nio.file.Path
 
 /**
  * Reads the current branch name (or short SHA, for detached HEAD) from a
- * project's `.git/HEAD` file.
+ * project's `HEAD` file.
+ *
+ * The git directory is either the `.git` directory itself or, for worktrees and
+ * submodules, the one referenced by the `gitdir: <path>` line of the `.git` file.
  *
  * For a normal checkout the file contains `ref: refs/heads/<branch>` —
  * we strip the prefix and return the branch name.
  *
- * For a detached HEAD it contains a 40-character SHA — we return the first
+ * For a detached HEAD it contains a 40-character SHA — we return the branch or tag
+ * pointing to it from the `packed-refs` of the common git directory, otherwise the first
  * 7 characters (matching git's default short-sha length).
  *
  * Returns `null` if the project isn't a git repository, the file is missing,
@@ -47,26 +53,38 @@ import java.nio.file.Files
 @Service
 internal class SapCommerceProjectVcsDetailsReader : LazyRecentProjectDetailsReader<RecentSapCommerceProjectVcsDetails> {
 
+    override fun dependencies(recentProject: RecentSapCommerceProject): List<Path> {
+        val dotGit = recentProject.path.resolve(WelcomeScreenConstants.Vcs.GIT)
+        val gitDir = gitDir(dotGit) ?: return listOf(dotGit)
+
+        return listOf(
+            dotGit,
+            gitDir.resolve(WelcomeScreenConstants.Vcs.COMMIT_HEAD),
+            commonDir(gitDir).resolve(WelcomeScreenConstants.Vcs.PACKED_REFS),
+        )
+    }
+
     override suspend fun read(recentProject: RecentSapCommerceProject): RecentSapCommerceProjectVcsDetails = try {
-        val headFile = recentProject.path
-            .resolve(WelcomeScreenConstants.Vcs.GIT)
-            .resolve(WelcomeScreenConstants.Vcs.COMMIT_HEAD)
-            .takeIf { it.fileExists }
-            ?: return RecentSapCommerceProjectVcsDetails.NotAGitRepo
+        withContext(Dispatchers.IO) {
+            val gitDir = gitDir(recentProject.path.resolve(WelcomeScreenConstants.Vcs.GIT))
+                ?: return@withContext RecentSapCommerceProjectVcsDetails.NotAGitRepo
+            val headFile = gitDir.resolve(WelcomeScreenConstants.Vcs.COMMIT_HEAD)
+                .takeIf { it.fileExists }
+                ?: return@withContext RecentSapCommerceProjectVcsDetails.NotAGitRepo
 
-        val contents = withContext(Dispatchers.IO) { Files.readString(headFile).trim() }
-        when {
-            contents.startsWith(REF_PREFIX) -> contents
-                .removePrefix(REF_PREFIX)
-                .takeIf { it.isNotBlank() }
-                ?.let { RecentSapCommerceProjectVcsDetails.Named(it) }
-                ?: RecentSapCommerceProjectVcsDetails.NotAGitRepo
+            val contents = Files.readString(headFile).trim()
+            when {
+                contents.startsWith(REF_PREFIX) -> contents
+                    .removePrefix(REF_PREFIX)
+                    .takeIf { it.isNotBlank() }
+                    ?.let { RecentSapCommerceProjectVcsDetails.Named(it) }
+                    ?: RecentSapCommerceProjectVcsDetails.NotAGitRepo
 
-            contents.matches(SHA_REGEX) -> contents
-                .substring(0, SHORT_SHA_LENGTH)
-                .let { RecentSapCommerceProjectVcsDetails.Named(it) }
+                contents.matches(SHA_REGEX) -> (packedRefName(commonDir(gitDir), contents) ?: contents.substring(0, SHORT_SHA_LENGTH))
+                    .let { RecentSapCommerceProjectVcsDetails.Named(it) }
 
-            else -> RecentSapCommerceProjectVcsDetails.NotAGitRepo
+                else -> RecentSapCommerceProjectVcsDetails.NotAGitRepo
+            }
         }
     } catch (e: CancellationException) {
         throw e
@@ -75,11 +93,68 @@ internal class SapCommerceProjectVcsDetailsReader : LazyRecentProjectDetailsRead
         RecentSapCommerceProjectVcsDetails.NotAGitRepo
     }
 
+    /**
+     * `.git` is a directory for regular checkouts and a file with `gitdir: <path>` for worktrees and submodules,
+     * relative path is resolved against the directory containing the `.git` file.
+     */
+    private fun gitDir(dotGit: Path): Path? = when {
+        dotGit.directoryExists -> dotGit
+        dotGit.fileExists -> Files.readAllLines(dotGit)
+            .firstOrNull { it.startsWith(WelcomeScreenConstants.Vcs.GIT_DIR_PREFIX) }
+            ?.removePrefix(WelcomeScreenConstants.Vcs.GIT_DIR_PREFIX)
+            ?.trim()
+            ?.takeIf { it.isNotEmpty() }
+            ?.let { dotGit.resolveSibling(it).normalize() }
+            ?.takeIf { it.directoryExists }
+
+        else -> null
+    }
+
+    /**
+     * Refs of the worktree are shared with the main repository, its location is stored in the `commondir` file.
+     */
+    private fun commonDir(gitDir: Path) = gitDir.resolve(WelcomeScreenConstants.Vcs.COMMON_DIR)
+        .takeIf { it.fileExists }
+        ?.let { Files.readString(it).trim() }
+        ?.takeIf { it.isNotEmpty() }
+        ?.let { gitDir.resolve(it).normalize() }
+        ?: gitDir
+
+    /**
+     * Lines of the `packed-refs` are `<sha> <ref>`, peeled SHA of the preceding annotated tag is stored as `^<sha>`.
+     * Local branch is preferred over the tag.
+     */
+    private fun packedRefName(commonDir: Path, sha: String): String? {
+        val packedRefs = commonDir.resolve(WelcomeScreenConstants.Vcs.PACKED_REFS)
+            .takeIf { it.fileExists }
+            ?: return null
+
+        var previousRef: String? = null
+        val refs = mutableListOf<String>()
+
+        Files.readAllLines(packedRefs).forEach { line ->
+            when {
+                line.startsWith("#") -> Unit
+                line.startsWith("^") -> if (line.substring(1).trim() == sha) previousRef?.let { refs.add(it) }
+                else -> {
+                    val ref = line.substringAfter(' ', "").trim()
+                    previousRef = ref
+                    if (line.substringBefore(' ') == sha) refs.add(ref)
+                }
+            }
+        }
+
+        return refs.firstOrNull { it.startsWith(REF_HEADS) }?.removePrefix(REF_HEADS)
+            ?: refs.firstOrNull { it.startsWith(REF_TAGS) }?.removePrefix(REF_TAGS)
+    }
+
     companion object {
-        private const val REF_PREFIX = "ref: refs/heads/"
+        private const val REF_HEADS = "refs/heads/"
+        private const val REF_TAGS = "refs/tags/"
+        private const val REF_PREFIX = "ref: $REF_HEADS"
         private const val SHORT_SHA_LENGTH = 7
         private val SHA_REGEX = Regex("^[0-9a-f]{40}$")
 
         fun getInstance(): SapCommerceProjectVcsDetailsReader = application.service()
     }
-}
\ No newline at end of file
+}
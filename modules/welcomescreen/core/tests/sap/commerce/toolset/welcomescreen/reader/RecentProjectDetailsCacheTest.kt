@@ -0,0 +1,140 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.welcomescreen.reader
+
+import com.intellij.openapi.observable.properties.AtomicProperty
+import com.intellij.util.ui.EmptyIcon
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.runBlocking
+import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProject
+import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectSettings
+import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectVcsDetails
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.io.path.*
+import kotlin.test.*
+
+@OptIn(ExperimentalPathApi::class)
+class RecentProjectDetailsCacheTest {
+
+    private lateinit var root: Path
+    private val reader = CountingReader()
+
+    @BeforeTest
+    fun setUp() {
+        root = Files.createTempDirectory("recentProjects")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        root.deleteRecursively()
+    }
+
+    @Test
+    fun test_read_manyProjects_readOnceUntilChanged() = runBlocking {
+        val projects = (1..50).map { project("project$it", "1.0.$it") }
+        val cache = RecentProjectDetailsCache(reader)
+
+        repeat(3) {
+            val details = projects
+                .map { async { cache.read(it) } }
+                .awaitAll()
+
+            assertEquals(projects.indices.map { "1.0.${it + 1}" }, details)
+        }
+
+        assertEquals(50, reader.reads.get())
+    }
+
+    @Test
+    fun test_read_changedFile_reread() = runBlocking {
+        val project = project("project", "1.0")
+        val cache = RecentProjectDetailsCache(reader)
+        cache.read(project)
+
+        val file = project.path.resolve(DETAILS_FILE)
+        file.writeText("2.0")
+        Files.setLastModifiedTime(file, FileTime.fromMillis(file.getLastModifiedTime().toMillis() + 10_000))
+
+        assertEquals("2.0", cache.read(project))
+        assertEquals("2.0", cache.read(project))
+        assertEquals(2, reader.reads.get())
+    }
+
+    @Test
+    fun test_read_deletedFile_reread() = runBlocking {
+        val project = project("project", "1.0")
+        val cache = RecentProjectDetailsCache(reader)
+        cache.read(project)
+
+        project.path.resolve(DETAILS_FILE).deleteExisting()
+
+        assertNull(cache.read(project))
+        assertEquals(2, reader.reads.get())
+    }
+
+    @Test
+    fun test_retainAll_evictsRemovedProjects() = runBlocking {
+        val first = project("first", "1.0")
+        val second = project("second", "2.0")
+        val cache = RecentProjectDetailsCache(reader)
+        cache.read(first)
+        cache.read(second)
+
+        cache.retainAll(listOf(first.path))
+        cache.read(first)
+        cache.read(second)
+
+        assertEquals(3, reader.reads.get())
+    }
+
+    private fun project(name: String, details: String) = root.resolve(name)
+        .createDirectories()
+        .also { it.resolve(DETAILS_FILE).writeText(details) }
+        .let { recentProject(it) }
+
+    private class CountingReader : LazyRecentProjectDetailsReader<String> {
+        val reads = AtomicInteger()
+
+        override fun dependencies(recentProject: RecentSapCommerceProject) = listOf(recentProject.path.resolve(DETAILS_FILE))
+
+        override suspend fun read(recentProject: RecentSapCommerceProject): String? {
+            reads.incrementAndGet()
+            return recentProject.path.resolve(DETAILS_FILE)
+                .takeIf { it.exists() }
+                ?.readText()
+        }
+    }
+
+    companion object {
+        private const val DETAILS_FILE = "details.txt"
+
+        fun recentProject(path: Path) = RecentSapCommerceProject(
+            location = path.toString(),
+            displayName = path.name,
+            projectName = path.name,
+            projectIcon = EmptyIcon.ICON_16,
+            vcsDetailsProperty = AtomicProperty(RecentSapCommerceProjectVcsDetails.NotAGitRepo),
+            settingsProperty = AtomicProperty(RecentSapCommerceProjectSettings.Loading),
+        )
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2026 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.welcomescreen.reader
+
+import kotlinx.coroutines.runBlocking
+import sap.commerce.toolset.welcomescreen.presentation.RecentSapCommerceProjectVcsDetails
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.*
+import kotlin.test.*
+
+@OptIn(ExperimentalPathApi::class)
+class SapCommerceProjectVcsDetailsReaderTest {
+
+    private lateinit var root: Path
+    private val reader = SapCommerceProjectVcsDetailsReader()
+
+    @BeforeTest
+    fun setUp() {
+        root = Files.createTempDirectory("recentProjectsVcs")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        root.deleteRecursively()
+    }
+
+    @Test
+    fun test_read_branch() {
+        val project = repository("project", "ref: refs/heads/feature/cache\n")
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named("feature/cache"), read(project))
+    }
+
+    @Test
+    fun test_read_detachedHead_shortSha() {
+        val project = repository("project", "$SHA\n")
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named(SHA.take(7)), read(project))
+    }
+
+    @Test
+    fun test_read_detachedHead_packedBranchPreferredOverTag() {
+        val project = repository("project", SHA)
+        project.resolve(".git/packed-refs").writeText(
+            """
+            # pack-refs with: peeled fully-peeled sorted 
+            $OTHER_SHA refs/heads/develop
+            $SHA refs/remotes/origin/main
+            $SHA refs/tags/v1.0
+            $SHA refs/heads/main
+            """.trimIndent()
+        )
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named("main"), read(project))
+    }
+
+    @Test
+    fun test_read_detachedHead_packedAnnotatedTag() {
+        val project = repository("project", SHA)
+        project.resolve(".git/packed-refs").writeText(
+            """
+            $OTHER_SHA refs/tags/v2.0
+            ^$SHA
+            """.trimIndent()
+        )
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named("v2.0"), read(project))
+    }
+
+    @Test
+    fun test_read_worktree_relativeGitDir() {
+        val main = repository("main", "ref: refs/heads/main")
+        main.resolve(".git/packed-refs").writeText("$SHA refs/tags/release\n")
+        val worktreeGitDir = main.resolve(".git/worktrees/hotfix").createDirectories()
+        worktreeGitDir.resolve("HEAD").writeText(SHA)
+        worktreeGitDir.resolve("commondir").writeText("../..\n")
+
+        val worktree = root.resolve("hotfix").createDirectories()
+        worktree.resolve(".git").writeText("gitdir: ../main/.git/worktrees/hotfix\n")
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named("release"), read(worktree))
+        assertEquals(
+            listOf(worktree.resolve(".git"), worktreeGitDir.resolve("HEAD"), main.resolve(".git/packed-refs")),
+            reader.dependencies(RecentProjectDetailsCacheTest.recentProject(worktree))
+        )
+    }
+
+    @Test
+    fun test_read_worktree_absoluteGitDir() {
+        val gitDir = root.resolve("elsewhere/.git/worktrees/feature").createDirectories()
+        gitDir.resolve("HEAD").writeText("ref: refs/heads/feature")
+
+        val worktree = root.resolve("feature").createDirectories()
+        worktree.resolve(".git").writeText("gitdir: ${gitDir.absolutePathString()}")
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.Named("feature"), read(worktree))
+    }
+
+    @Test
+    fun test_read_notAGitRepo() {
+        val plain = root.resolve("plain").createDirectories()
+        val brokenWorktree = root.resolve("broken").createDirectories()
+        brokenWorktree.resolve(".git").writeText("gitdir: ../missing/.git/worktrees/broken")
+        val unknownHead = repository("unknown", "garbage")
+
+        assertEquals(RecentSapCommerceProjectVcsDetails.NotAGitRepo, read(plain))
+        assertEquals(RecentSapCommerceProjectVcsDetails.NotAGitRepo, read(brokenWorktree))
+        assertEquals(RecentSapCommerceProjectVcsDetails.NotAGitRepo, read(unknownHead))
+    }
+
+    private fun read(path: Path) = runBlocking { reader.read(RecentProjectDetailsCacheTest.recentProject(path)) }
+
+    private fun repository(name: String, head: String) = root.resolve(name)
+        .also { it.resolve(".git").createDirectories().resolve("HEAD").writeText(head) }
+
+    companion object {
+        private const val SHA = "0123456789abcdef0123456789abcdef01234567"
+        private const val OTHER_SHA = "fedcba9876543210fedcba9876543210fedcba98"
+    }
+}
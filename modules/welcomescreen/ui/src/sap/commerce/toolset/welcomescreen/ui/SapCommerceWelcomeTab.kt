@@ -35,6 +35,8 @@ import com.intellij.util.IconUtil
 import com.intellij.util.application
 import com.intellij.util.ui.JBFont
 import com.intellij.util.ui.JBUI
+import com.intellij.util.ui.update.Activatable
+import com.intellij.util.ui.update.UiNotifyConnector
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.actionSystem.triggerAction
 import sap.commerce.toolset.i18n
@@ -55,10 +57,6 @@ class SapCommerceWelcomeTab(parentDisposable: Disposable) : DefaultWelcomeScreen
     init {
         Disposer.register(parentDisposable, this)
         subscribeToRecentProjectsChanges()
-
-        runInEdt {
-            RecentSapCommerceProjectsManager.getInstance().loadRecentProjects()
-        }
     }
 
     override fun buildComponent(): JComponent = builtComponent
@@ -98,6 +96,12 @@ class SapCommerceWelcomeTab(parentDisposable: Disposable) : DefaultWelcomeScreen
     }.apply {
         border = JBUI.Borders.empty(PANEL_VERTICAL_PADDING, PANEL_HORIZONTAL_PADDING)
         background = WelcomeScreenUIManager.getMainAssociatedComponentBackground()
+
+        // details are loaded only while the tab is visible, cached details make each subsequent load cheap
+        UiNotifyConnector.installOn(this, object : Activatable {
+            override fun showNotify() = RecentSapCommerceProjectsManager.getInstance().loadRecentProjects()
+            override fun hideNotify() = RecentSapCommerceProjectsManager.getInstance().cancelLoading()
+        })
     }
 
     private fun subscribeToRecentProjectsChanges() = application.messageBus.connect(this).subscribe(